@@ -0,0 +1,78 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * Main class for the benchmarks jar. Accepts the same arguments as the
+ * default JMH main class, but adds the GC profiler unless other profilers
+ * are given, so allocation rates are always reported. E.g.:
+ *
+ * <pre>{@code
+ * java -jar providence-benchmarks/target/providence-benchmarks.jar \
+ *      -p format=binary,fast_binary -p corpus=containers
+ * }</pre>
+ *
+ * The compiled binary mode is compared with the plain reflective reading
+ * and writing on the models without generated binary code, e.g.:
+ *
+ * <pre>{@code
+ * java -jar providence-benchmarks/target/providence-benchmarks.jar \
+ *      -p format=binary,binary_compiled -p corpus=fields_no_rw,deep_no_rw
+ * }</pre>
+ */
+public class BenchmarkRunner {
+    public static void main(String... args) throws IOException, RunnerException {
+        CommandLineOptions cli;
+        try {
+            cli = new CommandLineOptions(args);
+        } catch (CommandLineOptionException e) {
+            System.err.println("Error parsing command line:");
+            System.err.println(" " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+
+        if (cli.shouldHelp()) {
+            cli.showHelp();
+            return;
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(cli);
+        if (cli.getProfilers().isEmpty()) {
+            options.addProfiler(GCProfiler.class);
+        }
+        if (cli.getIncludes().isEmpty()) {
+            options.include(SerializerBenchmark.class.getSimpleName());
+        }
+
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.benchmarks;
+
+import net.morimekta.providence.PMessage;
+import net.morimekta.providence.descriptor.PMessageDescriptor;
+import net.morimekta.providence.testing.generator.SimpleGeneratorWatcher;
+import net.morimekta.test.providence.benchmarks.common.CompactFields;
+import net.morimekta.test.providence.benchmarks.containers.ManyContainers;
+import net.morimekta.test.providence.benchmarks.deep.DeepStructure;
+import net.morimekta.test.providence.benchmarks.messages.ManyFields;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * The message types that are benchmarked, and a way to generate a stable
+ * set of messages for each of them. The same seed will always give the
+ * same messages, so numbers from different runs are comparable.
+ */
+public enum Corpus {
+    fields(ManyFields.kDescriptor),
+    containers(ManyContainers.kDescriptor),
+    deep(DeepStructure.kDescriptor),
+    compact(CompactFields.kDescriptor),
+
+    // Same types without generated binary read and write code, so the
+    // binary serializers use their own reflective or compiled handling.
+    fields_no_rw(net.morimekta.test.providence.benchmarks.no_rw_binary.messages.ManyFields.kDescriptor),
+    containers_no_rw(net.morimekta.test.providence.benchmarks.no_rw_binary.containers.ManyContainers.kDescriptor),
+    deep_no_rw(net.morimekta.test.providence.benchmarks.no_rw_binary.deep.DeepStructure.kDescriptor),
+    compact_no_rw(net.morimekta.test.providence.benchmarks.no_rw_binary.common.CompactFields.kDescriptor),
+    ;
+
+    public final PMessageDescriptor<?, ?> descriptor;
+
+    Corpus(PMessageDescriptor<?, ?> descriptor) {
+        this.descriptor = descriptor;
+    }
+
+    /**
+     * Generate a list of messages of the corpus type.
+     *
+     * @param count The number of messages to generate.
+     * @param seed The random seed to generate from.
+     * @return The generated messages.
+     */
+    @SuppressWarnings("unchecked")
+    public List<PMessage> generate(int count, long seed) {
+        SimpleGeneratorWatcher generator = SimpleGeneratorWatcher.create();
+        generator.setRandom(new Random(seed))
+                 .setLocale(Locale.ENGLISH)
+                 .setFillRate(1.0)
+                 .setMaxCollectionItems(10);
+
+        ImmutableList.Builder<PMessage> builder = ImmutableList.builder();
+        for (int i = 0; i < count; ++i) {
+            builder.add(generator.generate(descriptor));
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.benchmarks;
+
+import net.morimekta.providence.serializer.BinarySerializer;
+import net.morimekta.providence.serializer.FastBinarySerializer;
+import net.morimekta.providence.serializer.JsonSerializer;
+import net.morimekta.providence.serializer.PrettySerializer;
+import net.morimekta.providence.serializer.Serializer;
+import net.morimekta.providence.thrift.TBinaryProtocolSerializer;
+import net.morimekta.providence.thrift.TCompactProtocolSerializer;
+import net.morimekta.providence.thrift.TJsonProtocolSerializer;
+import net.morimekta.providence.thrift.TTupleProtocolSerializer;
+
+/**
+ * The serialization formats that are benchmarked. The enum names are used
+ * as JMH params, so they should be kept short and stable.
+ */
+public enum Format {
+    // Native providence formats.
+    binary(new BinarySerializer(true)),
+    fast_binary(new FastBinarySerializer(true)),
+    binary_pooled(new BinarySerializer(true).pooled()),
+    fast_binary_pooled(new FastBinarySerializer(true).pooled()),
+    binary_compiled(new BinarySerializer(true).compiled()),
+    fast_binary_compiled(new FastBinarySerializer(true).compiled()),
+    json(new JsonSerializer(true)),
+    json_named(new JsonSerializer(true).named()),
+    json_pretty(new JsonSerializer(true).pretty()),
+    pretty(new PrettySerializer(true).compact()),
+    config(new PrettySerializer(true).config()),
+
+    // Thrift protocol formats.
+    binary_protocol(new TBinaryProtocolSerializer(true)),
+    compact_protocol(new TCompactProtocolSerializer(true)),
+    json_protocol(new TJsonProtocolSerializer(true)),
+    tuple_protocol(new TTupleProtocolSerializer(true)),
+    ;
+
+    public final Serializer serializer;
+
+    Format(Serializer serializer) {
+        this.serializer = serializer;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.benchmarks;
+
+import net.morimekta.providence.PMessage;
+import net.morimekta.providence.descriptor.PMessageDescriptor;
+import net.morimekta.providence.serializer.Serializer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialize and deserialize benchmarks for all the serializer formats over
+ * all the corpus message types. Each operation handles a single message,
+ * cycling through a pre-generated set of messages so the numbers are not
+ * skewed by a single message's content.
+ * <p>
+ * Run with <code>-prof gc</code> (default when run via the
+ * {@link BenchmarkRunner}) to get the allocation rate per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class SerializerBenchmark {
+    @Param
+    public Format format;
+
+    @Param
+    public Corpus corpus;
+
+    @Param({"100"})
+    public int messages;
+
+    @Param({"1"})
+    public long seed;
+
+    private Serializer              serializer;
+    private PMessageDescriptor      descriptor;
+    private PMessage[]              source;
+    private byte[][]                serialized;
+    private ByteArrayOutputStream   out;
+    private int                     next;
+
+    @Setup
+    public void setUp() throws IOException {
+        serializer = format.serializer;
+        descriptor = corpus.descriptor;
+
+        List<PMessage> generated = corpus.generate(messages, seed);
+        source = generated.toArray(new PMessage[0]);
+        serialized = new byte[source.length][];
+
+        int maxSize = 0;
+        for (int i = 0; i < source.length; ++i) {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            serializer.serialize(baos, source[i]);
+            serialized[i] = baos.toByteArray();
+            maxSize = Math.max(maxSize, serialized[i].length);
+        }
+
+        out = new ByteArrayOutputStream(maxSize);
+        next = 0;
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public int serialize() throws IOException {
+        out.reset();
+        return serializer.serialize(out, source[nextIndex()]);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public PMessage deserialize() throws IOException {
+        return serializer.deserialize(new ByteArrayInputStream(serialized[nextIndex()]), descriptor);
+    }
+
+    private int nextIndex() {
+        int i = next;
+        next = (i + 1) % source.length;
+        return i;
+    }
+}
@@ -22,9 +22,12 @@ package net.morimekta.providence.client;
 
 import com.google.api.client.http.ByteArrayContent;
 import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpContent;
 import com.google.api.client.http.HttpRequest;
 import com.google.api.client.http.HttpRequestFactory;
 import com.google.api.client.http.HttpResponse;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.apache.ApacheHttpTransport;
 import com.google.api.client.http.javanet.NetHttpTransport;
 import com.google.common.net.MediaType;
 import net.morimekta.providence.PApplicationException;
@@ -40,18 +43,54 @@ import net.morimekta.providence.serializer.Serializer;
 import net.morimekta.providence.serializer.SerializerProvider;
 import net.morimekta.providence.util.ServiceCallInstrumentation;
 import org.apache.http.HttpHost;
+import org.apache.http.client.params.HttpClientParams;
 import org.apache.http.conn.HttpHostConnectException;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.ProxySelectorRoutePlanner;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.params.BasicHttpParams;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.params.HttpParams;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.ConnectException;
+import java.net.ProxySelector;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import static net.morimekta.providence.util.ServiceCallInstrumentation.NS_IN_MILLIS;
 
 /**
  * HTTP client handler using the google HTTP client interface.
+ * <p>
+ * For high throughput use a transport with a connection pool, e.g. from
+ * {@link #newPooledTransport(int, int)}, stream the request bodies and
+ * give an executor for async calls:
+ *
+ * <pre>{@code
+ * HttpTransport transport = HttpClientHandler.newPooledTransport(64, 16);
+ * HttpClientHandler handler = new HttpClientHandler(
+ *         urlSupplier,
+ *         transport.createRequestFactory(),
+ *         new DefaultSerializerProvider(),
+ *         instrumentation,
+ *         true,
+ *         Executors.newFixedThreadPool(16));
+ * }</pre>
+ *
+ * The HTTP transports are blocking, so async calls are handled by the
+ * executor. The number of threads in the executor limits the number of
+ * concurrent calls, and should match the connections per route of the
+ * transport.
  */
 public class HttpClientHandler implements PServiceCallHandler {
     private final HttpRequestFactory factory;
@@ -59,6 +98,8 @@ public class HttpClientHandler implements PServiceCallHandler {
     private final Serializer                 requestSerializer;
     private final Supplier<GenericUrl>       urlSupplier;
     private final ServiceCallInstrumentation instrumentation;
+    private final boolean                    streamRequests;
+    private final Executor                   asyncExecutor;
 
     /**
      * Create a HTTP client with default transport, serialization and no instrumentation.
@@ -105,11 +146,71 @@ public class HttpClientHandler implements PServiceCallHandler {
                              @Nonnull HttpRequestFactory factory,
                              @Nonnull SerializerProvider serializerProvider,
                              @Nonnull ServiceCallInstrumentation instrumentation) {
+        this(urlSupplier, factory, serializerProvider, instrumentation, false, null);
+    }
+
+    /**
+     * Create a HTTP client.
+     *
+     * @param urlSupplier The HTTP url supplier.
+     * @param factory The HTTP request factory.
+     * @param serializerProvider The serializer provider.
+     * @param instrumentation The service call instrumentation.
+     * @param streamRequests If the request should be serialized directly to
+     *                       the connection using chunked transfer encoding,
+     *                       instead of being buffered to know the content
+     *                       length.
+     * @param asyncExecutor Executor to handle async calls, or null to handle
+     *                      async calls synchronously.
+     */
+    public HttpClientHandler(@Nonnull Supplier<GenericUrl> urlSupplier,
+                             @Nonnull HttpRequestFactory factory,
+                             @Nonnull SerializerProvider serializerProvider,
+                             @Nonnull ServiceCallInstrumentation instrumentation,
+                             boolean streamRequests,
+                             @Nullable Executor asyncExecutor) {
         this.urlSupplier = urlSupplier;
         this.factory = factory;
         this.serializerProvider = serializerProvider;
         this.requestSerializer = serializerProvider.getDefault();
         this.instrumentation = instrumentation;
+        this.streamRequests = streamRequests;
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    /**
+     * Create a HTTP transport with a pool of persistent connections. Idle
+     * connections are kept alive and reused between calls, so most calls do
+     * not need to set up a new connection.
+     *
+     * @param maxConnections Max total number of connections.
+     * @param maxConnectionsPerRoute Max number of connections per host.
+     * @return The HTTP transport.
+     */
+    @Nonnull
+    @SuppressWarnings("deprecation")
+    public static HttpTransport newPooledTransport(int maxConnections, int maxConnectionsPerRoute) {
+        if (maxConnections < 1 || maxConnectionsPerRoute < 1) {
+            throw new IllegalArgumentException("Invalid connection limits: " + maxConnections + ", " + maxConnectionsPerRoute);
+        }
+        // The google HTTP client ApacheHttpTransport sets up the client with
+        // the legacy HttpParams API, so the client is made with the same
+        // API as the transport's own default client, only with a larger pool.
+        SchemeRegistry registry = SchemeRegistryFactory.createSystemDefault();
+        PoolingClientConnectionManager connectionManager = new PoolingClientConnectionManager(registry);
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(Math.min(maxConnections, maxConnectionsPerRoute));
+
+        HttpParams params = new BasicHttpParams();
+        HttpConnectionParams.setTcpNoDelay(params, true);
+        HttpConnectionParams.setSocketBufferSize(params, 8192);
+        // Redirects and retries are handled by the google HTTP client.
+        HttpClientParams.setRedirecting(params, false);
+
+        DefaultHttpClient client = new DefaultHttpClient(connectionManager, params);
+        client.setHttpRequestRetryHandler(new DefaultHttpRequestRetryHandler(0, false));
+        client.setRoutePlanner(new ProxySelectorRoutePlanner(registry, ProxySelector.getDefault()));
+        return new ApacheHttpTransport(client);
     }
 
     @Override
@@ -127,10 +228,15 @@ public class HttpClientHandler implements PServiceCallHandler {
         long startTime = System.nanoTime();
         PServiceCall<Response, ResponseField> reply = null;
         try {
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            requestSerializer.serialize(baos, call);
-
-            ByteArrayContent content = new ByteArrayContent(requestSerializer.mediaType(), baos.toByteArray());
+            HttpContent content;
+            if (streamRequests) {
+                content = new StreamingCallContent(requestSerializer, call);
+            } else {
+                CallBuffer buffer = new CallBuffer();
+                requestSerializer.serialize(buffer, call);
+                // Wrap the buffer content directly, to avoid copying it.
+                content = new ByteArrayContent(requestSerializer.mediaType(), buffer.array(), 0, buffer.size());
+            }
 
             @Nonnull
             GenericUrl url = urlSupplier.get();
@@ -200,4 +306,81 @@ public class HttpClientHandler implements PServiceCallHandler {
             throw e;
         }
     }
+
+    /**
+     * Handle the call asynchronously in the async executor. If no async
+     * executor is set, the call is handled synchronously.
+     *
+     * @param call The request call.
+     * @param service The service to be handled.
+     * @param <Request> Request type.
+     * @param <Response> Response type.
+     * @param <RequestField> Request type.
+     * @param <ResponseField> Response type.
+     * @return The future response service call.
+     */
+    @Nonnull
+    @Override
+    public <Request extends PMessage<Request, RequestField>,
+            Response extends PMessage<Response, ResponseField>,
+            RequestField extends PField,
+            ResponseField extends PField>
+    CompletableFuture<PServiceCall<Response, ResponseField>> handleCallAsync(PServiceCall<Request, RequestField> call,
+                                                                             PService service) {
+        if (asyncExecutor == null) {
+            return PServiceCallHandler.super.handleCallAsync(call, service);
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return handleCall(call, service);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, asyncExecutor);
+    }
+
+    /**
+     * HTTP content for the service call that is serialized directly to the
+     * connection output stream when sent. The content length is not known,
+     * so the request is sent with chunked transfer encoding.
+     */
+    private static class StreamingCallContent implements HttpContent {
+        private final Serializer   serializer;
+        private final PServiceCall call;
+
+        private StreamingCallContent(Serializer serializer, PServiceCall call) {
+            this.serializer = serializer;
+            this.call = call;
+        }
+
+        @Override
+        public long getLength() {
+            return -1L;
+        }
+
+        @Override
+        public String getType() {
+            return serializer.mediaType();
+        }
+
+        @Override
+        public boolean retrySupported() {
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void writeTo(OutputStream out) throws IOException {
+            serializer.serialize(out, call);
+        }
+    }
+
+    /**
+     * Output buffer giving access to the buffered bytes without copying.
+     */
+    private static class CallBuffer extends ByteArrayOutputStream {
+        private byte[] array() {
+            return buf;
+        }
+    }
 }
@@ -0,0 +1,167 @@
+package net.morimekta.providence.client;
+
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpTransport;
+import net.morimekta.providence.client.internal.NoLogging;
+import net.morimekta.providence.serializer.DefaultSerializerProvider;
+import net.morimekta.providence.serializer.SerializerProvider;
+import net.morimekta.test.providence.client.Failure;
+import net.morimekta.test.providence.client.Request;
+import net.morimekta.test.providence.client.Response;
+import net.morimekta.test.providence.client.TestService;
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.server.TServlet;
+import org.awaitility.Duration;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.servlet.ServletContextHandler;
+import org.eclipse.jetty.servlet.ServletHolder;
+import org.eclipse.jetty.util.log.Log;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static net.morimekta.providence.client.internal.TestNetUtil.getExposedPort;
+import static net.morimekta.providence.testing.ProvidenceMatchers.equalToMessage;
+import static org.awaitility.Awaitility.waitAtMost;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test the high-throughput mode of the HTTP client handler, with pooled
+ * connections, streamed requests and async calls.
+ */
+public class HttpClientHandlerPooledTest {
+    private static final String ENDPOINT = "test";
+
+    private int                                                port;
+    private net.morimekta.test.thrift.client.TestService.Iface impl;
+    private Server                                             server;
+    private SerializerProvider                                 provider;
+    private ConcurrentLinkedQueue<Long>                        contentLengths;
+    private ConcurrentLinkedQueue<Integer>                     remotePorts;
+    private HttpTransport                                      transport;
+    private ExecutorService                                    executor;
+
+    private GenericUrl endpoint() {
+        return new GenericUrl("http://localhost:" + port + "/" + ENDPOINT);
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        Log.setLog(new NoLogging());
+
+        impl = mock(net.morimekta.test.thrift.client.TestService.Iface.class);
+        TProcessor processor = new net.morimekta.test.thrift.client.TestService.Processor<>(impl);
+
+        provider = new DefaultSerializerProvider();
+        server = new Server(0);
+        ServletContextHandler handler = new ServletContextHandler();
+        handler.addServlet(new ServletHolder(new TServlet(processor, new TBinaryProtocol.Factory())),
+                           "/" + ENDPOINT);
+
+        contentLengths = new ConcurrentLinkedQueue<>();
+        remotePorts = new ConcurrentLinkedQueue<>();
+
+        server.setHandler(handler);
+        server.setRequestLog((request, response) -> {
+            contentLengths.add(request.getContentLengthLong());
+            remotePorts.add(request.getRemotePort());
+        });
+        server.start();
+        port = getExposedPort(server);
+
+        transport = HttpClientHandler.newPooledTransport(8, 4);
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executor.shutdown();
+        transport.shutdown();
+        server.stop();
+    }
+
+    @Test
+    public void testReusedConnection() throws IOException, TException, Failure {
+        when(impl.test(any(net.morimekta.test.thrift.client.Request.class)))
+                .thenReturn(new net.morimekta.test.thrift.client.Response("response"));
+
+        TestService.Iface client = new TestService.Client(new HttpClientHandler(
+                this::endpoint, transport.createRequestFactory(), provider));
+
+        for (int i = 0; i < 20; ++i) {
+            assertThat(client.test(new Request("request")), is(equalToMessage(new Response("response"))));
+        }
+
+        // The request log is written after the response is sent.
+        waitAtMost(Duration.ONE_SECOND).until(() -> remotePorts.size() == 20);
+        // All calls made on the same kept-alive connection.
+        assertThat(new HashSet<>(remotePorts).size(), is(1));
+        // And not streamed, so the content length is known.
+        assertThat(contentLengths.stream().allMatch(l -> l > 0), is(true));
+    }
+
+    @Test
+    public void testStreamedAsyncCalls()
+            throws TException, InterruptedException, ExecutionException, TimeoutException {
+        when(impl.test(any(net.morimekta.test.thrift.client.Request.class))).thenAnswer(i -> {
+            net.morimekta.test.thrift.client.Request request = i.getArgument(0);
+            if (request.getText().equals("fail")) {
+                throw new net.morimekta.test.thrift.client.Failure("failure");
+            }
+            return new net.morimekta.test.thrift.client.Response(request.getText());
+        });
+
+        TestService.Client client = new TestService.Client(new HttpClientHandler(
+                this::endpoint,
+                transport.createRequestFactory(),
+                provider,
+                (d, c, r) -> {},
+                true,
+                executor));
+
+        List<CompletableFuture<Response>> futures = new ArrayList<>();
+        for (int i = 0; i < 100; ++i) {
+            futures.add(client.testAsync(new Request("request " + i)));
+        }
+        CompletableFuture<Response> failure = client.testAsync(new Request("fail"));
+
+        for (int i = 0; i < 100; ++i) {
+            assertThat(futures.get(i).get(1, TimeUnit.SECONDS), is(equalToMessage(new Response("request " + i))));
+        }
+        try {
+            failure.get(1, TimeUnit.SECONDS);
+            fail("No exception");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), is(instanceOf(Failure.class)));
+            assertThat((Failure) e.getCause(), is(equalToMessage(new Failure("failure"))));
+        }
+
+        // Streamed requests does not have content length.
+        waitAtMost(Duration.ONE_SECOND).until(() -> contentLengths.size() == 101);
+        assertThat(contentLengths.stream().allMatch(l -> l < 0), is(true));
+        // And no more connections than the concurrency limit.
+        Set<Integer> ports = new HashSet<>(remotePorts);
+        assertThat(ports.size() <= 4, is(true));
+    }
+}
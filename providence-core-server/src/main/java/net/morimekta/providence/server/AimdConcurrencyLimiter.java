@@ -0,0 +1,178 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.server;
+
+import javax.annotation.Nonnull;
+import java.time.Clock;
+
+/**
+ * Concurrency limiter with an adaptive limit, using additive increase and
+ * multiplicative decrease (AIMD). When a call completes within the latency
+ * target the limit is increased by one, if the limit was nearly used up.
+ * When a call takes longer than the target the limit is multiplied by the
+ * backoff ratio, but at most once per backoff window, so a burst of slow
+ * calls that were all in flight at the same time only counts once. The
+ * limit is always kept between the min and max limit.
+ */
+public class AimdConcurrencyLimiter implements ConcurrencyLimiter {
+    public static class Builder {
+        private int    initialLimit  = 20;
+        private int    minLimit      = 1;
+        private int    maxLimit      = 1000;
+        private double backoffRatio  = 0.9;
+        private double latencyTarget = 1000.0;  // 1 second
+        private long   backoffWindow = -1;      // same as latency target
+        private Clock  clock         = Clock.systemUTC();
+
+        public Builder withInitialLimit(int initialLimit) {
+            if (initialLimit < 1) {
+                throw new IllegalArgumentException("Invalid initial limit: " + initialLimit);
+            }
+            this.initialLimit = initialLimit;
+            return this;
+        }
+
+        public Builder withMinLimit(int minLimit) {
+            if (minLimit < 1) {
+                throw new IllegalArgumentException("Invalid min limit: " + minLimit);
+            }
+            this.minLimit = minLimit;
+            return this;
+        }
+
+        public Builder withMaxLimit(int maxLimit) {
+            if (maxLimit < 1) {
+                throw new IllegalArgumentException("Invalid max limit: " + maxLimit);
+            }
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
+        public Builder withBackoffRatio(double backoffRatio) {
+            if (backoffRatio <= 0.0 || backoffRatio >= 1.0) {
+                throw new IllegalArgumentException("Invalid backoff ratio: " + backoffRatio);
+            }
+            this.backoffRatio = backoffRatio;
+            return this;
+        }
+
+        /**
+         * @param latencyTargetInMs Calls taking longer than this, including
+         *                          time in queue, reduces the limit.
+         * @return The builder.
+         */
+        public Builder withLatencyTarget(double latencyTargetInMs) {
+            if (latencyTargetInMs <= 0.0) {
+                throw new IllegalArgumentException("Invalid latency target: " + latencyTargetInMs);
+            }
+            this.latencyTarget = latencyTargetInMs;
+            return this;
+        }
+
+        /**
+         * @param backoffWindowInMs After decreasing the limit, slow calls
+         *                          do not decrease it again until this
+         *                          long has passed. Defaults to the latency
+         *                          target.
+         * @return The builder.
+         */
+        public Builder withBackoffWindow(long backoffWindowInMs) {
+            if (backoffWindowInMs < 0) {
+                throw new IllegalArgumentException("Invalid backoff window: " + backoffWindowInMs);
+            }
+            this.backoffWindow = backoffWindowInMs;
+            return this;
+        }
+
+        public Builder withClock(@Nonnull Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public AimdConcurrencyLimiter build() {
+            if (minLimit > maxLimit) {
+                throw new IllegalArgumentException("Min limit " + minLimit + " > max limit " + maxLimit);
+            }
+            return new AimdConcurrencyLimiter(this);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public synchronized boolean tryAcquire(int permits) {
+        if (permits < 1 || inFlight + permits > limit) {
+            return false;
+        }
+        inFlight += permits;
+        return true;
+    }
+
+    @Override
+    public synchronized void release(double duration) {
+        if (duration > latencyTarget) {
+            long now = clock.millis();
+            if (lastDecrease < 0 || now - lastDecrease >= backoffWindow) {
+                limit = Math.max(minLimit, (int) (limit * backoffRatio));
+                lastDecrease = now;
+            }
+        } else if (2 * inFlight >= limit) {
+            // Only grow the limit when it is in use, otherwise it would grow
+            // without bounds while the server is idle.
+            limit = Math.min(maxLimit, limit + 1);
+        }
+        --inFlight;
+    }
+
+    @Override
+    public synchronized int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private final int    minLimit;
+    private final int    maxLimit;
+    private final double backoffRatio;
+    private final double latencyTarget;
+    private final long   backoffWindow;
+    private final Clock  clock;
+
+    private int  limit;
+    private int  inFlight;
+    private long lastDecrease;
+
+    private AimdConcurrencyLimiter(Builder builder) {
+        this.minLimit = builder.minLimit;
+        this.maxLimit = builder.maxLimit;
+        this.backoffRatio = builder.backoffRatio;
+        this.latencyTarget = builder.latencyTarget;
+        this.backoffWindow = builder.backoffWindow < 0 ? (long) Math.ceil(builder.latencyTarget) : builder.backoffWindow;
+        this.clock = builder.clock;
+        this.lastDecrease = -1;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, builder.initialLimit));
+    }
+}
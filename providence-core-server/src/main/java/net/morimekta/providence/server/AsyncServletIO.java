@@ -0,0 +1,212 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.server;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Non-blocking reading and writing of request and response bodies for the
+ * async servlets. Neither reading nor writing holds a container thread
+ * while waiting for the client, as the data is moved in the read and write
+ * listener callbacks.
+ */
+final class AsyncServletIO {
+    // Size of chunks read from or written to the servlet streams.
+    private static final int CHUNK_SIZE = 8192;
+    // Max initial size of the request body buffer, so the content length
+    // header alone can not make the whole body be allocated up front.
+    private static final int MAX_INITIAL_BODY_SIZE = CHUNK_SIZE * 16;
+
+    /**
+     * Thrown when the request body is larger than the max body size. The
+     * request should be answered with
+     * <code>413 Request Entity Too Large</code>.
+     */
+    static final class BodyTooLargeException extends IOException {
+        BodyTooLargeException(long maxBodySize) {
+            super("Request body larger than " + maxBodySize + " bytes");
+        }
+    }
+
+    /**
+     * Read the whole request body without blocking. If the content length
+     * or the body read is larger than the max body size, the future fails
+     * with a {@link BodyTooLargeException} and the rest of the body is not
+     * read.
+     *
+     * @param context The async context of the request.
+     * @param maxBodySize The max request body size in bytes.
+     * @return Future completed with the request body.
+     * @throws IOException If unable to get the request input stream.
+     */
+    static CompletableFuture<byte[]> readBody(AsyncContext context, long maxBodySize) throws IOException {
+        CompletableFuture<byte[]> future = new CompletableFuture<>();
+        long contentLength = context.getRequest().getContentLengthLong();
+        if (contentLength > maxBodySize) {
+            future.completeExceptionally(new BodyTooLargeException(maxBodySize));
+            return future;
+        }
+        ServletInputStream in = context.getRequest().getInputStream();
+        ByteArrayOutputStream body = new ByteArrayOutputStream(
+                contentLength > 0 ? (int) Math.min(contentLength, MAX_INITIAL_BODY_SIZE) : CHUNK_SIZE);
+        in.setReadListener(new ReadListener() {
+            private final byte[] buffer = new byte[CHUNK_SIZE];
+
+            @Override
+            public void onDataAvailable() throws IOException {
+                int len;
+                while (!future.isDone() && in.isReady() && (len = in.read(buffer)) >= 0) {
+                    if (body.size() + len > maxBodySize) {
+                        future.completeExceptionally(new BodyTooLargeException(maxBodySize));
+                        return;
+                    }
+                    body.write(buffer, 0, len);
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                future.complete(body.toByteArray());
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Write the response body without blocking, in chunks as the client
+     * is able to receive it.
+     *
+     * @param context The async context of the request.
+     * @param body The response body to write.
+     * @return Future completed when the whole body is written.
+     * @throws IOException If unable to get the response output stream.
+     */
+    static CompletableFuture<Void> writeBody(AsyncContext context, byte[] body) throws IOException {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        ServletOutputStream out = context.getResponse().getOutputStream();
+        out.setWriteListener(new WriteListener() {
+            private int pos = 0;
+
+            @Override
+            public void onWritePossible() throws IOException {
+                while (out.isReady()) {
+                    if (pos >= body.length) {
+                        future.complete(null);
+                        return;
+                    }
+                    int len = Math.min(CHUNK_SIZE, body.length - pos);
+                    out.write(body, pos, len);
+                    pos += len;
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Set the timeout of the async request, and handle timeouts and errors
+     * reported by the container. On timeout the response is completed with
+     * <code>503 Service Unavailable</code>, and on error with
+     * <code>500 Internal Server Error</code>, unless already committed.
+     * <p>
+     * The returned flag tells if the request is done. Whoever completes the
+     * request must first set it with <code>compareAndSet(false, true)</code>,
+     * and leave the response alone if that fails, so the response is only
+     * completed once.
+     *
+     * @param context The async context of the request.
+     * @param timeoutInMs The async timeout in milliseconds.
+     * @param onFailure Called with the cause if the request times out or
+     *                  fails in the container.
+     * @return The done flag of the request.
+     */
+    static AtomicBoolean handleTimeout(AsyncContext context, long timeoutInMs, Consumer<Exception> onFailure) {
+        AtomicBoolean done = new AtomicBoolean();
+        context.setTimeout(timeoutInMs);
+        context.addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                done.set(true);
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                fail(HttpServletResponse.SC_SERVICE_UNAVAILABLE,
+                     new TimeoutException("Request timed out after " + timeoutInMs + "ms"));
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                Throwable cause = event.getThrowable();
+                fail(HttpServletResponse.SC_INTERNAL_SERVER_ERROR,
+                     cause instanceof Exception ? (Exception) cause : new IOException("Async request failed", cause));
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {}
+
+            private void fail(int status, Exception cause) {
+                if (!done.compareAndSet(false, true)) {
+                    return;
+                }
+                HttpServletResponse response = (HttpServletResponse) context.getResponse();
+                try {
+                    if (!response.isCommitted()) {
+                        response.sendError(status, cause.getMessage());
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    cause.addSuppressed(e);
+                }
+                try {
+                    onFailure.accept(cause);
+                } finally {
+                    context.complete();
+                }
+            }
+        });
+        return done;
+    }
+
+    private AsyncServletIO() {}
+}
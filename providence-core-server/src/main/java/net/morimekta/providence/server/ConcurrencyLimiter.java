@@ -0,0 +1,176 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.server;
+
+import net.morimekta.providence.PApplicationException;
+import net.morimekta.providence.PApplicationExceptionType;
+import net.morimekta.providence.PServiceCall;
+import net.morimekta.providence.PServiceCallType;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admission control for servers. Each call must acquire a permit before
+ * it is queued for handling, and release it when it is done. Calls that
+ * do not get a permit should be rejected right away with the
+ * {@link #rejectedReply(PServiceCall)}, instead of waiting in a queue
+ * until the client times out.
+ */
+public interface ConcurrencyLimiter {
+    /**
+     * Try to get a permit to handle a call.
+     *
+     * @return True if the call can be handled, false if it should be rejected.
+     */
+    default boolean tryAcquire() {
+        return tryAcquire(1);
+    }
+
+    /**
+     * Try to get a number of permits at once, e.g. one for each call of a
+     * batch. Either all or none of the permits are acquired, and each is
+     * released on its own.
+     *
+     * @param permits The number of permits.
+     * @return True if the calls can be handled, false if they should be rejected.
+     */
+    boolean tryAcquire(int permits);
+
+    /**
+     * Release a permit got from {@link #tryAcquire()} or {@link #tryAcquire(int)}.
+     *
+     * @param duration The duration of the call in milliseconds, including
+     *                 the time waiting in the queue.
+     */
+    void release(double duration);
+
+    /**
+     * @return The current max number of calls in flight.
+     */
+    int getLimit();
+
+    /**
+     * @return The number of calls in flight.
+     */
+    int getInFlight();
+
+    /**
+     * Make the reply for a rejected call.
+     *
+     * @param call The rejected call.
+     * @return The exception reply.
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static PServiceCall rejectedReply(@Nonnull PServiceCall call) {
+        return new PServiceCall<>(call.getMethod(),
+                                  PServiceCallType.EXCEPTION,
+                                  call.getSequence(),
+                                  PApplicationException.builder()
+                                                       .setMessage("Server overloaded, call to " + call.getMethod() + "() rejected")
+                                                       .setId(PApplicationExceptionType.INTERNAL_ERROR)
+                                                       .build());
+    }
+
+    /**
+     * Limiter that never rejects calls.
+     *
+     * @return The limiter.
+     */
+    @Nonnull
+    static ConcurrencyLimiter unlimited() {
+        return new ConcurrencyLimiter() {
+            private final AtomicInteger inFlight = new AtomicInteger();
+
+            @Override
+            public boolean tryAcquire(int permits) {
+                if (permits < 1) {
+                    return false;
+                }
+                inFlight.addAndGet(permits);
+                return true;
+            }
+
+            @Override
+            public void release(double duration) {
+                inFlight.decrementAndGet();
+            }
+
+            @Override
+            public int getLimit() {
+                return Integer.MAX_VALUE;
+            }
+
+            @Override
+            public int getInFlight() {
+                return inFlight.get();
+            }
+        };
+    }
+
+    /**
+     * Limiter with a fixed max number of calls in flight.
+     *
+     * @param maxInFlight The max number of calls in flight.
+     * @return The limiter.
+     */
+    @Nonnull
+    static ConcurrencyLimiter fixed(int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("Invalid max in flight: " + maxInFlight);
+        }
+        return new ConcurrencyLimiter() {
+            private final AtomicInteger inFlight = new AtomicInteger();
+
+            @Override
+            public boolean tryAcquire(int permits) {
+                if (permits < 1) {
+                    return false;
+                }
+                while (true) {
+                    int current = inFlight.get();
+                    if (current + permits > maxInFlight) {
+                        return false;
+                    }
+                    if (inFlight.compareAndSet(current, current + permits)) {
+                        return true;
+                    }
+                }
+            }
+
+            @Override
+            public void release(double duration) {
+                inFlight.decrementAndGet();
+            }
+
+            @Override
+            public int getLimit() {
+                return maxInFlight;
+            }
+
+            @Override
+            public int getInFlight() {
+                return inFlight.get();
+            }
+        };
+    }
+}
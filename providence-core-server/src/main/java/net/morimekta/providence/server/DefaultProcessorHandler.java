@@ -26,15 +26,27 @@ import net.morimekta.providence.PProcessor;
 import net.morimekta.providence.PServiceCall;
 import net.morimekta.providence.PServiceCallHandler;
 import net.morimekta.providence.PServiceCallType;
+import net.morimekta.providence.mio.IOMessageReader;
+import net.morimekta.providence.mio.IOMessageWriter;
 import net.morimekta.providence.mio.MessageReader;
 import net.morimekta.providence.mio.MessageWriter;
+import net.morimekta.providence.serializer.Serializer;
 import net.morimekta.providence.serializer.SerializerException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Service processor wraps the service' Processor implementation of the
@@ -60,6 +72,176 @@ public class DefaultProcessorHandler implements ProcessorHandler {
     @Override
     @SuppressWarnings("unchecked")
     public void process(MessageReader reader, MessageWriter writer) throws IOException {
+        PServiceCall call = readCall(reader, writer);
+        if (call == null) {
+            return;
+        }
+
+        PServiceCall reply;
+        try {
+            reply = processor.handleCall(call);
+        } catch (Exception e) {
+            writeException(call, e, writer);
+            return;
+        }
+        writeReply(call, reply, writer);
+    }
+
+    /**
+     * Process the call asynchronously using the processor's
+     * {@link PProcessor#handleCallAsync(PServiceCall, net.morimekta.providence.descriptor.PService)}.
+     * The request is read and parsed in the calling thread, and the reply is
+     * written in the thread that completes the call.
+     *
+     * @param reader The message reader for the request.
+     * @param writer The message writer for the response.
+     * @return Future completed when the response is written.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<Void> processAsync(MessageReader reader, MessageWriter writer) {
+        PServiceCall call;
+        try {
+            call = readCall(reader, writer);
+            if (call == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+        } catch (Exception e) {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+
+        CompletableFuture<PServiceCall> replyFuture;
+        try {
+            replyFuture = processor.handleCallAsync(call, processor.getDescriptor());
+        } catch (Exception e) {
+            replyFuture = new CompletableFuture<>();
+            replyFuture.completeExceptionally(e);
+        }
+        return replyFuture.handle((reply, e) -> {
+            try {
+                if (e != null) {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    writeException(call, cause instanceof Exception ? (Exception) cause : new CompletionException(cause), writer);
+                } else {
+                    writeReply(call, reply, writer);
+                }
+                return null;
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
+    /**
+     * Process a batch of calls in parallel. Each call is read, handled and
+     * replied to in a task on the executor, and handled with
+     * {@link PProcessor#handleCallAsync(PServiceCall, net.morimekta.providence.descriptor.PService)},
+     * so no thread is held waiting for async calls to complete. Calls that
+     * fail are replied to with an exception the same way as single calls,
+     * and a call that fails to be handled or replied to at all, e.g. if
+     * rejected by the executor, gets an internal error reply of its own,
+     * so it does not fail the rest of the batch.
+     *
+     * @param requests The serialized calls.
+     * @param requestSerializer Serializer for reading the calls.
+     * @param responseSerializer Serializer for writing the replies.
+     * @param executor Executor to handle the calls in.
+     * @return Future completed with the serialized replies, in the same order
+     *         as the calls. Oneway calls have an empty reply.
+     */
+    @Override
+    public CompletableFuture<List<byte[]>> processBatch(List<byte[]> requests,
+                                                        Serializer requestSerializer,
+                                                        Serializer responseSerializer,
+                                                        Executor executor) {
+        List<CompletableFuture<byte[]>> replies = new ArrayList<>(requests.size());
+        for (byte[] request : requests) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            MessageReader reader = new IOMessageReader(new ByteArrayInputStream(request), requestSerializer);
+            MessageWriter writer = new IOMessageWriter(out, responseSerializer);
+            CompletableFuture<byte[]> reply;
+            try {
+                reply = CompletableFuture.supplyAsync(() -> processAsync(reader, writer), executor)
+                                         .thenCompose(future -> future)
+                                         .thenApply(ignore -> out.toByteArray());
+            } catch (RejectedExecutionException e) {
+                reply = new CompletableFuture<>();
+                reply.completeExceptionally(e);
+            }
+            replies.add(reply.handle((bytes, e) -> {
+                if (e == null) {
+                    return bytes;
+                }
+                return batchExceptionReply(request, e, requestSerializer, responseSerializer);
+            }));
+        }
+        return CompletableFuture.allOf(replies.toArray(new CompletableFuture[0])).thenApply(ignore -> {
+            List<byte[]> out = new ArrayList<>(replies.size());
+            for (CompletableFuture<byte[]> reply : replies) {
+                out.add(reply.join());
+            }
+            return out;
+        });
+    }
+
+    /**
+     * Make the exception reply for a call of a batch that failed to be
+     * handled. The call is read again to get the method name and sequence
+     * number, and oneway calls get an empty reply.
+     */
+    @SuppressWarnings("unchecked")
+    private byte[] batchExceptionReply(byte[] request,
+                                       Throwable e,
+                                       Serializer requestSerializer,
+                                       Serializer responseSerializer) {
+        Throwable cause = e;
+        while ((cause instanceof CompletionException || cause instanceof UncheckedIOException) &&
+               cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+
+        String method = "";
+        int sequence = 0;
+        try {
+            PServiceCall call = requestSerializer.deserialize(new ByteArrayInputStream(request),
+                                                              processor.getDescriptor());
+            if (call.getType() == PServiceCallType.ONEWAY) {
+                LOGGER.error("Error when handling oneway call " + processor.getDescriptor().getName() + "." + call.getMethod() + "()", cause);
+                return new byte[0];
+            }
+            method = call.getMethod();
+            sequence = call.getSequence();
+        } catch (SerializerException se) {
+            if (se.getMethodName() != null) {
+                method = se.getMethodName();
+                sequence = se.getSequenceNo();
+            }
+        } catch (IOException ignore) {
+            // Replied to without method and sequence.
+        }
+
+        LOGGER.error("Error when handling batch call " + processor.getDescriptor().getName() + "." + method + "()", cause);
+        try {
+            PApplicationException oe = new PApplicationException(cause.getMessage(), PApplicationExceptionType.INTERNAL_ERROR);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            responseSerializer.serialize(out, new PServiceCall<>(method, PServiceCallType.EXCEPTION, sequence, oe));
+            return out.toByteArray();
+        } catch (IOException ex) {
+            ex.addSuppressed(cause);
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Read the service call, and write error response if it is not a valid
+     * service call.
+     *
+     * @return The call, or null if an error response was written.
+     */
+    @SuppressWarnings("unchecked")
+    private PServiceCall readCall(MessageReader reader, MessageWriter writer) throws IOException {
         PServiceCall call, reply;
         try {
             call = reader.read(processor.getDescriptor());
@@ -73,7 +255,7 @@ public class DefaultProcessorHandler implements ProcessorHandler {
                 PApplicationException oe = new PApplicationException(e.getMessage(), e.getExceptionType());
                 reply = new PServiceCall<>(e.getMethodName(), PServiceCallType.EXCEPTION, e.getSequenceNo(), oe);
                 writer.write(reply);
-                return;
+                return null;
             } catch (Exception e2) {
                 e.addSuppressed(e2);
                 throw e;
@@ -86,27 +268,35 @@ public class DefaultProcessorHandler implements ProcessorHandler {
                                                                      PApplicationExceptionType.INVALID_MESSAGE_TYPE);
                 reply = new PServiceCall(call.getMethod(), PServiceCallType.EXCEPTION, call.getSequence(), oe);
                 writer.write(reply);
-                return;
+                return null;
             } catch (Exception e) {
                 throw new IOException("Unable to write error response", e);
             }
         }
+        return call;
+    }
 
+    @SuppressWarnings("unchecked")
+    private void writeException(PServiceCall call, Exception e, MessageWriter writer) throws IOException {
+        LOGGER.error("Error when handling service call " + processor.getDescriptor().getName() + "." + call.getMethod() + "()", e);
         try {
-            reply = processor.handleCall(call);
-        } catch (Exception e) {
-            LOGGER.error("Error when handling service call " + processor.getDescriptor().getName() + "." + call.getMethod() + "()", e);
-            try {
-                PApplicationException oe = new PApplicationException(e.getMessage(), PApplicationExceptionType.INTERNAL_ERROR);
-                reply = new PServiceCall<>(call.getMethod(), PServiceCallType.EXCEPTION, call.getSequence(), oe);
-                writer.write(reply);
-                return;
-            } catch (Exception e2) {
-                e.addSuppressed(e2);
-                throw e;
+            PApplicationException oe = new PApplicationException(e.getMessage(), PApplicationExceptionType.INTERNAL_ERROR);
+            PServiceCall reply = new PServiceCall<>(call.getMethod(), PServiceCallType.EXCEPTION, call.getSequence(), oe);
+            writer.write(reply);
+        } catch (Exception e2) {
+            e.addSuppressed(e2);
+            if (e instanceof IOException) {
+                throw (IOException) e;
             }
+            if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            }
+            throw new IOException(e.getMessage(), e);
         }
+    }
 
+    @SuppressWarnings("unchecked")
+    private void writeReply(PServiceCall call, PServiceCall reply, MessageWriter writer) throws IOException {
         if (reply != null) {
             try {
                 writer.write(reply);
@@ -122,6 +312,5 @@ public class DefaultProcessorHandler implements ProcessorHandler {
                 }
             }
         }
-
     }
 }
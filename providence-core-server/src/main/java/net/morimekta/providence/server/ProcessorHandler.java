@@ -20,10 +20,20 @@
  */
 package net.morimekta.providence.server;
 
+import net.morimekta.providence.mio.IOMessageReader;
+import net.morimekta.providence.mio.IOMessageWriter;
 import net.morimekta.providence.mio.MessageReader;
 import net.morimekta.providence.mio.MessageWriter;
+import net.morimekta.providence.mio.ServiceCallBatch;
+import net.morimekta.providence.serializer.Serializer;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Stream processor interface for providence services.
@@ -38,4 +48,57 @@ public interface ProcessorHandler {
      * @throws IOException In failure to handle input or output.
      */
     void process(MessageReader reader, MessageWriter writer) throws IOException;
+
+    /**
+     * Process message read from reader, and write response to writer when
+     * the call completes. The default implementation handles the call
+     * synchronously.
+     *
+     * @param reader The message reader for the request.
+     * @param writer The message writer for the response.
+     * @return Future completed when the response is written.
+     */
+    default CompletableFuture<Void> processAsync(MessageReader reader, MessageWriter writer) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        try {
+            process(reader, writer);
+            future.complete(null);
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Process a batch of calls, each serialized on its own as in the
+     * {@link ServiceCallBatch} envelope. The default implementation
+     * processes the calls in order in the calling thread, and does not use
+     * the executor.
+     *
+     * @param requests The serialized calls.
+     * @param requestSerializer Serializer for reading the calls.
+     * @param responseSerializer Serializer for writing the replies.
+     * @param executor Executor to handle the calls in.
+     * @return Future completed with the serialized replies, in the same order
+     *         as the calls. Oneway calls have an empty reply.
+     */
+    default CompletableFuture<List<byte[]>> processBatch(List<byte[]> requests,
+                                                         Serializer requestSerializer,
+                                                         Serializer responseSerializer,
+                                                         Executor executor) {
+        CompletableFuture<List<byte[]>> future = new CompletableFuture<>();
+        try {
+            List<byte[]> replies = new ArrayList<>(requests.size());
+            for (byte[] request : requests) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                process(new IOMessageReader(new ByteArrayInputStream(request), requestSerializer),
+                        new IOMessageWriter(out, responseSerializer));
+                replies.add(out.toByteArray());
+            }
+            future.complete(replies);
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
 }
@@ -34,11 +34,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
+import javax.servlet.AsyncContext;
 import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * A simple HTTP POST servlet wrapper that deserializes the POST body
@@ -156,6 +163,15 @@ import java.util.concurrent.ExecutionException;
  *     </li>
  * </ul>
  *
+ * <h3>Async Mode</h3>
+ *
+ * When created with <code>async</code> set, and the servlet is registered with
+ * async support, the request is handled with the servlet 3.1 async API. The
+ * request and response bodies are read and written with non-blocking listeners,
+ * and the response is made by {@link #handleAsync(HttpServletRequest, PMessage)},
+ * which can complete the response future later from any thread. This way no
+ * container thread is held while waiting for slow downstream calls.
+ *
  * @param <RQ> The request type.
  * @param <RQF> The request field type.
  * @param <RS> The response type.
@@ -167,8 +183,12 @@ public abstract class ProvidenceHttpServlet<
         RS extends PMessage<RS, RSF>, RSF extends PField> extends HttpServlet {
     private static final Logger LOGGER = LoggerFactory.getLogger(ProvidenceHttpServlet.class);
 
+    public static final long DEFAULT_ASYNC_TIMEOUT_MS = 30000L;
+    public static final long DEFAULT_MAX_BODY_SIZE    = 16L << 20;
+
     private final PMessageDescriptor<RQ, RQF> requestDescriptor;
     private final SerializerProvider serializerProvider;
+    private final boolean async;
 
     public ProvidenceHttpServlet(PMessageDescriptor<RQ, RQF> requestDescriptor) {
         this(requestDescriptor, new DefaultSerializerProvider());
@@ -176,8 +196,21 @@ public abstract class ProvidenceHttpServlet<
 
     public ProvidenceHttpServlet(PMessageDescriptor<RQ, RQF> requestDescriptor,
                                  SerializerProvider serializerProvider) {
+        this(requestDescriptor, serializerProvider, false);
+    }
+
+    /**
+     * @param requestDescriptor The request message descriptor.
+     * @param serializerProvider The serializer provider.
+     * @param async If requests should be handled asynchronously.
+     * @since 1.8.0
+     */
+    public ProvidenceHttpServlet(PMessageDescriptor<RQ, RQF> requestDescriptor,
+                                 SerializerProvider serializerProvider,
+                                 boolean async) {
         this.requestDescriptor = requestDescriptor;
         this.serializerProvider = serializerProvider;
+        this.async = async;
     }
 
     /**
@@ -194,6 +227,54 @@ public abstract class ProvidenceHttpServlet<
     RS handle(@Nonnull HttpServletRequest httpRequest,
               @Nonnull RQ request) throws T;
 
+    /**
+     * Handle the request asynchronously. This is only called in async mode,
+     * and the default implementation calls {@link #handle(HttpServletRequest, PMessage)}
+     * synchronously. Override to complete the response later, e.g. when a
+     * downstream call completes.
+     *
+     * @param httpRequest The HTTP request.
+     * @param request The parsed providence request.
+     * @return The response future. Exceptions completing the future are
+     *         handled the same way as exceptions thrown by handle.
+     * @since 1.8.0
+     */
+    @Nonnull
+    protected CompletableFuture<RS> handleAsync(@Nonnull HttpServletRequest httpRequest,
+                                                @Nonnull RQ request) {
+        CompletableFuture<RS> future = new CompletableFuture<>();
+        try {
+            future.complete(handle(httpRequest, request));
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Override to change how long an async request may take before it is
+     * failed with <code>503 Service Unavailable</code>. Only used in async
+     * mode.
+     *
+     * @return The async request timeout in milliseconds.
+     * @since 1.8.0
+     */
+    protected long getAsyncTimeoutInMs() {
+        return DEFAULT_ASYNC_TIMEOUT_MS;
+    }
+
+    /**
+     * Override to change the max size of the request body. Larger requests
+     * are answered with <code>413 Request Entity Too Large</code>. Only
+     * used in async mode, as the whole body is read before it is parsed.
+     *
+     * @return The max request body size in bytes.
+     * @since 1.8.0
+     */
+    protected long getMaxBodySize() {
+        return DEFAULT_MAX_BODY_SIZE;
+    }
+
     /**
      * Handle exceptions from the handle method.
      *
@@ -300,42 +381,142 @@ public abstract class ProvidenceHttpServlet<
             }
         }
 
+        if (async && httpRequest.isAsyncSupported()) {
+            doPostAsync(httpRequest, requestSerializer, responseSerializer);
+            return;
+        }
+
         RQ request;
         try {
             request = requestSerializer.deserialize(httpRequest.getInputStream(), requestDescriptor);
         } catch (SerializerException e) {
-            LOGGER.info("Failed to deserialize request to {}: {}", httpRequest.getServletPath(), e.asString(), e);
-
-            PApplicationException ex = PApplicationException.builder()
-                                                            .setId(PApplicationExceptionType.INVALID_PROTOCOL)
-                                                            .setMessage(e.getMessage())
-                                                            .build();
-            httpResponse.setStatus(statusCodeForException(ex));
-            httpResponse.setContentType(responseSerializer.mediaType());
-            responseSerializer.serialize(httpResponse.getOutputStream(), ex);
+            handleBadRequest(e, responseSerializer, httpRequest, httpResponse);
             return;
         }
 
         try {
             response = handle(httpRequest, request);
         } catch (Exception e) {
+            handleFailure(e, responseSerializer, httpRequest, httpResponse);
+            return;
+        }
+
+        httpResponse.setStatus(HttpServletResponse.SC_OK);
+        httpResponse.setContentType(responseSerializer.mediaType());
+        responseSerializer.serialize(httpResponse.getOutputStream(), response);
+    }
+
+    private void doPostAsync(HttpServletRequest httpRequest,
+                             Serializer requestSerializer,
+                             Serializer responseSerializer) throws IOException {
+        AsyncContext context = httpRequest.startAsync();
+        HttpServletResponse httpResponse = (HttpServletResponse) context.getResponse();
+        AtomicBoolean done = AsyncServletIO.handleTimeout(context, getAsyncTimeoutInMs(), e -> LOGGER.warn(
+                "Async request to {} failed: {}", httpRequest.getServletPath(), e.getMessage(), e));
+
+        AsyncServletIO.readBody(context, getMaxBodySize()).thenCompose(body -> {
+            RQ request;
             try {
-                Throwable rex = getResponseException(e);
-                handleException(rex, responseSerializer, httpRequest, httpResponse);
+                request = requestSerializer.deserialize(new ByteArrayInputStream(body), requestDescriptor);
+            } catch (SerializerException e) {
+                try {
+                    handleBadRequest(e, responseSerializer, httpRequest, httpResponse);
+                } catch (IOException ioe) {
+                    throw new UncheckedIOException(ioe);
+                }
+                return CompletableFuture.completedFuture(null);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            CompletableFuture<RS> future;
+            try {
+                future = handleAsync(httpRequest, request);
+            } catch (Exception e) {
+                future = new CompletableFuture<>();
+                future.completeExceptionally(e);
+            }
+            return future.handle((response, e) -> {
+                if (done.get()) {
+                    // Timed out or failed while handling the request.
+                    return CompletableFuture.<Void>completedFuture(null);
+                }
+                try {
+                    if (e != null) {
+                        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                        handleFailure(cause, responseSerializer, httpRequest, httpResponse);
+                        return CompletableFuture.<Void>completedFuture(null);
+                    }
+
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    responseSerializer.serialize(out, response);
+                    httpResponse.setStatus(HttpServletResponse.SC_OK);
+                    httpResponse.setContentType(responseSerializer.mediaType());
+                    httpResponse.setContentLength(out.size());
+                    return AsyncServletIO.writeBody(context, out.toByteArray());
+                } catch (IOException ioe) {
+                    throw new UncheckedIOException(ioe);
+                }
+            }).thenCompose(write -> write);
+        }).whenComplete((ignore, e) -> {
+            if (!done.compareAndSet(false, true)) {
+                // Already completed by the timeout or error listener.
+                return;
+            }
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof AsyncServletIO.BodyTooLargeException) {
+                LOGGER.warn("Request to {} rejected: {}", httpRequest.getServletPath(), cause.getMessage());
                 if (!httpResponse.isCommitted()) {
-                    httpResponse.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, e.getMessage());
+                    try {
+                        httpResponse.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE, cause.getMessage());
+                    } catch (IOException e1) {
+                        LOGGER.error("Exception sending error", e1);
+                    }
                 }
-            } catch (Exception e1) {
-                LOGGER.error("Exception sending error", e1);
+            } else if (e != null) {
+                LOGGER.error("Exception handling async request to {}", httpRequest.getServletPath(), e);
                 if (!httpResponse.isCommitted()) {
-                    httpResponse.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, e1.getMessage());
+                    try {
+                        httpResponse.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, e.getMessage());
+                    } catch (IOException e1) {
+                        LOGGER.error("Exception sending error", e1);
+                    }
                 }
             }
-            return;
-        }
+            context.complete();
+        });
+    }
 
-        httpResponse.setStatus(HttpServletResponse.SC_OK);
+    private void handleBadRequest(SerializerException e,
+                                  Serializer responseSerializer,
+                                  HttpServletRequest httpRequest,
+                                  HttpServletResponse httpResponse) throws IOException {
+        LOGGER.info("Failed to deserialize request to {}: {}", httpRequest.getServletPath(), e.asString(), e);
+
+        PApplicationException ex = PApplicationException.builder()
+                                                        .setId(PApplicationExceptionType.INVALID_PROTOCOL)
+                                                        .setMessage(e.getMessage())
+                                                        .build();
+        httpResponse.setStatus(statusCodeForException(ex));
         httpResponse.setContentType(responseSerializer.mediaType());
-        responseSerializer.serialize(httpResponse.getOutputStream(), response);
+        responseSerializer.serialize(httpResponse.getOutputStream(), ex);
+    }
+
+    private void handleFailure(Throwable e,
+                               Serializer responseSerializer,
+                               HttpServletRequest httpRequest,
+                               HttpServletResponse httpResponse) throws IOException {
+        try {
+            Throwable rex = getResponseException(e);
+            handleException(rex, responseSerializer, httpRequest, httpResponse);
+            if (!httpResponse.isCommitted()) {
+                httpResponse.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, e.getMessage());
+            }
+        } catch (Exception e1) {
+            LOGGER.error("Exception sending error", e1);
+            if (!httpResponse.isCommitted()) {
+                httpResponse.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, e1.getMessage());
+            }
+        }
     }
 }
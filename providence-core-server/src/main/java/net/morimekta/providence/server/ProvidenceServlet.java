@@ -26,6 +26,7 @@ import net.morimekta.providence.mio.IOMessageReader;
 import net.morimekta.providence.mio.IOMessageWriter;
 import net.morimekta.providence.mio.MessageReader;
 import net.morimekta.providence.mio.MessageWriter;
+import net.morimekta.providence.mio.ServiceCallBatch;
 import net.morimekta.providence.serializer.Serializer;
 import net.morimekta.providence.serializer.SerializerProvider;
 import net.morimekta.providence.util.ServiceCallInstrumentation;
@@ -35,13 +36,27 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
+import javax.servlet.AsyncContext;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static net.morimekta.providence.util.ServiceCallInstrumentation.NS_IN_MILLIS;
@@ -49,13 +64,32 @@ import static net.morimekta.providence.util.ServiceCallInstrumentation.NS_IN_MIL
 /**
  * A javax.servlet implementation for providence. Transfers data like the
  * Thrift's <code>org.apache.thrift.server.TServlet</code> server.
+ * <p>
+ * In async mode the request is handled with the servlet 3.1 async API. The
+ * request body is read and the response body is written with non-blocking
+ * listeners, and the processor may complete the call later with
+ * {@link PProcessor#handleCallAsync(PServiceCall, net.morimekta.providence.descriptor.PService)},
+ * so no container thread is held while waiting for the client or for the
+ * call to complete. The servlet must be registered with async support for
+ * this to have any effect, e.g. with
+ * <code>ServletHolder.setAsyncSupported(true)</code>, otherwise the request
+ * is handled synchronously.
+ * <p>
+ * The servlet also accepts a batch of calls in a single request, see
+ * {@link ServiceCallBatch}. The calls in the batch are handled on the
+ * {@link #getBatchExecutor()}, and the replies are returned as a
+ * batch in the same order as the calls.
  */
 public class ProvidenceServlet extends HttpServlet {
     private final static Logger LOGGER = LoggerFactory.getLogger(ProvidenceServlet.class);
 
+    public static final long DEFAULT_ASYNC_TIMEOUT_MS = 30000L;
+    public static final long DEFAULT_MAX_BODY_SIZE    = 16L << 20;
+
     private final ProcessorProvider          processorProvider;
     private final SerializerProvider         serializerProvider;
     private final ServiceCallInstrumentation instrumentation;
+    private final boolean                    async;
 
     /**
      * Creates a providence servlet that uses the same processor every time.
@@ -83,6 +117,22 @@ public class ProvidenceServlet extends HttpServlet {
         this(r -> processor, serializerProvider, instrumentation);
     }
 
+    /**
+     * Creates a providence servlet that uses the same processor every time.
+     *
+     * @param processor The providence service processor.
+     * @param serializerProvider The serializer provider.
+     * @param instrumentation Instrumentation instance.
+     * @param async If requests should be handled asynchronously.
+     */
+    public ProvidenceServlet(@Nonnull PProcessor processor,
+                             @Nonnull SerializerProvider serializerProvider,
+                             @Nonnull ServiceCallInstrumentation instrumentation,
+                             boolean async) {
+        // Default is to always use the same processor.
+        this(r -> processor, serializerProvider, instrumentation, async);
+    }
+
     /**
      * Creates a providence servlet that uses a per request processor.
      *
@@ -104,9 +154,25 @@ public class ProvidenceServlet extends HttpServlet {
     public ProvidenceServlet(@Nonnull ProcessorProvider processorProvider,
                              @Nonnull SerializerProvider serializerProvider,
                              @Nonnull ServiceCallInstrumentation instrumentation) {
+        this(processorProvider, serializerProvider, instrumentation, false);
+    }
+
+    /**
+     * Creates a providence servlet that uses a per request processor.
+     *
+     * @param processorProvider The processor supplier.
+     * @param serializerProvider The serializer provider.
+     * @param instrumentation Instrumentation instance.
+     * @param async If requests should be handled asynchronously.
+     */
+    public ProvidenceServlet(@Nonnull ProcessorProvider processorProvider,
+                             @Nonnull SerializerProvider serializerProvider,
+                             @Nonnull ServiceCallInstrumentation instrumentation,
+                             boolean async) {
         this.processorProvider = processorProvider;
         this.serializerProvider = serializerProvider;
         this.instrumentation = instrumentation;
+        this.async = async;
     }
 
     /**
@@ -122,16 +188,61 @@ public class ProvidenceServlet extends HttpServlet {
         return new DefaultProcessorHandler(processor);
     }
 
+    /**
+     * Override to change how long an async request may take before it is
+     * failed with <code>503 Service Unavailable</code>. Only used in async
+     * mode.
+     *
+     * @return The async request timeout in milliseconds.
+     */
+    protected long getAsyncTimeoutInMs() {
+        return DEFAULT_ASYNC_TIMEOUT_MS;
+    }
+
+    /**
+     * Override to change the max size of the request body. Larger requests
+     * are answered with <code>413 Request Entity Too Large</code>. Only
+     * used in async mode, as the whole body is read before it is parsed.
+     *
+     * @return The max request body size in bytes.
+     */
+    protected long getMaxBodySize() {
+        return DEFAULT_MAX_BODY_SIZE;
+    }
+
+    /**
+     * Override to handle the calls of batch requests in parallel. The
+     * default is to handle the calls in order in the request thread, though
+     * async calls may still complete in parallel. When overridden, use a
+     * dedicated and bounded pool, not the one handling the servlet requests,
+     * as in sync mode the request thread waits for the whole batch to
+     * complete. Calls rejected by the executor get an exception reply.
+     *
+     * @return The executor to handle batch calls in.
+     */
+    protected Executor getBatchExecutor() {
+        return Runnable::run;
+    }
+
     @Override
+    @SuppressWarnings("unchecked")
     protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
         long startTime = System.nanoTime();
 
         AtomicReference<PServiceCall> callRef = new AtomicReference<>();
         AtomicReference<PServiceCall> responseRef = new AtomicReference<>();
-        PProcessor processor = new WrappedProcessor(processorProvider.processorForRequest(req), (c, r) -> {
+        PProcessor requestProcessor = processorProvider.processorForRequest(req);
+        PProcessor processor = new WrappedProcessor(requestProcessor, (c, r) -> {
             callRef.set(c);
             responseRef.set(r.handleCall(c));
             return responseRef.get();
+        }, (c, r) -> {
+            callRef.set(c);
+            CompletableFuture<PServiceCall> future = r.handleCallAsync(c, r.getDescriptor());
+            return future.thenApply(reply -> {
+                responseRef.set(reply);
+                return reply;
+            });
         });
 
         try {
@@ -175,7 +286,19 @@ public class ProvidenceServlet extends HttpServlet {
                 }
             }
 
-            MessageReader reader = new IOMessageReader(req.getInputStream(), requestSerializer);
+            if (async && req.isAsyncSupported()) {
+                doPostAsync(req, requestProcessor, processor, requestSerializer, responseSerializer, startTime, callRef, responseRef);
+                return;
+            }
+
+            InputStream in = new BufferedInputStream(req.getInputStream());
+            if (ServiceCallBatch.isBatch(in)) {
+                doPostBatch(resp, requestProcessor, in,
+                            requestSerializer, responseSerializer, startTime);
+                return;
+            }
+
+            MessageReader reader = new IOMessageReader(in, requestSerializer);
 
             ByteArrayOutputStream baos = new ByteArrayOutputStream();
             MessageWriter writer = new IOMessageWriter(baos, responseSerializer);
@@ -223,4 +346,181 @@ public class ProvidenceServlet extends HttpServlet {
             }
         }
     }
+
+    private void doPostAsync(HttpServletRequest req,
+                             PProcessor requestProcessor,
+                             PProcessor processor,
+                             Serializer requestSerializer,
+                             Serializer responseSerializer,
+                             long startTime,
+                             AtomicReference<PServiceCall> callRef,
+                             AtomicReference<PServiceCall> responseRef) throws IOException {
+        AsyncContext context = req.startAsync();
+        HttpServletResponse resp = (HttpServletResponse) context.getResponse();
+        AtomicBoolean done = AsyncServletIO.handleTimeout(context, getAsyncTimeoutInMs(), e -> {
+            double duration = ((double) (System.nanoTime() - startTime)) / NS_IN_MILLIS;
+            try {
+                instrumentation.onTransportException(e, duration, callRef.get(), responseRef.get());
+            } catch (Throwable th) {
+                LOGGER.error("Exception in service instrumentation", th);
+            }
+        });
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+
+        Queue<PServiceCall[]> completed = new ConcurrentLinkedQueue<>();
+        AtomicReference<Boolean> batch = new AtomicReference<>(false);
+
+        AsyncServletIO.readBody(context, getMaxBodySize()).thenCompose(body -> {
+            if (ServiceCallBatch.isBatch(ByteBuffer.wrap(body))) {
+                batch.set(true);
+                List<byte[]> requests;
+                try {
+                    requests = ServiceCallBatch.read(new ByteArrayInputStream(body));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return getHandler(batchProcessor(requestProcessor, completed))
+                        .processBatch(requests, requestSerializer, responseSerializer, getBatchExecutor())
+                        .thenAccept(replies -> {
+                            try {
+                                ServiceCallBatch.write(baos, replies);
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        });
+            }
+            MessageReader reader = new IOMessageReader(new ByteArrayInputStream(body), requestSerializer);
+            MessageWriter writer = new IOMessageWriter(baos, responseSerializer);
+            return getHandler(processor).processAsync(reader, writer);
+        }).thenCompose(ignore -> {
+            if (done.get()) {
+                // Timed out or failed while handling the call.
+                return CompletableFuture.completedFuture(null);
+            }
+            resp.setStatus(HttpServletResponse.SC_OK);
+            if (baos.size() > 0) {
+                resp.setContentType(responseSerializer.mediaType());
+                resp.setContentLength(baos.size());
+            }
+            try {
+                return AsyncServletIO.writeBody(context, baos.toByteArray());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }).whenComplete((ignore, e) -> {
+            if (!done.compareAndSet(false, true)) {
+                // Already completed by the timeout or error listener.
+                return;
+            }
+            long endTime = System.nanoTime();
+            double duration = ((double) (endTime - startTime)) / NS_IN_MILLIS;
+            if (e == null) {
+                if (batch.get()) {
+                    onBatchComplete(duration, completed);
+                } else {
+                    try {
+                        instrumentation.onComplete(duration, callRef.get(), responseRef.get());
+                    } catch (Throwable th) {
+                        LOGGER.error("Exception in service instrumentation", th);
+                    }
+                }
+            } else {
+                Throwable cause = e;
+                while ((cause instanceof CompletionException || cause instanceof UncheckedIOException) &&
+                       cause.getCause() != null) {
+                    cause = cause.getCause();
+                }
+                Exception ex = cause instanceof Exception ? (Exception) cause : new IOException(cause.getMessage(), cause);
+                // If EOF the output stream closed before write is complete,
+                // so we cannot even try to respond.
+                if (ex instanceof AsyncServletIO.BodyTooLargeException && !resp.isCommitted()) {
+                    try {
+                        resp.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE, ex.getMessage());
+                    } catch (IOException ioEx) {
+                        ex.addSuppressed(ioEx);
+                    }
+                } else if (!(ex instanceof EOFException) && !resp.isCommitted()) {
+                    try {
+                        resp.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR,
+                                       "Internal server error: " + ex.getMessage());
+                    } catch (IOException ioEx) {
+                        ex.addSuppressed(ioEx);
+                    }
+                }
+                try {
+                    instrumentation.onTransportException(ex, duration, callRef.get(), responseRef.get());
+                } catch (Throwable th) {
+                    LOGGER.error("Exception in service instrumentation", th);
+                }
+            }
+            context.complete();
+        });
+    }
+
+    private void doPostBatch(HttpServletResponse resp,
+                             PProcessor processor,
+                             InputStream in,
+                             Serializer requestSerializer,
+                             Serializer responseSerializer,
+                             long startTime) throws IOException {
+        Queue<PServiceCall[]> completed = new ConcurrentLinkedQueue<>();
+        List<byte[]> replies;
+        try {
+            replies = getHandler(batchProcessor(processor, completed))
+                    .processBatch(ServiceCallBatch.read(in), requestSerializer, responseSerializer, getBatchExecutor())
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while handling batch", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            while ((cause instanceof CompletionException || cause instanceof UncheckedIOException) &&
+                   cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException(cause.getMessage(), cause);
+        }
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ServiceCallBatch.write(baos, replies);
+        resp.setStatus(HttpServletResponse.SC_OK);
+        resp.setContentType(responseSerializer.mediaType());
+        resp.setContentLength(baos.size());
+        resp.getOutputStream().write(baos.toByteArray());
+        resp.getOutputStream().flush();
+
+        long endTime = System.nanoTime();
+        onBatchComplete(((double) (endTime - startTime)) / NS_IN_MILLIS, completed);
+    }
+
+    private void onBatchComplete(double duration, Queue<PServiceCall[]> completed) {
+        for (PServiceCall[] entry : completed) {
+            try {
+                instrumentation.onComplete(duration, entry[0], entry[1]);
+            } catch (Throwable th) {
+                LOGGER.error("Exception in service instrumentation", th);
+            }
+        }
+    }
+
+    /**
+     * Wrap the processor to collect each handled call and reply of a batch.
+     */
+    @SuppressWarnings("unchecked")
+    private static PProcessor batchProcessor(PProcessor processor, Queue<PServiceCall[]> completed) {
+        return new WrappedProcessor(processor, (c, r) -> {
+            PServiceCall reply = r.handleCall(c);
+            completed.add(new PServiceCall[]{c, reply});
+            return reply;
+        }, (c, r) -> {
+            CompletableFuture<PServiceCall> future = r.handleCallAsync(c, r.getDescriptor());
+            return future.thenApply(reply -> {
+                completed.add(new PServiceCall[]{c, reply});
+                return reply;
+            });
+        });
+    }
 }
@@ -28,6 +28,7 @@ import net.morimekta.providence.descriptor.PService;
 
 import javax.annotation.Nonnull;
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Wrapping processor in a callback style
@@ -38,12 +39,34 @@ public class WrappedProcessor implements PProcessor {
         PServiceCall handleWrappedCall(PServiceCall call, PProcessor processor) throws IOException;
     }
 
-    private final PProcessor       processor;
-    private final ProcessorWrapper processorWrapper;
+    @FunctionalInterface
+    public interface AsyncProcessorWrapper {
+        CompletableFuture<PServiceCall> handleWrappedCallAsync(PServiceCall call, PProcessor processor);
+    }
+
+    private final PProcessor            processor;
+    private final ProcessorWrapper      processorWrapper;
+    private final AsyncProcessorWrapper asyncProcessorWrapper;
 
     public WrappedProcessor(PProcessor processor, ProcessorWrapper processorWrapper) {
+        this(processor, processorWrapper, null);
+    }
+
+    /**
+     * Wrap a processor with both a synchronous and asynchronous wrapper. If
+     * no async wrapper is given, async calls are handled synchronously with
+     * the normal wrapper.
+     *
+     * @param processor The processor to wrap.
+     * @param processorWrapper The wrapper for synchronous calls.
+     * @param asyncProcessorWrapper The wrapper for asynchronous calls.
+     */
+    public WrappedProcessor(PProcessor processor,
+                            ProcessorWrapper processorWrapper,
+                            AsyncProcessorWrapper asyncProcessorWrapper) {
         this.processor = processor;
         this.processorWrapper = processorWrapper;
+        this.asyncProcessorWrapper = asyncProcessorWrapper;
     }
 
     @Nonnull
@@ -63,4 +86,20 @@ public class WrappedProcessor implements PProcessor {
             PService service) throws IOException {
         return processorWrapper.handleWrappedCall(call, processor);
     }
+
+    @Nonnull
+    @Override
+    @SuppressWarnings("unchecked")
+    public <Request extends PMessage<Request, RequestField>,
+            Response extends PMessage<Response, ResponseField>,
+            RequestField extends PField,
+            ResponseField extends PField>
+    CompletableFuture<PServiceCall<Response, ResponseField>> handleCallAsync(
+            PServiceCall<Request, RequestField> call,
+            PService service) {
+        if (asyncProcessorWrapper == null) {
+            return PProcessor.super.handleCallAsync(call, service);
+        }
+        return (CompletableFuture) asyncProcessorWrapper.handleWrappedCallAsync(call, processor);
+    }
 }
@@ -0,0 +1,123 @@
+package net.morimekta.providence.server;
+
+import net.morimekta.testing.time.FakeClock;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class AimdConcurrencyLimiterTest {
+    @Test
+    public void testIncrease() {
+        AimdConcurrencyLimiter limiter = AimdConcurrencyLimiter.builder()
+                                                               .withInitialLimit(2)
+                                                               .withMaxLimit(3)
+                                                               .withLatencyTarget(100)
+                                                               .build();
+        assertThat(limiter.tryAcquire(), is(true));
+        assertThat(limiter.tryAcquire(), is(true));
+        assertThat(limiter.tryAcquire(), is(false));
+
+        // Limit is in use, so it is increased.
+        limiter.release(10);
+        assertThat(limiter.getLimit(), is(3));
+        assertThat(limiter.getInFlight(), is(1));
+        limiter.release(10);
+        assertThat(limiter.getLimit(), is(3));
+        assertThat(limiter.getInFlight(), is(0));
+
+        // Not increased when idle.
+        assertThat(limiter.tryAcquire(), is(true));
+        limiter.release(10);
+        assertThat(limiter.getLimit(), is(3));
+    }
+
+    @Test
+    public void testDecrease() {
+        FakeClock clock = new FakeClock();
+        AimdConcurrencyLimiter limiter = AimdConcurrencyLimiter.builder()
+                                                               .withInitialLimit(10)
+                                                               .withMinLimit(4)
+                                                               .withBackoffRatio(0.5)
+                                                               .withLatencyTarget(100)
+                                                               .withClock(clock)
+                                                               .build();
+        assertThat(limiter.tryAcquire(), is(true));
+        limiter.release(200);
+        assertThat(limiter.getLimit(), is(5));
+
+        clock.tick(100, TimeUnit.MILLISECONDS);
+        assertThat(limiter.tryAcquire(), is(true));
+        limiter.release(200);
+        assertThat(limiter.getLimit(), is(4));
+        assertThat(limiter.getInFlight(), is(0));
+    }
+
+    @Test
+    public void testDecrease_oncePerWindow() {
+        FakeClock clock = new FakeClock();
+        AimdConcurrencyLimiter limiter = AimdConcurrencyLimiter.builder()
+                                                               .withInitialLimit(16)
+                                                               .withBackoffRatio(0.5)
+                                                               .withLatencyTarget(100)
+                                                               .withBackoffWindow(500)
+                                                               .withClock(clock)
+                                                               .build();
+        // A burst of slow calls only backs off once.
+        assertThat(limiter.tryAcquire(8), is(true));
+        for (int i = 0; i < 8; ++i) {
+            limiter.release(200);
+        }
+        assertThat(limiter.getLimit(), is(8));
+        assertThat(limiter.getInFlight(), is(0));
+
+        clock.tick(499, TimeUnit.MILLISECONDS);
+        assertThat(limiter.tryAcquire(), is(true));
+        limiter.release(200);
+        assertThat(limiter.getLimit(), is(8));
+
+        clock.tick(1, TimeUnit.MILLISECONDS);
+        assertThat(limiter.tryAcquire(), is(true));
+        limiter.release(200);
+        assertThat(limiter.getLimit(), is(4));
+    }
+
+    @Test
+    public void testAcquirePermits() {
+        AimdConcurrencyLimiter limiter = AimdConcurrencyLimiter.builder()
+                                                               .withInitialLimit(4)
+                                                               .withMaxLimit(4)
+                                                               .build();
+        assertThat(limiter.tryAcquire(3), is(true));
+        assertThat(limiter.tryAcquire(2), is(false));
+        assertThat(limiter.getInFlight(), is(3));
+        assertThat(limiter.tryAcquire(1), is(true));
+        assertThat(limiter.tryAcquire(0), is(false));
+        assertThat(limiter.getInFlight(), is(4));
+    }
+
+    @Test
+    public void testBadArguments() {
+        try {
+            AimdConcurrencyLimiter.builder().withBackoffRatio(1.0);
+            fail("no exception");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), is("Invalid backoff ratio: 1.0"));
+        }
+        try {
+            AimdConcurrencyLimiter.builder().withBackoffWindow(-1);
+            fail("no exception");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), is("Invalid backoff window: -1"));
+        }
+        try {
+            AimdConcurrencyLimiter.builder().withMinLimit(10).withMaxLimit(5).build();
+            fail("no exception");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), is("Min limit 10 > max limit 5"));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package net.morimekta.providence.server;
+
+import net.morimekta.providence.PApplicationException;
+import net.morimekta.providence.PApplicationExceptionType;
+import net.morimekta.providence.PServiceCall;
+import net.morimekta.providence.PServiceCallType;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class ConcurrencyLimiterTest {
+    @Test
+    public void testFixed() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.fixed(2);
+        assertThat(limiter.getLimit(), is(2));
+        assertThat(limiter.tryAcquire(), is(true));
+        assertThat(limiter.tryAcquire(), is(true));
+        assertThat(limiter.tryAcquire(), is(false));
+        assertThat(limiter.getInFlight(), is(2));
+
+        limiter.release(1.0);
+        assertThat(limiter.getInFlight(), is(1));
+        assertThat(limiter.tryAcquire(), is(true));
+        assertThat(limiter.tryAcquire(), is(false));
+
+        // Either all or none of the permits.
+        limiter.release(1.0);
+        limiter.release(1.0);
+        assertThat(limiter.tryAcquire(3), is(false));
+        assertThat(limiter.tryAcquire(2), is(true));
+        assertThat(limiter.getInFlight(), is(2));
+
+        try {
+            ConcurrencyLimiter.fixed(0);
+            fail("no exception");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), is("Invalid max in flight: 0"));
+        }
+    }
+
+    @Test
+    public void testUnlimited() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.unlimited();
+        for (int i = 0; i < 1000; ++i) {
+            assertThat(limiter.tryAcquire(), is(true));
+        }
+        assertThat(limiter.getInFlight(), is(1000));
+        limiter.release(1.0);
+        assertThat(limiter.getInFlight(), is(999));
+    }
+
+    @Test
+    public void testRejectedReply() {
+        PApplicationException request = new PApplicationException("call", PApplicationExceptionType.UNKNOWN);
+        PServiceCall reply = ConcurrencyLimiter.rejectedReply(new PServiceCall<>("test", PServiceCallType.CALL, 44, request));
+
+        assertThat(reply.getMethod(), is("test"));
+        assertThat(reply.getType(), is(PServiceCallType.EXCEPTION));
+        assertThat(reply.getSequence(), is(44));
+        assertThat(reply.getMessage(), is(instanceOf(PApplicationException.class)));
+
+        PApplicationException ex = (PApplicationException) reply.getMessage();
+        assertThat(ex.getId(), is(PApplicationExceptionType.INTERNAL_ERROR));
+        assertThat(ex.getMessage(), is("Server overloaded, call to test() rejected"));
+    }
+}
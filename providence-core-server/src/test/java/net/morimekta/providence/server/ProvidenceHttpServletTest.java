@@ -1,9 +1,12 @@
 package net.morimekta.providence.server;
 
 import com.google.api.client.http.ByteArrayContent;
+import com.google.common.base.Strings;
 import com.google.api.client.http.GenericUrl;
 import com.google.api.client.http.HttpRequest;
 import com.google.api.client.http.HttpResponse;
+import com.google.api.client.http.InputStreamContent;
+import net.morimekta.providence.serializer.DefaultSerializerProvider;
 import net.morimekta.providence.serializer.JsonSerializer;
 import net.morimekta.providence.server.internal.NoLogging;
 import net.morimekta.test.providence.service.Failure;
@@ -23,10 +26,15 @@ import org.junit.Test;
 
 import javax.annotation.Nonnull;
 import javax.servlet.http.HttpServletRequest;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import static net.morimekta.providence.server.internal.TestNetUtil.factory;
@@ -40,6 +48,10 @@ public class ProvidenceHttpServletTest {
             super(Request.kDescriptor);
         }
 
+        private TestServlet(boolean async) {
+            super(Request.kDescriptor, new DefaultSerializerProvider(), async);
+        }
+
         @Nonnull
         @Override
         protected Response handle(@Nonnull HttpServletRequest httpRequest, @Nonnull Request request) throws Failure, ExecutionException {
@@ -72,15 +84,76 @@ public class ProvidenceHttpServletTest {
         }
     }
 
-    private int    port;
-    private Server server;
+    private static class AsyncTestServlet extends TestServlet {
+        private final ExecutorService executor;
+
+        private AsyncTestServlet(ExecutorService executor) {
+            super(true);
+            this.executor = executor;
+        }
+
+        @Nonnull
+        @Override
+        protected CompletableFuture<Response> handleAsync(@Nonnull HttpServletRequest httpRequest,
+                                                          @Nonnull Request request) {
+            // Complete the response from another thread.
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return handle(httpRequest, request);
+                } catch (Failure | ExecutionException e) {
+                    throw new CompletionException(e);
+                }
+            }, executor);
+        }
+    }
+
+    private static class LimitedTestServlet extends TestServlet {
+        private LimitedTestServlet() {
+            super(true);
+        }
+
+        @Override
+        protected long getMaxBodySize() {
+            return 1 << 10;
+        }
+    }
+
+    private static class TimeoutTestServlet extends TestServlet {
+        private TimeoutTestServlet() {
+            super(true);
+        }
+
+        @Nonnull
+        @Override
+        protected CompletableFuture<Response> handleAsync(@Nonnull HttpServletRequest httpRequest,
+                                                          @Nonnull Request request) {
+            // Never completes.
+            return new CompletableFuture<>();
+        }
+
+        @Override
+        protected long getAsyncTimeoutInMs() {
+            return 100L;
+        }
+    }
+
+    private int             port;
+    private Server          server;
+    private ExecutorService executor;
 
-    private static final String ENDPOINT = "test";
+    private static final String ENDPOINT         = "test";
+    private static final String ASYNC_ENDPOINT   = "async";
+    private static final String SLOW_ENDPOINT    = "slow";
+    private static final String LIMITED_ENDPOINT = "limited";
 
     private GenericUrl endpoint() {
         return new GenericUrl("http://localhost:" + port + "/" + ENDPOINT);
     }
 
+    private GenericUrl asyncEndpoint() {
+        return new GenericUrl("http://localhost:" + port + "/" + ASYNC_ENDPOINT);
+    }
+
     @Before
     public void setUpServer() throws Exception {
         Awaitility.setDefaultPollDelay(2, TimeUnit.MILLISECONDS);
@@ -90,6 +163,16 @@ public class ProvidenceHttpServletTest {
         ServletContextHandler handler = new ServletContextHandler();
         handler.addServlet(new ServletHolder(new TestServlet()),
                            "/" + ENDPOINT);
+        executor = Executors.newSingleThreadExecutor();
+        ServletHolder asyncHolder = new ServletHolder(new AsyncTestServlet(executor));
+        asyncHolder.setAsyncSupported(true);
+        handler.addServlet(asyncHolder, "/" + ASYNC_ENDPOINT);
+        ServletHolder slowHolder = new ServletHolder(new TimeoutTestServlet());
+        slowHolder.setAsyncSupported(true);
+        handler.addServlet(slowHolder, "/" + SLOW_ENDPOINT);
+        ServletHolder limitedHolder = new ServletHolder(new LimitedTestServlet());
+        limitedHolder.setAsyncSupported(true);
+        handler.addServlet(limitedHolder, "/" + LIMITED_ENDPOINT);
 
         server.setHandler(handler);
         server.start();
@@ -100,6 +183,7 @@ public class ProvidenceHttpServletTest {
     public void tearDownServer() {
         try {
             server.stop();
+            executor.shutdown();
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -154,10 +238,70 @@ public class ProvidenceHttpServletTest {
         assertThat(response.getStatusMessage(), is("Bad Request"));
     }
 
+    @Test
+    public void testAsyncRequests() throws IOException {
+        HttpResponse response = post(asyncEndpoint(), JsonSerializer.JSON_MEDIA_TYPE, "{\"text\": \"yes\"}");
+        assertThat(response.getStatusCode(), is(HttpStatus.OK_200));
+        assertThat(IOUtils.readString(response.getContent()), is("{\"text\":\"yes\"}"));
+
+        response = post(asyncEndpoint(), JsonSerializer.JSON_MEDIA_TYPE, "{\"text\": \"fail 12\"}");
+        assertThat(response.getStatusCode(), is(HttpStatus.EXPECTATION_FAILED_417));
+        assertThat(IOUtils.readString(response.getContent()), is("{\"text\":\"12\"}"));
+
+        response = post(asyncEndpoint(), JsonSerializer.JSON_MEDIA_TYPE, "{\"text\": \"other 13\"}");
+        assertThat(response.getStatusCode(), is(HttpStatus.FAILED_DEPENDENCY_424));
+        assertThat(IOUtils.readString(response.getContent()), is("{\"other\":\"13\"}"));
+
+        response = post(asyncEndpoint(), "application/json", "[\"foo\", 1, 1, {}]");
+        assertThat(response.getStatusCode(), is(HttpStatus.BAD_REQUEST_400));
+    }
+
+    @Test
+    public void testAsyncLargeResponse() throws IOException {
+        String text = Strings.repeat("large response ", 10000);
+
+        HttpResponse response = post(asyncEndpoint(), JsonSerializer.JSON_MEDIA_TYPE, "{\"text\": \"" + text + "\"}");
+        assertThat(response.getStatusCode(), is(HttpStatus.OK_200));
+        assertThat(IOUtils.readString(response.getContent()), is("{\"text\":\"" + text + "\"}"));
+    }
+
+    @Test
+    public void testAsyncBodyTooLarge() throws IOException {
+        // Small enough to be sent in full before the server responds.
+        String text = Strings.repeat("large request ", 200);
+        String body = "{\"text\": \"" + text + "\"}";
+        GenericUrl url = new GenericUrl("http://localhost:" + port + "/" + LIMITED_ENDPOINT);
+
+        // Rejected on the content length.
+        HttpResponse response = post(url, JsonSerializer.JSON_MEDIA_TYPE, body);
+        assertThat(response.getStatusCode(), is(HttpStatus.PAYLOAD_TOO_LARGE_413));
+
+        // Rejected while reading the chunked body.
+        HttpRequest request = factory()
+                .buildPostRequest(url, new InputStreamContent(
+                        JsonSerializer.JSON_MEDIA_TYPE,
+                        new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8))))
+                .setThrowExceptionOnExecuteError(false);
+        request.getHeaders().setAccept("*/*");
+        response = request.execute();
+        assertThat(response.getStatusCode(), is(HttpStatus.PAYLOAD_TOO_LARGE_413));
+    }
+
+    @Test
+    public void testAsyncTimeout() throws IOException {
+        GenericUrl url = new GenericUrl("http://localhost:" + port + "/" + SLOW_ENDPOINT);
+        HttpResponse response = post(url, JsonSerializer.JSON_MEDIA_TYPE, "{\"text\": \"yes\"}");
+        assertThat(response.getStatusCode(), is(HttpStatus.SERVICE_UNAVAILABLE_503));
+    }
+
     private HttpResponse post(String contentType, String content) throws IOException {
+        return post(endpoint(), contentType, content);
+    }
+
+    private HttpResponse post(GenericUrl url, String contentType, String content) throws IOException {
         HttpRequest request = factory()
                 .buildPostRequest(
-                        endpoint(), new ByteArrayContent(contentType, content.getBytes(StandardCharsets.UTF_8)))
+                        url, new ByteArrayContent(contentType, content.getBytes(StandardCharsets.UTF_8)))
                 .setThrowExceptionOnExecuteError(false);
         request.getHeaders().setAccept("*/*");
         return request.execute();
@@ -4,8 +4,10 @@ import com.google.api.client.http.GenericUrl;
 import com.google.api.client.http.HttpRequest;
 import com.google.api.client.http.HttpResponse;
 import com.google.api.client.http.InputStreamContent;
+import net.morimekta.providence.PProcessor;
 import net.morimekta.providence.PServiceCall;
 import net.morimekta.providence.client.HttpClientHandler;
+import net.morimekta.providence.mio.ServiceCallBatch;
 import net.morimekta.providence.serializer.DefaultSerializerProvider;
 import net.morimekta.providence.serializer.SerializerProvider;
 import net.morimekta.providence.server.internal.NoLogging;
@@ -27,10 +29,20 @@ import org.junit.Test;
 
 import javax.servlet.http.HttpServletResponse;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static net.morimekta.providence.server.internal.TestNetUtil.factory;
 import static net.morimekta.providence.server.internal.TestNetUtil.getExposedPort;
@@ -48,6 +60,8 @@ import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -62,12 +76,21 @@ public class ProvidenceServletTest {
     private SerializerProvider         provider;
     private ServiceCallInstrumentation instrumentation;
 
-    private static final String ENDPOINT = "test";
+    private ExecutorService            executor;
+    private AtomicInteger              asyncCalls;
+
+    private static final String ENDPOINT       = "test";
+    private static final String ASYNC_ENDPOINT = "async";
+    private static final String REJECT_ENDPOINT = "reject";
 
     private GenericUrl endpoint() {
         return new GenericUrl("http://localhost:" + port + "/" + ENDPOINT);
     }
 
+    private GenericUrl asyncEndpoint() {
+        return new GenericUrl("http://localhost:" + port + "/" + ASYNC_ENDPOINT);
+    }
+
     @Before
     public void setUpServer() throws Exception {
         Awaitility.setDefaultPollDelay(2, TimeUnit.MILLISECONDS);
@@ -83,6 +106,33 @@ public class ProvidenceServletTest {
         handler.addServlet(new ServletHolder(new ProvidenceServlet(new TestService.Processor(impl), provider, instrumentation)),
                            "/" + ENDPOINT);
 
+        // The async processor completes the calls in a separate thread.
+        executor = Executors.newSingleThreadExecutor();
+        asyncCalls = new AtomicInteger();
+        PProcessor asyncProcessor = new WrappedProcessor(new TestService.Processor(impl), (c, p) -> p.handleCall(c), (c, p) -> {
+            asyncCalls.incrementAndGet();
+            CompletableFuture<PServiceCall> future = new CompletableFuture<>();
+            executor.submit(() -> {
+                try {
+                    future.complete(p.handleCall(c));
+                } catch (Exception e) {
+                    future.completeExceptionally(e);
+                }
+            });
+            return future;
+        });
+        ServletHolder asyncHolder = new ServletHolder(new ProvidenceServlet(asyncProcessor, provider, instrumentation, true));
+        asyncHolder.setAsyncSupported(true);
+        handler.addServlet(asyncHolder, "/" + ASYNC_ENDPOINT);
+        handler.addServlet(new ServletHolder(new ProvidenceServlet(new TestService.Processor(impl), provider, instrumentation) {
+            @Override
+            protected Executor getBatchExecutor() {
+                return r -> {
+                    throw new RejectedExecutionException("rejected");
+                };
+            }
+        }), "/" + REJECT_ENDPOINT);
+
         server.setHandler(handler);
         server.start();
         port = getExposedPort(server);
@@ -92,6 +142,7 @@ public class ProvidenceServletTest {
     public void tearDownServer() {
         try {
             server.stop();
+            executor.shutdown();
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -188,6 +239,72 @@ public class ProvidenceServletTest {
         verifyNoMoreInteractions(instrumentation);
     }
 
+    @Test
+    public void testAsyncRequest() throws IOException, Failure {
+        when(impl.test(any(Request.class))).thenAnswer(i -> {
+            Request request = i.getArgument(0);
+            if (request.getText().equals("fail")) {
+                throw new Failure("failure");
+            }
+            return new Response(request.getText());
+        });
+
+        TestService.Iface client = new TestService.Client(new HttpClientHandler(
+                this::asyncEndpoint, factory(), provider));
+
+        assertEquals("{text:\"request\"}", client.test(new Request("request")).asString());
+        try {
+            client.test(new Request("fail"));
+            fail("No exception");
+        } catch (Failure ex) {
+            assertEquals("failure", ex.getText());
+        }
+
+        verify(impl, times(2)).test(any(Request.class));
+        assertThat(asyncCalls.get(), is(2));
+        verify(instrumentation, timeout(1000).times(2)).onComplete(anyDouble(), any(PServiceCall.class), any(PServiceCall.class));
+        verifyNoMoreInteractions(instrumentation);
+    }
+
+    @Test
+    public void testAsyncRequest_oneway() throws IOException {
+        AtomicBoolean called = new AtomicBoolean();
+        doAnswer(i -> {
+            called.set(true);
+            return null;
+        }).when(impl).ping();
+
+        TestService.Iface client = new TestService.Client(new HttpClientHandler(
+                this::asyncEndpoint, factory(), provider));
+
+        client.ping();
+
+        waitAtMost(Duration.ONE_HUNDRED_MILLISECONDS).untilTrue(called);
+
+        verify(impl).ping();
+        verify(instrumentation, timeout(1000)).onComplete(anyDouble(), any(PServiceCall.class), nullable(PServiceCall.class));
+        verifyNoMoreInteractions(instrumentation);
+    }
+
+    @Test
+    public void testAsyncBadRequest() throws IOException {
+        HttpResponse response;
+
+        response = post(asyncEndpoint(), "text/url-encoded", "method=test");
+        assertThat(response.getStatusCode(), is(HttpServletResponse.SC_BAD_REQUEST));
+        assertThat(response.getStatusMessage(), is("Unknown content-type: text/url-encoded"));
+
+        response = post(asyncEndpoint(), "application/json", "{\"not\":\"usable\"}");
+        assertThat(response.getStatusCode(), is(HttpServletResponse.SC_OK));
+        assertThat(IOUtils.readString(response.getContent()),
+                   is("[\"\",\"exception\",0,{\"message\":\"Expected service call start ('['): but found '{'\",\"id\":\"PROTOCOL_ERROR\"}]"));
+
+        response = post(asyncEndpoint(), "application/json", "[\"test\", 2, 2, {}]");
+        assertThat(response.getStatusCode(), is(HttpServletResponse.SC_OK));
+        assertThat(IOUtils.readString(response.getContent()),
+                   is("[\"test\",\"exception\",2,{\"message\":\"Invalid service request call type: REPLY\",\"id\":\"INVALID_MESSAGE_TYPE\"}]"));
+    }
+
     @Test
     public void testBadRequest() throws IOException, Failure {
         HttpResponse response;
@@ -230,9 +347,86 @@ public class ProvidenceServletTest {
 
     }
 
+    @Test
+    public void testBatchRequest() throws IOException, Failure {
+        testBatchRequest(endpoint());
+        assertThat(asyncCalls.get(), is(0));
+    }
+
+    @Test
+    public void testAsyncBatchRequest() throws IOException, Failure {
+        testBatchRequest(asyncEndpoint());
+        assertThat(asyncCalls.get(), is(4));
+    }
+
+    private void testBatchRequest(GenericUrl url) throws IOException, Failure {
+        when(impl.test(any(Request.class))).thenAnswer(i -> {
+            Request request = i.getArgument(0);
+            if (request.getText().equals("fail")) {
+                throw new Failure("failure");
+            }
+            return new Response(request.getText());
+        });
+
+        List<String> replies = postBatch(url, "[\"test\",\"call\",1,{\"request\":{\"text\":\"first\"}}]",
+                                         "[\"test\",\"call\",2,{\"request\":{\"text\":\"fail\"}}]",
+                                         "[\"ping\",\"oneway\",3,{}]",
+                                         "[\"test\",\"call\",4,{\"request\":{\"text\":\"second\"}}]",
+                                         "{\"not\":\"usable\"}");
+
+        assertThat(replies.size(), is(5));
+        assertThat(replies.get(0), is("[\"test\",\"reply\",1,{\"success\":{\"text\":\"first\"}}]"));
+        assertThat(replies.get(1), is("[\"test\",\"reply\",2,{\"fail\":{\"text\":\"failure\"}}]"));
+        assertThat(replies.get(2), is(""));
+        assertThat(replies.get(3), is("[\"test\",\"reply\",4,{\"success\":{\"text\":\"second\"}}]"));
+        assertThat(replies.get(4), is("[\"\",\"exception\",0,{\"message\":\"Expected service call start ('['): but found '{'\",\"id\":\"PROTOCOL_ERROR\"}]"));
+
+        verify(impl, times(3)).test(any(Request.class));
+        verify(impl, timeout(1000)).ping();
+        verify(instrumentation, timeout(1000).times(4)).onComplete(anyDouble(), any(PServiceCall.class), nullable(PServiceCall.class));
+        verifyNoMoreInteractions(instrumentation);
+    }
+
+    @Test
+    public void testBatchRequest_rejected() throws IOException {
+        GenericUrl url = new GenericUrl("http://localhost:" + port + "/" + REJECT_ENDPOINT);
+        List<String> replies = postBatch(url, "[\"test\",\"call\",1,{\"request\":{\"text\":\"first\"}}]",
+                                         "[\"ping\",\"oneway\",2,{}]");
+
+        // Each call gets its own exception reply.
+        assertThat(replies.size(), is(2));
+        assertThat(replies.get(0), is("[\"test\",\"exception\",1,{\"message\":\"rejected\",\"id\":\"INTERNAL_ERROR\"}]"));
+        assertThat(replies.get(1), is(""));
+        verifyNoMoreInteractions(impl);
+    }
+
+    private List<String> postBatch(GenericUrl url, String... calls) throws IOException {
+        List<byte[]> entries = new ArrayList<>();
+        for (String call : calls) {
+            entries.add(call.getBytes(StandardCharsets.UTF_8));
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ServiceCallBatch.write(out, entries);
+
+        HttpRequest request = factory().buildPostRequest(url, new InputStreamContent(
+                "application/json", new ByteArrayInputStream(out.toByteArray())));
+        request.getHeaders().setContentType("application/json");
+        request.getHeaders().setAccept("*/*");
+        HttpResponse response = request.execute();
+        assertThat(response.getStatusCode(), is(HttpServletResponse.SC_OK));
+        return ServiceCallBatch.read(response.getContent())
+                               .stream()
+                               .map(entry -> new String(entry, StandardCharsets.UTF_8))
+                               .collect(Collectors.toList());
+    }
+
     private HttpResponse post(String contentType, String content) throws IOException {
+        return post(endpoint(), contentType, content);
+    }
+
+    private HttpResponse post(GenericUrl url, String contentType, String content) throws IOException {
         ByteArrayInputStream bais = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
-        HttpRequest request = factory().buildPostRequest(endpoint(), new InputStreamContent(contentType, bais))
+        HttpRequest request = factory().buildPostRequest(url, new InputStreamContent(contentType, bais))
                              .setThrowExceptionOnExecuteError(false);
         request.getHeaders().setContentType(contentType);
         request.getHeaders().setAccept("*/*");
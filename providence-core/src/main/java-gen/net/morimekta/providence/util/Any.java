@@ -331,16 +331,12 @@ public class Any
 
         length += writer.writeByte((byte) 11);
         length += writer.writeShort((short) 1);
-        net.morimekta.util.Binary tmp_1 = net.morimekta.util.Binary.wrap(mType.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-        length += writer.writeUInt32(tmp_1.length());
-        length += writer.writeBinary(tmp_1);
+        length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, mType);
 
         if (hasMediaType()) {
             length += writer.writeByte((byte) 11);
             length += writer.writeShort((short) 2);
-            net.morimekta.util.Binary tmp_2 = net.morimekta.util.Binary.wrap(mMediaType.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-            length += writer.writeUInt32(tmp_2.length());
-            length += writer.writeBinary(tmp_2);
+            length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, mMediaType);
         }
 
         if (hasData()) {
@@ -353,9 +349,7 @@ public class Any
         if (hasText()) {
             length += writer.writeByte((byte) 11);
             length += writer.writeShort((short) 5);
-            net.morimekta.util.Binary tmp_3 = net.morimekta.util.Binary.wrap(mText.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-            length += writer.writeUInt32(tmp_3.length());
-            length += writer.writeBinary(tmp_3);
+            length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, mText);
         }
 
         length += writer.writeByte((byte) 0);
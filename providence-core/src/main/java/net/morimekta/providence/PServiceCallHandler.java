@@ -24,8 +24,10 @@ import net.morimekta.providence.descriptor.PField;
 import net.morimekta.providence.descriptor.PService;
 import net.morimekta.providence.serializer.SerializerException;
 
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Interface for handling a call request from a synchronous client.
@@ -52,4 +54,38 @@ public interface PServiceCallHandler {
             ResponseField extends PField>
     PServiceCall<Response, ResponseField> handleCall(PServiceCall<Request, RequestField> call, PService service)
             throws IOException;
+
+    /**
+     * Handle a service call asynchronously. The returned future is completed
+     * with the response service call, or with null if there is no response
+     * (e.g. oneway). Failures are reported by completing the future
+     * exceptionally, not by throwing.
+     * <p>
+     * The default implementation calls {@link #handleCall(PServiceCall, PService)}
+     * in the calling thread. Handlers that can have multiple calls in flight
+     * should override this.
+     *
+     * @param call The request call.
+     * @param service The service to be handled.
+     * @param <Request> Request type.
+     * @param <Response> Response type.
+     * @param <RequestField> Request type.
+     * @param <ResponseField> Response type.
+     * @return The future response service call.
+     */
+    @Nonnull
+    default <Request extends PMessage<Request, RequestField>,
+             Response extends PMessage<Response, ResponseField>,
+             RequestField extends PField,
+             ResponseField extends PField>
+    CompletableFuture<PServiceCall<Response, ResponseField>> handleCallAsync(PServiceCall<Request, RequestField> call,
+                                                                             PService service) {
+        CompletableFuture<PServiceCall<Response, ResponseField>> future = new CompletableFuture<>();
+        try {
+            future.complete(handleCall(call, service));
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
 }
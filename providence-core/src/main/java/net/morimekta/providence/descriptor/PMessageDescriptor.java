@@ -28,6 +28,7 @@ import net.morimekta.providence.PType;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -36,6 +37,7 @@ import java.util.function.Supplier;
 public abstract class PMessageDescriptor<T extends PMessage<T, F>, F extends PField> extends PDeclaredDescriptor<T> {
     private final Supplier<PMessageBuilder<T, F>> builderSupplier;
     private final boolean                         simple;
+    private volatile Object                       serializerLayout;
 
     public PMessageDescriptor(String programName,
                               String name,
@@ -173,6 +175,30 @@ public abstract class PMessageDescriptor<T extends PMessage<T, F>, F extends PFi
         return hash;
     }
 
+    /**
+     * Get the serializer layout of the message type. The layout is made on
+     * the first call and kept on the descriptor, so it lives exactly as long
+     * as the descriptor. Concurrent first calls may each make a layout, and
+     * one of them is kept.
+     * <p>
+     * NOTE: This is not meant to be used directly, it is used by the binary
+     * serializers in compiled mode.
+     *
+     * @param maker Make the layout for the descriptor.
+     * @param <L> The layout type.
+     * @return The serializer layout.
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public <L> L getSerializerLayout(@Nonnull Function<PMessageDescriptor<T, F>, L> maker) {
+        Object layout = serializerLayout;
+        if (layout == null) {
+            layout = maker.apply(this);
+            serializerLayout = layout;
+        }
+        return (L) layout;
+    }
+
     /**
      * Get the actual builder builderSupplier instance. For contained structs only.
      * @return The builder builderSupplier.
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.mio;
+
+import net.morimekta.providence.PMessage;
+import net.morimekta.providence.PServiceCall;
+import net.morimekta.providence.descriptor.PField;
+import net.morimekta.providence.descriptor.PMessageDescriptor;
+import net.morimekta.providence.descriptor.PService;
+import net.morimekta.providence.serializer.Serializer;
+
+import javax.annotation.Nonnull;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import static net.morimekta.providence.mio.BlockCompressedMessageWriter.BLOCK_MAGIC;
+
+/**
+ * A message reader that reads messages written in compressed blocks by the
+ * {@link BlockCompressedMessageWriter}. A block is decompressed when the
+ * first message of it is read, using the codec given by the block header.
+ * The {@link BlockCompressionPolicy#DEFLATE} codec is always known, other
+ * codecs must be given to the reader. Messages can be skipped with
+ * {@link #skip(long, PMessageDescriptor)}, which skips whole blocks without decompressing them.
+ */
+public class BlockCompressedMessageReader implements MessageReader {
+    /**
+     * Create a block compressed file reader.
+     *
+     * @param file The file to read.
+     * @param serializer The serializer to use.
+     * @param codecs Additional compression codecs that may be used by the writer.
+     * @throws IOException If unable to open the file.
+     */
+    public BlockCompressedMessageReader(@Nonnull File file,
+                                        @Nonnull Serializer serializer,
+                                        @Nonnull BlockCompressionPolicy.Codec... codecs) throws IOException {
+        this(new BufferedInputStream(new FileInputStream(file)), serializer, codecs);
+    }
+
+    /**
+     * Create a block compressed stream reader.
+     *
+     * @param in The input stream to read.
+     * @param serializer The serializer to use.
+     * @param codecs Additional compression codecs that may be used by the writer.
+     */
+    public BlockCompressedMessageReader(@Nonnull InputStream in,
+                                        @Nonnull Serializer serializer,
+                                        @Nonnull BlockCompressionPolicy.Codec... codecs) {
+        this.in = new DataInputStream(in);
+        this.serializer = serializer;
+        this.codecs = new HashMap<>();
+        this.codecs.put(BlockCompressionPolicy.DEFLATE.getId(), BlockCompressionPolicy.DEFLATE);
+        for (BlockCompressionPolicy.Codec codec : codecs) {
+            this.codecs.put(codec.getId(), codec);
+        }
+    }
+
+    @Override
+    public <Message extends PMessage<Message, Field>, Field extends PField>
+    Message read(PMessageDescriptor<Message, Field> descriptor) throws IOException {
+        Message message = serializer.deserialize(nextRecord(), descriptor);
+        --remaining;
+        return message;
+    }
+
+    @Override
+    public <Message extends PMessage<Message, Field>, Field extends PField>
+    PServiceCall<Message, Field> read(PService service) throws IOException {
+        PServiceCall<Message, Field> call = serializer.deserialize(nextRecord(), service);
+        --remaining;
+        return call;
+    }
+
+    /**
+     * Skip messages. Whole blocks of messages are skipped without being
+     * decompressed, messages within a block are skipped by reading them.
+     *
+     * @param num The number of messages to skip.
+     * @param descriptor The message descriptor, for skipping messages
+     *                   within a block.
+     * @param <Message> The message type.
+     * @param <Field> The message field type.
+     * @return The number of messages skipped. Less than requested only if
+     *         the end of the stream was reached.
+     * @throws IOException If unable to skip the messages.
+     */
+    public <Message extends PMessage<Message, Field>, Field extends PField>
+    long skip(long num, @Nonnull PMessageDescriptor<Message, Field> descriptor) throws IOException {
+        long skipped = 0;
+        while (skipped < num) {
+            if (remaining == 0) {
+                if (!readHeader()) {
+                    break;
+                }
+                if (num - skipped >= headerRecords) {
+                    skipped += headerRecords;
+                    skipContent();
+                    continue;
+                }
+            }
+            read(descriptor);
+            ++skipped;
+        }
+        return skipped;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private final DataInputStream                         in;
+    private final Serializer                              serializer;
+    private final Map<Byte, BlockCompressionPolicy.Codec> codecs;
+
+    // Header of the next block, read but not decompressed.
+    private BlockCompressionPolicy.Codec headerCodec;
+    private int     headerRecords;
+    private int     headerSize;
+    private int     headerCompressed;
+    private boolean hasHeader;
+
+    // Content of the current block.
+    private InputStream block;
+    private int         remaining;
+
+    private InputStream nextRecord() throws IOException {
+        if (remaining == 0) {
+            if (!hasHeader && !readHeader()) {
+                throw new EOFException("No more messages");
+            }
+            readContent();
+        }
+        return block;
+    }
+
+    /**
+     * Read the next block header.
+     *
+     * @return False if there are no more blocks.
+     * @throws IOException If the header is invalid.
+     */
+    private boolean readHeader() throws IOException {
+        if (hasHeader) {
+            return true;
+        }
+        int first = in.read();
+        if (first < 0) {
+            return false;
+        }
+        int magic = (first << 24) | (in.readUnsignedByte() << 16) | in.readUnsignedShort();
+        if (magic != BLOCK_MAGIC) {
+            throw new IOException(String.format("Invalid block magic 0x%08x", magic));
+        }
+        byte codecId = in.readByte();
+        headerCodec = codecs.get(codecId);
+        if (headerCodec == null) {
+            throw new IOException("Unknown block codec " + codecId);
+        }
+        headerRecords = in.readInt();
+        headerSize = in.readInt();
+        headerCompressed = in.readInt();
+        if (headerRecords < 1 || headerSize < 0 || headerCompressed < 0) {
+            throw new IOException("Invalid block header: records=" + headerRecords +
+                                  ", size=" + headerSize + ", compressed=" + headerCompressed);
+        }
+        hasHeader = true;
+        return true;
+    }
+
+    private void readContent() throws IOException {
+        byte[] compressed = new byte[headerCompressed];
+        in.readFully(compressed);
+
+        byte[] content = new byte[headerSize];
+        try (DataInputStream decompressor = new DataInputStream(
+                headerCodec.decompress(new ByteArrayInputStream(compressed)))) {
+            decompressor.readFully(content);
+        }
+
+        block = new ByteArrayInputStream(content);
+        remaining = headerRecords;
+        hasHeader = false;
+    }
+
+    private void skipContent() throws IOException {
+        long left = headerCompressed;
+        while (left > 0) {
+            int skipped = in.skipBytes((int) Math.min(left, Integer.MAX_VALUE));
+            if (skipped <= 0) {
+                throw new EOFException("Unexpected end of block content");
+            }
+            left -= skipped;
+        }
+        hasHeader = false;
+    }
+}
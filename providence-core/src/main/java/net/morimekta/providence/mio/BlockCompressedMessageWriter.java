@@ -0,0 +1,166 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.mio;
+
+import net.morimekta.providence.PMessage;
+import net.morimekta.providence.PServiceCall;
+import net.morimekta.providence.descriptor.PField;
+import net.morimekta.providence.serializer.Serializer;
+
+import javax.annotation.Nonnull;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A message writer that writes messages in compressed blocks. Each block
+ * is written as:
+ *
+ * <pre>{@code
+ * magic:             4 bytes, "PVDB"
+ * codec:             1 byte, the codec ID
+ * records:           4 bytes, number of messages in the block
+ * uncompressed size: 4 bytes
+ * compressed size:   4 bytes
+ * content:           compressed size bytes
+ * }</pre>
+ *
+ * All numbers are big endian. The uncompressed content is the messages as
+ * written by the serializer, including separators for non-binary
+ * serializers. Since each block is self contained, new blocks can be
+ * appended to an existing file.
+ *
+ * @see BlockCompressedMessageReader
+ */
+public class BlockCompressedMessageWriter implements MessageWriter {
+    static final int BLOCK_MAGIC = 0x50564442;  // "PVDB"
+
+    /**
+     * Create a block compressed message writer.
+     *
+     * @param out The output stream to write blocks to.
+     * @param serializer The serializer to use.
+     * @param policy The block compression policy.
+     */
+    public BlockCompressedMessageWriter(@Nonnull OutputStream out,
+                                        @Nonnull Serializer serializer,
+                                        @Nonnull BlockCompressionPolicy policy) {
+        this.out = new DataOutputStream(out);
+        this.serializer = serializer;
+        this.policy = policy;
+        this.block = new ByteArrayOutputStream();
+        this.compressed = new ByteArrayOutputStream();
+    }
+
+    @Override
+    public <Message extends PMessage<Message, Field>, Field extends PField>
+    int write(Message message) throws IOException {
+        maybeWriteBlock();
+        int size = serializer.serialize(block, message);
+        ++records;
+        return size;
+    }
+
+    @Override
+    public <Message extends PMessage<Message, Field>, Field extends PField>
+    int write(PServiceCall<Message, Field> call) throws IOException {
+        maybeWriteBlock();
+        int size = serializer.serialize(block, call);
+        ++records;
+        return size;
+    }
+
+    @Override
+    public int separator() throws IOException {
+        // Separators are kept in the same block as the preceding message.
+        if (!serializer.binaryProtocol()) {
+            block.write('\n');
+            return 1;
+        }
+        return 0;
+    }
+
+    /**
+     * Write the current block, even if not full. Note that this does not
+     * flush the output stream.
+     *
+     * @throws IOException If unable to write the block.
+     */
+    public void finishBlock() throws IOException {
+        writeBlock();
+    }
+
+    /**
+     * Flush the blocks written so far to the output stream. The current
+     * block is not written until it is full, or on {@link #finishBlock()}
+     * or {@link #close()}, so frequent flushing does not make small blocks.
+     *
+     * @throws IOException If unable to flush the output.
+     */
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            writeBlock();
+        } finally {
+            out.close();
+        }
+    }
+
+    private final DataOutputStream       out;
+    private final Serializer             serializer;
+    private final BlockCompressionPolicy policy;
+    private final ByteArrayOutputStream  block;
+    private final ByteArrayOutputStream  compressed;
+
+    private int records;
+
+    private void maybeWriteBlock() throws IOException {
+        if (records >= policy.getMaxRecords() || block.size() >= policy.getMaxBlockSize()) {
+            writeBlock();
+        }
+    }
+
+    private void writeBlock() throws IOException {
+        if (records == 0) {
+            return;
+        }
+        compressed.reset();
+        try (OutputStream compressor = policy.getCodec().compress(compressed)) {
+            block.writeTo(compressor);
+        }
+
+        out.writeInt(BLOCK_MAGIC);
+        out.writeByte(policy.getCodec().getId());
+        out.writeInt(records);
+        out.writeInt(block.size());
+        out.writeInt(compressed.size());
+        compressed.writeTo(out);
+
+        block.reset();
+        records = 0;
+    }
+}
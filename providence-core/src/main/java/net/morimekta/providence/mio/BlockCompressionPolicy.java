@@ -0,0 +1,169 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.mio;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Policy for writing messages in compressed blocks. Messages are buffered
+ * until the block is full, either by number of messages or by serialized
+ * size, and then the whole block is compressed and written with a block
+ * header. The header contains the number of messages in the block, so
+ * readers can skip blocks without decompressing them.
+ *
+ * @see BlockCompressedMessageWriter
+ * @see BlockCompressedMessageReader
+ */
+public final class BlockCompressionPolicy {
+    /**
+     * A block compression codec.
+     */
+    public interface Codec {
+        /**
+         * @return The codec ID stored in the block header.
+         */
+        byte getId();
+
+        /**
+         * Make a stream compressing content into the output stream. Closing
+         * the returned stream must finish the compressed content, but not
+         * close the output stream.
+         *
+         * @param out The output stream to write compressed content to.
+         * @return The compressing output stream.
+         * @throws IOException If unable to make the compressing stream.
+         */
+        @Nonnull
+        OutputStream compress(@Nonnull OutputStream out) throws IOException;
+
+        /**
+         * Make a stream decompressing content from the input stream.
+         *
+         * @param in The input stream containing the compressed content.
+         * @return The decompressing input stream.
+         * @throws IOException If unable to make the decompressing stream.
+         */
+        @Nonnull
+        InputStream decompress(@Nonnull InputStream in) throws IOException;
+    }
+
+    /**
+     * Deflate compression from the JDK.
+     */
+    public static final Codec DEFLATE = new Codec() {
+        @Override
+        public byte getId() {
+            return 1;
+        }
+
+        @Nonnull
+        @Override
+        public OutputStream compress(@Nonnull OutputStream out) {
+            Deflater deflater = new Deflater();
+            return new DeflaterOutputStream(out, deflater) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        finish();
+                    } finally {
+                        deflater.end();
+                    }
+                }
+            };
+        }
+
+        @Nonnull
+        @Override
+        public InputStream decompress(@Nonnull InputStream in) {
+            Inflater inflater = new Inflater();
+            return new InflaterInputStream(in, inflater) {
+                @Override
+                public void close() {
+                    inflater.end();
+                }
+            };
+        }
+    };
+
+    public static final int DEFAULT_MAX_RECORDS    = 1024;
+    public static final int DEFAULT_MAX_BLOCK_SIZE = 1 << 20;
+
+    /**
+     * Create a deflate block compression policy with default block size.
+     */
+    public BlockCompressionPolicy() {
+        this(DEFLATE, DEFAULT_MAX_RECORDS, DEFAULT_MAX_BLOCK_SIZE);
+    }
+
+    /**
+     * Create a block compression policy.
+     *
+     * @param codec The compression codec.
+     * @param maxRecords The max number of messages per block.
+     * @param maxBlockSize The max uncompressed block size. Note that a
+     *                     single message larger than this will still make
+     *                     a single block.
+     */
+    public BlockCompressionPolicy(@Nonnull Codec codec, int maxRecords, int maxBlockSize) {
+        if (maxRecords < 1) {
+            throw new IllegalArgumentException("Invalid max records: " + maxRecords);
+        }
+        if (maxBlockSize < 1) {
+            throw new IllegalArgumentException("Invalid max block size: " + maxBlockSize);
+        }
+        this.codec = codec;
+        this.maxRecords = maxRecords;
+        this.maxBlockSize = maxBlockSize;
+    }
+
+    /**
+     * @return The compression codec.
+     */
+    @Nonnull
+    public Codec getCodec() {
+        return codec;
+    }
+
+    /**
+     * @return The max number of messages per block.
+     */
+    public int getMaxRecords() {
+        return maxRecords;
+    }
+
+    /**
+     * @return The max uncompressed block size.
+     */
+    public int getMaxBlockSize() {
+        return maxBlockSize;
+    }
+
+    private final Codec codec;
+    private final int   maxRecords;
+    private final int   maxBlockSize;
+}
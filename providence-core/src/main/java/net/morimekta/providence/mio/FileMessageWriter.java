@@ -25,71 +25,272 @@ import net.morimekta.providence.PServiceCall;
 import net.morimekta.providence.descriptor.PField;
 import net.morimekta.providence.serializer.Serializer;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A message writer that writes to a single file until the end.
+ * <p>
+ * If created with a {@link GroupCommitPolicy}, written content is synced
+ * to disk in groups according to the policy, and {@link #commit()} can be
+ * used to get notified when the content is durably stored. Without a group
+ * commit policy, content is only flushed to the file when the writer is
+ * closed, or on explicit {@link #flush()}.
+ * <p>
+ * If created with a {@link BlockCompressionPolicy}, the messages are
+ * written in compressed blocks, see {@link BlockCompressedMessageWriter}.
+ * Syncing or closing the writer will write the current block even if not
+ * full, while flushing only flushes the blocks already written.
  */
 public class FileMessageWriter implements MessageWriter {
-    private final File       file;
-    private final Serializer serializer;
-    private final boolean    append;
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileMessageWriter.class);
+
+    private final File                   file;
+    private final Serializer             serializer;
+    private final boolean                append;
+    private final GroupCommitPolicy      commitPolicy;
+    private final BlockCompressionPolicy blockPolicy;
 
-    private OutputStream out;
+    private OutputStream                 out;
+    private BlockCompressedMessageWriter blockWriter;
+    private FileChannel                  channel;
+    private long                         unsyncedBytes;
+    private CompletableFuture<Void>      nextCommit;
+    private ScheduledFuture<?>           scheduledSync;
 
     public FileMessageWriter(File file, Serializer serializer) {
         this(file, serializer, false);
     }
 
     public FileMessageWriter(File file, Serializer serializer, boolean append) {
+        this(file, serializer, append, null);
+    }
+
+    /**
+     * Create a file message writer.
+     *
+     * @param file The file to write to.
+     * @param serializer The serializer to use.
+     * @param append If the file should be appended to.
+     * @param commitPolicy Optional group commit policy.
+     */
+    public FileMessageWriter(@Nonnull File file,
+                             @Nonnull Serializer serializer,
+                             boolean append,
+                             @Nullable GroupCommitPolicy commitPolicy) {
+        this(file, serializer, append, commitPolicy, null);
+    }
+
+    /**
+     * Create a file message writer.
+     *
+     * @param file The file to write to.
+     * @param serializer The serializer to use.
+     * @param append If the file should be appended to.
+     * @param commitPolicy Optional group commit policy.
+     * @param blockPolicy Optional block compression policy.
+     */
+    public FileMessageWriter(@Nonnull File file,
+                             @Nonnull Serializer serializer,
+                             boolean append,
+                             @Nullable GroupCommitPolicy commitPolicy,
+                             @Nullable BlockCompressionPolicy blockPolicy) {
         this.file = file;
         this.serializer = serializer;
         this.append = append;
+        this.commitPolicy = commitPolicy;
+        this.blockPolicy = blockPolicy;
     }
 
     @Override
-    public <Message extends PMessage<Message, Field>, Field extends PField>
+    public synchronized <Message extends PMessage<Message, Field>, Field extends PField>
     int write(Message message) throws IOException {
-        return serializer.serialize(getOutputStream(), message);
+        OutputStream stream = getOutputStream();
+        if (blockWriter != null) {
+            return written(blockWriter.write(message));
+        }
+        return written(serializer.serialize(stream, message));
     }
 
     @Override
-    public <Message extends PMessage<Message, Field>, Field extends PField>
+    public synchronized <Message extends PMessage<Message, Field>, Field extends PField>
     int write(PServiceCall<Message, Field> call) throws IOException {
-        return serializer.serialize(getOutputStream(), call);
+        OutputStream stream = getOutputStream();
+        if (blockWriter != null) {
+            return written(blockWriter.write(call));
+        }
+        return written(serializer.serialize(stream, call));
     }
 
     @Override
-    public int separator() throws IOException {
+    public synchronized int separator() throws IOException {
+        OutputStream stream = getOutputStream();
+        if (blockWriter != null) {
+            return written(blockWriter.separator());
+        }
         if (!serializer.binaryProtocol()) {
-            getOutputStream().write('\n');
-            return 1;
+            stream.write('\n');
+            return written(1);
         }
 
         return 0;
     }
 
     @Override
-    public void close() throws IOException {
+    public synchronized void flush() throws IOException {
+        if (blockWriter != null) {
+            blockWriter.flush();
+        } else if (out != null) {
+            out.flush();
+        }
+    }
+
+    /**
+     * Sync all content written so far to disk.
+     *
+     * @throws IOException If unable to sync the content.
+     */
+    public synchronized void sync() throws IOException {
+        if (out == null) {
+            return;
+        }
+        CompletableFuture<Void> committed = nextCommit;
+        nextCommit = null;
+        unsyncedBytes = 0;
+        if (scheduledSync != null) {
+            scheduledSync.cancel(false);
+            scheduledSync = null;
+        }
+        try {
+            if (blockWriter != null) {
+                blockWriter.finishBlock();
+            }
+            flush();
+            channel.force(false);
+        } catch (IOException e) {
+            if (committed != null) {
+                committed.completeExceptionally(e);
+            }
+            throw e;
+        }
+        if (committed != null) {
+            committed.complete(null);
+        }
+    }
+
+    /**
+     * Get a future that completes when all content written so far has been
+     * synced to disk. If a group commit policy is used, the future completes
+     * at the next group commit, otherwise content is synced immediately.
+     *
+     * @return The commit future. Completes exceptionally if the sync failed.
+     */
+    @Nonnull
+    public synchronized CompletableFuture<Void> commit() {
+        if (commitPolicy == null) {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            try {
+                sync();
+                future.complete(null);
+            } catch (IOException e) {
+                future.completeExceptionally(e);
+            }
+            return future;
+        }
+        if (unsyncedBytes == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (nextCommit == null) {
+            nextCommit = new CompletableFuture<>();
+        }
+        return nextCommit;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
         if (out != null) {
+            IOException error = null;
+            try {
+                if (commitPolicy != null) {
+                    sync();
+                } else {
+                    if (blockWriter != null) {
+                        blockWriter.finishBlock();
+                    }
+                    flush();
+                }
+            } catch (IOException e) {
+                error = e;
+            }
             try {
-                out.flush();
                 out.close();
+            } catch (IOException e) {
+                // The sync or flush failure is the primary error.
+                if (error == null) {
+                    error = e;
+                } else {
+                    error.addSuppressed(e);
+                }
             } finally {
                 out = null;
+                channel = null;
+                blockWriter = null;
+                if (nextCommit != null) {
+                    nextCommit.completeExceptionally(new IOException("Closed before commit"));
+                    nextCommit = null;
+                }
+            }
+            if (error != null) {
+                throw error;
             }
         }
     }
 
-    OutputStream getOutputStream() throws FileNotFoundException {
+    synchronized OutputStream getOutputStream() throws FileNotFoundException {
         if (out == null) {
-            out = new BufferedOutputStream(new FileOutputStream(file, append));
+            FileOutputStream fos = new FileOutputStream(file, append);
+            channel = fos.getChannel();
+            out = new BufferedOutputStream(fos);
+            if (blockPolicy != null) {
+                blockWriter = new BlockCompressedMessageWriter(out, serializer, blockPolicy);
+            }
         }
         return out;
     }
+
+    private int written(int bytes) throws IOException {
+        if (commitPolicy != null) {
+            unsyncedBytes += bytes;
+            if (unsyncedBytes >= commitPolicy.getMaxBytes()) {
+                sync();
+            } else if (scheduledSync == null) {
+                scheduledSync = commitPolicy.getScheduler().schedule(
+                        this::scheduledSync, commitPolicy.getMaxDelayNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        return bytes;
+    }
+
+    private synchronized void scheduledSync() {
+        scheduledSync = null;
+        try {
+            sync();
+        } catch (IOException e) {
+            // Failure is propagated to the commit future.
+            LOGGER.warn("Unable to sync {}: {}", file.getName(), e.getMessage(), e);
+        }
+    }
 }
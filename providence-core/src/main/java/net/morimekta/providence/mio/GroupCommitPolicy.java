@@ -0,0 +1,109 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.mio;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Policy for group commit of written messages to file. Instead of flushing
+ * and syncing each written message to disk, written content is synced to
+ * disk once per time window, or whenever the amount of un-synced content
+ * reaches a size limit, whichever comes first. Writers using a group commit
+ * policy can return futures that completes when the content written so far
+ * is durably stored.
+ *
+ * @see FileMessageWriter
+ * @see RollingFileMessageWriter
+ */
+public final class GroupCommitPolicy {
+    /**
+     * Create a group commit policy using a shared sync thread.
+     *
+     * @param maxDelay The max time from content is written until it is synced.
+     * @param unit The max delay time unit.
+     * @param maxBytes The max number of bytes written before it is synced.
+     */
+    public GroupCommitPolicy(long maxDelay, @Nonnull TimeUnit unit, long maxBytes) {
+        this(maxDelay, unit, maxBytes, SharedScheduler.INSTANCE);
+    }
+
+    /**
+     * Create a group commit policy.
+     *
+     * @param maxDelay The max time from content is written until it is synced.
+     * @param unit The max delay time unit.
+     * @param maxBytes The max number of bytes written before it is synced.
+     * @param scheduler Scheduler for running the delayed syncs.
+     */
+    public GroupCommitPolicy(long maxDelay,
+                             @Nonnull TimeUnit unit,
+                             long maxBytes,
+                             @Nonnull ScheduledExecutorService scheduler) {
+        if (maxDelay <= 0) {
+            throw new IllegalArgumentException("Invalid max delay: " + maxDelay);
+        }
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Invalid max bytes: " + maxBytes);
+        }
+        this.maxDelayNanos = unit.toNanos(maxDelay);
+        this.maxBytes = maxBytes;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * @return The max time in nanoseconds from content is written until it is synced.
+     */
+    public long getMaxDelayNanos() {
+        return maxDelayNanos;
+    }
+
+    /**
+     * @return The max number of bytes written before it is synced.
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * @return The scheduler for running the delayed syncs.
+     */
+    @Nonnull
+    public ScheduledExecutorService getScheduler() {
+        return scheduler;
+    }
+
+    private final long                     maxDelayNanos;
+    private final long                     maxBytes;
+    private final ScheduledExecutorService scheduler;
+
+    private static class SharedScheduler {
+        private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder()
+                        .setDaemon(true)
+                        .setNameFormat("providence-group-commit")
+                        .build());
+    }
+}
@@ -64,6 +64,11 @@ public class IOMessageWriter implements MessageWriter {
         return 0;
     }
 
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
     @Override
     public void close() throws IOException {
         out.close();
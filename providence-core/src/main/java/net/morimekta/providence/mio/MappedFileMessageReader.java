@@ -0,0 +1,236 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.mio;
+
+import net.morimekta.providence.PMessage;
+import net.morimekta.providence.PServiceCall;
+import net.morimekta.providence.descriptor.PField;
+import net.morimekta.providence.descriptor.PMessageDescriptor;
+import net.morimekta.providence.descriptor.PService;
+import net.morimekta.providence.serializer.Serializer;
+import net.morimekta.providence.streams.MappedMessageFile;
+import net.morimekta.providence.streams.MappedMessageSpliterator;
+import net.morimekta.providence.streams.MessageFraming;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A message reader that memory maps the file, and indexes where each
+ * message is in the file. In addition to reading the messages in order,
+ * this allows reading any message by index, reading ranges of messages and
+ * getting the number of messages without deserializing them.
+ * <p>
+ * The index can be stored in a sidecar index file, so it is only built
+ * once per file. If the file has been appended to since the index file was
+ * written, only the new messages are indexed.
+ * <p>
+ * Files written with {@link FileMessageWriter} or {@link RollingFileMessageWriter}
+ * can be read by giving the descriptor of the messages in the file. Note
+ * that for binary serializers, this means parsing the whole file when
+ * building the index, and that the file can only contain messages of the
+ * one given type.
+ */
+public class MappedFileMessageReader implements MessageReader {
+    /**
+     * Create a mapped file reader for a file of framed messages.
+     *
+     * @param file The file to be read.
+     * @param serializer The serializer to use.
+     * @param framing The message framing in the file.
+     */
+    public MappedFileMessageReader(@Nonnull File file,
+                                   @Nonnull Serializer serializer,
+                                   @Nonnull MessageFraming framing) {
+        this(file, serializer, framing, null);
+    }
+
+    /**
+     * Create a mapped file reader for a file of framed messages.
+     *
+     * @param file The file to be read.
+     * @param serializer The serializer to use.
+     * @param framing The message framing in the file.
+     * @param indexFile The sidecar index file, or null for no index file.
+     */
+    public MappedFileMessageReader(@Nonnull File file,
+                                   @Nonnull Serializer serializer,
+                                   @Nonnull MessageFraming framing,
+                                   @Nullable File indexFile) {
+        framing.checkSerializer(serializer);
+        this.file = file;
+        this.serializer = serializer;
+        this.framing = framing;
+        this.descriptor = null;
+        this.indexFile = indexFile;
+    }
+
+    /**
+     * Create a mapped file reader for a file of messages written with the
+     * normal file message writers.
+     *
+     * @param file The file to be read.
+     * @param serializer The serializer to use.
+     * @param descriptor The descriptor of the messages in the file.
+     */
+    public MappedFileMessageReader(@Nonnull File file,
+                                   @Nonnull Serializer serializer,
+                                   @Nonnull PMessageDescriptor<?, ?> descriptor) {
+        this(file, serializer, descriptor, null);
+    }
+
+    /**
+     * Create a mapped file reader for a file of messages written with the
+     * normal file message writers.
+     *
+     * @param file The file to be read.
+     * @param serializer The serializer to use.
+     * @param descriptor The descriptor of the messages in the file.
+     * @param indexFile The sidecar index file, or null for no index file.
+     */
+    public MappedFileMessageReader(@Nonnull File file,
+                                   @Nonnull Serializer serializer,
+                                   @Nonnull PMessageDescriptor<?, ?> descriptor,
+                                   @Nullable File indexFile) {
+        this.file = file;
+        this.serializer = serializer;
+        this.framing = serializer.binaryProtocol() ? null : MessageFraming.SEPARATED;
+        this.descriptor = descriptor;
+        this.indexFile = indexFile;
+    }
+
+    /**
+     * @return The number of messages in the file.
+     * @throws IOException If unable to map or index the file.
+     */
+    public int count() throws IOException {
+        return getMapped().count();
+    }
+
+    /**
+     * Read the message at the given index.
+     *
+     * @param index The message index.
+     * @param descriptor The descriptor for the message to be read.
+     * @param <Message> The message type.
+     * @param <Field> The message field type.
+     * @return The message read.
+     * @throws IOException If the message could not be read.
+     */
+    @Nonnull
+    public <Message extends PMessage<Message, Field>, Field extends PField>
+    Message read(int index, @Nonnull PMessageDescriptor<Message, Field> descriptor)
+            throws IOException {
+        return serializer.deserialize(getMapped().record(index), descriptor);
+    }
+
+    /**
+     * Stream the messages in the given range of indices. The stream is
+     * splittable, so can be made parallel.
+     *
+     * @param from The first message index, inclusive.
+     * @param to The last message index, exclusive.
+     * @param descriptor The descriptor for the messages to be read.
+     * @param <Message> The message type.
+     * @param <Field> The message field type.
+     * @return The message stream.
+     * @throws IOException If unable to map or index the file.
+     */
+    @Nonnull
+    public <Message extends PMessage<Message, Field>, Field extends PField>
+    Stream<Message> stream(int from, int to, @Nonnull PMessageDescriptor<Message, Field> descriptor)
+            throws IOException {
+        return StreamSupport.stream(
+                new MappedMessageSpliterator<>(getMapped(), serializer, descriptor, from, to), false);
+    }
+
+    /**
+     * Set the index of the next message read with {@link #read(PMessageDescriptor)}
+     * or {@link #read(PService)}.
+     *
+     * @param index The message index.
+     * @throws IOException If unable to map or index the file.
+     */
+    public void seek(int index) throws IOException {
+        if (index < 0 || index > getMapped().count()) {
+            throw new IndexOutOfBoundsException("Message index " + index + " not in [0.." + getMapped().count() + "]");
+        }
+        next = index;
+    }
+
+    @Override
+    public <Message extends PMessage<Message, Field>, Field extends PField>
+    Message read(PMessageDescriptor<Message, Field> descriptor)
+            throws IOException {
+        Message message = read(checkNext(), descriptor);
+        ++next;
+        return message;
+    }
+
+    @Override
+    public <Message extends PMessage<Message, Field>, Field extends PField>
+    PServiceCall<Message, Field> read(PService service) throws IOException {
+        PServiceCall<Message, Field> call = serializer.deserialize(getMapped().record(checkNext()), service);
+        ++next;
+        return call;
+    }
+
+    @Override
+    public void close() {
+        // The file mapping is released when garbage collected.
+        mapped = null;
+        next = 0;
+    }
+
+    private final File                     file;
+    private final Serializer               serializer;
+    private final MessageFraming           framing;
+    private final PMessageDescriptor<?, ?> descriptor;
+    private final File                     indexFile;
+
+    private MappedMessageFile mapped;
+    private int               next;
+
+    @SuppressWarnings("unchecked")
+    private MappedMessageFile getMapped() throws IOException {
+        if (mapped == null) {
+            if (framing != null) {
+                mapped = MappedMessageFile.map(file.toPath(), framing, indexFile == null ? null : indexFile.toPath());
+            } else {
+                mapped = MappedMessageFile.map(file.toPath(), serializer, (PMessageDescriptor) descriptor,
+                                               indexFile == null ? null : indexFile.toPath());
+            }
+        }
+        return mapped;
+    }
+
+    private int checkNext() throws IOException {
+        if (next >= getMapped().count()) {
+            throw new EOFException("No more messages in " + file.getName() + " after " + next);
+        }
+        return next;
+    }
+}
@@ -62,4 +62,12 @@ public interface MessageWriter extends Closeable {
      * @throws IOException If write failed.
      */
     int separator() throws IOException;
+
+    /**
+     * Flush written content to the underlying output. The default
+     * implementation does nothing, for writers that does not buffer.
+     *
+     * @throws IOException If flush failed.
+     */
+    default void flush() throws IOException {}
 }
@@ -29,12 +29,18 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nonnull;
 import java.io.IOException;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * A queued message writer that takes in messages onto a queue, and let
@@ -42,18 +48,59 @@ import java.util.concurrent.TimeUnit;
  * writer is thread safe, and should be much faster than having multiple
  * threads fight over the file IO.
  * <p>
- * Note that the writer will continue to accept messages after it has been
- * closed.
+ * The queue is bounded, and what happens when the queue is full is
+ * decided by the {@link OverflowPolicy}. Messages are written in batches
+ * of what is available on the queue, with one flush of the contained
+ * writer per batch. Counters for enqueued, dropped, written and failed
+ * messages, and the time spent on the queue, are available for monitoring.
+ * <p>
+ * Note that messages written after the writer has been closed are dropped.
  */
 public class QueuedMessageWriter implements MessageWriter {
     private static final Logger LOGGER = LoggerFactory.getLogger(QueuedMessageWriter.class);
     private static final int    DEFAULT_MAX_QUEUE_LEN = 65536;
+    private static final int    DEFAULT_BATCH_SIZE    = 256;
+    private static final long   POLL_TIMEOUT_MS       = 100L;
+
+    /**
+     * What to do when writing to a full queue.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Block the writing thread until there is room on the queue. If
+         * the writer is closed while waiting, the write fails with an
+         * {@link IOException}.
+         */
+        BLOCK,
+        /**
+         * Drop the oldest message on the queue to make room for the new.
+         */
+        DROP_OLDEST,
+        /**
+         * Drop the message being written. The write returns 0.
+         */
+        DROP_NEWEST,
+    }
+
+    private final BlockingQueue<Entry> queue;
+    private final ArrayDeque<Entry>    pending;
+    private final Object               writeLock;
+    private final ExecutorService      executor;
+    private final MessageWriter        writer;
+    private final OverflowPolicy       overflowPolicy;
+    private final int                  batchSize;
 
-    private final Queue<PMessage> messageQueue;
-    private final Queue<PServiceCall> callQueue;
-    private final ExecutorService executor;
-    private final MessageWriter   writer;
-    private final int maxQueueLength;
+    private final LongAdder  enqueued;
+    private final LongAdder  dropped;
+    private final LongAdder  written;
+    private final LongAdder  failed;
+    private final LongAdder  queueLatencyNanos;
+    private final AtomicLong maxQueueLatencyNanos;
+
+    private volatile boolean closed;
+    private volatile Thread  loopThread;
+    // Set with the write lock when close has taken over the queue.
+    private boolean drained;
 
     /**
      * Create a queued message writer.
@@ -92,11 +139,58 @@ public class QueuedMessageWriter implements MessageWriter {
     public QueuedMessageWriter(MessageWriter writer,
                                ExecutorService executor,
                                int maxQueueLength) {
+        this(writer, executor, maxQueueLength, OverflowPolicy.DROP_NEWEST);
+    }
+
+    /**
+     * Create a queued message writer using the given executor service.
+     * Note that the executor service will be shut down with the message queue.
+     *
+     * @param writer The message writer to write to.
+     * @param executor The executor service running the write loop thread.
+     * @param maxQueueLength The max queue length. If 0 or less, no limit is enforced.
+     * @param overflowPolicy What to do when the queue is full.
+     */
+    public QueuedMessageWriter(MessageWriter writer,
+                               ExecutorService executor,
+                               int maxQueueLength,
+                               @Nonnull OverflowPolicy overflowPolicy) {
+        this(writer, executor, maxQueueLength, overflowPolicy, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Create a queued message writer using the given executor service.
+     * Note that the executor service will be shut down with the message queue.
+     *
+     * @param writer The message writer to write to.
+     * @param executor The executor service running the write loop thread.
+     * @param maxQueueLength The max queue length. If 0 or less, no limit is enforced.
+     * @param overflowPolicy What to do when the queue is full.
+     * @param batchSize The max number of messages to write per flush.
+     */
+    public QueuedMessageWriter(MessageWriter writer,
+                               ExecutorService executor,
+                               int maxQueueLength,
+                               @Nonnull OverflowPolicy overflowPolicy,
+                               int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Invalid batch size: " + batchSize);
+        }
         this.writer = writer;
         this.executor = executor;
-        this.maxQueueLength = maxQueueLength;
-        this.messageQueue = new ConcurrentLinkedQueue<>();
-        this.callQueue = new ConcurrentLinkedQueue<>();
+        this.overflowPolicy = overflowPolicy;
+        this.batchSize = batchSize;
+        this.queue = maxQueueLength > 0 ? new ArrayBlockingQueue<>(maxQueueLength) : new LinkedBlockingQueue<>();
+        this.pending = new ArrayDeque<>(batchSize);
+        this.writeLock = new Object();
+
+        this.enqueued = new LongAdder();
+        this.dropped = new LongAdder();
+        this.written = new LongAdder();
+        this.failed = new LongAdder();
+        this.queueLatencyNanos = new LongAdder();
+        this.maxQueueLatencyNanos = new AtomicLong();
+
         this.executor.submit(this::writeLoop);
     }
 
@@ -104,27 +198,66 @@ public class QueuedMessageWriter implements MessageWriter {
      * @return The current size of the in-memory queue.
      */
     public int size() {
-        return callQueue.size() + messageQueue.size();
+        return queue.size();
+    }
+
+    /**
+     * @return The number of messages and calls accepted onto the queue.
+     */
+    public long enqueuedCount() {
+        return enqueued.sum();
+    }
+
+    /**
+     * @return The number of messages and calls dropped because of a full
+     *         queue, or because the writer was closed.
+     */
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return The number of messages and calls written to the contained writer.
+     */
+    public long writtenCount() {
+        return written.sum();
+    }
+
+    /**
+     * @return The number of messages and calls that failed to be written
+     *         to the contained writer.
+     */
+    public long failedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * @return The total time in nanoseconds messages and calls have spent on
+     *         the queue before being written. Divide by the sum of written
+     *         and failed to get the average.
+     */
+    public long queueLatencyNanos() {
+        return queueLatencyNanos.sum();
+    }
+
+    /**
+     * @return The max time in nanoseconds a message or call has spent on
+     *         the queue before being written.
+     */
+    public long maxQueueLatencyNanos() {
+        return maxQueueLatencyNanos.get();
     }
 
     @Override
     public <Message extends PMessage<Message, Field>, Field extends PField>
     int write(Message message) throws IOException {
-        if (maxQueueLength <= 0 || size() < maxQueueLength) {
-            messageQueue.offer(message);
-            return 1;
-        }
-        return 0;
+        return enqueue(new Entry(message, null));
     }
 
     @Override
     public <Message extends PMessage<Message, Field>, Field extends PField>
     int write(PServiceCall<Message, Field> call) throws IOException {
-        if (maxQueueLength <= 0 || size() < maxQueueLength) {
-            callQueue.offer(call);
-            return 1;
-        }
-        return 0;
+        return enqueue(new Entry(null, call));
     }
 
     @Override
@@ -133,52 +266,127 @@ public class QueuedMessageWriter implements MessageWriter {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public void close() throws IOException {
         if (!executor.isShutdown()) {
+            closed = true;
             try {
                 executor.shutdown();
                 if (!executor.awaitTermination(1000L, TimeUnit.MILLISECONDS)) {
                     executor.shutdownNow();
+                    // Wait for the interrupted loop to stop, so it does not
+                    // touch the queue or writer after they are closed.
+                    Thread thread = loopThread;
+                    if (thread != null && thread != Thread.currentThread()) {
+                        thread.join();
+                    }
                 }
             } catch (InterruptedException e) {
                 LOGGER.error("Interrupted while stopping writer loop thread", e);
                 throw new RuntimeException(e.getMessage(), e);
             } finally {
-                try {
-                    while (messageQueue.size() > 0) {
-                        writer.write(messageQueue.poll());
-                        writer.separator();
+                synchronized (writeLock) {
+                    drained = true;
+                    queue.drainTo(pending);
+                    int numFailed = 0;
+                    IOException lastError = null;
+                    while (!pending.isEmpty()) {
+                        try {
+                            writeEntry(pending.poll());
+                        } catch (IOException e) {
+                            ++numFailed;
+                            lastError = e;
+                        }
                     }
-                    while (callQueue.size() > 0) {
-                        writer.write(callQueue.poll());
-                        writer.separator();
+                    if (lastError != null) {
+                        LOGGER.error("Unable to write {} messages on close", numFailed, lastError);
                     }
-                } catch (IOException e) {
-                    LOGGER.error("Unable to write messages on close", e);
                 }
                 writer.close();
             }
         }
     }
 
-    @SuppressWarnings("unchecked")
+    private int enqueue(Entry entry) throws IOException {
+        if (closed) {
+            dropped.increment();
+            return 0;
+        }
+        switch (overflowPolicy) {
+            case BLOCK:
+                try {
+                    // Wait in steps, so a close while waiting fails the write
+                    // instead of blocking forever on a queue no one reads.
+                    do {
+                        if (closed) {
+                            dropped.increment();
+                            throw new IOException("Writer closed while waiting for queue");
+                        }
+                    } while (!queue.offer(entry, POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS));
+                    if (closed && queue.remove(entry)) {
+                        // Got room from the queue being drained on close, so
+                        // the entry would never be written.
+                        dropped.increment();
+                        throw new IOException("Writer closed while waiting for queue");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for queue");
+                }
+                break;
+            case DROP_OLDEST:
+                while (!queue.offer(entry)) {
+                    if (queue.poll() != null) {
+                        dropped.increment();
+                    }
+                }
+                break;
+            default:
+                if (!queue.offer(entry)) {
+                    dropped.increment();
+                    return 0;
+                }
+                break;
+        }
+        enqueued.increment();
+        return 1;
+    }
+
     private void writeLoop() {
+        loopThread = Thread.currentThread();
         try {
             long failDelay = 137L;
-            while (!executor.isShutdown()) {
+            while (!closed && !executor.isShutdown()) {
                 try {
-                    while (messageQueue.size() > 0) {
-                        writer.write(messageQueue.poll());
-                        failDelay = 137L;
+                    synchronized (writeLock) {
+                        if (drained) {
+                            return;
+                        }
+                        if (pending.size() < batchSize) {
+                            queue.drainTo(pending, batchSize - pending.size());
+                        }
+                        if (!pending.isEmpty()) {
+                            writeBatch();
+                            failDelay = 137L;
+                            continue;
+                        }
                     }
-                    while (callQueue.size() > 0) {
-                        writer.write(callQueue.poll());
-                        failDelay = 137L;
+                    // Wait for more messages outside the lock, so close is
+                    // not blocked by it.
+                    if (closed) {
+                        // Leave the rest of the queue to close.
+                        return;
+                    }
+                    Entry next = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                    if (next != null) {
+                        synchronized (writeLock) {
+                            if (drained) {
+                                // Close has already written what was pending.
+                                dropped.increment();
+                                return;
+                            }
+                            pending.add(next);
+                        }
                     }
-                    sleep(3L);  // 3ms should be enough to do actual work.
-                    // This is a very tight loop, so should be expensive to
-                    // to have a short sleep time.
                 } catch (IOException e) {
                     if (failDelay >= 10_000) {
                         LOGGER.error("Unable to write message, sleeping {}s",
@@ -202,6 +410,41 @@ public class QueuedMessageWriter implements MessageWriter {
         } catch (InterruptedException ignore) {
             // thread is interrupted, just stop. Not tested.
             Thread.currentThread().interrupt();
+        } finally {
+            loopThread = null;
+        }
+    }
+
+    /**
+     * Write the pending batch, and flush the writer. If a write fails, the
+     * failed entry is dropped, and the rest of the batch is kept for the
+     * next attempt.
+     *
+     * @throws IOException If a write failed.
+     */
+    private void writeBatch() throws IOException {
+        while (!pending.isEmpty()) {
+            writeEntry(pending.poll());
+        }
+        writer.flush();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeEntry(Entry entry) throws IOException {
+        long latency = System.nanoTime() - entry.enqueuedNanos;
+        queueLatencyNanos.add(latency);
+        maxQueueLatencyNanos.accumulateAndGet(latency, Math::max);
+        try {
+            if (entry.message != null) {
+                writer.write(entry.message);
+            } else {
+                writer.write(entry.call);
+            }
+            writer.separator();
+            written.increment();
+        } catch (IOException e) {
+            failed.increment();
+            throw e;
         }
     }
 
@@ -209,4 +452,16 @@ public class QueuedMessageWriter implements MessageWriter {
     protected void sleep(long ms) throws InterruptedException {
         Thread.sleep(ms);
     }
+
+    private static final class Entry {
+        private final PMessage     message;
+        private final PServiceCall call;
+        private final long         enqueuedNanos;
+
+        private Entry(PMessage message, PServiceCall call) {
+            this.message = message;
+            this.call = call;
+            this.enqueuedNanos = System.nanoTime();
+        }
+    }
 }
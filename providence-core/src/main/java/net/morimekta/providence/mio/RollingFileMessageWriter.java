@@ -35,6 +35,7 @@ import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -45,10 +46,11 @@ import java.util.stream.Collectors;
  * assigned a cleanup policy. Note that the cleanup policy will only be
  * triggered when the rolling policy triggers a file update.
  * <p>
- * Also note that the RollingFileMessageWriter is NOT thread safe. So
- * if you need to write to the message writer from multiple threads, you
- * will either have to synchronize the calls yourself, or use the
- * {@link QueuedMessageWriter}.
+ * The writes, rolling and {@link #commit()} are synchronized on the
+ * writer, so a commit from another thread always sees the current file.
+ * If many threads write to the message writer, it is still recommended
+ * to use the {@link QueuedMessageWriter}, so they do not wait on the file
+ * IO.
  */
 public class RollingFileMessageWriter implements MessageWriter {
     /**
@@ -80,12 +82,58 @@ public class RollingFileMessageWriter implements MessageWriter {
                                     @Nonnull String currentName,
                                     @Nonnull RollingPolicy rollingPolicy,
                                     @Nullable CleanupPolicy cleanupPolicy) {
+        this(directory, serializer, currentName, rollingPolicy, cleanupPolicy, null);
+    }
+
+    /**
+     * Create a rolling file message writer with group commit of the written
+     * content. Pending commits are completed when the file is rolled.
+     *
+     * @param directory The directory to place the message files into.
+     * @param serializer The message serializer to use.
+     * @param currentName The name of the current file symbolic link.
+     * @param rollingPolicy The rolling policy.
+     * @param cleanupPolicy Optional cleanup policy.
+     * @param commitPolicy Optional group commit policy.
+     */
+    public RollingFileMessageWriter(@Nonnull File directory,
+                                    @Nonnull Serializer serializer,
+                                    @Nonnull String currentName,
+                                    @Nonnull RollingPolicy rollingPolicy,
+                                    @Nullable CleanupPolicy cleanupPolicy,
+                                    @Nullable GroupCommitPolicy commitPolicy) {
+        this(directory, serializer, currentName, rollingPolicy, cleanupPolicy, commitPolicy, null);
+    }
+
+    /**
+     * Create a rolling file message writer with optional group commit and
+     * block compression. See {@link FileMessageWriter} for details on the
+     * policies. Each rolled file is written with its own compressed blocks,
+     * and can be read with the {@link BlockCompressedMessageReader}.
+     *
+     * @param directory The directory to place the message files into.
+     * @param serializer The message serializer to use.
+     * @param currentName The name of the current file symbolic link.
+     * @param rollingPolicy The rolling policy.
+     * @param cleanupPolicy Optional cleanup policy.
+     * @param commitPolicy Optional group commit policy.
+     * @param blockPolicy Optional block compression policy.
+     */
+    public RollingFileMessageWriter(@Nonnull File directory,
+                                    @Nonnull Serializer serializer,
+                                    @Nonnull String currentName,
+                                    @Nonnull RollingPolicy rollingPolicy,
+                                    @Nullable CleanupPolicy cleanupPolicy,
+                                    @Nullable GroupCommitPolicy commitPolicy,
+                                    @Nullable BlockCompressionPolicy blockPolicy) {
         try {
             this.directory = directory.getCanonicalFile().getAbsoluteFile();
             this.serializer = serializer;
             this.currentName = currentName;
             this.rollingPolicy = rollingPolicy;
             this.cleanupPolicy = cleanupPolicy;
+            this.commitPolicy = commitPolicy;
+            this.blockPolicy = blockPolicy;
 
             Files.createDirectories(directory.toPath());
         } catch (IOException e) {
@@ -138,7 +186,7 @@ public class RollingFileMessageWriter implements MessageWriter {
     }
 
     @Override
-    public <Message extends PMessage<Message, Field>, Field extends PField> int write(Message message)
+    public synchronized <Message extends PMessage<Message, Field>, Field extends PField> int write(Message message)
             throws IOException {
         FileMessageWriter writer = getWriter();
         int i = writer.write(message);
@@ -147,7 +195,7 @@ public class RollingFileMessageWriter implements MessageWriter {
     }
 
     @Override
-    public <Message extends PMessage<Message, Field>, Field extends PField> int write(PServiceCall<Message, Field> call)
+    public synchronized <Message extends PMessage<Message, Field>, Field extends PField> int write(PServiceCall<Message, Field> call)
             throws IOException {
         FileMessageWriter writer = getWriter();
         int i = writer.write(call);
@@ -160,8 +208,29 @@ public class RollingFileMessageWriter implements MessageWriter {
         return 0;
     }
 
+    /**
+     * Get a future that completes when all content written so far has been
+     * synced to disk. See {@link FileMessageWriter#commit()}.
+     *
+     * @return The commit future.
+     */
+    @Nonnull
+    public synchronized CompletableFuture<Void> commit() {
+        if (currentWriter == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return currentWriter.commit();
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        if (currentWriter != null) {
+            currentWriter.flush();
+        }
+    }
+
     @Override
-    public void close() throws IOException {
+    public synchronized void close() throws IOException {
         if (currentWriter != null) {
             try {
                 currentWriter.close();
@@ -171,14 +240,16 @@ public class RollingFileMessageWriter implements MessageWriter {
         }
     }
 
-    private final Serializer        serializer;
-    private final File              directory;
-    private final String            currentName;
-    private final RollingPolicy     rollingPolicy;
-    private final CleanupPolicy     cleanupPolicy;
-    private       File              currentFile;
-    private       FileMessageWriter currentWriter;
-    private       boolean           shouldDoCleanup;
+    private final Serializer             serializer;
+    private final File                   directory;
+    private final String                 currentName;
+    private final RollingPolicy          rollingPolicy;
+    private final CleanupPolicy          cleanupPolicy;
+    private final GroupCommitPolicy      commitPolicy;
+    private final BlockCompressionPolicy blockPolicy;
+    private       File                   currentFile;
+    private       FileMessageWriter      currentWriter;
+    private       boolean                shouldDoCleanup;
 
     private void updateWriter(String rollToFile) throws IOException {
         if (rollToFile.contains(File.separator)) {
@@ -190,7 +261,7 @@ public class RollingFileMessageWriter implements MessageWriter {
         currentFile = new File(directory, rollToFile);
         Path link = new File(directory, currentName).toPath();
 
-        currentWriter = new FileMessageWriter(currentFile, serializer, true);
+        currentWriter = new FileMessageWriter(currentFile, serializer, true, commitPolicy, blockPolicy);
         currentWriter.getOutputStream();  // triggers creation of the file.
 
         if (!rollToFile.equals(currentName)) {
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.mio;
+
+import net.morimekta.util.io.BigEndianBinaryReader;
+import net.morimekta.util.io.BigEndianBinaryWriter;
+import net.morimekta.util.io.BinaryReader;
+import net.morimekta.util.io.BinaryWriter;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Envelope for sending a batch of service calls, or the matching batch of
+ * replies, in a single frame or request body. Each entry is a service call
+ * serialized on its own with the serializer of the transport, and the
+ * replies are in the same order as the calls. Oneway calls have an empty
+ * reply entry.
+ * <p>
+ * The envelope is a 4 byte magic number <code>"PVBC"</code>, the number
+ * of entries, and for each entry the entry size followed by the serialized
+ * call, all sizes as 4 byte big endian integers. The magic number is not a
+ * valid start of a service call in any of the providence
+ * serializers, so servers can accept both single calls and batches on the
+ * same endpoint.
+ */
+public final class ServiceCallBatch {
+    /** The magic number that starts a batch: "PVBC". */
+    public static final int MAGIC = 0x50564243;
+    /** Max number of calls in a single batch. */
+    public static final int MAX_ENTRIES = 65536;
+    /** Max size of a single serialized call in a batch. */
+    public static final int MAX_ENTRY_SIZE = 16384000;  // 16M.
+
+    /**
+     * Check if the input stream contains a batch, without consuming any
+     * of the content.
+     *
+     * @param in The input stream, must support mark and reset.
+     * @return True if the stream starts with the batch magic number.
+     * @throws IOException If unable to read from the stream.
+     */
+    public static boolean isBatch(@Nonnull InputStream in) throws IOException {
+        if (!in.markSupported()) {
+            throw new IllegalArgumentException("Input stream does not support mark");
+        }
+        in.mark(Integer.BYTES);
+        try {
+            int magic = 0;
+            for (int i = 0; i < Integer.BYTES; ++i) {
+                int b = in.read();
+                if (b < 0) {
+                    return false;
+                }
+                magic = magic << 8 | b;
+            }
+            return magic == MAGIC;
+        } finally {
+            in.reset();
+        }
+    }
+
+    /**
+     * Check if the frame contains a batch, without moving the buffer
+     * position.
+     *
+     * @param frame The frame content.
+     * @return True if the frame starts with the batch magic number.
+     */
+    public static boolean isBatch(@Nonnull ByteBuffer frame) {
+        return frame.remaining() >= Integer.BYTES && frame.getInt(frame.position()) == MAGIC;
+    }
+
+    /**
+     * Get the number of entries in a batch frame, without moving the buffer
+     * position or reading the entries. The number is not validated.
+     *
+     * @param frame The frame content.
+     * @return The number of entries, or -1 if not a batch.
+     */
+    public static int numEntries(@Nonnull ByteBuffer frame) {
+        if (!isBatch(frame) || frame.remaining() < 2 * Integer.BYTES) {
+            return -1;
+        }
+        return frame.getInt(frame.position() + Integer.BYTES);
+    }
+
+    /**
+     * Read a batch envelope.
+     *
+     * @param in The input stream to read from.
+     * @return The serialized entries in the batch.
+     * @throws IOException If unable to read the batch, or not a valid batch.
+     */
+    @Nonnull
+    public static List<byte[]> read(@Nonnull InputStream in) throws IOException {
+        BinaryReader reader = new BigEndianBinaryReader(in);
+        int magic = reader.expectInt();
+        if (magic != MAGIC) {
+            throw new IOException(String.format(Locale.US, "Invalid batch magic: 0x%08x", magic));
+        }
+        int num = reader.expectInt();
+        if (num < 0 || num > MAX_ENTRIES) {
+            throw new IOException("Invalid number of batch entries: " + num);
+        }
+        List<byte[]> entries = new ArrayList<>(num);
+        for (int i = 0; i < num; ++i) {
+            int size = reader.expectInt();
+            if (size < 0 || size > MAX_ENTRY_SIZE) {
+                throw new IOException("Invalid batch entry size: " + size);
+            }
+            entries.add(reader.expectBytes(size));
+        }
+        return entries;
+    }
+
+    /**
+     * Write a batch envelope.
+     *
+     * @param out The output stream to write to.
+     * @param entries The serialized entries to write.
+     * @return The number of bytes written.
+     * @throws IOException If unable to write the batch.
+     */
+    public static int write(@Nonnull OutputStream out, @Nonnull List<byte[]> entries) throws IOException {
+        if (entries.size() > MAX_ENTRIES) {
+            throw new IOException("Too many batch entries: " + entries.size() + " > " + MAX_ENTRIES);
+        }
+        BinaryWriter writer = new BigEndianBinaryWriter(out);
+        int len = writer.writeInt(MAGIC);
+        len += writer.writeInt(entries.size());
+        for (byte[] entry : entries) {
+            len += writer.writeInt(entry.length);
+            writer.write(entry);
+            len += entry.length;
+        }
+        return len;
+    }
+
+    private ServiceCallBatch() {}
+}
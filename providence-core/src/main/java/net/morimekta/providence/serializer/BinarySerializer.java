@@ -29,6 +29,13 @@ import net.morimekta.providence.descriptor.PField;
 import net.morimekta.providence.descriptor.PMessageDescriptor;
 import net.morimekta.providence.descriptor.PService;
 import net.morimekta.providence.descriptor.PServiceMethod;
+import net.morimekta.providence.serializer.binary.BigEndianByteBufferReader;
+import net.morimekta.providence.serializer.binary.BigEndianByteBufferWriter;
+import net.morimekta.providence.serializer.binary.BinaryFormatUtils;
+import net.morimekta.providence.serializer.binary.BinaryFormatUtils.FieldInfo;
+import net.morimekta.providence.serializer.binary.BinaryReaderPool;
+import net.morimekta.providence.serializer.binary.BinaryType;
+import net.morimekta.providence.serializer.binary.BinaryWriterPool;
 import net.morimekta.util.io.BigEndianBinaryReader;
 import net.morimekta.util.io.BigEndianBinaryWriter;
 
@@ -36,10 +43,11 @@ import javax.annotation.Nonnull;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
-import static net.morimekta.providence.serializer.binary.BinaryFormatUtils.readMessage;
-import static net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeMessage;
+import static net.morimekta.providence.serializer.binary.BinaryFormatUtils.readFieldValue;
+import static net.morimekta.providence.serializer.binary.BinaryType.forType;
 
 /**
  * Compact binary serializer. This usesd a format that is as close the the default
@@ -57,8 +65,15 @@ public class BinarySerializer extends Serializer {
     // 255 byte (ASCII char) length for a method name is exceptionally long.
     private static final int MAX_METHOD_NAME_LEN = 255;
 
+    private static final BinaryWriterPool<BigEndianBinaryWriter> WRITER_POOL =
+            new BinaryWriterPool<>(BigEndianByteBufferWriter::new, BigEndianBinaryWriter::new);
+    private static final BinaryReaderPool<BigEndianBinaryReader> READER_POOL =
+            new BinaryReaderPool<>(BigEndianBinaryReader::new);
+
     private final boolean strict;
     private final boolean versioned;
+    private final boolean pooled;
+    private final boolean compiled;
 
     /**
      * Construct a serializer instance.
@@ -84,8 +99,39 @@ public class BinarySerializer extends Serializer {
      * @param versioned If the serializer should use the versioned service call format.
      */
     public BinarySerializer(boolean readStrict, boolean versioned) {
+        this(readStrict, versioned, false, false);
+    }
+
+    /**
+     * Get a serializer with the same settings that reuses per-thread binary
+     * writers, readers and scratch buffers when serializing to and from
+     * streams. Each message is first serialized into the scratch buffer and
+     * then written to the output stream in one write call.
+     *
+     * @return The pooled serializer.
+     */
+    public BinarySerializer pooled() {
+        return new BinarySerializer(strict, versioned, true, compiled);
+    }
+
+    /**
+     * Get a serializer with the same settings that reads and writes messages
+     * using a field layout resolved once per message type and cached, see
+     * {@link net.morimekta.providence.serializer.binary.MessageLayout}. This
+     * helps for messages generated without binary read and write code, and
+     * messages that do not have their own generated code.
+     *
+     * @return The compiled serializer.
+     */
+    public BinarySerializer compiled() {
+        return new BinarySerializer(strict, versioned, pooled, true);
+    }
+
+    private BinarySerializer(boolean readStrict, boolean versioned, boolean pooled, boolean compiled) {
         this.strict = readStrict;
         this.versioned = versioned;
+        this.pooled = pooled;
+        this.compiled = compiled;
     }
 
     @Override
@@ -102,6 +148,9 @@ public class BinarySerializer extends Serializer {
     @Override
     public <Message extends PMessage<Message, Field>, Field extends PField>
     int serialize(@Nonnull OutputStream os, @Nonnull Message message) throws IOException {
+        if (pooled) {
+            return WRITER_POOL.write(os, writer -> writeMessage(writer, message));
+        }
         BigEndianBinaryWriter writer = new BigEndianBinaryWriter(os);
         return writeMessage(writer, message);
     }
@@ -110,7 +159,141 @@ public class BinarySerializer extends Serializer {
     public <Message extends PMessage<Message, Field>, Field extends PField>
     int serialize(@Nonnull OutputStream os, @Nonnull PServiceCall<Message, Field> call)
             throws IOException {
-        BigEndianBinaryWriter out = new BigEndianBinaryWriter(os);
+        if (pooled) {
+            return WRITER_POOL.write(os, writer -> writeServiceCall(writer, call));
+        }
+        return writeServiceCall(new BigEndianBinaryWriter(os), call);
+    }
+
+    @Override
+    public <Message extends PMessage<Message, Field>, Field extends PField>
+    int serialize(@Nonnull ByteBuffer output, @Nonnull Message message) throws IOException {
+        return writeMessage(new BigEndianByteBufferWriter(output), message);
+    }
+
+    @Override
+    public <Message extends PMessage<Message, Field>, Field extends PField>
+    int serialize(@Nonnull ByteBuffer output, @Nonnull PServiceCall<Message, Field> call)
+            throws IOException {
+        return writeServiceCall(new BigEndianByteBufferWriter(output), call);
+    }
+
+    @Nonnull
+    @Override
+    public <Message extends PMessage<Message, Field>, Field extends PField>
+    Message deserialize(@Nonnull InputStream input, @Nonnull PMessageDescriptor<Message, Field> descriptor)
+            throws IOException {
+        if (pooled) {
+            return READER_POOL.read(input, reader -> readMessage(reader, descriptor, strict));
+        }
+        BigEndianBinaryReader reader = new BigEndianBinaryReader(input);
+        return readMessage(reader, descriptor, strict);
+    }
+
+    @Nonnull
+    @Override
+    public <Message extends PMessage<Message, Field>, Field extends PField>
+    PServiceCall<Message, Field> deserialize(@Nonnull InputStream is, @Nonnull PService service)
+            throws IOException {
+        if (pooled) {
+            return READER_POOL.read(is, reader -> readServiceCall(reader, service));
+        }
+        return readServiceCall(new BigEndianBinaryReader(is), service);
+    }
+
+    @Nonnull
+    @Override
+    public <Message extends PMessage<Message, Field>, Field extends PField>
+    Message deserialize(@Nonnull ByteBuffer input, @Nonnull PMessageDescriptor<Message, Field> descriptor)
+            throws IOException {
+        return readMessage(new BigEndianByteBufferReader(input), descriptor, strict);
+    }
+
+    @Nonnull
+    @Override
+    public <Message extends PMessage<Message, Field>, Field extends PField>
+    PServiceCall<Message, Field> deserialize(@Nonnull ByteBuffer input, @Nonnull PService service)
+            throws IOException {
+        return readServiceCall(new BigEndianByteBufferReader(input), service);
+    }
+
+    /**
+     * Read a message from the buffer without decoding the field values. Only
+     * the top level field headers are read and checked against the field
+     * types, and each field value is decoded when first accessed on the
+     * returned message. Nested messages and containers are skipped over, so
+     * errors in those, including missing required fields in nested messages
+     * when reading strict, are only reported when the field is decoded. The
+     * buffer position is moved to the end of the message.
+     *
+     * @param input The buffer to read from.
+     * @param descriptor The message descriptor.
+     * @param <Message> The message type.
+     * @param <Field> The message field type.
+     * @return The lazily decoded message.
+     * @throws IOException If unable to read the message field headers.
+     */
+    @Nonnull
+    public <Message extends PMessage<Message, Field>, Field extends PField>
+    LazyBinaryMessage<Message, Field> deserializeLazy(@Nonnull ByteBuffer input,
+                                                      @Nonnull PMessageDescriptor<Message, Field> descriptor)
+            throws IOException {
+        final int start = input.position();
+        BigEndianByteBufferReader in = new BigEndianByteBufferReader(input);
+        LazyBinaryMessage.Index index = new LazyBinaryMessage.Index();
+
+        byte type;
+        while ((type = in.expectByte()) != BinaryType.STOP) {
+            FieldInfo fieldInfo = new FieldInfo(in.expectShort(), type);
+            Field field = descriptor.findFieldById(fieldInfo.getId());
+            if (field != null) {
+                if (forType(field.getDescriptor().getType()) != type) {
+                    throw new SerializerException("Wrong field type for id=%d: expected %s, got %s",
+                                                  field.getId(),
+                                                  BinaryType.asString(forType(field.getDescriptor().getType())),
+                                                  BinaryType.asString(type));
+                }
+                index.add(field.getId(), type, input.position() - start);
+            }
+            readFieldValue(in, fieldInfo, null, false);
+        }
+        if (strict) {
+            index.validate(descriptor);
+        }
+
+        byte[] data = new byte[input.position() - start];
+        ByteBuffer source = input.duplicate();
+        source.position(start);
+        source.get(data);
+
+        return new LazyBinaryMessage<>(descriptor, this, (buffer, fieldType, field) -> readFieldValue(
+                new BigEndianByteBufferReader(buffer),
+                new FieldInfo(field.getId(), (byte) fieldType),
+                field.getDescriptor(),
+                strict), data, index);
+    }
+
+    private <Message extends PMessage<Message, Field>, Field extends PField>
+    int writeMessage(BigEndianBinaryWriter writer, Message message) throws IOException {
+        if (compiled) {
+            return BinaryFormatUtils.writeCompiledMessage(writer, message);
+        }
+        return BinaryFormatUtils.writeMessage(writer, message);
+    }
+
+    private <Message extends PMessage<Message, Field>, Field extends PField>
+    Message readMessage(BigEndianBinaryReader reader,
+                        PMessageDescriptor<Message, Field> descriptor,
+                        boolean strict) throws IOException {
+        if (compiled) {
+            return BinaryFormatUtils.readCompiledMessage(reader, descriptor, strict);
+        }
+        return BinaryFormatUtils.readMessage(reader, descriptor, strict);
+    }
+
+    private <Message extends PMessage<Message, Field>, Field extends PField>
+    int writeServiceCall(@Nonnull BigEndianBinaryWriter out, @Nonnull PServiceCall<Message, Field> call)
+            throws IOException {
         byte[] method = call.getMethod().getBytes(UTF_8);
 
         int len = method.length;
@@ -129,21 +312,10 @@ public class BinarySerializer extends Serializer {
     }
 
     @Nonnull
-    @Override
-    public <Message extends PMessage<Message, Field>, Field extends PField>
-    Message deserialize(@Nonnull InputStream input, @Nonnull PMessageDescriptor<Message, Field> descriptor)
-            throws IOException {
-        BigEndianBinaryReader reader = new BigEndianBinaryReader(input);
-        return readMessage(reader, descriptor, strict);
-    }
-
-    @Nonnull
-    @Override
     @SuppressWarnings("unchecked")
-    public <Message extends PMessage<Message, Field>, Field extends PField>
-    PServiceCall<Message, Field> deserialize(@Nonnull InputStream is, @Nonnull PService service)
+    private <Message extends PMessage<Message, Field>, Field extends PField>
+    PServiceCall<Message, Field> readServiceCall(@Nonnull BigEndianBinaryReader in, @Nonnull PService service)
             throws IOException {
-        BigEndianBinaryReader in = new BigEndianBinaryReader(is);
         String methodName = null;
         int sequence = 0;
         PServiceCallType type = null;
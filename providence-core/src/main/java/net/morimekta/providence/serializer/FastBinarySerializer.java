@@ -40,6 +40,12 @@ import net.morimekta.providence.descriptor.PMessageDescriptor;
 import net.morimekta.providence.descriptor.PService;
 import net.morimekta.providence.descriptor.PServiceMethod;
 import net.morimekta.providence.descriptor.PSet;
+import net.morimekta.providence.serializer.binary.BinaryReaderPool;
+import net.morimekta.providence.serializer.binary.BinaryWriterPool;
+import net.morimekta.providence.serializer.binary.LittleEndianByteBufferReader;
+import net.morimekta.providence.serializer.binary.LittleEndianByteBufferWriter;
+import net.morimekta.providence.serializer.binary.MessageLayout;
+import net.morimekta.providence.serializer.binary.Utf8;
 import net.morimekta.util.Binary;
 import net.morimekta.util.io.LittleEndianBinaryReader;
 import net.morimekta.util.io.LittleEndianBinaryWriter;
@@ -51,6 +57,7 @@ import javax.annotation.Nullable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Map;
@@ -68,7 +75,14 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 public class FastBinarySerializer extends Serializer {
     public static final String MEDIA_TYPE = "application/vnd.morimekta.providence.binary";
 
+    private static final BinaryWriterPool<LittleEndianBinaryWriter> WRITER_POOL =
+            new BinaryWriterPool<>(LittleEndianByteBufferWriter::new, LittleEndianBinaryWriter::new);
+    private static final BinaryReaderPool<LittleEndianBinaryReader> READER_POOL =
+            new BinaryReaderPool<>(LittleEndianBinaryReader::new);
+
     private final boolean readStrict;
+    private final boolean pooled;
+    private final boolean compiled;
 
     /**
      * Construct a serializer instance.
@@ -83,12 +97,45 @@ public class FastBinarySerializer extends Serializer {
      * @param readStrict If serializer should fail on unknown input data.
      */
     public FastBinarySerializer(boolean readStrict) {
+        this(readStrict, false, false);
+    }
+
+    /**
+     * Get a serializer with the same settings that reuses per-thread binary
+     * writers, readers and scratch buffers when serializing to and from
+     * streams. Each message is first serialized into the scratch buffer and
+     * then written to the output stream in one write call.
+     *
+     * @return The pooled serializer.
+     */
+    public FastBinarySerializer pooled() {
+        return new FastBinarySerializer(readStrict, true, compiled);
+    }
+
+    /**
+     * Get a serializer with the same settings that reads and writes messages
+     * using a field layout resolved once per message type and cached, see
+     * {@link MessageLayout}. This helps for messages that do not have their
+     * own generated code.
+     *
+     * @return The compiled serializer.
+     */
+    public FastBinarySerializer compiled() {
+        return new FastBinarySerializer(readStrict, pooled, true);
+    }
+
+    private FastBinarySerializer(boolean readStrict, boolean pooled, boolean compiled) {
         this.readStrict = readStrict;
+        this.pooled = pooled;
+        this.compiled = compiled;
     }
 
     @Override
     public <Message extends PMessage<Message, Field>, Field extends PField>
     int serialize(@Nonnull OutputStream os, @Nonnull Message message) throws IOException {
+        if (pooled) {
+            return WRITER_POOL.write(os, out -> writeMessage(out, message));
+        }
         LittleEndianBinaryWriter out = new LittleEndianBinaryWriter(os);
         return writeMessage(out, message);
     }
@@ -97,14 +144,23 @@ public class FastBinarySerializer extends Serializer {
     public <Message extends PMessage<Message, Field>, Field extends PField>
     int serialize(@Nonnull OutputStream os, @Nonnull PServiceCall<Message, Field> call)
             throws IOException {
-        LittleEndianBinaryWriter out = new LittleEndianBinaryWriter(os);
-        byte[] method = call.getMethod().getBytes(UTF_8);
-        int len = out.writeVarint(method.length << 3 | call.getType().asInteger());
-        len += method.length;
-        out.write(method);
-        len += out.writeVarint(call.getSequence());
-        len += writeMessage(out, call.getMessage());
-        return len;
+        if (pooled) {
+            return WRITER_POOL.write(os, out -> writeServiceCall(out, call));
+        }
+        return writeServiceCall(new LittleEndianBinaryWriter(os), call);
+    }
+
+    @Override
+    public <Message extends PMessage<Message, Field>, Field extends PField>
+    int serialize(@Nonnull ByteBuffer output, @Nonnull Message message) throws IOException {
+        return writeMessage(new LittleEndianByteBufferWriter(output), message);
+    }
+
+    @Override
+    public <Message extends PMessage<Message, Field>, Field extends PField>
+    int serialize(@Nonnull ByteBuffer output, @Nonnull PServiceCall<Message, Field> call)
+            throws IOException {
+        return writeServiceCall(new LittleEndianByteBufferWriter(output), call);
     }
 
     @Nonnull
@@ -113,21 +169,122 @@ public class FastBinarySerializer extends Serializer {
     Message deserialize(@Nonnull InputStream is,
                         @Nonnull PMessageDescriptor<Message, Field> descriptor)
             throws IOException {
+        if (pooled) {
+            return READER_POOL.read(is, in -> readMessage(in, descriptor));
+        }
         LittleEndianBinaryReader in = new LittleEndianBinaryReader(is);
         return readMessage(in, descriptor);
     }
 
     @Nonnull
     @Override
-    @SuppressWarnings("unchecked")
     public <Message extends PMessage<Message, Field>, Field extends PField>
     PServiceCall<Message, Field> deserialize(@Nonnull InputStream is, @Nonnull PService service)
             throws SerializerException {
+        if (pooled) {
+            try {
+                return READER_POOL.read(is, in -> readServiceCall(in, service));
+            } catch (SerializerException e) {
+                throw e;
+            } catch (IOException e) {
+                throw new SerializerException(e, e.getMessage());
+            }
+        }
+        return readServiceCall(new LittleEndianBinaryReader(is), service);
+    }
+
+    @Nonnull
+    @Override
+    public <Message extends PMessage<Message, Field>, Field extends PField>
+    Message deserialize(@Nonnull ByteBuffer input,
+                        @Nonnull PMessageDescriptor<Message, Field> descriptor)
+            throws IOException {
+        return readMessage(new LittleEndianByteBufferReader(input), descriptor);
+    }
+
+    @Nonnull
+    @Override
+    public <Message extends PMessage<Message, Field>, Field extends PField>
+    PServiceCall<Message, Field> deserialize(@Nonnull ByteBuffer input, @Nonnull PService service)
+            throws SerializerException {
+        return readServiceCall(new LittleEndianByteBufferReader(input), service);
+    }
+
+    /**
+     * Read a message from the buffer without decoding the field values. Only
+     * the top level field tags are read and checked against the field types,
+     * and each field value is decoded when first accessed on the returned
+     * message. Nested messages and containers are skipped over, so errors
+     * in those, including missing required fields in nested messages when
+     * reading strict, are only reported when the field is decoded. The
+     * buffer position is moved to the end of the message.
+     *
+     * @param input The buffer to read from.
+     * @param descriptor The message descriptor.
+     * @param <Message> The message type.
+     * @param <Field> The message field type.
+     * @return The lazily decoded message.
+     * @throws IOException If unable to read the message field tags.
+     */
+    @Nonnull
+    public <Message extends PMessage<Message, Field>, Field extends PField>
+    LazyBinaryMessage<Message, Field> deserializeLazy(@Nonnull ByteBuffer input,
+                                                      @Nonnull PMessageDescriptor<Message, Field> descriptor)
+            throws IOException {
+        final int start = input.position();
+        LittleEndianByteBufferReader in = new LittleEndianByteBufferReader(input);
+        LazyBinaryMessage.Index index = new LazyBinaryMessage.Index();
+
+        int tag;
+        while ((tag = in.readIntVarint()) != STOP) {
+            int id = tag >>> 3;
+            int type = tag & 0x07;
+            Field field = descriptor.findFieldById(id);
+            if (field != null) {
+                if (!isFieldType(field.getDescriptor(), type)) {
+                    throw new SerializerException("Wrong field type for id=%d: expected %s, got %s",
+                                                  id,
+                                                  typeName(fieldType(field.getDescriptor())),
+                                                  typeName(type));
+                }
+                index.add(id, type, input.position() - start);
+            }
+            readFieldValue(in, type, null);
+        }
+        if (readStrict) {
+            index.validate(descriptor);
+        }
+
+        byte[] data = new byte[input.position() - start];
+        ByteBuffer source = input.duplicate();
+        source.position(start);
+        source.get(data);
+
+        return new LazyBinaryMessage<>(descriptor, this, (buffer, type, field) -> readFieldValue(
+                new LittleEndianByteBufferReader(buffer), type, field.getDescriptor()), data, index);
+    }
+
+    private <Message extends PMessage<Message, Field>, Field extends PField>
+    int writeServiceCall(@Nonnull LittleEndianBinaryWriter out, @Nonnull PServiceCall<Message, Field> call)
+            throws IOException {
+        byte[] method = call.getMethod().getBytes(UTF_8);
+        int len = out.writeVarint(method.length << 3 | call.getType().asInteger());
+        len += method.length;
+        out.write(method);
+        len += out.writeVarint(call.getSequence());
+        len += writeMessage(out, call.getMessage());
+        return len;
+    }
+
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    private <Message extends PMessage<Message, Field>, Field extends PField>
+    PServiceCall<Message, Field> readServiceCall(@Nonnull LittleEndianBinaryReader in, @Nonnull PService service)
+            throws SerializerException {
         String methodName = null;
         int sequence = 0;
         PServiceCallType type = null;
         try {
-            LittleEndianBinaryReader in = new LittleEndianBinaryReader(is);
             // Max method name length: 255 chars.
             int tag = in.readIntVarint();
             int len = tag >>> 3;
@@ -199,6 +356,14 @@ public class FastBinarySerializer extends Serializer {
                 PField field = ((PUnion) message).unionField();
                 len += writeFieldValue(out, field.getId(), field.getDescriptor(), message.get(field.getId()));
             }
+        } else if (compiled) {
+            MessageLayout layout = MessageLayout.forType(message.descriptor());
+            for (int index = 0; index < layout.size(); ++index) {
+                int id = layout.id(index);
+                if (message.has(id)) {
+                    len += writeFieldValue(out, id, layout.descriptor(index), message.get(id));
+                }
+            }
         } else {
             for (PField field : message.descriptor()
                                           .getFields()) {
@@ -226,15 +391,29 @@ public class FastBinarySerializer extends Serializer {
             throws IOException {
         int tag;
         PMessageBuilder<Message, Field> builder = descriptor.builder();
-        while ((tag = in.readIntVarint()) != STOP) {
-            int id = tag >>> 3;
-            int type = tag & 0x07;
-            Field field = descriptor.findFieldById(id);
-            if (field != null) {
-                Object value = readFieldValue(in, type, field.getDescriptor());
-                builder.set(field.getId(), value);
-            } else {
-                readFieldValue(in, type, null);
+        if (compiled) {
+            MessageLayout layout = MessageLayout.forType(descriptor);
+            while ((tag = in.readIntVarint()) != STOP) {
+                int id = tag >>> 3;
+                int type = tag & 0x07;
+                int index = layout.indexOf(id);
+                if (index >= 0) {
+                    builder.set(id, readFieldValue(in, type, layout.descriptor(index)));
+                } else {
+                    readFieldValue(in, type, null);
+                }
+            }
+        } else {
+            while ((tag = in.readIntVarint()) != STOP) {
+                int id = tag >>> 3;
+                int type = tag & 0x07;
+                Field field = descriptor.findFieldById(id);
+                if (field != null) {
+                    Object value = readFieldValue(in, type, field.getDescriptor());
+                    builder.set(field.getId(), value);
+                } else {
+                    readFieldValue(in, type, null);
+                }
             }
         }
 
@@ -282,11 +461,8 @@ public class FastBinarySerializer extends Serializer {
                 return len + out.writeDouble((Double) value);
             }
             case STRING: {
-                byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
                 int len = out.writeVarint(key << 3 | BINARY);
-                len += out.writeVarint(bytes.length);
-                out.write(bytes);
-                return len + bytes.length;
+                return len + writeString(out, (String) value);
             }
             case BINARY: {
                 Binary bytes = (Binary) value;
@@ -335,10 +511,7 @@ public class FastBinarySerializer extends Serializer {
             }
             case BINARY: {
                 if (value instanceof CharSequence) {
-                    byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
-                    int len = out.writeVarint(bytes.length);
-                    out.write(bytes);
-                    return len + bytes.length;
+                    return writeString(out, (CharSequence) value);
                 } else if (value instanceof Binary) {
                     Binary bytes = (Binary) value;
                     int len = out.writeVarint(bytes.length());
@@ -522,6 +695,51 @@ public class FastBinarySerializer extends Serializer {
         }
     }
 
+    private static int writeString(LittleEndianBinaryWriter out, CharSequence value) throws IOException {
+        int len = Utf8.encodedLength(value);
+        return out.writeVarint(len) + Utf8.write(out, value, len);
+    }
+
+    private static boolean isFieldType(PDescriptor descriptor, int type) {
+        switch (descriptor.getType()) {
+            case VOID:
+            case BOOL:
+                return type == NONE || type == TRUE;
+            default:
+                return type == itemType(descriptor);
+        }
+    }
+
+    private static int fieldType(PDescriptor descriptor) {
+        switch (descriptor.getType()) {
+            case VOID:
+            case BOOL:
+                return TRUE;
+            default:
+                return itemType(descriptor);
+        }
+    }
+
+    private static String typeName(int type) {
+        switch (type) {
+            case NONE:
+            case TRUE:
+                return "bool";
+            case VARINT:
+                return "varint";
+            case FIXED_64:
+                return "fixed64";
+            case BINARY:
+                return "binary";
+            case MESSAGE:
+                return "message";
+            case COLLECTION:
+                return "collection";
+            default:
+                return "unknown(" + type + ")";
+        }
+    }
+
     private static int itemType(PDescriptor descriptor) {
         switch (descriptor.getType()) {
             case BOOL:
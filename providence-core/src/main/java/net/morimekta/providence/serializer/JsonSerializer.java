@@ -41,6 +41,9 @@ import net.morimekta.providence.descriptor.PServiceMethod;
 import net.morimekta.providence.descriptor.PSet;
 import net.morimekta.providence.serializer.json.JsonCompactible;
 import net.morimekta.providence.serializer.json.JsonCompactibleDescriptor;
+import net.morimekta.providence.serializer.json.JsonFormat;
+import net.morimekta.providence.serializer.json.JsonMessageReader;
+import net.morimekta.providence.serializer.json.JsonMessageWriter;
 import net.morimekta.util.Binary;
 import net.morimekta.util.Strings;
 import net.morimekta.util.io.CountingOutputStream;
@@ -60,10 +63,15 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
 
@@ -183,6 +191,40 @@ public class JsonSerializer extends Serializer {
         }
     }
 
+    /**
+     * Read a JSON array of messages as a stream. The messages are read
+     * lazily as the stream is consumed, so only one message at a time is
+     * held in memory. The array start is read before returning, and any
+     * failure to read the rest of the array is thrown as an
+     * {@link UncheckedIOException} from the stream. The input stream is
+     * not closed.
+     *
+     * @param input The input stream to read from.
+     * @param type  The descriptor of the messages in the array.
+     * @param <T>   The message type.
+     * @param <F>   The message field type.
+     * @return The stream of messages.
+     * @throws IOException If unable to read the array start.
+     */
+    @Nonnull
+    public <T extends PMessage<T, F>, F extends PField> Stream<T> deserializeArray(
+            @Nonnull InputStream input, @Nonnull PMessageDescriptor<T, F> type) throws IOException {
+        JsonTokenizer tokenizer = new JsonTokenizer(input, prettyPrint ? PRETTY_READ_BUFFER_SIZE : DEFAULT_READ_BUFFER_SIZE);
+        try {
+            if (!tokenizer.hasNext()) {
+                throw new SerializerException("Empty json body");
+            }
+            tokenizer.expectSymbol("array start", JsonToken.kListStart);
+            boolean empty = tokenizer.peek("array end or value").isSymbol(JsonToken.kListEnd);
+            if (empty) {
+                tokenizer.next();
+            }
+            return StreamSupport.stream(new ArraySpliterator<>(tokenizer, type, empty), false);
+        } catch (JsonException e) {
+            throw new JsonSerializerException(e);
+        }
+    }
+
     @Nonnull
     @Override
     public <T extends PMessage<T, F>, F extends PField> PServiceCall<T, F> deserialize(@Nonnull InputStream input, @Nonnull
@@ -214,6 +256,7 @@ public class JsonSerializer extends Serializer {
         this.prettyPrint = prettyPrint;
         this.fieldIdType = fieldIdType;
         this.enumValueType = enumValueType;
+        this.format = new Format();
     }
 
     private enum IdType {
@@ -230,6 +273,104 @@ public class JsonSerializer extends Serializer {
     private final IdType  fieldIdType;
     private final IdType  enumValueType;
     private final boolean prettyPrint;
+    private final Format  format;
+
+    /**
+     * The format given to messages and builders that handle JSON
+     * themselves, so they write and read the same JSON as the serializer.
+     */
+    private class Format implements JsonFormat {
+        @Override
+        public boolean namedFields() {
+            return fieldIdType == IdType.NAME;
+        }
+
+        @Override
+        public boolean namedEnums() {
+            return enumValueType == IdType.NAME;
+        }
+
+        @Override
+        public void writeValue(JsonWriter writer, PDescriptor descriptor, Object value) throws SerializerException {
+            appendTypedValue(writer, descriptor, value);
+        }
+
+        @Override
+        public Object readValue(JsonToken token, JsonTokenizer tokenizer, PDescriptor descriptor)
+                throws IOException, JsonException {
+            return parseTypedValue(token, tokenizer, descriptor, true);
+        }
+
+        @Override
+        public void readField(PMessageBuilder<?, ?> builder, String key, JsonToken token, JsonTokenizer tokenizer)
+                throws IOException, JsonException {
+            PMessageDescriptor<?, ?> type = builder.descriptor();
+            PField field;
+            if (Strings.isInteger(key)) {
+                field = type.findFieldById(Integer.parseInt(key));
+            } else {
+                field = type.findFieldByName(key);
+            }
+            if (field != null) {
+                builder.set(field.getId(), parseTypedValue(token, tokenizer, field.getDescriptor(), true));
+            } else {
+                consume(token, tokenizer);
+            }
+        }
+    }
+
+    /**
+     * Spliterator reading one message from a JSON array at a time.
+     */
+    private class ArraySpliterator<T extends PMessage<T, F>, F extends PField> implements Spliterator<T> {
+        private final JsonTokenizer            tokenizer;
+        private final PMessageDescriptor<T, F> type;
+
+        private boolean done;
+
+        private ArraySpliterator(JsonTokenizer tokenizer, PMessageDescriptor<T, F> type, boolean done) {
+            this.tokenizer = tokenizer;
+            this.type = type;
+            this.done = done;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (done) {
+                return false;
+            }
+            T message;
+            try {
+                message = (T) parseTypedValue(tokenizer.expect("array item"), tokenizer, type, false);
+                done = tokenizer.expectSymbol("array end or sep", JsonToken.kListEnd, JsonToken.kListSep) == JsonToken.kListEnd;
+            } catch (JsonException e) {
+                done = true;
+                JsonSerializerException ex = new JsonSerializerException(e);
+                throw new UncheckedIOException(ex.getMessage(), ex);
+            } catch (IOException e) {
+                done = true;
+                throw new UncheckedIOException(e.getMessage(), e);
+            }
+            action.accept(message);
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL | IMMUTABLE;
+        }
+    }
 
     @SuppressWarnings("unchecked")
     private <T extends PMessage<T, F>, F extends PField> PServiceCall<T, F> parseServiceCall(JsonTokenizer tokenizer, PService service)
@@ -319,7 +460,9 @@ public class JsonSerializer extends Serializer {
             throws JsonException, IOException {
         PMessageBuilder<T, F> builder = type.builder();
 
-        if (tokenizer.peek("message end or key").isSymbol(JsonToken.kMapEnd)) {
+        if (builder instanceof JsonMessageReader) {
+            ((JsonMessageReader) builder).readJson(tokenizer, format);
+        } else if (tokenizer.peek("message end or key").isSymbol(JsonToken.kMapEnd)) {
             tokenizer.next();
         } else {
             char sep = JsonToken.kMapStart;
@@ -673,7 +816,9 @@ public class JsonSerializer extends Serializer {
 
     private void appendMessage(JsonWriter writer, PMessage<?,?> message) throws SerializerException {
         PMessageDescriptor<?, ?> type = message.descriptor();
-        if (message instanceof PUnion) {
+        if (message instanceof JsonMessageWriter && !isCompact(message)) {
+            ((JsonMessageWriter) message).writeJson(writer, format);
+        } else if (message instanceof PUnion) {
             writer.object();
             if (((PUnion) message).unionFieldIsSet()) {
                 PField field = ((PUnion) message).unionField();
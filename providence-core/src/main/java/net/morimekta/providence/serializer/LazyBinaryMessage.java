@@ -0,0 +1,302 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.serializer;
+
+import net.morimekta.providence.PMessage;
+import net.morimekta.providence.PMessageBuilder;
+import net.morimekta.providence.descriptor.PField;
+import net.morimekta.providence.descriptor.PMessageDescriptor;
+import net.morimekta.providence.descriptor.PRequirement;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A message read from one of the binary serializers where the field values
+ * are only decoded when they are accessed. When deserializing lazily the
+ * serializer only scans the top level field headers, and skips over nested
+ * messages and containers using the same logic as when consuming unknown
+ * fields. Each field is then decoded the first time it is requested with
+ * {@link #get(int)}, and cached from there on.
+ * <p>
+ * This is useful when only a few fields of large messages are needed, e.g.
+ * for routing based on envelope fields. The message keeps a copy of its own
+ * serialized bytes, so the source buffer can be reused as soon as the lazy
+ * message is returned. Use {@link #decode()} to get the fully decoded
+ * message, which is also what is used for {@link #mutate()}, equality and
+ * string representations.
+ * <p>
+ * A lazy message is only equal to other lazy messages with the same decoded
+ * content, as the decoded message type does not know about the lazy message.
+ * To compare with a decoded message, use {@code lazy.decode().equals(other)}.
+ *
+ * @param <Message> The message type.
+ * @param <Field> The message field type.
+ */
+public final class LazyBinaryMessage<Message extends PMessage<Message, Field>, Field extends PField>
+        implements PMessage<Message, Field> {
+    /**
+     * Decoder for a single field value from the serialized data.
+     */
+    @FunctionalInterface
+    interface FieldDecoder {
+        /**
+         * Decode the field value.
+         *
+         * @param buffer Buffer positioned at the start of the field value.
+         * @param type The serialized field type.
+         * @param field The field to decode value for.
+         * @return The decoded field value.
+         * @throws IOException If unable to decode the field value.
+         */
+        Object decode(ByteBuffer buffer, int type, PField field) throws IOException;
+    }
+
+    /**
+     * Index of the known fields present in the serialized message.
+     */
+    static class Index {
+        private int[] ids = new int[8];
+        private byte[] types = new byte[8];
+        private int[] offsets = new int[8];
+        private int size = 0;
+
+        /**
+         * Add a field to the index. If the field is already present, the
+         * last occurrence wins, same as when reading the full message.
+         *
+         * @param id The field ID.
+         * @param type The serialized field type.
+         * @param offset Offset of the field value relative to the message start.
+         */
+        void add(int id, int type, int offset) {
+            int i = indexOf(id);
+            if (i >= 0) {
+                types[i] = (byte) type;
+                offsets[i] = offset;
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                types = Arrays.copyOf(types, size * 2);
+                offsets = Arrays.copyOf(offsets, size * 2);
+            }
+            ids[size] = id;
+            types[size] = (byte) type;
+            offsets[size] = offset;
+            ++size;
+        }
+
+        /**
+         * @param id The field ID.
+         * @return True if the field has been added.
+         */
+        boolean contains(int id) {
+            return indexOf(id) >= 0;
+        }
+
+        /**
+         * Validate that all required fields are present.
+         *
+         * @param descriptor The message descriptor.
+         * @throws SerializerException If a required field is missing.
+         */
+        void validate(PMessageDescriptor<?, ?> descriptor) throws SerializerException {
+            for (PField field : descriptor.getFields()) {
+                if (field.getRequirement() == PRequirement.REQUIRED && !contains(field.getId())) {
+                    throw new SerializerException("Missing required field %s in %s",
+                                                  field.getName(),
+                                                  descriptor.getQualifiedName());
+                }
+            }
+        }
+
+        private int indexOf(int id) {
+            for (int i = 0; i < size; ++i) {
+                if (ids[i] == id) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    private final PMessageDescriptor<Message, Field> descriptor;
+    private final Serializer                         serializer;
+    private final FieldDecoder                       decoder;
+    private final byte[]                             data;
+    private final Index                              index;
+    private final Object[]                           values;
+    private final boolean[]                          decoded;
+
+    private volatile Message message;
+    private volatile Message empty;
+
+    LazyBinaryMessage(@Nonnull PMessageDescriptor<Message, Field> descriptor,
+                      @Nonnull Serializer serializer,
+                      @Nonnull FieldDecoder decoder,
+                      @Nonnull byte[] data,
+                      @Nonnull Index index) {
+        this.descriptor = descriptor;
+        this.serializer = serializer;
+        this.decoder = decoder;
+        this.data = data;
+        this.index = index;
+        this.values = new Object[index.size];
+        this.decoded = new boolean[index.size];
+    }
+
+    /**
+     * Decode the complete message. The decoded message is cached, so
+     * subsequent calls will return the same instance.
+     *
+     * @return The decoded message.
+     * @throws UncheckedIOException If unable to decode the message.
+     */
+    @Nonnull
+    public Message decode() {
+        Message tmp = message;
+        if (tmp == null) {
+            try {
+                message = tmp = serializer.deserialize(ByteBuffer.wrap(data), descriptor);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e.getMessage(), e);
+            }
+        }
+        return tmp;
+    }
+
+    /**
+     * @param key The field key.
+     * @return True if the field value has been decoded, or would not need
+     *         decoding.
+     */
+    public boolean isDecoded(int key) {
+        if (message != null) {
+            return true;
+        }
+        int i = index.indexOf(key);
+        if (i < 0) {
+            return true;
+        }
+        synchronized (decoded) {
+            return decoded[i];
+        }
+    }
+
+    /**
+     * @return The number of bytes in the serialized message.
+     */
+    public int serializedSize() {
+        return data.length;
+    }
+
+    @Override
+    public boolean has(int key) {
+        if (message != null) {
+            return message.has(key);
+        }
+        if (index.contains(key)) {
+            return true;
+        }
+        return empty().has(key);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(int key) {
+        if (message != null) {
+            return message.get(key);
+        }
+        int i = index.indexOf(key);
+        if (i < 0) {
+            return empty().get(key);
+        }
+        synchronized (decoded) {
+            if (!decoded[i]) {
+                ByteBuffer buffer = ByteBuffer.wrap(data);
+                buffer.position(index.offsets[i]);
+                try {
+                    values[i] = decoder.decode(buffer, index.types[i], descriptor.findFieldById(key));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e.getMessage(), e);
+                }
+                decoded[i] = true;
+            }
+            return (T) values[i];
+        }
+    }
+
+    @Nonnull
+    @Override
+    public PMessageBuilder<Message, Field> mutate() {
+        return decode().mutate();
+    }
+
+    @Nonnull
+    @Override
+    public String asString() {
+        return decode().asString();
+    }
+
+    @Nonnull
+    @Override
+    public PMessageDescriptor<Message, Field> descriptor() {
+        return descriptor;
+    }
+
+    @Override
+    public int compareTo(@Nonnull Message other) {
+        return decode().compareTo(other);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (o == null || !getClass().equals(o.getClass())) {
+            return false;
+        }
+        return decode().equals(((LazyBinaryMessage) o).decode());
+    }
+
+    @Override
+    public int hashCode() {
+        return decode().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return decode().toString();
+    }
+
+    private Message empty() {
+        Message tmp = empty;
+        if (tmp == null) {
+            empty = tmp = descriptor.builder().build();
+        }
+        return tmp;
+    }
+}
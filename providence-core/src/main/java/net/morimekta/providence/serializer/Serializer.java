@@ -26,11 +26,14 @@ import net.morimekta.providence.PServiceCallType;
 import net.morimekta.providence.descriptor.PField;
 import net.morimekta.providence.descriptor.PMessageDescriptor;
 import net.morimekta.providence.descriptor.PService;
+import net.morimekta.util.io.ByteBufferInputStream;
+import net.morimekta.util.io.ByteBufferOutputStream;
 
 import javax.annotation.Nonnull;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Thrift serializers are stateless injectable implementation classes that
@@ -97,6 +100,84 @@ public abstract class Serializer {
     PServiceCall<Message, Field> deserialize(@Nonnull InputStream input,
                                              @Nonnull PService service) throws IOException;
 
+    /**
+     * Serialize a message into a byte buffer. The message is written from
+     * the current buffer position, and the position is moved to the end of
+     * the written content. Serializers that can, will write directly into
+     * the buffer without going through an output stream.
+     *
+     * @param output The buffer to write to.
+     * @param message The message to write.
+     * @param <Message> The message type.
+     * @param <Field> The message field type.
+     * @return The number of bytes written to the buffer.
+     * @throws IOException If writing or serialization failed, or if the
+     *                     buffer does not have enough space for the message.
+     */
+    public <Message extends PMessage<Message, Field>, Field extends PField>
+    int serialize(@Nonnull ByteBuffer output,
+                  @Nonnull Message message) throws IOException {
+        return serialize(new ByteBufferOutputStream(output), message);
+    }
+
+    /**
+     * Serialize a service call into a byte buffer. The call is written from
+     * the current buffer position, and the position is moved to the end of
+     * the written content.
+     *
+     * @param output The buffer to write to.
+     * @param call The service call to write.
+     * @param <Message> The message type contained in the service call.
+     * @param <Field> The message field type.
+     * @return The number of bytes written to the buffer.
+     * @throws IOException If writing or serialization failed, or if the
+     *                     buffer does not have enough space for the call.
+     */
+    public <Message extends PMessage<Message, Field>, Field extends PField>
+    int serialize(@Nonnull ByteBuffer output,
+                  @Nonnull PServiceCall<Message, Field> call) throws IOException {
+        return serialize(new ByteBufferOutputStream(output), call);
+    }
+
+    /**
+     * Deserialize a message from a byte buffer. The message is read from
+     * the current buffer position, and the position is moved past the
+     * consumed content. Serializers that can, will read directly from the
+     * buffer without going through an input stream.
+     *
+     * @param input The buffer to read from.
+     * @param descriptor The descriptor of the message to read.
+     * @param <Message> The message type.
+     * @param <Field> The message field type.
+     * @return The message read.
+     * @throws IOException If reading or deserialization failed.
+     */
+    @Nonnull
+    public <Message extends PMessage<Message, Field>, Field extends PField>
+    Message deserialize(@Nonnull ByteBuffer input,
+                        @Nonnull PMessageDescriptor<Message, Field> descriptor) throws IOException {
+        return deserialize(new ByteBufferInputStream(input), descriptor);
+    }
+
+    /**
+     * Deserialize a service call from a byte buffer. The call is read from
+     * the current buffer position, and the position is moved past the
+     * consumed content.
+     *
+     * @param input The buffer to read from.
+     * @param service The service definition to read for.
+     * @param <Message> The message type contained in the returned service call.
+     * @param <Field> The message field type.
+     * @return The service call read.
+     * @throws IOException If reading or deserialization failed.
+     */
+    @Nonnull
+    public <Message extends PMessage<Message, Field>, Field extends PField>
+    PServiceCall<Message, Field> deserialize(@Nonnull ByteBuffer input,
+                                             @Nonnull PService service) throws IOException {
+        return deserialize(new ByteBufferInputStream(input), service);
+    }
+
     /**
      * @return True if the protocol of the serializer is "binary" a.k.a.
      *         unreadable to most humans.
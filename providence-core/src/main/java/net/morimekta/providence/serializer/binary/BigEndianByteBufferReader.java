@@ -0,0 +1,121 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.serializer.binary;
+
+import net.morimekta.util.io.BigEndianBinaryReader;
+import net.morimekta.util.io.ByteBufferInputStream;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Big endian binary reader that reads directly from a byte buffer (heap
+ * or direct) instead of going through an input stream. Reading starts at
+ * the buffer position, and the position is moved forward as the content
+ * is consumed, so the buffer can be used directly after reading to check
+ * what remains of it.
+ *
+ * Since this extends the {@link BigEndianBinaryReader} it can be passed
+ * to all the binary format utilities and generated {@link BinaryReader}
+ * code directly.
+ */
+public class BigEndianByteBufferReader extends BigEndianBinaryReader {
+    private final ByteBuffer buffer;
+    private final boolean    swap;
+
+    /**
+     * Create a binary reader reading from the buffer.
+     *
+     * @param buffer The buffer to read from.
+     */
+    public BigEndianByteBufferReader(@Nonnull ByteBuffer buffer) {
+        super(new ByteBufferInputStream(buffer));
+        this.buffer = buffer;
+        this.swap = buffer.order() != ByteOrder.BIG_ENDIAN;
+    }
+
+    @Override
+    public int read() {
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+        return buffer.get() & 0xff;
+    }
+
+    @Override
+    public byte expectByte() throws IOException {
+        if (!buffer.hasRemaining()) {
+            throw new IOException("Missing expected byte");
+        }
+        return buffer.get();
+    }
+
+    @Override
+    public short expectShort() throws IOException {
+        require(Short.BYTES, "short");
+        short value = buffer.getShort();
+        return swap ? Short.reverseBytes(value) : value;
+    }
+
+    @Override
+    public int expectInt() throws IOException {
+        require(Integer.BYTES, "int");
+        int value = buffer.getInt();
+        return swap ? Integer.reverseBytes(value) : value;
+    }
+
+    @Override
+    public long expectLong() throws IOException {
+        require(Long.BYTES, "long");
+        long value = buffer.getLong();
+        return swap ? Long.reverseBytes(value) : value;
+    }
+
+    @Override
+    public byte[] expectBytes(int bytes) throws IOException {
+        require(bytes, "bytes");
+        byte[] out = new byte[bytes];
+        buffer.get(out);
+        return out;
+    }
+
+    @Override
+    public int expectUInt8() throws IOException {
+        if (!buffer.hasRemaining()) {
+            throw new IOException("Missing unsigned byte");
+        }
+        return buffer.get() & 0xff;
+    }
+
+    @Override
+    public int expectUInt16() throws IOException {
+        return expectShort() & 0xffff;
+    }
+
+    private void require(int bytes, String type) throws IOException {
+        if (buffer.remaining() < bytes) {
+            throw new IOException("Not enough data available for " + type + ": " +
+                                  buffer.remaining() + " < " + bytes);
+        }
+    }
+}
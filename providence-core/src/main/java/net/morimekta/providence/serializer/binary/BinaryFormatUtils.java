@@ -141,6 +141,65 @@ public class BinaryFormatUtils {
         return builder.build();
     }
 
+    /**
+     * Read message from reader using the cached field layout of the message
+     * type, see {@link MessageLayout}. Message fields are read the same way,
+     * while container values are read as with {@link #readMessage(BigEndianBinaryReader, PMessageDescriptor, boolean)}.
+     *
+     * @param input The input reader.
+     * @param descriptor The message descriptor.
+     * @param strict If the message should be read in strict mode.
+     * @param <Message> The message type.
+     * @param <Field> The field type.
+     * @return The read and parsed message.
+     * @throws IOException If read failed.
+     */
+    public static <Message extends PMessage<Message, Field>, Field extends PField>
+    Message readCompiledMessage(BigEndianBinaryReader input,
+                                PMessageDescriptor<Message, Field> descriptor,
+                                boolean strict) throws IOException {
+        PMessageBuilder<Message, Field> builder = descriptor.builder();
+        if (builder instanceof BinaryReader) {
+            ((BinaryReader) builder).readBinary(input, strict);
+            return builder.build();
+        }
+
+        MessageLayout layout = MessageLayout.forType(descriptor);
+        byte type;
+        while ((type = input.expectByte()) != BinaryType.STOP) {
+            int id = input.expectShort();
+            int index = layout.indexOf(id);
+            if (index < 0) {
+                readFieldValue(input, new FieldInfo(id, type), null, false);
+                continue;
+            }
+            if (layout.binaryType(index) != type) {
+                throw new SerializerException("Wrong field type for id=%d: expected %s, got %s",
+                                              id,
+                                              asString(layout.binaryType(index)),
+                                              asString(type));
+            }
+
+            Object value;
+            if (type == BinaryType.STRUCT) {
+                value = readCompiledMessage(input, (PMessageDescriptor<?, ?>) layout.descriptor(index), strict);
+            } else {
+                value = readFieldValue(input, new FieldInfo(id, type), layout.descriptor(index), strict);
+            }
+            builder.set(id, value);
+        }
+
+        if (strict) {
+            try {
+                builder.validate();
+            } catch (IllegalStateException e) {
+                throw new SerializerException(e, e.getMessage());
+            }
+        }
+
+        return builder.build();
+    }
+
     /**
      * Consume a message from the stream without parsing the content into a message.
      *
@@ -367,13 +426,84 @@ public class BinaryFormatUtils {
         return len;
     }
 
+    /**
+     * Write message to writer using the cached field layout of the message
+     * type, see {@link MessageLayout}. Message fields are written the same
+     * way, while container values are written as with {@link #writeMessage(BigEndianBinaryWriter, PMessage)}.
+     *
+     * @param writer The binary writer.
+     * @param message The message to write.
+     * @param <Message> The message type.
+     * @param <Field> The field type.
+     * @return The number of bytes written.
+     * @throws IOException If write failed.
+     */
+    public static <Message extends PMessage<Message, Field>, Field extends PField>
+    int writeCompiledMessage(BigEndianBinaryWriter writer, Message message)
+            throws IOException {
+        if (message instanceof BinaryWriter) {
+            return ((BinaryWriter) message).writeBinary(writer);
+        }
+
+        MessageLayout layout = MessageLayout.forType(message.descriptor());
+        int len = 0;
+        if (message instanceof PUnion) {
+            if (((PUnion) message).unionFieldIsSet()) {
+                int index = layout.indexOf(((PUnion) message).unionField().getId());
+                len += writeCompiledField(writer, layout, index, message.get(layout.id(index)));
+            }
+        } else {
+            for (int index = 0; index < layout.size(); ++index) {
+                int id = layout.id(index);
+                if (message.has(id)) {
+                    len += writeCompiledField(writer, layout, index, message.get(id));
+                }
+            }
+        }
+        len += writer.writeUInt8(BinaryType.STOP);
+        return len;
+    }
+
+    /**
+     * Write a string value with its length prefix. The string is UTF-8
+     * encoded directly into the writer.
+     *
+     * @param writer The binary writer.
+     * @param value The string value to write.
+     * @return The number of bytes written.
+     * @throws IOException If write failed.
+     */
+    public static int writeString(BigEndianBinaryWriter writer, String value) throws IOException {
+        int len = Utf8.encodedLength(value);
+        return writer.writeUInt32(len) + Utf8.write(writer, value, len);
+    }
+
     private static int writeFieldSpec(BigEndianBinaryWriter out, byte type, int key) throws IOException {
         out.writeByte(type);
         out.writeShort((short) key);
         return 3;
     }
 
-    private static int writeFieldValue(BigEndianBinaryWriter out, Object value, PDescriptor descriptor) throws IOException {
+    @SuppressWarnings("unchecked")
+    private static int writeCompiledField(BigEndianBinaryWriter out, MessageLayout layout, int index, Object value)
+            throws IOException {
+        int len = writeFieldSpec(out, layout.binaryType(index), layout.id(index));
+        if (layout.type(index) == PType.MESSAGE) {
+            return len + writeCompiledMessage(out, (PMessage) value);
+        }
+        return len + writeFieldValue(out, value, layout.descriptor(index));
+    }
+
+    /**
+     * Write a field value to the writer, without the field spec.
+     *
+     * @param out        The binary writer.
+     * @param value      The value to write.
+     * @param descriptor The value type descriptor.
+     * @return The number of bytes written.
+     * @throws IOException If write failed.
+     */
+    public static int writeFieldValue(BigEndianBinaryWriter out, Object value, PDescriptor descriptor) throws IOException {
         switch (descriptor.getType()) {
             case VOID:
                 return 0;
@@ -394,11 +524,8 @@ public class BinaryFormatUtils {
                 int len = out.writeUInt32(binary.length());
                 return len + out.writeBinary(binary);
             }
-            case STRING: {
-                Binary binary = Binary.wrap(value.toString().getBytes(StandardCharsets.UTF_8));
-                int len = out.writeUInt32(binary.length());
-                return len + out.writeBinary(binary);
-            }
+            case STRING:
+                return writeString(out, value.toString());
             case ENUM:
                 return out.writeInt(((PEnumValue<?>) value).asInteger());
             case MAP: {
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.serializer.binary;
+
+import net.morimekta.util.io.BinaryReader;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Function;
+
+/**
+ * Bounded pool of binary readers. Each reader is reused between calls,
+ * reading from whichever input stream is given for the current call. The
+ * readers are shared by all threads, and not bound to a thread. When all
+ * the pooled readers are in use a new one is made, and dropped after the
+ * call if the pool is full.
+ *
+ * NOTE: This class is not meant to be used directly, it is used by the
+ * binary serializers in pooled mode.
+ *
+ * @param <Reader> The binary reader type.
+ */
+public final class BinaryReaderPool<Reader extends BinaryReader> {
+    /**
+     * Read content from a binary reader.
+     *
+     * @param <Reader> The binary reader type.
+     * @param <T> The read content type.
+     */
+    @FunctionalInterface
+    public interface Read<Reader, T> {
+        /**
+         * @param reader The reader to read from.
+         * @return The read content.
+         * @throws IOException If unable to read content.
+         */
+        T read(Reader reader) throws IOException;
+    }
+
+    public static final int DEFAULT_POOL_SIZE = 2 * Runtime.getRuntime().availableProcessors();
+
+    private final Function<InputStream, Reader> streamReader;
+    private final BlockingQueue<Pooled>         pool;
+
+    /**
+     * Create a reader pool.
+     *
+     * @param streamReader Create a reader reading from an input stream.
+     */
+    public BinaryReaderPool(@Nonnull Function<InputStream, Reader> streamReader) {
+        this(streamReader, DEFAULT_POOL_SIZE);
+    }
+
+    /**
+     * Create a reader pool.
+     *
+     * @param streamReader Create a reader reading from an input stream.
+     * @param poolSize The max number of pooled readers.
+     */
+    public BinaryReaderPool(@Nonnull Function<InputStream, Reader> streamReader, int poolSize) {
+        this.streamReader = streamReader;
+        this.pool = new ArrayBlockingQueue<>(poolSize);
+    }
+
+    /**
+     * Read content from the input stream using a pooled reader.
+     *
+     * @param in The input stream to read from.
+     * @param read The content read function.
+     * @param <T> The read content type.
+     * @return The read content.
+     * @throws IOException If unable to read content.
+     */
+    public <T> T read(@Nonnull InputStream in, @Nonnull Read<Reader, T> read) throws IOException {
+        Pooled local = pool.poll();
+        if (local == null) {
+            local = new Pooled();
+        }
+
+        local.source.in = in;
+        try {
+            return read.read(local.reader);
+        } finally {
+            local.source.in = null;
+            pool.offer(local);
+        }
+    }
+
+    private class Pooled {
+        private final Source source = new Source();
+        private final Reader reader = streamReader.apply(source);
+    }
+
+    /**
+     * Input stream delegating to the input stream of the current call.
+     * Closing is handled by the caller of the serializer, so is not
+     * delegated.
+     */
+    private static class Source extends InputStream {
+        private InputStream in;
+
+        @Override
+        public int read() throws IOException {
+            return in.read();
+        }
+
+        @Override
+        public int read(@Nonnull byte[] bytes, int off, int len) throws IOException {
+            return in.read(bytes, off, len);
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            return in.skip(n);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return in.available();
+        }
+    }
+}
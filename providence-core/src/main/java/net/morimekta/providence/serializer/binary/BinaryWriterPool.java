@@ -0,0 +1,177 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.serializer.binary;
+
+import net.morimekta.util.io.BinaryWriter;
+
+import javax.annotation.Nonnull;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Function;
+
+/**
+ * Bounded pool of binary writers with reusable scratch buffers. Content is
+ * first serialized into a pooled scratch buffer with a writer that is reused
+ * between calls, and then written to the output stream in one go. If the
+ * content does not fit in the scratch buffer, it is written to a growable
+ * buffer instead, and the scratch buffer is grown (up to a max size) for
+ * the next call that uses it.
+ * <p>
+ * The scratch buffers are shared by all threads, and not bound to a thread.
+ * At most pool size buffers are kept, so threads that only do a single
+ * call, like virtual threads, do not each allocate a buffer that is kept.
+ * When all the pooled buffers are in use a new one is made, and dropped
+ * after the call if the pool is full.
+ *
+ * NOTE: This class is not meant to be used directly, it is used by the
+ * binary serializers in pooled mode.
+ *
+ * @param <Writer> The binary writer type.
+ */
+public final class BinaryWriterPool<Writer extends BinaryWriter> {
+    /**
+     * Write content to a binary writer.
+     *
+     * @param <Writer> The binary writer type.
+     */
+    @FunctionalInterface
+    public interface Write<Writer> {
+        /**
+         * @param writer The writer to write to.
+         * @return The number of bytes written.
+         * @throws IOException If unable to write content.
+         */
+        int write(Writer writer) throws IOException;
+    }
+
+    public static final int DEFAULT_INITIAL_SIZE = 1 << 12;
+    public static final int DEFAULT_MAX_SIZE     = 1 << 20;
+    public static final int DEFAULT_POOL_SIZE    = 2 * Runtime.getRuntime().availableProcessors();
+
+    private final Function<ByteBuffer, Writer>   bufferWriter;
+    private final Function<OutputStream, Writer> streamWriter;
+    private final int                            initialSize;
+    private final int                            maxSize;
+    private final BlockingQueue<Scratch>         pool;
+
+    /**
+     * Create a writer pool.
+     *
+     * @param bufferWriter Create a writer writing to a scratch buffer.
+     * @param streamWriter Create a writer writing to an output stream.
+     */
+    public BinaryWriterPool(@Nonnull Function<ByteBuffer, Writer> bufferWriter,
+                            @Nonnull Function<OutputStream, Writer> streamWriter) {
+        this(bufferWriter, streamWriter, DEFAULT_INITIAL_SIZE, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Create a writer pool.
+     *
+     * @param bufferWriter Create a writer writing to a scratch buffer.
+     * @param streamWriter Create a writer writing to an output stream.
+     * @param initialSize The initial scratch buffer size.
+     * @param maxSize The max scratch buffer size.
+     */
+    public BinaryWriterPool(@Nonnull Function<ByteBuffer, Writer> bufferWriter,
+                            @Nonnull Function<OutputStream, Writer> streamWriter,
+                            int initialSize,
+                            int maxSize) {
+        this(bufferWriter, streamWriter, initialSize, maxSize, DEFAULT_POOL_SIZE);
+    }
+
+    /**
+     * Create a writer pool.
+     *
+     * @param bufferWriter Create a writer writing to a scratch buffer.
+     * @param streamWriter Create a writer writing to an output stream.
+     * @param initialSize The initial scratch buffer size.
+     * @param maxSize The max scratch buffer size.
+     * @param poolSize The max number of pooled scratch buffers.
+     */
+    public BinaryWriterPool(@Nonnull Function<ByteBuffer, Writer> bufferWriter,
+                            @Nonnull Function<OutputStream, Writer> streamWriter,
+                            int initialSize,
+                            int maxSize,
+                            int poolSize) {
+        this.bufferWriter = bufferWriter;
+        this.streamWriter = streamWriter;
+        this.initialSize = initialSize;
+        this.maxSize = maxSize;
+        this.pool = new ArrayBlockingQueue<>(poolSize);
+    }
+
+    /**
+     * Write content to the output stream using a pooled writer.
+     *
+     * @param out The output stream to write to.
+     * @param write The content write function.
+     * @return The number of bytes written.
+     * @throws IOException If unable to write content.
+     */
+    public int write(@Nonnull OutputStream out, @Nonnull Write<Writer> write) throws IOException {
+        Scratch local = pool.poll();
+        if (local == null) {
+            local = new Scratch(initialSize);
+        }
+        try {
+            local.buffer.clear();
+            int len;
+            try {
+                len = write.write(local.writer);
+            } catch (ByteBufferOverflowException | BufferOverflowException e) {
+                // Scratch buffer overflow. Nothing has been written to the
+                // output stream yet, so write it to a growable buffer
+                // instead, and then to the stream in one go.
+                if (local.buffer.capacity() < maxSize) {
+                    local.grow(Math.min(maxSize, local.buffer.capacity() * 4));
+                }
+                ByteArrayOutputStream tmp = new ByteArrayOutputStream(local.buffer.capacity());
+                len = write.write(streamWriter.apply(tmp));
+                tmp.writeTo(out);
+                return len;
+            }
+            out.write(local.buffer.array(), 0, local.buffer.position());
+            return len;
+        } finally {
+            pool.offer(local);
+        }
+    }
+
+    private class Scratch {
+        private ByteBuffer buffer;
+        private Writer     writer;
+
+        private Scratch(int size) {
+            grow(size);
+        }
+
+        private void grow(int size) {
+            this.buffer = ByteBuffer.allocate(size);
+            this.writer = bufferWriter.apply(buffer);
+        }
+    }
+}
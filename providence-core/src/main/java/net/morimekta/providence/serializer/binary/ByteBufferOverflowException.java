@@ -0,0 +1,34 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.serializer.binary;
+
+import java.io.IOException;
+
+/**
+ * Thrown by the byte buffer writers when the buffer does not have room for
+ * the content. Kept as a separate type so the writer pool can tell a full
+ * scratch buffer apart from other write failures.
+ */
+final class ByteBufferOverflowException extends IOException {
+    ByteBufferOverflowException() {
+        super("Buffer overflow");
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.serializer.binary;
+
+import net.morimekta.util.io.LittleEndianBinaryReader;
+import net.morimekta.util.io.ByteBufferInputStream;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Little endian binary reader that reads directly from a byte buffer (heap
+ * or direct) instead of going through an input stream. This is the buffer
+ * reader for the {@link net.morimekta.providence.serializer.FastBinarySerializer}.
+ * Reading starts at the buffer position, and the position is moved forward
+ * as the content is consumed. Unlike the stream reader, a varint can not
+ * be read at the end of the buffer, so content cut at the buffer end is
+ * not read as an implicit zero, e.g. a message STOP.
+ */
+public class LittleEndianByteBufferReader extends LittleEndianBinaryReader {
+    private final ByteBuffer buffer;
+    private final boolean    swap;
+
+    /**
+     * Create a binary reader reading from the buffer.
+     *
+     * @param buffer The buffer to read from.
+     */
+    public LittleEndianByteBufferReader(@Nonnull ByteBuffer buffer) {
+        super(new ByteBufferInputStream(buffer));
+        this.buffer = buffer;
+        this.swap = buffer.order() != ByteOrder.LITTLE_ENDIAN;
+    }
+
+    @Override
+    public int read() {
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+        return buffer.get() & 0xff;
+    }
+
+    @Override
+    public byte expectByte() throws IOException {
+        if (!buffer.hasRemaining()) {
+            throw new IOException("Missing expected byte");
+        }
+        return buffer.get();
+    }
+
+    @Override
+    public short expectShort() throws IOException {
+        require(Short.BYTES, "short");
+        short value = buffer.getShort();
+        return swap ? Short.reverseBytes(value) : value;
+    }
+
+    @Override
+    public int expectInt() throws IOException {
+        require(Integer.BYTES, "int");
+        int value = buffer.getInt();
+        return swap ? Integer.reverseBytes(value) : value;
+    }
+
+    @Override
+    public long expectLong() throws IOException {
+        require(Long.BYTES, "long");
+        long value = buffer.getLong();
+        return swap ? Long.reverseBytes(value) : value;
+    }
+
+    @Override
+    public byte[] expectBytes(int bytes) throws IOException {
+        require(bytes, "bytes");
+        byte[] out = new byte[bytes];
+        buffer.get(out);
+        return out;
+    }
+
+    @Override
+    public int expectUInt8() throws IOException {
+        if (!buffer.hasRemaining()) {
+            throw new IOException("Missing unsigned byte");
+        }
+        return buffer.get() & 0xff;
+    }
+
+    @Override
+    public int expectUInt16() throws IOException {
+        return expectShort() & 0xffff;
+    }
+
+    @Override
+    public int readIntVarint() throws IOException {
+        if (!buffer.hasRemaining()) {
+            throw new IOException("Missing expected varint");
+        }
+        int i = buffer.get();
+        int out = i & 0x7f;
+        int shift = 0;
+        while ((i & 0x80) != 0) {
+            shift += 7;
+            i = expectUInt8();
+            out |= (i & 0x7f) << shift;
+        }
+        return out;
+    }
+
+    @Override
+    public long readLongVarint() throws IOException {
+        if (!buffer.hasRemaining()) {
+            throw new IOException("Missing expected varint");
+        }
+        int i = buffer.get();
+        long out = i & 0x7f;
+        int shift = 0;
+        while ((i & 0x80) != 0) {
+            shift += 7;
+            i = expectUInt8();
+            out |= ((long) (i & 0x7f)) << shift;
+        }
+        return out;
+    }
+
+    private void require(int bytes, String type) throws IOException {
+        if (buffer.remaining() < bytes) {
+            throw new IOException("Not enough data available for " + type + ": " +
+                                  buffer.remaining() + " < " + bytes);
+        }
+    }
+}
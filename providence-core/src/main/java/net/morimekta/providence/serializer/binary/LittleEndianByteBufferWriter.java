@@ -0,0 +1,150 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.serializer.binary;
+
+import net.morimekta.util.io.LittleEndianBinaryWriter;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Little endian binary writer that writes directly into a byte buffer (heap
+ * or direct) instead of going through an output stream. This is the buffer
+ * writer for the {@link net.morimekta.providence.serializer.FastBinarySerializer}.
+ * If the buffer does not have enough remaining space for the content, an
+ * {@link IOException} is thrown.
+ */
+public class LittleEndianByteBufferWriter extends LittleEndianBinaryWriter {
+    private final ByteBuffer buffer;
+    private final boolean    swap;
+
+    /**
+     * Create a binary writer writing to the buffer.
+     *
+     * @param buffer The buffer to write to.
+     */
+    public LittleEndianByteBufferWriter(@Nonnull ByteBuffer buffer) {
+        super(new ByteBufferOutput(buffer));
+        this.buffer = buffer;
+        this.swap = buffer.order() != ByteOrder.LITTLE_ENDIAN;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        require(1);
+        buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(@Nonnull byte[] bytes, int off, int len) throws IOException {
+        require(len);
+        buffer.put(bytes, off, len);
+    }
+
+    @Override
+    public int writeByte(byte integer) throws IOException {
+        require(Byte.BYTES);
+        buffer.put(integer);
+        return Byte.BYTES;
+    }
+
+    @Override
+    public int writeShort(short integer) throws IOException {
+        require(Short.BYTES);
+        buffer.putShort(swap ? Short.reverseBytes(integer) : integer);
+        return Short.BYTES;
+    }
+
+    @Override
+    public int writeInt(int integer) throws IOException {
+        require(Integer.BYTES);
+        buffer.putInt(swap ? Integer.reverseBytes(integer) : integer);
+        return Integer.BYTES;
+    }
+
+    @Override
+    public int writeLong(long integer) throws IOException {
+        require(Long.BYTES);
+        buffer.putLong(swap ? Long.reverseBytes(integer) : integer);
+        return Long.BYTES;
+    }
+
+    @Override
+    public int writeUInt8(int number) throws IOException {
+        return writeByte((byte) number);
+    }
+
+    @Override
+    public int writeUInt16(int number) throws IOException {
+        return writeShort((short) number);
+    }
+
+    @Override
+    public int writeUInt32(int number) throws IOException {
+        return writeInt(number);
+    }
+
+    @Override
+    public int writeVarint(int varint) throws IOException {
+        int len = 1;
+        while ((varint & ~0x7f) != 0) {
+            writeByte((byte) (0x80 | (varint & 0x7f)));
+            varint >>>= 7;
+            ++len;
+        }
+        writeByte((byte) varint);
+        return len;
+    }
+
+    @Override
+    public int writeVarint(long varint) throws IOException {
+        int len = 1;
+        while ((varint & ~0x7fL) != 0L) {
+            writeByte((byte) (0x80 | (varint & 0x7f)));
+            varint >>>= 7;
+            ++len;
+        }
+        writeByte((byte) varint);
+        return len;
+    }
+
+    /**
+     * Write the UTF-8 encoded string directly into the buffer. This does
+     * not write any length prefix.
+     *
+     * @param str The string to write.
+     * @param encodedLength The encoded length of the string.
+     * @return The number of bytes written.
+     * @throws IOException If the buffer does not have room for the string.
+     */
+    public int writeUtf8(@Nonnull CharSequence str, int encodedLength) throws IOException {
+        require(encodedLength);
+        return Utf8.encode(str, buffer, encodedLength);
+    }
+
+    private void require(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            throw new ByteBufferOverflowException();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.serializer.binary;
+
+import net.morimekta.providence.PType;
+import net.morimekta.providence.descriptor.PDescriptor;
+import net.morimekta.providence.descriptor.PField;
+import net.morimekta.providence.descriptor.PMessageDescriptor;
+import net.morimekta.providence.util.FieldIdIndex;
+
+import javax.annotation.Nonnull;
+
+/**
+ * The field layout of a message type, resolved once per message descriptor
+ * and kept on the descriptor. It holds the fields in declared order with
+ * their value descriptors and types, and looks up field indices by ID with
+ * a {@link FieldIdIndex}.
+ * This saves getting the fields from the descriptor, and resolving the
+ * field types, for each message read or written.
+ *
+ * NOTE: This class is not meant to be used directly, it is used by the
+ * binary serializers in compiled mode.
+ */
+public final class MessageLayout {
+    /**
+     * Get the layout for a message type.
+     *
+     * @param descriptor The message descriptor.
+     * @return The message layout.
+     */
+    @Nonnull
+    public static MessageLayout forType(@Nonnull PMessageDescriptor<?, ?> descriptor) {
+        // Kept on the descriptor and not in a map, as the layout references
+        // the descriptor through its fields, and can not be collected
+        // before the descriptor anyway.
+        return descriptor.getSerializerLayout(MessageLayout::new);
+    }
+
+    /**
+     * @return The number of fields.
+     */
+    public int size() {
+        return fields.length;
+    }
+
+    /**
+     * @param index The field index.
+     * @return The field at the index.
+     */
+    @Nonnull
+    public PField field(int index) {
+        return fields[index];
+    }
+
+    /**
+     * @param index The field index.
+     * @return The field ID at the index.
+     */
+    public int id(int index) {
+        return ids[index];
+    }
+
+    /**
+     * @param index The field index.
+     * @return The value descriptor of the field at the index.
+     */
+    @Nonnull
+    public PDescriptor descriptor(int index) {
+        return descriptors[index];
+    }
+
+    /**
+     * @param index The field index.
+     * @return The value type of the field at the index.
+     */
+    @Nonnull
+    public PType type(int index) {
+        return types[index];
+    }
+
+    /**
+     * @param index The field index.
+     * @return The binary type of the field at the index.
+     */
+    public byte binaryType(int index) {
+        return binaryTypes[index];
+    }
+
+    /**
+     * @param id The field ID.
+     * @return The field index, or -1 if no such field.
+     */
+    public int indexOf(int id) {
+        return idIndex.indexOf(id);
+    }
+
+    private final PField[]      fields;
+    private final int[]         ids;
+    private final PDescriptor[] descriptors;
+    private final PType[]       types;
+    private final byte[]        binaryTypes;
+    private final FieldIdIndex  idIndex;
+
+    private MessageLayout(PMessageDescriptor<?, ?> descriptor) {
+        this.fields = descriptor.getFields();
+        this.ids = new int[fields.length];
+        this.descriptors = new PDescriptor[fields.length];
+        this.types = new PType[fields.length];
+        this.binaryTypes = new byte[fields.length];
+
+        for (int i = 0; i < fields.length; ++i) {
+            ids[i] = fields[i].getId();
+            descriptors[i] = fields[i].getDescriptor();
+            types[i] = descriptors[i].getType();
+            binaryTypes[i] = BinaryType.forType(types[i]);
+        }
+        this.idIndex = new FieldIdIndex(ids);
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.serializer.binary;
+
+import net.morimekta.util.io.BinaryWriter;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * UTF-8 encoding of strings straight into the binary output, without
+ * going through an intermediate byte array per string. The encoded
+ * content is identical to {@link String#getBytes(java.nio.charset.Charset)}
+ * with UTF-8, including replacing unpaired surrogates with '?'.
+ *
+ * NOTE: This class is not meant to be used directly, but is public in
+ * order for the binary serializers and pre-generated serialization code
+ * to use the same utility methods.
+ */
+public final class Utf8 {
+    // Strings larger than this will not keep their scratch buffer.
+    private static final int MAX_SCRATCH_SIZE = 1 << 16;
+    private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[1 << 10]);
+
+    /**
+     * Get the number of bytes needed to UTF-8 encode the string.
+     *
+     * @param str The string to encode.
+     * @return The encoded length.
+     */
+    public static int encodedLength(@Nonnull CharSequence str) {
+        final int len = str.length();
+        int out = len;
+        for (int i = 0; i < len; ++i) {
+            char c = str.charAt(i);
+            if (c < 0x80) {
+                continue;
+            }
+            if (c < 0x800) {
+                out += 1;
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) &&
+                    i + 1 < len &&
+                    Character.isLowSurrogate(str.charAt(i + 1))) {
+                    // Two chars become 4 bytes.
+                    out += 2;
+                    ++i;
+                }
+                // Unpaired surrogates become a single '?'.
+            } else {
+                out += 2;
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Encode the string into the byte array.
+     *
+     * @param str The string to encode.
+     * @param out The array to encode into, must have room for the encoded string.
+     * @param off The offset to start writing to.
+     * @return The number of bytes written.
+     */
+    public static int encode(@Nonnull CharSequence str, @Nonnull byte[] out, int off) {
+        final int len = str.length();
+        int pos = off;
+        for (int i = 0; i < len; ++i) {
+            char c = str.charAt(i);
+            if (c < 0x80) {
+                out[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                out[pos++] = (byte) (0xc0 | (c >> 6));
+                out[pos++] = (byte) (0x80 | (c & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) &&
+                    i + 1 < len &&
+                    Character.isLowSurrogate(str.charAt(i + 1))) {
+                    int cp = Character.toCodePoint(c, str.charAt(++i));
+                    out[pos++] = (byte) (0xf0 | (cp >> 18));
+                    out[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+                    out[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+                    out[pos++] = (byte) (0x80 | (cp & 0x3f));
+                } else {
+                    out[pos++] = '?';
+                }
+            } else {
+                out[pos++] = (byte) (0xe0 | (c >> 12));
+                out[pos++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                out[pos++] = (byte) (0x80 | (c & 0x3f));
+            }
+        }
+        return pos - off;
+    }
+
+    /**
+     * Encode the string into the buffer at its current position, and move
+     * the position forward. The buffer must have room for the encoded
+     * string.
+     *
+     * @param str The string to encode.
+     * @param out The buffer to encode into.
+     * @param encodedLength The encoded length of the string.
+     * @return The number of bytes written.
+     */
+    public static int encode(@Nonnull CharSequence str, @Nonnull ByteBuffer out, int encodedLength) {
+        if (out.hasArray()) {
+            int len = encode(str, out.array(), out.arrayOffset() + out.position());
+            out.position(out.position() + len);
+            return len;
+        }
+        byte[] scratch = scratch(encodedLength);
+        int len = encode(str, scratch, 0);
+        out.put(scratch, 0, len);
+        return len;
+    }
+
+    /**
+     * Write the UTF-8 encoded string to the binary writer. This does not
+     * write any length prefix, which is up to the binary format.
+     *
+     * @param writer The writer to write to.
+     * @param str The string to write.
+     * @param encodedLength The encoded length of the string.
+     * @return The number of bytes written.
+     * @throws IOException If unable to write the string.
+     */
+    public static int write(@Nonnull BinaryWriter writer, @Nonnull CharSequence str, int encodedLength)
+            throws IOException {
+        if (writer instanceof BigEndianByteBufferWriter) {
+            return ((BigEndianByteBufferWriter) writer).writeUtf8(str, encodedLength);
+        } else if (writer instanceof LittleEndianByteBufferWriter) {
+            return ((LittleEndianByteBufferWriter) writer).writeUtf8(str, encodedLength);
+        }
+        byte[] scratch = scratch(encodedLength);
+        int len = encode(str, scratch, 0);
+        writer.write(scratch, 0, len);
+        return len;
+    }
+
+    private static byte[] scratch(int size) {
+        if (size > MAX_SCRATCH_SIZE) {
+            return new byte[size];
+        }
+        byte[] scratch = SCRATCH.get();
+        if (scratch.length < size) {
+            scratch = new byte[Math.max(size, scratch.length * 2)];
+            SCRATCH.set(scratch);
+        }
+        return scratch;
+    }
+
+    private Utf8() {}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.serializer.json;
+
+import net.morimekta.providence.PMessageBuilder;
+import net.morimekta.providence.descriptor.PDescriptor;
+import net.morimekta.providence.serializer.SerializerException;
+import net.morimekta.util.json.JsonException;
+import net.morimekta.util.json.JsonToken;
+import net.morimekta.util.json.JsonTokenizer;
+import net.morimekta.util.json.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * The JSON format used by the serializer, given to messages and builders
+ * that write and read JSON themselves. It tells how field IDs and enum
+ * values should be written, and handles the values that the generated code
+ * does not handle directly, so the output is the same as the serializer
+ * itself would make.
+ *
+ * @see JsonMessageWriter
+ * @see JsonMessageReader
+ */
+public interface JsonFormat {
+    /**
+     * @return If fields should be written with the field name as key,
+     *         otherwise the field ID is used.
+     */
+    boolean namedFields();
+
+    /**
+     * @return If enums should be written with the value name, otherwise
+     *         the value ID is used.
+     */
+    boolean namedEnums();
+
+    /**
+     * Write a typed value, e.g. a message or container.
+     *
+     * @param writer     The JSON writer to write to.
+     * @param descriptor The value type descriptor.
+     * @param value      The value to write.
+     * @throws SerializerException If unable to write the value.
+     */
+    void writeValue(JsonWriter writer, PDescriptor descriptor, Object value) throws SerializerException;
+
+    /**
+     * Read a typed value of a message field, e.g. a message or container.
+     *
+     * @param token      The first token of the value.
+     * @param tokenizer  The tokenizer to read the rest of the value from.
+     * @param descriptor The value type descriptor.
+     * @return The value read, or null if the field should be cleared.
+     * @throws IOException   If unable to read the value.
+     * @throws JsonException If the JSON is not valid.
+     */
+    Object readValue(JsonToken token, JsonTokenizer tokenizer, PDescriptor descriptor)
+            throws IOException, JsonException;
+
+    /**
+     * Read a field value for a key that is not handled by the builder
+     * itself. The field is looked up by ID or name, and if not found the
+     * value is skipped.
+     *
+     * @param builder   The builder to set the field on.
+     * @param key       The field key.
+     * @param token     The first token of the value.
+     * @param tokenizer The tokenizer to read the rest of the value from.
+     * @throws IOException   If unable to read the value.
+     * @throws JsonException If the JSON is not valid.
+     */
+    void readField(PMessageBuilder<?, ?> builder, String key, JsonToken token, JsonTokenizer tokenizer)
+            throws IOException, JsonException;
+}
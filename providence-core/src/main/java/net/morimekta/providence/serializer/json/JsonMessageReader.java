@@ -0,0 +1,50 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.serializer.json;
+
+import net.morimekta.providence.descriptor.PMessageDescriptor;
+import net.morimekta.util.json.JsonException;
+import net.morimekta.util.json.JsonTokenizer;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Interface for message builders that can read JSON directly from a
+ * JSON tokenizer.
+ */
+public interface JsonMessageReader {
+    /**
+     * Read the fields of a JSON object into the current builder. The
+     * object start symbol has already been read, and this method reads
+     * up to and including the object end symbol.
+     *
+     * NOTE: This method is not intended to be used directly. Instead use
+     * the {@link net.morimekta.providence.serializer.JsonSerializer#deserialize(InputStream, PMessageDescriptor)}
+     * call.
+     *
+     * @param tokenizer The tokenizer to read from.
+     * @param format    The JSON format to read with.
+     * @throws IOException   When unable to read message for any reason.
+     * @throws JsonException If the JSON is not valid.
+     */
+    void readJson(JsonTokenizer tokenizer, JsonFormat format) throws IOException, JsonException;
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.serializer.json;
+
+import net.morimekta.providence.PMessage;
+import net.morimekta.providence.serializer.SerializerException;
+import net.morimekta.util.json.JsonWriter;
+
+import java.io.OutputStream;
+
+/**
+ * Interface for messages that can directly be written to JSON.
+ */
+public interface JsonMessageWriter {
+    /**
+     * Write the current message as a JSON object to the JSON writer.
+     *
+     * NOTE: This method is not intended to be used directly. Instead use
+     * the {@link net.morimekta.providence.serializer.JsonSerializer#serialize(OutputStream, PMessage)}
+     * call.
+     *
+     * @param writer The JSON writer to write to.
+     * @param format The JSON format to write with.
+     * @throws SerializerException If it failed to write the message for any reason.
+     */
+    void writeJson(JsonWriter writer, JsonFormat format) throws SerializerException;
+}
@@ -0,0 +1,467 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.streams;
+
+import net.morimekta.providence.PMessage;
+import net.morimekta.providence.descriptor.PField;
+import net.morimekta.providence.descriptor.PMessageDescriptor;
+import net.morimekta.providence.serializer.Serializer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * A memory mapped file of messages, with an index of where each message
+ * record is in the file. The records themselves are not parsed, so can be
+ * deserialized independently of each other, e.g. from multiple threads.
+ *
+ * The file is mapped in segments of up to 2 GB, each segment containing
+ * only whole records, so files larger than 2 GB can be mapped. The file
+ * mapping is released when the mapped file instance is garbage collected.
+ *
+ * The record index can be stored in a sidecar index file, so it does not
+ * have to be rebuilt every time the file is mapped. The message file is
+ * assumed to only ever be appended to, so when the file has grown since
+ * the index was stored, only the new content is scanned, and the index
+ * file is updated.
+ */
+public final class MappedMessageFile {
+    private static final int    SCAN_BUFFER_SIZE = 1 << 16;
+    private static final long   MAX_SEGMENT_SIZE = Integer.MAX_VALUE;
+    private static final int    INDEX_MAGIC      = 0x50564958;  // "PVIX"
+    private static final int    INDEX_VERSION    = 1;
+    private static final String UNFRAMED         = "UNFRAMED";
+
+    /**
+     * Map a framed message file, and index the message records in it.
+     *
+     * @param file The file to map.
+     * @param framing The message framing used in the file.
+     * @return The mapped message file.
+     * @throws IOException If unable to read or map the file, or the file
+     *                     framing is invalid.
+     */
+    @Nonnull
+    public static MappedMessageFile map(@Nonnull Path file, @Nonnull MessageFraming framing) throws IOException {
+        return map(file, framing, null);
+    }
+
+    /**
+     * Map a framed message file, and index the message records in it using
+     * a sidecar index file. If the index file exists and is valid for the
+     * message file it is loaded, otherwise it is (re-)written.
+     *
+     * @param file The file to map.
+     * @param framing The message framing used in the file.
+     * @param indexFile The sidecar index file, or null for no index file.
+     * @return The mapped message file.
+     * @throws IOException If unable to read or map the file, or the file
+     *                     framing is invalid.
+     */
+    @Nonnull
+    public static MappedMessageFile map(@Nonnull Path file,
+                                        @Nonnull MessageFraming framing,
+                                        @Nullable Path indexFile) throws IOException {
+        return map(file, framing.name(), scanner(framing), indexFile, MAX_SEGMENT_SIZE);
+    }
+
+    /**
+     * Map a file of binary serialized messages without any framing, as
+     * written by the binary serializers with the normal message writers and
+     * collectors. Since the record boundaries are not known, the messages
+     * has to be parsed once when indexing the file, so it is recommended to
+     * use a sidecar index file for large files.
+     *
+     * @param file The file to map.
+     * @param serializer The binary serializer to parse the messages with.
+     * @param descriptor The descriptor of the messages in the file.
+     * @param indexFile The sidecar index file, or null for no index file.
+     * @param <Message> The message type.
+     * @param <Field> The field type.
+     * @return The mapped message file.
+     * @throws IOException If unable to read or map the file, or the file
+     *                     contains invalid messages.
+     */
+    @Nonnull
+    public static <Message extends PMessage<Message, Field>, Field extends PField>
+    MappedMessageFile map(@Nonnull Path file,
+                          @Nonnull Serializer serializer,
+                          @Nonnull PMessageDescriptor<Message, Field> descriptor,
+                          @Nullable Path indexFile) throws IOException {
+        if (!serializer.binaryProtocol()) {
+            throw new IllegalArgumentException(
+                    "Non-binary serializer " + serializer.getClass().getSimpleName() +
+                    " can not be used for unframed files, use separated framing");
+        }
+        return map(file, UNFRAMED + ":" + descriptor.getQualifiedName(),
+                   unframedScanner(serializer, descriptor), indexFile, MAX_SEGMENT_SIZE);
+    }
+
+    /**
+     * @return The number of message records in the file.
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * @param index The record index.
+     * @return The file offset of the serialized message of the record.
+     */
+    public long offset(int index) {
+        checkIndex(index);
+        return offsets[index];
+    }
+
+    /**
+     * @param index The record index.
+     * @return The serialized message size of the record.
+     */
+    public int length(int index) {
+        checkIndex(index);
+        return lengths[index];
+    }
+
+    /**
+     * Get the serialized message of a record. The returned buffer is a new
+     * read-only buffer instance, and can be used independently of any other
+     * buffers returned.
+     *
+     * @param index The record index.
+     * @return The buffer containing the serialized message.
+     */
+    @Nonnull
+    public ByteBuffer record(int index) {
+        checkIndex(index);
+        int segment = segmentOf(index);
+        int position = (int) (offsets[index] - segmentOffsets[segment]);
+
+        ByteBuffer buffer = segments[segment].duplicate();
+        buffer.limit(position + lengths[index]);
+        buffer.position(position);
+        return buffer.slice();
+    }
+
+    // --- Package Private ---
+
+    static MappedMessageFile map(Path file, MessageFraming framing, long maxSegmentSize) throws IOException {
+        return map(file, framing.name(), scanner(framing), null, maxSegmentSize);
+    }
+
+    static <Message extends PMessage<Message, Field>, Field extends PField>
+    MappedMessageFile map(Path file,
+                          Serializer serializer,
+                          PMessageDescriptor<Message, Field> descriptor,
+                          long maxSegmentSize) throws IOException {
+        return map(file, UNFRAMED + ":" + descriptor.getQualifiedName(),
+                   unframedScanner(serializer, descriptor), null, maxSegmentSize);
+    }
+
+    // --- Private ---
+
+    /**
+     * Scan records from the file, adding them to the index.
+     */
+    @FunctionalInterface
+    private interface Scanner {
+        /**
+         * @param mapped The mapped file to add records to.
+         * @param channel The file channel to read.
+         * @param start The file offset to start scanning from.
+         * @param size The file size.
+         * @param maxSegmentSize The max size to map at once.
+         * @return The file offset up to which all records are complete.
+         * @throws IOException If unable to scan the file.
+         */
+        long scan(MappedMessageFile mapped, FileChannel channel, long start, long size, long maxSegmentSize)
+                throws IOException;
+    }
+
+    private long[]             offsets;
+    private int[]              lengths;
+    private int                count;
+    private int[]              segmentFirst;
+    private long[]             segmentOffsets;
+    private MappedByteBuffer[] segments;
+
+    private MappedMessageFile() {
+        this.offsets = new long[1 << 10];
+        this.lengths = new int[1 << 10];
+        this.count = 0;
+    }
+
+    private static MappedMessageFile map(Path file,
+                                         String kind,
+                                         Scanner scanner,
+                                         Path indexFile,
+                                         long maxSegmentSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            MappedMessageFile mapped = new MappedMessageFile();
+
+            long start = indexFile == null ? -1 : mapped.loadIndex(indexFile, kind, size);
+            long end = scanner.scan(mapped, channel, Math.max(0, start), size, maxSegmentSize);
+            if (indexFile != null && end != start) {
+                mapped.storeIndex(indexFile, kind, end);
+            }
+
+            // The mapping stays valid after the channel is closed.
+            mapped.mapSegments(channel, maxSegmentSize);
+            return mapped;
+        }
+    }
+
+    private static Scanner scanner(MessageFraming framing) {
+        switch (framing) {
+            case LENGTH_PREFIXED:
+                return (mapped, channel, start, size, maxSegmentSize) ->
+                        mapped.scanLengthPrefixed(new DataInputStream(open(channel, start)), start, size);
+            case SEPARATED:
+                return (mapped, channel, start, size, maxSegmentSize) ->
+                        mapped.scanSeparated(open(channel, start), start);
+            default:
+                throw new IllegalArgumentException("Unhandled framing " + framing);
+        }
+    }
+
+    private static <Message extends PMessage<Message, Field>, Field extends PField>
+    Scanner unframedScanner(Serializer serializer, PMessageDescriptor<Message, Field> descriptor) {
+        return (mapped, channel, start, size, maxSegmentSize) -> {
+            long windowStart = start;
+            while (windowStart < size) {
+                long windowSize = Math.min(maxSegmentSize, size - windowStart);
+                ByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windowSize);
+                int position = 0;
+                while (window.hasRemaining()) {
+                    try {
+                        serializer.deserialize(window, descriptor);
+                    } catch (IOException e) {
+                        // The buffer readers fail when reading past the end
+                        // of the window, so a record cut at the window end
+                        // is never indexed as complete.
+                        if (position > 0 && windowStart + windowSize < size) {
+                            // The record may continue past the mapped window,
+                            // so map the next window from the record start.
+                            break;
+                        }
+                        throw new IOException("Invalid message at offset " + (windowStart + position) + ": " +
+                                              e.getMessage(), e);
+                    }
+                    mapped.add(windowStart + position, window.position() - position);
+                    position = window.position();
+                }
+                windowStart += position;
+            }
+            return size;
+        };
+    }
+
+    private static InputStream open(FileChannel channel, long start) throws IOException {
+        return new BufferedInputStream(Channels.newInputStream(channel.position(start)), SCAN_BUFFER_SIZE);
+    }
+
+    private long scanLengthPrefixed(DataInputStream in, long start, long size) throws IOException {
+        long position = start;
+        while (position < size) {
+            if (size - position < Integer.BYTES) {
+                throw new IOException("Truncated length prefix at offset " + position);
+            }
+            int length = in.readInt();
+            position += Integer.BYTES;
+            if (length < 0 || length > size - position) {
+                throw new IOException("Invalid record length " + length + " at offset " + (position - Integer.BYTES));
+            }
+            add(position, length);
+            skipFully(in, length);
+            position += length;
+        }
+        return position;
+    }
+
+    private long scanSeparated(InputStream in, long start) throws IOException {
+        byte[] buffer = new byte[SCAN_BUFFER_SIZE];
+        long position = start;
+        long recordStart = start;
+        int read;
+        while ((read = in.read(buffer)) > 0) {
+            for (int i = 0; i < read; ++i) {
+                if (buffer[i] == MessageFraming.SEPARATOR) {
+                    addSeparated(recordStart, position + i);
+                    recordStart = position + i + 1;
+                }
+            }
+            position += read;
+        }
+        // Last record may not be terminated, e.g. if still being written,
+        // so it is not counted as complete.
+        addSeparated(recordStart, position);
+        return recordStart;
+    }
+
+    private void addSeparated(long start, long end) throws IOException {
+        if (end - start > Integer.MAX_VALUE) {
+            throw new IOException("Record at offset " + start + " too large: " + (end - start) + " bytes");
+        }
+        // Empty lines are not records.
+        if (end > start) {
+            add(start, (int) (end - start));
+        }
+    }
+
+    private void add(long offset, int length) {
+        if (count == offsets.length) {
+            offsets = Arrays.copyOf(offsets, count * 2);
+            lengths = Arrays.copyOf(lengths, count * 2);
+        }
+        offsets[count] = offset;
+        lengths[count] = length;
+        ++count;
+    }
+
+    /**
+     * Load the index file if valid.
+     *
+     * @return The file offset up to which the index is complete, or -1 if
+     *         no valid index was loaded.
+     */
+    private long loadIndex(Path indexFile, String kind, long size) throws IOException {
+        if (!Files.exists(indexFile)) {
+            return -1;
+        }
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(indexFile), SCAN_BUFFER_SIZE))) {
+            if (in.readInt() != INDEX_MAGIC ||
+                in.readInt() != INDEX_VERSION ||
+                !kind.equals(in.readUTF())) {
+                return -1;
+            }
+            long end = in.readLong();
+            int num = in.readInt();
+            if (end > size || num < 0) {
+                // The file has been truncated or replaced.
+                return -1;
+            }
+            for (int i = 0; i < num; ++i) {
+                add(in.readLong(), in.readInt());
+            }
+            return end;
+        } catch (EOFException e) {
+            // Truncated index file, rebuild it.
+            count = 0;
+            return -1;
+        }
+    }
+
+    private void storeIndex(Path indexFile, String kind, long end) throws IOException {
+        int num = count;
+        while (num > 0 && offsets[num - 1] + lengths[num - 1] > end) {
+            --num;
+        }
+
+        Path parent = indexFile.toAbsolutePath().getParent();
+        Path tmp = Files.createTempFile(parent, ".pvd.", ".index");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tmp), SCAN_BUFFER_SIZE))) {
+                out.writeInt(INDEX_MAGIC);
+                out.writeInt(INDEX_VERSION);
+                out.writeUTF(kind);
+                out.writeLong(end);
+                out.writeInt(num);
+                for (int i = 0; i < num; ++i) {
+                    out.writeLong(offsets[i]);
+                    out.writeInt(lengths[i]);
+                }
+            }
+            Files.move(tmp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private void mapSegments(FileChannel channel, long maxSegmentSize) throws IOException {
+        int[] first = new int[1];
+        int numSegments = 0;
+        for (int i = 0; i < count; ++i) {
+            if (i == 0 || offsets[i] + lengths[i] - offsets[first[numSegments - 1]] > maxSegmentSize) {
+                if (numSegments == first.length) {
+                    first = Arrays.copyOf(first, numSegments * 2);
+                }
+                first[numSegments++] = i;
+            }
+        }
+
+        segmentFirst = Arrays.copyOf(first, numSegments);
+        segmentOffsets = new long[numSegments];
+        segments = new MappedByteBuffer[numSegments];
+        for (int s = 0; s < numSegments; ++s) {
+            int last = (s + 1 < numSegments ? segmentFirst[s + 1] : count) - 1;
+            long start = offsets[segmentFirst[s]];
+            long end = offsets[last] + lengths[last];
+            segmentOffsets[s] = start;
+            segments[s] = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        }
+    }
+
+    private int segmentOf(int index) {
+        if (segments.length == 1) {
+            return 0;
+        }
+        int pos = Arrays.binarySearch(segmentFirst, index);
+        return pos < 0 ? -pos - 2 : pos;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Record index " + index + " not in [0.." + count + ")");
+        }
+    }
+
+    private static void skipFully(InputStream in, int length) throws IOException {
+        long remaining = length;
+        while (remaining > 0) {
+            long skipped = in.skip(remaining);
+            if (skipped <= 0) {
+                if (in.read() < 0) {
+                    throw new EOFException("Unexpected end of file");
+                }
+                skipped = 1;
+            }
+            remaining -= skipped;
+        }
+    }
+}
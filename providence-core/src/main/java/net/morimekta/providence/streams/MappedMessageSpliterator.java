@@ -0,0 +1,142 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.streams;
+
+import net.morimekta.providence.PMessage;
+import net.morimekta.providence.descriptor.PField;
+import net.morimekta.providence.descriptor.PMessageDescriptor;
+import net.morimekta.providence.serializer.Serializer;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator that reads messages from a memory mapped message file. Since
+ * the location of each message is known up front, the spliterator can be
+ * split into ranges of records, so the messages can be deserialized in
+ * parallel.
+ */
+public class MappedMessageSpliterator<Message extends PMessage<Message, Field>, Field extends PField>
+        implements Spliterator<Message> {
+    /**
+     * Make a spliterator over all records in the mapped file.
+     *
+     * @param file The mapped message file.
+     * @param serializer Serializer to use.
+     * @param descriptor The message descriptor of contained messages.
+     */
+    public MappedMessageSpliterator(@Nonnull MappedMessageFile file,
+                                    @Nonnull Serializer serializer,
+                                    @Nonnull PMessageDescriptor<Message, Field> descriptor) {
+        this(file, serializer, descriptor, 0, file.count());
+    }
+
+    /**
+     * Make a spliterator over a range of records in the mapped file.
+     *
+     * @param file The mapped message file.
+     * @param serializer Serializer to use.
+     * @param descriptor The message descriptor of contained messages.
+     * @param from The first record index, inclusive.
+     * @param to The last record index, exclusive.
+     */
+    public MappedMessageSpliterator(@Nonnull MappedMessageFile file,
+                                    @Nonnull Serializer serializer,
+                                    @Nonnull PMessageDescriptor<Message, Field> descriptor,
+                                    int from,
+                                    int to) {
+        if (from < 0 || to > file.count() || from > to) {
+            throw new IndexOutOfBoundsException("Invalid range [" + from + ".." + to + ") of " + file.count() + " records");
+        }
+        this.file = file;
+        this.serializer = serializer;
+        this.descriptor = descriptor;
+        this.index = from;
+        this.to = to;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Message> action) {
+        if (index < to) {
+            action.accept(read(index++));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Message> action) {
+        while (index < to) {
+            action.accept(read(index++));
+        }
+    }
+
+    /**
+     * Split off the first half of the remaining records.
+     *
+     * @return The spliterator of the first half, or null if only one
+     *         record remains.
+     */
+    @Override
+    public Spliterator<Message> trySplit() {
+        int mid = (index + to) >>> 1;
+        if (mid <= index) {
+            return null;
+        }
+        Spliterator<Message> prefix = new MappedMessageSpliterator<>(file, serializer, descriptor, index, mid);
+        index = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return to - index;
+    }
+
+    /**
+     * Ordered, non-null, immutable and with known size, also when split.
+     *
+     * @return The characteristics.
+     */
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL | IMMUTABLE | SIZED | SUBSIZED;
+    }
+
+    // --- PRIVATE ---
+    private final MappedMessageFile                  file;
+    private final PMessageDescriptor<Message, Field> descriptor;
+    private final Serializer                         serializer;
+    private final int                                to;
+
+    private int index;
+
+    private Message read(int i) {
+        try {
+            return serializer.deserialize(file.record(i), descriptor);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read record " + i + ": " + e.getMessage(), e);
+        }
+    }
+}
@@ -23,6 +23,7 @@ package net.morimekta.providence.streams;
 import com.google.common.base.Suppliers;
 import net.morimekta.providence.PMessage;
 import net.morimekta.providence.descriptor.PField;
+import net.morimekta.providence.serializer.JsonSerializer;
 import net.morimekta.providence.serializer.Serializer;
 import net.morimekta.providence.serializer.SerializerException;
 
@@ -104,6 +105,72 @@ public class MessageCollectors {
         });
     }
 
+    /**
+     * Write stream of messages to file described by path, using the given
+     * message framing. See {@link MessageStreams#mapped(Path, Serializer, net.morimekta.providence.descriptor.PMessageDescriptor, MessageFraming)}.
+     *
+     * @param file The file path.
+     * @param serializer The serializer to use.
+     * @param framing The message framing to use.
+     * @param <Message> The message type.
+     * @param <Field> The field type.
+     * @return The collector.
+     */
+    @Nonnull
+    public static <Message extends PMessage<Message, Field>, Field extends PField>
+    Collector<Message, OutputStream, Integer> toPath(Path file,
+                                                     Serializer serializer,
+                                                     MessageFraming framing) {
+        return toFile(file.toFile(), serializer, framing);
+    }
+
+    /**
+     * write stream of messages to file, using the given message framing.
+     *
+     * @param file The file to write.
+     * @param serializer The serializer to use.
+     * @param framing The message framing to use.
+     * @param <Message> The message type.
+     * @param <Field> The field type.
+     * @return The collector.
+     */
+    @Nonnull
+    public static <Message extends PMessage<Message, Field>, Field extends PField>
+    Collector<Message, OutputStream, Integer> toFile(File file,
+                                                     Serializer serializer,
+                                                     MessageFraming framing) {
+        framing.checkSerializer(serializer);
+        final AtomicInteger result = new AtomicInteger(0);
+        final Object mutex = new Object();
+
+        return Collector.of(Suppliers.memoize(() -> {
+            // Delay file creation until the write starts.
+            try {
+                return new BufferedOutputStream(new FileOutputStream(file));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to open " + file.getName(), e);
+            }
+        }), (outputStream, t) -> {
+            try {
+                synchronized (mutex) {
+                    result.addAndGet(framing.write(outputStream, serializer, t));
+                }
+            } catch (SerializerException e) {
+                throw new UncheckedIOException("Bad data", e);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to write to " + file.getName(), e);
+            }
+        }, (a, b) -> a, (outputStream) -> {
+            try {
+                outputStream.flush();
+                outputStream.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to close " + file.getName(), e);
+            }
+            return result.getAndSet(0);
+        });
+    }
+
     /**
      * Serialize stream of messages into stream.
      *
@@ -162,6 +229,76 @@ public class MessageCollectors {
         });
     }
 
+    /**
+     * Serialize stream of messages into a JSON array. The array is written
+     * incrementally as the messages are collected, so the messages are never
+     * held in memory. An empty stream gives an empty array.
+     *
+     * @param out The output stream to write to.
+     * @param serializer The JSON serializer to use.
+     * @param <Message> The message type.
+     * @param <Field> The field type.
+     * @return The collector.
+     */
+    @Nonnull
+    public static <Message extends PMessage<Message, Field>, Field extends PField>
+    Collector<Message, AtomicInteger, Integer> toJsonArray(OutputStream out,
+                                                           JsonSerializer serializer) {
+        return toJsonArray(out, serializer, false);
+    }
+
+    /**
+     * Serialize stream of messages into a JSON array. The array is written
+     * incrementally as the messages are collected, so the messages are never
+     * held in memory. An empty stream gives an empty array.
+     *
+     * @param out The output stream to write to.
+     * @param serializer The JSON serializer to use.
+     * @param close Close the stream when ending.
+     * @param <Message> The message type.
+     * @param <Field> The field type.
+     * @return The collector.
+     */
+    @Nonnull
+    public static <Message extends PMessage<Message, Field>, Field extends PField>
+    Collector<Message, AtomicInteger, Integer> toJsonArray(OutputStream out,
+                                                           JsonSerializer serializer,
+                                                           boolean close) {
+        // The written byte count is shared, as it also tells if the array
+        // start has been written.
+        final AtomicInteger result = new AtomicInteger(0);
+
+        return Collector.of(() -> result, (counter, t) -> {
+            try {
+                synchronized (out) {
+                    out.write(counter.get() == 0 ? '[' : ',');
+                    counter.incrementAndGet();
+                    counter.addAndGet(serializer.serialize(out, t));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e.getMessage(), e);
+            }
+        }, (a, b) -> a, counter -> {
+            try {
+                synchronized (out) {
+                    if (counter.get() == 0) {
+                        out.write('[');
+                        counter.incrementAndGet();
+                    }
+                    out.write(']');
+                    counter.incrementAndGet();
+                    out.flush();
+                    if (close) {
+                        out.close();
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e.getMessage(), e);
+            }
+            return counter.getAndSet(0);
+        });
+    }
+
     private static int writeReadableSep(OutputStream out) throws IOException {
         out.write('\n');
         return 1;
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.streams;
+
+import net.morimekta.providence.PMessage;
+import net.morimekta.providence.descriptor.PField;
+import net.morimekta.providence.serializer.Serializer;
+
+import javax.annotation.Nonnull;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * How messages are framed in a message file, so that the record boundaries
+ * can be found without deserializing the messages. Framed files can be
+ * indexed and read in parallel, see {@link MessageStreams#mapped(java.nio.file.Path, Serializer, net.morimekta.providence.descriptor.PMessageDescriptor, MessageFraming)}.
+ */
+public enum MessageFraming {
+    /**
+     * Each message is prefixed with its serialized size as a 4 byte big
+     * endian integer. Works with all serializers.
+     */
+    LENGTH_PREFIXED,
+    /**
+     * Each message is followed by a newline. This is the format written for
+     * non-binary serializers by {@link MessageCollectors#toFile(java.io.File, Serializer)},
+     * and only works with serializers that never output a raw newline
+     * inside a message, e.g. non-pretty JSON.
+     */
+    SEPARATED,
+    ;
+
+    /**
+     * The separator char used for {@link #SEPARATED} framing.
+     */
+    public static final byte SEPARATOR = '\n';
+
+    /**
+     * Check if the serializer can be used with the framing.
+     *
+     * @param serializer The serializer to check.
+     * @throws IllegalArgumentException If the serializer can not be used.
+     */
+    public void checkSerializer(@Nonnull Serializer serializer) {
+        if (this == SEPARATED && serializer.binaryProtocol()) {
+            throw new IllegalArgumentException(
+                    "Binary serializer " + serializer.getClass().getSimpleName() +
+                    " can not be used with separated framing");
+        }
+    }
+
+    /**
+     * Write a framed message to the output stream.
+     *
+     * @param out The output stream to write to.
+     * @param serializer The serializer to use.
+     * @param message The message to write.
+     * @param <Message> The message type.
+     * @param <Field> The field type.
+     * @return The number of bytes written, including framing.
+     * @throws IOException If unable to write the message.
+     */
+    public <Message extends PMessage<Message, Field>, Field extends PField>
+    int write(@Nonnull OutputStream out,
+              @Nonnull Serializer serializer,
+              @Nonnull Message message) throws IOException {
+        if (this == LENGTH_PREFIXED) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            int size = serializer.serialize(buffer, message);
+            out.write(size >>> 24);
+            out.write(size >>> 16);
+            out.write(size >>> 8);
+            out.write(size);
+            buffer.writeTo(out);
+            return size + Integer.BYTES;
+        }
+        int size = serializer.serialize(out, message);
+        out.write(SEPARATOR);
+        return size + 1;
+    }
+}
@@ -23,6 +23,7 @@ package net.morimekta.providence.streams;
 import net.morimekta.providence.PMessage;
 import net.morimekta.providence.descriptor.PField;
 import net.morimekta.providence.descriptor.PMessageDescriptor;
+import net.morimekta.providence.serializer.JsonSerializer;
 import net.morimekta.providence.serializer.Serializer;
 
 import javax.annotation.Nonnull;
@@ -31,6 +32,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -134,4 +136,59 @@ public class MessageStreams {
         return StreamSupport.stream(new MessageSpliterator<>(in, serializer, descriptor), false);
     }
 
+    /**
+     * Read a JSON array of messages from an input stream. The messages are
+     * read as the stream is consumed, so the whole array is never held in
+     * memory. The input stream is closed when the returned stream is
+     * closed.
+     *
+     * @param in         The input stream to read.
+     * @param serializer The JSON serializer to use.
+     * @param descriptor The descriptor of the messages in the array.
+     * @param <Message>  The message type.
+     * @param <Field>    The message field type.
+     * @return The stream that reads the array.
+     * @throws IOException when unable to read the start of the array.
+     */
+    @Nonnull
+    public static <Message extends PMessage<Message, Field>, Field extends PField>
+    Stream<Message> jsonArray(@Nonnull InputStream in,
+                              @Nonnull JsonSerializer serializer,
+                              @Nonnull PMessageDescriptor<Message, Field> descriptor)
+            throws IOException {
+        return serializer.deserializeArray(in, descriptor).onClose(() -> {
+            try {
+                in.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Read a framed message file using memory mapping. The file is indexed
+     * up front, so the returned stream is sized and splittable, meaning it
+     * can be deserialized in parallel by calling {@link Stream#parallel()}.
+     *
+     * @param file       The file to read.
+     * @param serializer The serializer to use.
+     * @param descriptor The descriptor of the entry type of the file.
+     * @param framing    The message framing used in the file.
+     * @param <Message>  The message type.
+     * @param <Field>    The message field type.
+     * @return The stream that reads the file.
+     * @throws IOException when unable to map or index the file.
+     */
+    @Nonnull
+    public static <Message extends PMessage<Message, Field>, Field extends PField>
+    Stream<Message> mapped(@Nonnull Path file,
+                           @Nonnull Serializer serializer,
+                           @Nonnull PMessageDescriptor<Message, Field> descriptor,
+                           @Nonnull MessageFraming framing)
+            throws IOException {
+        framing.checkSerializer(serializer);
+        MappedMessageFile mapped = MappedMessageFile.map(file, framing);
+        return StreamSupport.stream(new MappedMessageSpliterator<>(mapped, serializer, descriptor), false);
+    }
+
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.util;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+
+/**
+ * Lookup from field ID to the index of the field in a list of fields.
+ * The IDs are looked up with a table when they are reasonably dense, and
+ * with a binary search otherwise.
+ */
+public final class FieldIdIndex {
+    /**
+     * Create an index of the field IDs.
+     *
+     * @param ids The field IDs, by field index. Must be unique.
+     */
+    public FieldIdIndex(@Nonnull int[] ids) {
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int id : ids) {
+            min = Math.min(min, id);
+            max = Math.max(max, id);
+        }
+        this.minId = min;
+
+        long span = (long) max - min + 1;
+        if (ids.length > 0 && span <= (long) ids.length * (MAX_TABLE_WASTE + 1)) {
+            this.idTable = new int[(int) span];
+            Arrays.fill(idTable, -1);
+            for (int i = 0; i < ids.length; ++i) {
+                idTable[ids[i] - min] = i;
+            }
+            this.sortedIds = null;
+            this.sortedIndex = null;
+        } else {
+            Integer[] order = new Integer[ids.length];
+            for (int i = 0; i < order.length; ++i) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Integer.compare(ids[a], ids[b]));
+            this.idTable = null;
+            this.sortedIds = new int[order.length];
+            this.sortedIndex = new int[order.length];
+            for (int i = 0; i < order.length; ++i) {
+                sortedIds[i] = ids[order[i]];
+                sortedIndex[i] = order[i];
+            }
+        }
+    }
+
+    /**
+     * @param id The field ID.
+     * @return The field index, or -1 if no such field.
+     */
+    public int indexOf(int id) {
+        if (idTable != null) {
+            int pos = id - minId;
+            if (pos < 0 || pos >= idTable.length) {
+                return -1;
+            }
+            return idTable[pos];
+        }
+        int pos = Arrays.binarySearch(sortedIds, id);
+        return pos < 0 ? -1 : sortedIndex[pos];
+    }
+
+    // Max number of unused slots in the ID lookup table per field.
+    private static final int MAX_TABLE_WASTE = 4;
+
+    private final int   minId;
+    private final int[] idTable;
+    private final int[] sortedIds;
+    private final int[] sortedIndex;
+}
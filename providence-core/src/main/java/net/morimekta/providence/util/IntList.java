@@ -0,0 +1,198 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.util;
+
+import net.morimekta.providence.descriptor.PList;
+
+import javax.annotation.Nonnull;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable list of int values backed by a int array. The values are not
+ * boxed when the list is built, hashed or compared, only when accessed
+ * through the {@link java.util.List} interface. Use {@link #getInt(int)}
+ * to access the values without boxing.
+ * <p>
+ * The hash code and equality is the same as for other lists with the same
+ * boxed values.
+ */
+public final class IntList extends AbstractList<Integer> implements RandomAccess {
+    /**
+     * Builder for int lists, also used as list builder when deserializing.
+     */
+    public static class Builder implements PList.Builder<Integer> {
+        private int[] values;
+        private int size;
+
+        public Builder() {
+            this(INITIAL_CAPACITY);
+        }
+
+        /**
+         * @param capacity The expected number of values. The initial capacity
+         *                 is limited so a bad size does not allocate too much
+         *                 memory.
+         */
+        public Builder(int capacity) {
+            this.values = new int[Math.max(0, Math.min(capacity, MAX_INITIAL_CAPACITY))];
+            this.size = 0;
+        }
+
+        @Nonnull
+        public Builder add(int value) {
+            ensureCapacity(size + 1);
+            values[size++] = value;
+            return this;
+        }
+
+        @Nonnull
+        @Override
+        public Builder add(@Nonnull Integer value) {
+            return add(value.intValue());
+        }
+
+        @Nonnull
+        @Override
+        public Builder addAll(@Nonnull Collection<Integer> items) {
+            ensureCapacity(size + items.size());
+            if (items instanceof IntList) {
+                IntList other = (IntList) items;
+                System.arraycopy(other.values, 0, values, size, other.values.length);
+                size += other.values.length;
+            } else {
+                for (Integer item : items) {
+                    values[size++] = item;
+                }
+            }
+            return this;
+        }
+
+        @Nonnull
+        @Override
+        public IntList build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            return new IntList(Arrays.copyOf(values, size));
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > values.length) {
+                values = Arrays.copyOf(values, Math.max(capacity, values.length * 2));
+            }
+        }
+    }
+
+    /**
+     * @param values The values of the list.
+     * @return The list.
+     */
+    @Nonnull
+    public static IntList of(int... values) {
+        if (values.length == 0) {
+            return EMPTY;
+        }
+        return new IntList(values.clone());
+    }
+
+    /**
+     * Make an immutable copy of a collection of values. If the collection
+     * is already a int list, it is returned as is.
+     *
+     * @param values The values to copy.
+     * @return The list.
+     */
+    @Nonnull
+    public static IntList copyOf(@Nonnull Collection<Integer> values) {
+        if (values instanceof IntList) {
+            return (IntList) values;
+        }
+        return new Builder(values.size()).addAll(values).build();
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public Integer get(int index) {
+        return values[index];
+    }
+
+    /**
+     * Get a value without boxing it.
+     *
+     * @param index The value index.
+     * @return The value.
+     */
+    public int getInt(int index) {
+        return values[index];
+    }
+
+    /**
+     * @return A copy of the values as an array.
+     */
+    @Nonnull
+    public int[] toIntArray() {
+        return values.clone();
+    }
+
+    /**
+     * @return A stream of the values.
+     */
+    @Nonnull
+    public IntStream intStream() {
+        return Arrays.stream(values);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (o instanceof IntList) {
+            return Arrays.equals(values, ((IntList) o).values);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        // Same as the list hash code of the boxed values.
+        return Arrays.hashCode(values);
+    }
+
+    private static final int MAX_INITIAL_CAPACITY = 1 << 16;
+    private static final int INITIAL_CAPACITY     = 10;
+
+    private static final IntList EMPTY = new IntList(new int[0]);
+
+    private final int[] values;
+
+    private IntList(int[] values) {
+        this.values = values;
+    }
+}
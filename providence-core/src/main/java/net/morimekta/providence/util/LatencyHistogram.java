@@ -0,0 +1,181 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.util;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of latencies, in the style of HDR histograms. Values
+ * are recorded in microseconds into buckets where each power of two is split
+ * into {@value #SUB_BUCKETS} linear sub-buckets, so the recorded values have
+ * a relative precision of about 6%. Values from 0 to about 12 days can be
+ * recorded, larger values are counted in the last bucket.
+ */
+public class LatencyHistogram {
+    /**
+     * Immutable snapshot of the histogram.
+     */
+    public static class Snapshot {
+        private final long[] counts;
+        private final long   count;
+        private final long   sumMicros;
+        private final long   maxMicros;
+
+        private Snapshot(long[] counts, long count, long sumMicros, long maxMicros) {
+            this.counts = counts;
+            this.count = count;
+            this.sumMicros = sumMicros;
+            this.maxMicros = maxMicros;
+        }
+
+        /**
+         * @return The number of recorded values.
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @return The mean of the recorded values in milliseconds.
+         */
+        public double getMean() {
+            if (count == 0) {
+                return 0.0;
+            }
+            return ((double) sumMicros) / count / MICROS_IN_MILLIS;
+        }
+
+        /**
+         * @return The max recorded value in milliseconds.
+         */
+        public double getMax() {
+            return ((double) maxMicros) / MICROS_IN_MILLIS;
+        }
+
+        /**
+         * Get the value at the given percentile. The value is the upper bound
+         * of the bucket containing the percentile, but never more than the
+         * max recorded value.
+         *
+         * @param percentile The percentile, from 0.0 to 100.0.
+         * @return The value at the percentile in milliseconds.
+         */
+        public double getPercentile(double percentile) {
+            if (percentile < 0.0 || percentile > 100.0) {
+                throw new IllegalArgumentException("Invalid percentile: " + percentile);
+            }
+            if (count == 0) {
+                return 0.0;
+            }
+            long target = Math.max(1L, (long) Math.ceil(count * percentile / 100.0));
+            long seen = 0;
+            for (int i = 0; i < counts.length; ++i) {
+                seen += counts[i];
+                if (seen >= target) {
+                    return ((double) Math.min(upperBound(i), maxMicros)) / MICROS_IN_MILLIS;
+                }
+            }
+            return getMax();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("{count=%d, mean=%.3f, p50=%.3f, p99=%.3f, max=%.3f}",
+                                 count, getMean(), getPercentile(50), getPercentile(99), getMax());
+        }
+    }
+
+    public LatencyHistogram() {
+        this.counts = new AtomicLongArray(NUM_BUCKETS);
+        this.sumMicros = new LongAdder();
+        this.maxMicros = new AtomicLong();
+    }
+
+    /**
+     * Record a latency.
+     *
+     * @param durationInMs The latency in milliseconds.
+     */
+    public void record(double durationInMs) {
+        long micros = Math.max(0L, (long) (durationInMs * MICROS_IN_MILLIS));
+        counts.incrementAndGet(bucketIndex(micros));
+        sumMicros.add(micros);
+        long max = maxMicros.get();
+        while (micros > max && !maxMicros.compareAndSet(max, micros)) {
+            max = maxMicros.get();
+        }
+    }
+
+    /**
+     * Make a snapshot of the histogram. As values may be recorded while the
+     * snapshot is made, the sum and max may be slightly off from the
+     * buckets.
+     *
+     * @return The snapshot.
+     */
+    @Nonnull
+    public Snapshot snapshot() {
+        long[] copy = new long[NUM_BUCKETS];
+        long total = 0;
+        for (int i = 0; i < NUM_BUCKETS; ++i) {
+            copy[i] = counts.get(i);
+            total += copy[i];
+        }
+        return new Snapshot(copy, total, sumMicros.sum(), maxMicros.get());
+    }
+
+    static final int SUB_BUCKETS = 16;
+
+    private static final int    SUB_BUCKET_BITS  = 4;
+    // Max recorded value is 2^40 micros, about 12.7 days.
+    private static final int    MAX_EXPONENT     = 40;
+    private static final int    NUM_BUCKETS      = (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+    private static final double MICROS_IN_MILLIS = 1000.0;
+
+    private final AtomicLongArray counts;
+    private final LongAdder       sumMicros;
+    private final AtomicLong      maxMicros;
+
+    static int bucketIndex(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent >= MAX_EXPONENT) {
+            return NUM_BUCKETS - 1;
+        }
+        int shift = exponent - SUB_BUCKET_BITS;
+        int sub = (int) ((micros >>> shift) & (SUB_BUCKETS - 1));
+        return (shift + 1) * SUB_BUCKETS + sub;
+    }
+
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long sub = index % SUB_BUCKETS;
+        return ((SUB_BUCKETS + sub + 1) << shift) - 1;
+    }
+}
@@ -2,6 +2,7 @@ package net.morimekta.providence.util;
 
 import net.morimekta.providence.PServiceCall;
 
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.concurrent.TimeUnit;
 
@@ -10,6 +11,19 @@ import java.util.concurrent.TimeUnit;
  */
 @FunctionalInterface
 public interface ServiceCallInstrumentation {
+    /**
+     * The phases of handling a service call. On the server side a call is
+     * deserialized, handled and the reply serialized and written. On the
+     * client side the call is serialized and written, the handle phase is
+     * the time waiting for the reply, and the reply is deserialized.
+     */
+    enum Phase {
+        DESERIALIZE,
+        HANDLE,
+        SERIALIZE,
+        WRITE,
+    }
+
     /**
      * After each service call this method is called with the duration, call and
      * response objects. Exceptions from the call is ignored, and will not affect
@@ -50,6 +64,76 @@ public interface ServiceCallInstrumentation {
         onComplete(duration, call, reply);
     }
 
+    /**
+     * Called when the server rejected the service call because it was
+     * overloaded, and replied with an exception without handling the call.
+     * {@link #onComplete(double, PServiceCall, PServiceCall)} will NOT be
+     * called after the rejection call, but will be chained if this method
+     * has no override.
+     *
+     * @param duration The duration of handling the service call in milliseconds,
+     *                 including receiving and sending it.
+     * @param call     The rejected call, or null if it could not be read.
+     * @param reply    The exception reply.
+     */
+    default void onRejected(double duration,
+                            @Nullable PServiceCall call,
+                            @Nullable PServiceCall reply) {
+        onComplete(duration, call, reply);
+    }
+
+    /**
+     * Called by servers that queue calls for handling in worker threads,
+     * when the call has been handled, with the time it spent waiting in the
+     * queue and the time spent handling it. This is called in addition to
+     * {@link #onComplete(double, PServiceCall, PServiceCall)}, and is ignored
+     * if not overridden.
+     *
+     * @param queueTime   The time in milliseconds from the call was received
+     *                    until a worker started to handle it.
+     * @param processTime The time in milliseconds the worker spent handling
+     *                    the call.
+     * @param call        The call handled.
+     * @param reply       The reply returned.
+     */
+    default void onCallTiming(double queueTime,
+                              double processTime,
+                              @Nullable PServiceCall call,
+                              @Nullable PServiceCall reply) {}
+
+    /**
+     * Called when a service call is started, which is when the call has been
+     * read on the server side, or before the call is sent on the client side.
+     * Transports that call this method will also call one of the completion
+     * methods with the same call. Ignored if not overridden.
+     *
+     * @param call The service call.
+     */
+    default void onStart(@Nonnull PServiceCall call) {}
+
+    /**
+     * Called after each phase of a service call, for transports that can
+     * tell the phases apart. Ignored if not overridden.
+     *
+     * @param phase    The phase completed.
+     * @param duration The duration of the phase in milliseconds.
+     * @param call     The service call, or the reply for the phases that
+     *                 happen before the call is known.
+     */
+    default void onPhase(@Nonnull Phase phase,
+                         double duration,
+                         @Nonnull PServiceCall call) {}
+
+    /**
+     * Called with the serialized size of each call or reply message, for
+     * transports that know the size. Whether it is a request or response
+     * is given by the message type. Ignored if not overridden.
+     *
+     * @param message The service call or reply message.
+     * @param bytes   The serialized size in bytes.
+     */
+    default void onMessageSize(@Nonnull PServiceCall message, long bytes) {}
+
     /**
      * Handy constant for calculating MS duration.
      */
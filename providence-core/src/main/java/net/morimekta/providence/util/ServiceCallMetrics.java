@@ -0,0 +1,363 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.util;
+
+import net.morimekta.providence.PApplicationException;
+import net.morimekta.providence.PApplicationExceptionType;
+import net.morimekta.providence.PServiceCall;
+import net.morimekta.providence.PServiceCallType;
+import net.morimekta.providence.PUnion;
+
+import com.google.common.collect.ImmutableMap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Service call instrumentation that keeps metrics for each method called.
+ * For each method it records a {@link LatencyHistogram} of the call
+ * durations, of the queue time and of each {@link Phase}, the number of
+ * calls, declared exceptions, application errors by type, transport errors
+ * and rejected calls, the message sizes and the number of calls in flight.
+ * All the metrics are updated without locking, and can be read at any time
+ * with {@link #snapshot()}.
+ * <p>
+ * Calls where the method is not known, e.g. when the request could not be
+ * read, are recorded under the {@link #UNKNOWN_METHOD} name.
+ */
+public class ServiceCallMetrics implements ServiceCallInstrumentation {
+    /**
+     * Method name used for calls where the method is not known.
+     */
+    public static final String UNKNOWN_METHOD = "";
+
+    /**
+     * Immutable snapshot of the metrics of a single method.
+     */
+    public static class MethodSnapshot {
+        private final String                                method;
+        private final long                                  completed;
+        private final long                                  declaredExceptions;
+        private final Map<PApplicationExceptionType, Long>  applicationErrors;
+        private final long                                  transportErrors;
+        private final long                                  rejected;
+        private final long                                  inFlight;
+        private final long                                  requestBytes;
+        private final long                                  responseBytes;
+        private final LatencyHistogram.Snapshot             latency;
+        private final LatencyHistogram.Snapshot             queueTime;
+        private final Map<Phase, LatencyHistogram.Snapshot> phases;
+
+        private MethodSnapshot(String method, MethodMetrics metrics) {
+            this.method = method;
+            this.completed = metrics.completed.sum();
+            this.declaredExceptions = metrics.declaredExceptions.sum();
+            this.transportErrors = metrics.transportErrors.sum();
+            this.rejected = metrics.rejected.sum();
+            this.inFlight = metrics.inFlight.get();
+            this.requestBytes = metrics.requestBytes.sum();
+            this.responseBytes = metrics.responseBytes.sum();
+            this.latency = metrics.latency.snapshot();
+            this.queueTime = metrics.queueTime.snapshot();
+
+            Map<PApplicationExceptionType, Long> errors = new EnumMap<>(PApplicationExceptionType.class);
+            for (PApplicationExceptionType type : PApplicationExceptionType.values()) {
+                long count = metrics.applicationErrors.get(type.ordinal());
+                if (count > 0) {
+                    errors.put(type, count);
+                }
+            }
+            this.applicationErrors = ImmutableMap.copyOf(errors);
+
+            Map<Phase, LatencyHistogram.Snapshot> phases = new EnumMap<>(Phase.class);
+            for (Phase phase : Phase.values()) {
+                phases.put(phase, metrics.phases[phase.ordinal()].snapshot());
+            }
+            this.phases = ImmutableMap.copyOf(phases);
+        }
+
+        /**
+         * @return The method name.
+         */
+        @Nonnull
+        public String getMethod() {
+            return method;
+        }
+
+        /**
+         * @return The number of completed calls, including calls replied to
+         *         with an exception.
+         */
+        public long getCompleted() {
+            return completed;
+        }
+
+        /**
+         * @return The number of calls replied to with a declared exception.
+         */
+        public long getDeclaredExceptions() {
+            return declaredExceptions;
+        }
+
+        /**
+         * @return The number of calls replied to with an application
+         *         exception, by exception type.
+         */
+        @Nonnull
+        public Map<PApplicationExceptionType, Long> getApplicationErrors() {
+            return applicationErrors;
+        }
+
+        /**
+         * @return The number of calls failed in the transport layer.
+         */
+        public long getTransportErrors() {
+            return transportErrors;
+        }
+
+        /**
+         * @return The number of calls rejected by the server.
+         */
+        public long getRejected() {
+            return rejected;
+        }
+
+        /**
+         * @return The number of calls in flight.
+         */
+        public long getInFlight() {
+            return inFlight;
+        }
+
+        /**
+         * @return The total size of the requests in bytes.
+         */
+        public long getRequestBytes() {
+            return requestBytes;
+        }
+
+        /**
+         * @return The total size of the responses in bytes.
+         */
+        public long getResponseBytes() {
+            return responseBytes;
+        }
+
+        /**
+         * @return The call durations.
+         */
+        @Nonnull
+        public LatencyHistogram.Snapshot getLatency() {
+            return latency;
+        }
+
+        /**
+         * @return The time calls waited in queue before handled.
+         */
+        @Nonnull
+        public LatencyHistogram.Snapshot getQueueTime() {
+            return queueTime;
+        }
+
+        /**
+         * @param phase The phase to get.
+         * @return The durations of the phase.
+         */
+        @Nonnull
+        public LatencyHistogram.Snapshot getPhase(@Nonnull Phase phase) {
+            return phases.get(phase);
+        }
+
+        @Override
+        public String toString() {
+            return "MethodSnapshot{method=" + method +
+                   ", completed=" + completed +
+                   ", declaredExceptions=" + declaredExceptions +
+                   ", applicationErrors=" + applicationErrors +
+                   ", transportErrors=" + transportErrors +
+                   ", rejected=" + rejected +
+                   ", inFlight=" + inFlight +
+                   ", requestBytes=" + requestBytes +
+                   ", responseBytes=" + responseBytes +
+                   ", latency=" + latency +
+                   ", queueTime=" + queueTime +
+                   ", phases=" + phases +
+                   "}";
+        }
+    }
+
+    public ServiceCallMetrics() {
+        this.methods = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Make a snapshot of the metrics of all the methods called so far.
+     *
+     * @return Map of method name to method snapshot, sorted by name.
+     */
+    @Nonnull
+    public Map<String, MethodSnapshot> snapshot() {
+        Map<String, MethodSnapshot> out = new TreeMap<>();
+        methods.forEach((name, metrics) -> out.put(name, new MethodSnapshot(name, metrics)));
+        return ImmutableMap.copyOf(out);
+    }
+
+    /**
+     * Make a snapshot of the metrics of a single method.
+     *
+     * @param method The method name.
+     * @return The method snapshot, or null if the method has not been called.
+     */
+    @Nullable
+    public MethodSnapshot snapshot(@Nonnull String method) {
+        MethodMetrics metrics = methods.get(method);
+        if (metrics == null) {
+            return null;
+        }
+        return new MethodSnapshot(method, metrics);
+    }
+
+    @Override
+    public void onComplete(double duration, @Nullable PServiceCall call, @Nullable PServiceCall reply) {
+        MethodMetrics metrics = metricsFor(call, reply);
+        metrics.latency.record(duration);
+        metrics.completed.increment();
+        if (reply != null) {
+            if (reply.getType() == PServiceCallType.EXCEPTION &&
+                reply.getMessage() instanceof PApplicationException) {
+                PApplicationExceptionType type = ((PApplicationException) reply.getMessage()).getId();
+                if (type == null) {
+                    type = PApplicationExceptionType.UNKNOWN;
+                }
+                metrics.applicationErrors.incrementAndGet(type.ordinal());
+            } else if (reply.getType() == PServiceCallType.REPLY &&
+                       reply.getMessage() instanceof PUnion) {
+                // Field ID 0 is the success field, all others are declared exceptions.
+                PUnion union = (PUnion) reply.getMessage();
+                if (union.unionFieldIsSet() && union.unionField().getId() != 0) {
+                    metrics.declaredExceptions.increment();
+                }
+            }
+        }
+        if (call != null) {
+            metrics.finished();
+        }
+    }
+
+    @Override
+    public void onTransportException(Exception e,
+                                     double duration,
+                                     @Nullable PServiceCall call,
+                                     @Nullable PServiceCall reply) {
+        MethodMetrics metrics = metricsFor(call, reply);
+        metrics.latency.record(duration);
+        metrics.transportErrors.increment();
+        if (call != null) {
+            metrics.finished();
+        }
+    }
+
+    @Override
+    public void onRejected(double duration, @Nullable PServiceCall call, @Nullable PServiceCall reply) {
+        MethodMetrics metrics = metricsFor(call, reply);
+        metrics.rejected.increment();
+    }
+
+    @Override
+    public void onCallTiming(double queueTime,
+                             double processTime,
+                             @Nullable PServiceCall call,
+                             @Nullable PServiceCall reply) {
+        metricsFor(call, reply).queueTime.record(queueTime);
+    }
+
+    @Override
+    public void onStart(@Nonnull PServiceCall call) {
+        metricsFor(call, null).inFlight.incrementAndGet();
+    }
+
+    @Override
+    public void onPhase(@Nonnull Phase phase, double duration, @Nonnull PServiceCall call) {
+        metricsFor(call, null).phases[phase.ordinal()].record(duration);
+    }
+
+    @Override
+    public void onMessageSize(@Nonnull PServiceCall message, long bytes) {
+        MethodMetrics metrics = metricsFor(message, null);
+        if (message.getType() == PServiceCallType.CALL || message.getType() == PServiceCallType.ONEWAY) {
+            metrics.requestBytes.add(bytes);
+        } else {
+            metrics.responseBytes.add(bytes);
+        }
+    }
+
+    private static class MethodMetrics {
+        private final LongAdder          completed          = new LongAdder();
+        private final LongAdder          declaredExceptions = new LongAdder();
+        private final LongAdder          transportErrors    = new LongAdder();
+        private final LongAdder          rejected           = new LongAdder();
+        private final LongAdder          requestBytes       = new LongAdder();
+        private final LongAdder          responseBytes      = new LongAdder();
+        private final AtomicLong         inFlight           = new AtomicLong();
+        private final AtomicLongArray    applicationErrors  = new AtomicLongArray(PApplicationExceptionType.values().length);
+        private final LatencyHistogram   latency            = new LatencyHistogram();
+        private final LatencyHistogram   queueTime          = new LatencyHistogram();
+        private final LatencyHistogram[] phases             = new LatencyHistogram[Phase.values().length];
+
+        private MethodMetrics() {
+            for (int i = 0; i < phases.length; ++i) {
+                phases[i] = new LatencyHistogram();
+            }
+        }
+
+        private void finished() {
+            // Not all transports report the start of calls, so never go
+            // below zero.
+            long current = inFlight.get();
+            while (current > 0 && !inFlight.compareAndSet(current, current - 1)) {
+                current = inFlight.get();
+            }
+        }
+    }
+
+    private final ConcurrentHashMap<String, MethodMetrics> methods;
+
+    private MethodMetrics metricsFor(@Nullable PServiceCall call, @Nullable PServiceCall reply) {
+        String method = UNKNOWN_METHOD;
+        if (call != null && call.getMethod() != null) {
+            method = call.getMethod();
+        } else if (reply != null && reply.getMethod() != null) {
+            method = reply.getMethod();
+        }
+        MethodMetrics metrics = methods.get(method);
+        if (metrics == null) {
+            metrics = methods.computeIfAbsent(method, m -> new MethodMetrics());
+        }
+        return metrics;
+    }
+}
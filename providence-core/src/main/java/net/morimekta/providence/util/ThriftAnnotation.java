@@ -106,6 +106,17 @@ public enum ThriftAnnotation {
      */
     JAVA_SERVICE_METHOD_THROWS("java.service.methods.throws"),
 
+    /**
+     * For list fields with i32, i64 or double items. If set the list is
+     * stored in a primitive array instead of a list of boxed values, see
+     * {@link IntList}, {@link LongList} and {@link DoubleList}. Can be
+     * turned on for all such fields with the java generator option
+     * <code>primitive_lists</code>.
+     * <p>
+     * <code>java.primitive.list = ""</code>
+     */
+    JAVA_PRIMITIVE_LIST("java.primitive.list"),
+
     /**
      * Specify if a file should generate with support with hazelcast portable
      * implementation.
@@ -63,6 +63,40 @@ public class ContainerService {
             throw new net.morimekta.providence.PApplicationException("Result field for providence.ContainerService.load() not set",
                                                                      net.morimekta.providence.PApplicationExceptionType.MISSING_RESULT);
         }
+
+        /**
+         * Asynchronous variant of load(). Declared exceptions complete the future exceptionally.
+         *
+         * @return The future result.
+         */
+        public java.util.concurrent.CompletableFuture<net.morimekta.test.providence.core.CompactFields> loadAsync(
+                net.morimekta.test.providence.core.Containers pC) {
+            net.morimekta.test.providence.core.ContainerService._load_request._Builder rq = net.morimekta.test.providence.core.ContainerService._load_request.builder();
+            if (pC != null) {
+                rq.setC(pC);
+            }
+
+            net.morimekta.providence.PServiceCall call = new net.morimekta.providence.PServiceCall<>("load", net.morimekta.providence.PServiceCallType.CALL, getNextSequenceId(), rq.build());
+            java.util.concurrent.CompletableFuture<net.morimekta.providence.PServiceCall> future = handler.handleCallAsync(call, ContainerService.kDescriptor);
+            return future.thenApply(resp -> {
+                if (resp.getType() == net.morimekta.providence.PServiceCallType.EXCEPTION) {
+                    throw new java.util.concurrent.CompletionException((net.morimekta.providence.PApplicationException) resp.getMessage());
+                }
+
+                net.morimekta.test.providence.core.ContainerService._load_response msg = (net.morimekta.test.providence.core.ContainerService._load_response) resp.getMessage();
+                if (msg.unionFieldIsSet()) {
+                    switch (msg.unionField()) {
+                        case EF:
+                            throw new java.util.concurrent.CompletionException(msg.getEf());
+                        case SUCCESS:
+                            return msg.getSuccess();
+                    }
+                }
+
+                throw new java.util.concurrent.CompletionException(new net.morimekta.providence.PApplicationException("Result field for providence.ContainerService.load() not set",
+                                                                                                                       net.morimekta.providence.PApplicationExceptionType.MISSING_RESULT));
+            });
+        }
     }
 
     public static class Processor implements net.morimekta.providence.PProcessor {
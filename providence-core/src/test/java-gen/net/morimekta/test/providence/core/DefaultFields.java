@@ -399,9 +399,7 @@ public class DefaultFields
 
         length += writer.writeByte((byte) 11);
         length += writer.writeShort((short) 7);
-        net.morimekta.util.Binary tmp_1 = net.morimekta.util.Binary.wrap(mStringValue.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-        length += writer.writeUInt32(tmp_1.length());
-        length += writer.writeBinary(tmp_1);
+        length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, mStringValue);
 
         length += writer.writeByte((byte) 11);
         length += writer.writeShort((short) 8);
@@ -76,6 +76,40 @@ public class Calculator {
                                                                      net.morimekta.providence.PApplicationExceptionType.MISSING_RESULT);
         }
 
+        /**
+         * Asynchronous variant of calculate(). Declared exceptions complete the future exceptionally.
+         *
+         * @return The future result.
+         */
+        public java.util.concurrent.CompletableFuture<net.morimekta.test.providence.core.calculator.Operand> calculateAsync(
+                net.morimekta.test.providence.core.calculator.Operation pOp) {
+            net.morimekta.test.providence.core.calculator.Calculator._calculate_request._Builder rq = net.morimekta.test.providence.core.calculator.Calculator._calculate_request.builder();
+            if (pOp != null) {
+                rq.setOp(pOp);
+            }
+
+            net.morimekta.providence.PServiceCall call = new net.morimekta.providence.PServiceCall<>("calculate", net.morimekta.providence.PServiceCallType.CALL, getNextSequenceId(), rq.build());
+            java.util.concurrent.CompletableFuture<net.morimekta.providence.PServiceCall> future = handler.handleCallAsync(call, Calculator.kDescriptor);
+            return future.thenApply(resp -> {
+                if (resp.getType() == net.morimekta.providence.PServiceCallType.EXCEPTION) {
+                    throw new java.util.concurrent.CompletionException((net.morimekta.providence.PApplicationException) resp.getMessage());
+                }
+
+                net.morimekta.test.providence.core.calculator.Calculator._calculate_response msg = (net.morimekta.test.providence.core.calculator.Calculator._calculate_response) resp.getMessage();
+                if (msg.unionFieldIsSet()) {
+                    switch (msg.unionField()) {
+                        case CE:
+                            throw new java.util.concurrent.CompletionException(msg.getCe());
+                        case SUCCESS:
+                            return msg.getSuccess();
+                    }
+                }
+
+                throw new java.util.concurrent.CompletionException(new net.morimekta.providence.PApplicationException("Result field for calculator.Calculator.calculate() not set",
+                                                                                                                       net.morimekta.providence.PApplicationExceptionType.MISSING_RESULT));
+            });
+        }
+
         @Override
         public void iamalive()
                 throws java.io.IOException {
@@ -85,6 +119,19 @@ public class Calculator {
             handler.handleCall(call, Calculator.kDescriptor);
         }
 
+        /**
+         * Asynchronous variant of iamalive(). Declared exceptions complete the future exceptionally.
+         *
+         * @return The future result.
+         */
+        public java.util.concurrent.CompletableFuture<Void> iamaliveAsync() {
+            net.morimekta.test.providence.core.calculator.Calculator._iamalive_request._Builder rq = net.morimekta.test.providence.core.calculator.Calculator._iamalive_request.builder();
+
+            net.morimekta.providence.PServiceCall call = new net.morimekta.providence.PServiceCall<>("iamalive", net.morimekta.providence.PServiceCallType.ONEWAY, getNextSequenceId(), rq.build());
+            java.util.concurrent.CompletableFuture<net.morimekta.providence.PServiceCall> future = handler.handleCallAsync(call, Calculator.kDescriptor);
+            return future.thenApply(resp -> null);
+        }
+
         @Override
         public void ping()
                 throws java.io.IOException {
@@ -108,6 +155,34 @@ public class Calculator {
             throw new net.morimekta.providence.PApplicationException("Result field for calculator.Calculator.ping() not set",
                                                                      net.morimekta.providence.PApplicationExceptionType.MISSING_RESULT);
         }
+
+        /**
+         * Asynchronous variant of ping(). Declared exceptions complete the future exceptionally.
+         *
+         * @return The future result.
+         */
+        public java.util.concurrent.CompletableFuture<Void> pingAsync() {
+            net.morimekta.test.providence.core.calculator.Calculator._ping_request._Builder rq = net.morimekta.test.providence.core.calculator.Calculator._ping_request.builder();
+
+            net.morimekta.providence.PServiceCall call = new net.morimekta.providence.PServiceCall<>("ping", net.morimekta.providence.PServiceCallType.CALL, getNextSequenceId(), rq.build());
+            java.util.concurrent.CompletableFuture<net.morimekta.providence.PServiceCall> future = handler.handleCallAsync(call, Calculator.kDescriptor);
+            return future.thenApply(resp -> {
+                if (resp.getType() == net.morimekta.providence.PServiceCallType.EXCEPTION) {
+                    throw new java.util.concurrent.CompletionException((net.morimekta.providence.PApplicationException) resp.getMessage());
+                }
+
+                net.morimekta.test.providence.core.calculator.Calculator._ping_response msg = (net.morimekta.test.providence.core.calculator.Calculator._ping_response) resp.getMessage();
+                if (msg.unionFieldIsSet()) {
+                    switch (msg.unionField()) {
+                        case SUCCESS:
+                            return null;
+                    }
+                }
+
+                throw new java.util.concurrent.CompletionException(new net.morimekta.providence.PApplicationException("Result field for calculator.Calculator.ping() not set",
+                                                                                                                       net.morimekta.providence.PApplicationExceptionType.MISSING_RESULT));
+            });
+        }
     }
 
     public static class Processor implements net.morimekta.providence.PProcessor {
@@ -0,0 +1,415 @@
+package net.morimekta.test.providence.core.json_rw;
+
+@SuppressWarnings("unused")
+@javax.annotation.Generated("providence-maven-plugin")
+@javax.annotation.concurrent.Immutable
+public class ConsumeAll
+        implements net.morimekta.providence.PMessage<ConsumeAll,ConsumeAll._Field>,
+                   Comparable<ConsumeAll>,
+                   java.io.Serializable,
+                   net.morimekta.providence.serializer.binary.BinaryWriter,
+                   net.morimekta.providence.serializer.json.JsonMessageWriter {
+    private final static long serialVersionUID = -9118592554502001384L;
+
+
+    private volatile transient int tHashCode;
+
+    // Transient object used during java deserialization.
+    private transient ConsumeAll tSerializeInstance;
+
+    private ConsumeAll(_Builder builder) {
+    }
+
+    @Override
+    public boolean has(int key) {
+        switch(key) {
+            default: return false;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(int key) {
+        switch(key) {
+            default: return null;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) return true;
+        if (o == null || !o.getClass().equals(getClass())) return false;
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        if (tHashCode == 0) {
+            tHashCode = java.util.Objects.hash(
+                    ConsumeAll.class);
+        }
+        return tHashCode;
+    }
+
+    @Override
+    public String toString() {
+        return "providence.ConsumeAll" + asString();
+    }
+
+    @Override
+    @javax.annotation.Nonnull
+    public String asString() {
+        StringBuilder out = new StringBuilder();
+        out.append("{");
+
+        out.append('}');
+        return out.toString();
+    }
+
+    @Override
+    public int compareTo(ConsumeAll other) {
+        int c;
+
+        return 0;
+    }
+
+    private void writeObject(java.io.ObjectOutputStream oos) throws java.io.IOException {
+        oos.defaultWriteObject();
+        net.morimekta.providence.serializer.BinarySerializer serializer = new net.morimekta.providence.serializer.BinarySerializer(false);
+        serializer.serialize(oos, this);
+    }
+
+    private void readObject(java.io.ObjectInputStream ois)
+            throws java.io.IOException, ClassNotFoundException {
+        ois.defaultReadObject();
+        net.morimekta.providence.serializer.BinarySerializer serializer = new net.morimekta.providence.serializer.BinarySerializer(false);
+        tSerializeInstance = serializer.deserialize(ois, kDescriptor);
+    }
+
+    private Object readResolve() throws java.io.ObjectStreamException {
+        return tSerializeInstance;
+    }
+
+    @Override
+    public int writeBinary(net.morimekta.util.io.BigEndianBinaryWriter writer) throws java.io.IOException {
+        int length = 0;
+
+        length += writer.writeByte((byte) 0);
+        return length;
+    }
+
+    @Override
+    public void writeJson(net.morimekta.util.json.JsonWriter writer, net.morimekta.providence.serializer.json.JsonFormat format) throws net.morimekta.providence.serializer.SerializerException {
+        boolean named = format.namedFields();
+        writer.object();
+        writer.endObject();
+    }
+
+    @javax.annotation.Nonnull
+    @Override
+    public _Builder mutate() {
+        return new _Builder(this);
+    }
+
+    public enum _Field implements net.morimekta.providence.descriptor.PField {
+        ;
+
+        private final int mId;
+        private final net.morimekta.providence.descriptor.PRequirement mRequired;
+        private final String mName;
+        private final net.morimekta.providence.descriptor.PDescriptorProvider mTypeProvider;
+        private final net.morimekta.providence.descriptor.PValueProvider<?> mDefaultValue;
+
+        _Field(int id, net.morimekta.providence.descriptor.PRequirement required, String name, net.morimekta.providence.descriptor.PDescriptorProvider typeProvider, net.morimekta.providence.descriptor.PValueProvider<?> defaultValue) {
+            mId = id;
+            mRequired = required;
+            mName = name;
+            mTypeProvider = typeProvider;
+            mDefaultValue = defaultValue;
+        }
+
+        @Override
+        public int getId() { return mId; }
+
+        @Override
+        public net.morimekta.providence.descriptor.PRequirement getRequirement() { return mRequired; }
+
+        @Override
+        public net.morimekta.providence.descriptor.PDescriptor getDescriptor() { return mTypeProvider.descriptor(); }
+
+        @Override
+        public String getName() { return mName; }
+
+        @Override
+        public boolean hasDefaultValue() { return mDefaultValue != null; }
+
+        @Override
+        public Object getDefaultValue() {
+            return hasDefaultValue() ? mDefaultValue.get() : null;
+        }
+
+        @Override
+        public String toString() {
+            return net.morimekta.providence.descriptor.PField.asString(this);
+        }
+
+        /**
+         * @param id Field name
+         * @return The identified field or null
+         */
+        public static _Field findById(int id) {
+            switch (id) {
+            }
+            return null;
+        }
+
+        /**
+         * @param name Field name
+         * @return The named field or null
+         */
+        public static _Field findByName(String name) {
+            switch (name) {
+            }
+            return null;
+        }
+        /**
+         * @param id Field name
+         * @return The identified field
+         * @throws IllegalArgumentException If no such field
+         */
+        public static _Field fieldForId(int id) {
+            _Field field = findById(id);
+            if (field == null) {
+                throw new IllegalArgumentException("No such field id " + id + " in providence.ConsumeAll");
+            }
+            return field;
+        }
+
+        /**
+         * @param name Field name
+         * @return The named field
+         * @throws IllegalArgumentException If no such field
+         */
+        public static _Field fieldForName(String name) {
+            _Field field = findByName(name);
+            if (field == null) {
+                throw new IllegalArgumentException("No such field \"" + name + "\" in providence.ConsumeAll");
+            }
+            return field;
+        }
+
+    }
+
+    @javax.annotation.Nonnull
+    public static net.morimekta.providence.descriptor.PStructDescriptorProvider<ConsumeAll,_Field> provider() {
+        return new _Provider();
+    }
+
+    @Override
+    @javax.annotation.Nonnull
+    public net.morimekta.providence.descriptor.PStructDescriptor<ConsumeAll,_Field> descriptor() {
+        return kDescriptor;
+    }
+
+    public static final net.morimekta.providence.descriptor.PStructDescriptor<ConsumeAll,_Field> kDescriptor;
+
+    private static class _Descriptor
+            extends net.morimekta.providence.descriptor.PStructDescriptor<ConsumeAll,_Field> {
+        public _Descriptor() {
+            super("providence", "ConsumeAll", _Builder::new, true);
+        }
+
+        @Override
+        @javax.annotation.Nonnull
+        public _Field[] getFields() {
+            return _Field.values();
+        }
+
+        @Override
+        @javax.annotation.Nullable
+        public _Field findFieldByName(String name) {
+            return _Field.findByName(name);
+        }
+
+        @Override
+        @javax.annotation.Nullable
+        public _Field findFieldById(int id) {
+            return _Field.findById(id);
+        }
+    }
+
+    static {
+        kDescriptor = new _Descriptor();
+    }
+
+    private final static class _Provider extends net.morimekta.providence.descriptor.PStructDescriptorProvider<ConsumeAll,_Field> {
+        @Override
+        public net.morimekta.providence.descriptor.PStructDescriptor<ConsumeAll,_Field> descriptor() {
+            return kDescriptor;
+        }
+    }
+
+    /**
+     * Make a <code>providence.ConsumeAll</code> builder.
+     * @return The builder instance.
+     */
+    public static _Builder builder() {
+        return new _Builder();
+    }
+
+    public static class _Builder
+            extends net.morimekta.providence.PMessageBuilder<ConsumeAll,_Field>
+            implements net.morimekta.providence.serializer.binary.BinaryReader,
+                       net.morimekta.providence.serializer.json.JsonMessageReader {
+        private java.util.BitSet optionals;
+        private java.util.BitSet modified;
+
+        /**
+         * Make a providence.ConsumeAll builder instance.
+         */
+        public _Builder() {
+            optionals = new java.util.BitSet(0);
+            modified = new java.util.BitSet(0);
+        }
+
+        /**
+         * Make a mutating builder off a base providence.ConsumeAll.
+         *
+         * @param base The base ConsumeAll
+         */
+        public _Builder(ConsumeAll base) {
+            this();
+
+        }
+
+        @javax.annotation.Nonnull
+        @Override
+        public _Builder merge(ConsumeAll from) {
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) return true;
+            if (o == null || !o.getClass().equals(getClass())) return false;
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return java.util.Objects.hash(
+                    ConsumeAll.class, optionals);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public net.morimekta.providence.PMessageBuilder mutator(int key) {
+            switch (key) {
+                default: throw new IllegalArgumentException("Not a message field ID: " + key);
+            }
+        }
+
+        @javax.annotation.Nonnull
+        @Override
+        @SuppressWarnings("unchecked")
+        public _Builder set(int key, Object value) {
+            if (value == null) return clear(key);
+            switch (key) {
+                default: break;
+            }
+            return this;
+        }
+
+        @Override
+        public boolean isSet(int key) {
+            switch (key) {
+                default: break;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean isModified(int key) {
+            switch (key) {
+                default: break;
+            }
+            return false;
+        }
+
+        @Override
+        public _Builder addTo(int key, Object value) {
+            switch (key) {
+                default: break;
+            }
+            return this;
+        }
+
+        @javax.annotation.Nonnull
+        @Override
+        public _Builder clear(int key) {
+            switch (key) {
+                default: break;
+            }
+            return this;
+        }
+
+        @Override
+        public boolean valid() {
+            return true;
+        }
+
+        @Override
+        public void validate() {
+        }
+
+        @javax.annotation.Nonnull
+        @Override
+        public net.morimekta.providence.descriptor.PStructDescriptor<ConsumeAll,_Field> descriptor() {
+            return kDescriptor;
+        }
+
+        @Override
+        public void readBinary(net.morimekta.util.io.BigEndianBinaryReader reader, boolean strict) throws java.io.IOException {
+            byte type = reader.expectByte();
+            while (type != 0) {
+                int field = reader.expectShort();
+                switch (field) {
+                    default: {
+                        net.morimekta.providence.serializer.binary.BinaryFormatUtils.readFieldValue(reader, new net.morimekta.providence.serializer.binary.BinaryFormatUtils.FieldInfo(field, type), null, false);
+                        break;
+                    }
+                }
+                type = reader.expectByte();
+            }
+        }
+
+        @Override
+        public void readJson(net.morimekta.util.json.JsonTokenizer tokenizer, net.morimekta.providence.serializer.json.JsonFormat format) throws java.io.IOException, net.morimekta.util.json.JsonException {
+            if (tokenizer.peek("message end or key").isSymbol(net.morimekta.util.json.JsonToken.kMapEnd)) {
+                tokenizer.next();
+                return;
+            }
+
+            char sep = net.morimekta.util.json.JsonToken.kMapStart;
+            while (sep != net.morimekta.util.json.JsonToken.kMapEnd) {
+                String key = tokenizer.expectString("field spec").rawJsonLiteral();
+                tokenizer.expectSymbol("field KV sep", net.morimekta.util.json.JsonToken.kKeyValSep);
+                net.morimekta.util.json.JsonToken token = tokenizer.expect("field value");
+
+                switch (key) {
+                    default: {
+                        format.readField(this, key, token, tokenizer);
+                        break;
+                    }
+                }
+
+                sep = tokenizer.expectSymbol("message end or sep", net.morimekta.util.json.JsonToken.kMapEnd, net.morimekta.util.json.JsonToken.kListSep);
+            }
+        }
+
+        @Override
+        public ConsumeAll build() {
+            return new ConsumeAll(this);
+        }
+    }
+}
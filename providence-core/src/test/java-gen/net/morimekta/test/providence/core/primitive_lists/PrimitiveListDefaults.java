@@ -0,0 +1,923 @@
+package net.morimekta.test.providence.core.primitive_lists;
+
+@SuppressWarnings("unused")
+@javax.annotation.Generated("providence-maven-plugin")
+@javax.annotation.concurrent.Immutable
+public class PrimitiveListDefaults
+        implements net.morimekta.providence.PMessage<PrimitiveListDefaults,PrimitiveListDefaults._Field>,
+                   Comparable<PrimitiveListDefaults>,
+                   java.io.Serializable,
+                   net.morimekta.providence.serializer.binary.BinaryWriter {
+    private final static long serialVersionUID = 244755834541824618L;
+
+    private final static net.morimekta.providence.util.IntList kDefaultIntegerList = net.morimekta.providence.util.IntList.copyOf(new net.morimekta.providence.descriptor.PList.DefaultBuilder<Integer>()
+                .add(1)
+                .add(2)
+                .add(3)
+                .build());
+    private final static net.morimekta.providence.util.LongList kDefaultLongList = net.morimekta.providence.util.LongList.copyOf(new net.morimekta.providence.descriptor.PList.DefaultBuilder<Long>()
+                .add(1234567890123L)
+                .build());
+    private final static net.morimekta.providence.util.DoubleList kDefaultDoubleList = net.morimekta.providence.util.DoubleList.copyOf(new net.morimekta.providence.descriptor.PList.DefaultBuilder<Double>()
+                .add(0.5d)
+                .add(-1.25d)
+                .build());
+
+    private final transient net.morimekta.providence.util.IntList mIntegerList;
+    private final transient net.morimekta.providence.util.LongList mLongList;
+    private final transient net.morimekta.providence.util.DoubleList mDoubleList;
+
+    private volatile transient int tHashCode;
+
+    // Transient object used during java deserialization.
+    private transient PrimitiveListDefaults tSerializeInstance;
+
+    private PrimitiveListDefaults(_Builder builder) {
+        if (builder.isSetIntegerList()) {
+            mIntegerList = net.morimekta.providence.util.IntList.copyOf(builder.mIntegerList);
+        } else {
+            mIntegerList = kDefaultIntegerList;
+        }
+        if (builder.isSetLongList()) {
+            mLongList = net.morimekta.providence.util.LongList.copyOf(builder.mLongList);
+        } else {
+            mLongList = kDefaultLongList;
+        }
+        if (builder.isSetDoubleList()) {
+            mDoubleList = net.morimekta.providence.util.DoubleList.copyOf(builder.mDoubleList);
+        } else {
+            mDoubleList = null;
+        }
+    }
+
+    public int numIntegerList() {
+        return mIntegerList != null ? mIntegerList.size() : 0;
+    }
+
+    public boolean hasIntegerList() {
+        return true;
+    }
+
+    /**
+     * @return The <code>integerList</code> value
+     */
+    @javax.annotation.Nonnull
+    public java.util.List<Integer> getIntegerList() {
+        return mIntegerList;
+    }
+
+    public int numLongList() {
+        return mLongList != null ? mLongList.size() : 0;
+    }
+
+    public boolean hasLongList() {
+        return true;
+    }
+
+    /**
+     * @return The <code>longList</code> value
+     */
+    @javax.annotation.Nonnull
+    public java.util.List<Long> getLongList() {
+        return mLongList;
+    }
+
+    public int numDoubleList() {
+        return mDoubleList != null ? mDoubleList.size() : 0;
+    }
+
+    public boolean hasDoubleList() {
+        return mDoubleList != null;
+    }
+
+    /**
+     * @return The <code>doubleList</code> value
+     */
+    public java.util.List<Double> getDoubleList() {
+        return hasDoubleList() ? mDoubleList : kDefaultDoubleList;
+    }
+
+    /**
+     * @return Optional of the <code>doubleList</code> field value.
+     */
+    @javax.annotation.Nonnull
+    public java.util.Optional<java.util.List<Double>> optionalDoubleList() {
+        return java.util.Optional.ofNullable(mDoubleList);
+    }
+
+    @Override
+    public boolean has(int key) {
+        switch(key) {
+            case 1: return true;
+            case 2: return true;
+            case 3: return mDoubleList != null;
+            default: return false;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(int key) {
+        switch(key) {
+            case 1: return (T) mIntegerList;
+            case 2: return (T) mLongList;
+            case 3: return (T) mDoubleList;
+            default: return null;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) return true;
+        if (o == null || !o.getClass().equals(getClass())) return false;
+        PrimitiveListDefaults other = (PrimitiveListDefaults) o;
+        return java.util.Objects.equals(mIntegerList, other.mIntegerList) &&
+               java.util.Objects.equals(mLongList, other.mLongList) &&
+               java.util.Objects.equals(mDoubleList, other.mDoubleList);
+    }
+
+    @Override
+    public int hashCode() {
+        if (tHashCode == 0) {
+            tHashCode = java.util.Objects.hash(
+                    PrimitiveListDefaults.class,
+                    _Field.INTEGER_LIST, mIntegerList,
+                    _Field.LONG_LIST, mLongList,
+                    _Field.DOUBLE_LIST, mDoubleList);
+        }
+        return tHashCode;
+    }
+
+    @Override
+    public String toString() {
+        return "providence.PrimitiveListDefaults" + asString();
+    }
+
+    @Override
+    @javax.annotation.Nonnull
+    public String asString() {
+        StringBuilder out = new StringBuilder();
+        out.append("{");
+
+        out.append("integerList:")
+           .append(net.morimekta.util.Strings.asString(mIntegerList));
+        out.append(',');
+        out.append("longList:")
+           .append(net.morimekta.util.Strings.asString(mLongList));
+        if (hasDoubleList()) {
+            out.append(',');
+            out.append("doubleList:")
+               .append(net.morimekta.util.Strings.asString(mDoubleList));
+        }
+        out.append('}');
+        return out.toString();
+    }
+
+    @Override
+    public int compareTo(PrimitiveListDefaults other) {
+        int c;
+
+        c = Integer.compare(mIntegerList.hashCode(), other.mIntegerList.hashCode());
+        if (c != 0) return c;
+
+        c = Integer.compare(mLongList.hashCode(), other.mLongList.hashCode());
+        if (c != 0) return c;
+
+        c = Boolean.compare(mDoubleList != null, other.mDoubleList != null);
+        if (c != 0) return c;
+        if (mDoubleList != null) {
+            c = Integer.compare(mDoubleList.hashCode(), other.mDoubleList.hashCode());
+            if (c != 0) return c;
+        }
+
+        return 0;
+    }
+
+    private void writeObject(java.io.ObjectOutputStream oos) throws java.io.IOException {
+        oos.defaultWriteObject();
+        net.morimekta.providence.serializer.BinarySerializer serializer = new net.morimekta.providence.serializer.BinarySerializer(false);
+        serializer.serialize(oos, this);
+    }
+
+    private void readObject(java.io.ObjectInputStream ois)
+            throws java.io.IOException, ClassNotFoundException {
+        ois.defaultReadObject();
+        net.morimekta.providence.serializer.BinarySerializer serializer = new net.morimekta.providence.serializer.BinarySerializer(false);
+        tSerializeInstance = serializer.deserialize(ois, kDescriptor);
+    }
+
+    private Object readResolve() throws java.io.ObjectStreamException {
+        return tSerializeInstance;
+    }
+
+    @Override
+    public int writeBinary(net.morimekta.util.io.BigEndianBinaryWriter writer) throws java.io.IOException {
+        int length = 0;
+
+        length += writer.writeByte((byte) 15);
+        length += writer.writeShort((short) 1);
+        length += writer.writeByte((byte) 8);
+        length += writer.writeUInt32(mIntegerList.size());
+        for (int i_1 = 0; i_1 < mIntegerList.size(); ++i_1) {
+            length += writer.writeInt(mIntegerList.getInt(i_1));
+        }
+
+        length += writer.writeByte((byte) 15);
+        length += writer.writeShort((short) 2);
+        length += writer.writeByte((byte) 10);
+        length += writer.writeUInt32(mLongList.size());
+        for (int i_2 = 0; i_2 < mLongList.size(); ++i_2) {
+            length += writer.writeLong(mLongList.getLong(i_2));
+        }
+
+        if (hasDoubleList()) {
+            length += writer.writeByte((byte) 15);
+            length += writer.writeShort((short) 3);
+            length += writer.writeByte((byte) 4);
+            length += writer.writeUInt32(mDoubleList.size());
+            for (int i_3 = 0; i_3 < mDoubleList.size(); ++i_3) {
+                length += writer.writeDouble(mDoubleList.getDouble(i_3));
+            }
+        }
+
+        length += writer.writeByte((byte) 0);
+        return length;
+    }
+
+    @javax.annotation.Nonnull
+    @Override
+    public _Builder mutate() {
+        return new _Builder(this);
+    }
+
+    public enum _Field implements net.morimekta.providence.descriptor.PField {
+        INTEGER_LIST(1, net.morimekta.providence.descriptor.PRequirement.DEFAULT, "integerList", net.morimekta.providence.descriptor.PList.<Integer>provider(net.morimekta.providence.descriptor.PPrimitive.I32.provider(), net.morimekta.providence.util.IntList.Builder::new), new net.morimekta.providence.descriptor.PDefaultValueProvider<>(kDefaultIntegerList)),
+        LONG_LIST(2, net.morimekta.providence.descriptor.PRequirement.REQUIRED, "longList", net.morimekta.providence.descriptor.PList.<Long>provider(net.morimekta.providence.descriptor.PPrimitive.I64.provider(), net.morimekta.providence.util.LongList.Builder::new), new net.morimekta.providence.descriptor.PDefaultValueProvider<>(kDefaultLongList)),
+        DOUBLE_LIST(3, net.morimekta.providence.descriptor.PRequirement.OPTIONAL, "doubleList", net.morimekta.providence.descriptor.PList.<Double>provider(net.morimekta.providence.descriptor.PPrimitive.DOUBLE.provider(), net.morimekta.providence.util.DoubleList.Builder::new), new net.morimekta.providence.descriptor.PDefaultValueProvider<>(kDefaultDoubleList)),
+        ;
+
+        private final int mId;
+        private final net.morimekta.providence.descriptor.PRequirement mRequired;
+        private final String mName;
+        private final net.morimekta.providence.descriptor.PDescriptorProvider mTypeProvider;
+        private final net.morimekta.providence.descriptor.PValueProvider<?> mDefaultValue;
+
+        _Field(int id, net.morimekta.providence.descriptor.PRequirement required, String name, net.morimekta.providence.descriptor.PDescriptorProvider typeProvider, net.morimekta.providence.descriptor.PValueProvider<?> defaultValue) {
+            mId = id;
+            mRequired = required;
+            mName = name;
+            mTypeProvider = typeProvider;
+            mDefaultValue = defaultValue;
+        }
+
+        @Override
+        public int getId() { return mId; }
+
+        @Override
+        public net.morimekta.providence.descriptor.PRequirement getRequirement() { return mRequired; }
+
+        @Override
+        public net.morimekta.providence.descriptor.PDescriptor getDescriptor() { return mTypeProvider.descriptor(); }
+
+        @Override
+        public String getName() { return mName; }
+
+        @Override
+        public boolean hasDefaultValue() { return mDefaultValue != null; }
+
+        @Override
+        public Object getDefaultValue() {
+            return hasDefaultValue() ? mDefaultValue.get() : null;
+        }
+
+        @Override
+        public String toString() {
+            return net.morimekta.providence.descriptor.PField.asString(this);
+        }
+
+        /**
+         * @param id Field name
+         * @return The identified field or null
+         */
+        public static _Field findById(int id) {
+            switch (id) {
+                case 1: return _Field.INTEGER_LIST;
+                case 2: return _Field.LONG_LIST;
+                case 3: return _Field.DOUBLE_LIST;
+            }
+            return null;
+        }
+
+        /**
+         * @param name Field name
+         * @return The named field or null
+         */
+        public static _Field findByName(String name) {
+            switch (name) {
+                case "integerList": return _Field.INTEGER_LIST;
+                case "longList": return _Field.LONG_LIST;
+                case "doubleList": return _Field.DOUBLE_LIST;
+            }
+            return null;
+        }
+        /**
+         * @param id Field name
+         * @return The identified field
+         * @throws IllegalArgumentException If no such field
+         */
+        public static _Field fieldForId(int id) {
+            _Field field = findById(id);
+            if (field == null) {
+                throw new IllegalArgumentException("No such field id " + id + " in providence.PrimitiveListDefaults");
+            }
+            return field;
+        }
+
+        /**
+         * @param name Field name
+         * @return The named field
+         * @throws IllegalArgumentException If no such field
+         */
+        public static _Field fieldForName(String name) {
+            _Field field = findByName(name);
+            if (field == null) {
+                throw new IllegalArgumentException("No such field \"" + name + "\" in providence.PrimitiveListDefaults");
+            }
+            return field;
+        }
+
+    }
+
+    @javax.annotation.Nonnull
+    public static net.morimekta.providence.descriptor.PStructDescriptorProvider<PrimitiveListDefaults,_Field> provider() {
+        return new _Provider();
+    }
+
+    @Override
+    @javax.annotation.Nonnull
+    public net.morimekta.providence.descriptor.PStructDescriptor<PrimitiveListDefaults,_Field> descriptor() {
+        return kDescriptor;
+    }
+
+    public static final net.morimekta.providence.descriptor.PStructDescriptor<PrimitiveListDefaults,_Field> kDescriptor;
+
+    private static class _Descriptor
+            extends net.morimekta.providence.descriptor.PStructDescriptor<PrimitiveListDefaults,_Field> {
+        public _Descriptor() {
+            super("providence", "PrimitiveListDefaults", _Builder::new, false);
+        }
+
+        @Override
+        @javax.annotation.Nonnull
+        public _Field[] getFields() {
+            return _Field.values();
+        }
+
+        @Override
+        @javax.annotation.Nullable
+        public _Field findFieldByName(String name) {
+            return _Field.findByName(name);
+        }
+
+        @Override
+        @javax.annotation.Nullable
+        public _Field findFieldById(int id) {
+            return _Field.findById(id);
+        }
+    }
+
+    static {
+        kDescriptor = new _Descriptor();
+    }
+
+    private final static class _Provider extends net.morimekta.providence.descriptor.PStructDescriptorProvider<PrimitiveListDefaults,_Field> {
+        @Override
+        public net.morimekta.providence.descriptor.PStructDescriptor<PrimitiveListDefaults,_Field> descriptor() {
+            return kDescriptor;
+        }
+    }
+
+    /**
+     * Make a <code>providence.PrimitiveListDefaults</code> builder.
+     * @return The builder instance.
+     */
+    public static _Builder builder() {
+        return new _Builder();
+    }
+
+    public static class _Builder
+            extends net.morimekta.providence.PMessageBuilder<PrimitiveListDefaults,_Field>
+            implements net.morimekta.providence.serializer.binary.BinaryReader {
+        private java.util.BitSet optionals;
+        private java.util.BitSet modified;
+
+        private java.util.List<Integer> mIntegerList;
+        private java.util.List<Long> mLongList;
+        private java.util.List<Double> mDoubleList;
+
+        /**
+         * Make a providence.PrimitiveListDefaults builder instance.
+         */
+        public _Builder() {
+            optionals = new java.util.BitSet(3);
+            modified = new java.util.BitSet(3);
+            mIntegerList = kDefaultIntegerList;
+            mLongList = kDefaultLongList;
+        }
+
+        /**
+         * Make a mutating builder off a base providence.PrimitiveListDefaults.
+         *
+         * @param base The base PrimitiveListDefaults
+         */
+        public _Builder(PrimitiveListDefaults base) {
+            this();
+
+            optionals.set(0);
+            mIntegerList = base.mIntegerList;
+            optionals.set(1);
+            mLongList = base.mLongList;
+            if (base.hasDoubleList()) {
+                optionals.set(2);
+                mDoubleList = base.mDoubleList;
+            }
+        }
+
+        @javax.annotation.Nonnull
+        @Override
+        public _Builder merge(PrimitiveListDefaults from) {
+            optionals.set(0);
+            modified.set(0);
+            mIntegerList = from.getIntegerList();
+
+            optionals.set(1);
+            modified.set(1);
+            mLongList = from.getLongList();
+
+            if (from.hasDoubleList()) {
+                optionals.set(2);
+                modified.set(2);
+                mDoubleList = from.getDoubleList();
+            }
+            return this;
+        }
+
+        /**
+         * Set the <code>integerList</code> field value.
+         *
+         * @param value The new value
+         * @return The builder
+         */
+        @javax.annotation.Nonnull
+        public _Builder setIntegerList(java.util.Collection<Integer> value) {
+            if (value == null) {
+                return clearIntegerList();
+            }
+
+            optionals.set(0);
+            modified.set(0);
+            mIntegerList = net.morimekta.providence.util.IntList.copyOf(value);
+            return this;
+        }
+
+        /**
+         * Adds entries to the <code>integerList</code> list.
+         *
+         * @param values The added value
+         * @return The builder
+         */
+        @javax.annotation.Nonnull
+        public _Builder addToIntegerList(int... values) {
+            optionals.set(0);
+            modified.set(0);
+            java.util.List<Integer> _container = mutableIntegerList();
+            for (int item : values) {
+                _container.add(item);
+            }
+            return this;
+        }
+
+        /**
+         * Checks for presence of the <code>integerList</code> field.
+         *
+         * @return True if integerList has been set.
+         */
+        public boolean isSetIntegerList() {
+            return optionals.get(0);
+        }
+
+        /**
+         * Checks if the <code>integerList</code> field has been modified since the
+         * builder was created.
+         *
+         * @return True if integerList has been modified.
+         */
+        public boolean isModifiedIntegerList() {
+            return modified.get(0);
+        }
+
+        /**
+         * Clear the <code>integerList</code> field.
+         *
+         * @return The builder
+         */
+        @javax.annotation.Nonnull
+        public _Builder clearIntegerList() {
+            optionals.clear(0);
+            modified.set(0);
+            mIntegerList = kDefaultIntegerList;
+            return this;
+        }
+
+        /**
+         * Get the builder for the contained <code>integerList</code> message field.
+         *
+         * @return The field message builder
+         */
+        @javax.annotation.Nonnull
+        /**
+         * @return The mutable <code>integerList</code> container
+         */
+        public java.util.List<Integer> mutableIntegerList() {
+            optionals.set(0);
+            modified.set(0);
+
+            if (mIntegerList == null) {
+                mIntegerList = new java.util.ArrayList<>();
+            } else if (!(mIntegerList instanceof java.util.ArrayList)) {
+                mIntegerList = new java.util.ArrayList<>(mIntegerList);
+            }
+            return mIntegerList;
+        }
+
+        /**
+         * Set the <code>longList</code> field value.
+         *
+         * @param value The new value
+         * @return The builder
+         */
+        @javax.annotation.Nonnull
+        public _Builder setLongList(java.util.Collection<Long> value) {
+            if (value == null) {
+                return clearLongList();
+            }
+
+            optionals.set(1);
+            modified.set(1);
+            mLongList = net.morimekta.providence.util.LongList.copyOf(value);
+            return this;
+        }
+
+        /**
+         * Adds entries to the <code>longList</code> list.
+         *
+         * @param values The added value
+         * @return The builder
+         */
+        @javax.annotation.Nonnull
+        public _Builder addToLongList(long... values) {
+            optionals.set(1);
+            modified.set(1);
+            java.util.List<Long> _container = mutableLongList();
+            for (long item : values) {
+                _container.add(item);
+            }
+            return this;
+        }
+
+        /**
+         * Checks for presence of the <code>longList</code> field.
+         *
+         * @return True if longList has been set.
+         */
+        public boolean isSetLongList() {
+            return optionals.get(1);
+        }
+
+        /**
+         * Checks if the <code>longList</code> field has been modified since the
+         * builder was created.
+         *
+         * @return True if longList has been modified.
+         */
+        public boolean isModifiedLongList() {
+            return modified.get(1);
+        }
+
+        /**
+         * Clear the <code>longList</code> field.
+         *
+         * @return The builder
+         */
+        @javax.annotation.Nonnull
+        public _Builder clearLongList() {
+            optionals.clear(1);
+            modified.set(1);
+            mLongList = kDefaultLongList;
+            return this;
+        }
+
+        /**
+         * Get the builder for the contained <code>longList</code> message field.
+         *
+         * @return The field message builder
+         */
+        @javax.annotation.Nonnull
+        /**
+         * @return The mutable <code>longList</code> container
+         */
+        public java.util.List<Long> mutableLongList() {
+            optionals.set(1);
+            modified.set(1);
+
+            if (mLongList == null) {
+                mLongList = new java.util.ArrayList<>();
+            } else if (!(mLongList instanceof java.util.ArrayList)) {
+                mLongList = new java.util.ArrayList<>(mLongList);
+            }
+            return mLongList;
+        }
+
+        /**
+         * Set the <code>doubleList</code> field value.
+         *
+         * @param value The new value
+         * @return The builder
+         */
+        @javax.annotation.Nonnull
+        public _Builder setDoubleList(java.util.Collection<Double> value) {
+            if (value == null) {
+                return clearDoubleList();
+            }
+
+            optionals.set(2);
+            modified.set(2);
+            mDoubleList = net.morimekta.providence.util.DoubleList.copyOf(value);
+            return this;
+        }
+
+        /**
+         * Adds entries to the <code>doubleList</code> list.
+         *
+         * @param values The added value
+         * @return The builder
+         */
+        @javax.annotation.Nonnull
+        public _Builder addToDoubleList(double... values) {
+            optionals.set(2);
+            modified.set(2);
+            java.util.List<Double> _container = mutableDoubleList();
+            for (double item : values) {
+                _container.add(item);
+            }
+            return this;
+        }
+
+        /**
+         * Checks for presence of the <code>doubleList</code> field.
+         *
+         * @return True if doubleList has been set.
+         */
+        public boolean isSetDoubleList() {
+            return optionals.get(2);
+        }
+
+        /**
+         * Checks if the <code>doubleList</code> field has been modified since the
+         * builder was created.
+         *
+         * @return True if doubleList has been modified.
+         */
+        public boolean isModifiedDoubleList() {
+            return modified.get(2);
+        }
+
+        /**
+         * Clear the <code>doubleList</code> field.
+         *
+         * @return The builder
+         */
+        @javax.annotation.Nonnull
+        public _Builder clearDoubleList() {
+            optionals.clear(2);
+            modified.set(2);
+            mDoubleList = null;
+            return this;
+        }
+
+        /**
+         * Get the builder for the contained <code>doubleList</code> message field.
+         *
+         * @return The field message builder
+         */
+        @javax.annotation.Nonnull
+        /**
+         * @return The mutable <code>doubleList</code> container
+         */
+        public java.util.List<Double> mutableDoubleList() {
+            optionals.set(2);
+            modified.set(2);
+
+            if (mDoubleList == null) {
+                mDoubleList = new java.util.ArrayList<>();
+            } else if (!(mDoubleList instanceof java.util.ArrayList)) {
+                mDoubleList = new java.util.ArrayList<>(mDoubleList);
+            }
+            return mDoubleList;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) return true;
+            if (o == null || !o.getClass().equals(getClass())) return false;
+            PrimitiveListDefaults._Builder other = (PrimitiveListDefaults._Builder) o;
+            return java.util.Objects.equals(optionals, other.optionals) &&
+                   java.util.Objects.equals(mIntegerList, other.mIntegerList) &&
+                   java.util.Objects.equals(mLongList, other.mLongList) &&
+                   java.util.Objects.equals(mDoubleList, other.mDoubleList);
+        }
+
+        @Override
+        public int hashCode() {
+            return java.util.Objects.hash(
+                    PrimitiveListDefaults.class, optionals,
+                    _Field.INTEGER_LIST, mIntegerList,
+                    _Field.LONG_LIST, mLongList,
+                    _Field.DOUBLE_LIST, mDoubleList);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public net.morimekta.providence.PMessageBuilder mutator(int key) {
+            switch (key) {
+                default: throw new IllegalArgumentException("Not a message field ID: " + key);
+            }
+        }
+
+        @javax.annotation.Nonnull
+        @Override
+        @SuppressWarnings("unchecked")
+        public _Builder set(int key, Object value) {
+            if (value == null) return clear(key);
+            switch (key) {
+                case 1: setIntegerList((java.util.List<Integer>) value); break;
+                case 2: setLongList((java.util.List<Long>) value); break;
+                case 3: setDoubleList((java.util.List<Double>) value); break;
+                default: break;
+            }
+            return this;
+        }
+
+        @Override
+        public boolean isSet(int key) {
+            switch (key) {
+                case 1: return optionals.get(0);
+                case 2: return optionals.get(1);
+                case 3: return optionals.get(2);
+                default: break;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean isModified(int key) {
+            switch (key) {
+                case 1: return modified.get(0);
+                case 2: return modified.get(1);
+                case 3: return modified.get(2);
+                default: break;
+            }
+            return false;
+        }
+
+        @Override
+        public _Builder addTo(int key, Object value) {
+            switch (key) {
+                case 1: addToIntegerList((int) value); break;
+                case 2: addToLongList((long) value); break;
+                case 3: addToDoubleList((double) value); break;
+                default: break;
+            }
+            return this;
+        }
+
+        @javax.annotation.Nonnull
+        @Override
+        public _Builder clear(int key) {
+            switch (key) {
+                case 1: clearIntegerList(); break;
+                case 2: clearLongList(); break;
+                case 3: clearDoubleList(); break;
+                default: break;
+            }
+            return this;
+        }
+
+        @Override
+        public boolean valid() {
+            return optionals.get(1);
+        }
+
+        @Override
+        public void validate() {
+            if (!valid()) {
+                java.util.ArrayList<String> missing = new java.util.ArrayList<>();
+
+                if (!optionals.get(1)) {
+                    missing.add("longList");
+                }
+
+                throw new java.lang.IllegalStateException(
+                        "Missing required fields " +
+                        String.join(",", missing) +
+                        " in message providence.PrimitiveListDefaults");
+            }
+        }
+
+        @javax.annotation.Nonnull
+        @Override
+        public net.morimekta.providence.descriptor.PStructDescriptor<PrimitiveListDefaults,_Field> descriptor() {
+            return kDescriptor;
+        }
+
+        @Override
+        public void readBinary(net.morimekta.util.io.BigEndianBinaryReader reader, boolean strict) throws java.io.IOException {
+            byte type = reader.expectByte();
+            while (type != 0) {
+                int field = reader.expectShort();
+                switch (field) {
+                    case 1: {
+                        if (type == 15) {
+                            net.morimekta.providence.util.IntList.Builder b_1 = new net.morimekta.providence.util.IntList.Builder();
+                            byte t_3 = reader.expectByte();
+                            if (t_3 == 8) {
+                                final int len_2 = reader.expectUInt32();
+                                for (int i_4 = 0; i_4 < len_2; ++i_4) {
+                                    int key_5 = reader.expectInt();
+                                    b_1.add(key_5);
+                                }
+                                mIntegerList = b_1.build();
+                            } else {
+                                throw new net.morimekta.providence.serializer.SerializerException("Wrong item type " + net.morimekta.providence.serializer.binary.BinaryType.asString(t_3) + " for providence.PrimitiveListDefaults.integerList, should be i32(8)");
+                            }
+                            optionals.set(0);
+                        } else {
+                            throw new net.morimekta.providence.serializer.SerializerException("Wrong type " + net.morimekta.providence.serializer.binary.BinaryType.asString(type) + " for providence.PrimitiveListDefaults.integerList, should be struct(12)");
+                        }
+                        break;
+                    }
+                    case 2: {
+                        if (type == 15) {
+                            net.morimekta.providence.util.LongList.Builder b_6 = new net.morimekta.providence.util.LongList.Builder();
+                            byte t_8 = reader.expectByte();
+                            if (t_8 == 10) {
+                                final int len_7 = reader.expectUInt32();
+                                for (int i_9 = 0; i_9 < len_7; ++i_9) {
+                                    long key_10 = reader.expectLong();
+                                    b_6.add(key_10);
+                                }
+                                mLongList = b_6.build();
+                            } else {
+                                throw new net.morimekta.providence.serializer.SerializerException("Wrong item type " + net.morimekta.providence.serializer.binary.BinaryType.asString(t_8) + " for providence.PrimitiveListDefaults.longList, should be i64(10)");
+                            }
+                            optionals.set(1);
+                        } else {
+                            throw new net.morimekta.providence.serializer.SerializerException("Wrong type " + net.morimekta.providence.serializer.binary.BinaryType.asString(type) + " for providence.PrimitiveListDefaults.longList, should be struct(12)");
+                        }
+                        break;
+                    }
+                    case 3: {
+                        if (type == 15) {
+                            net.morimekta.providence.util.DoubleList.Builder b_11 = new net.morimekta.providence.util.DoubleList.Builder();
+                            byte t_13 = reader.expectByte();
+                            if (t_13 == 4) {
+                                final int len_12 = reader.expectUInt32();
+                                for (int i_14 = 0; i_14 < len_12; ++i_14) {
+                                    double key_15 = reader.expectDouble();
+                                    b_11.add(key_15);
+                                }
+                                mDoubleList = b_11.build();
+                            } else {
+                                throw new net.morimekta.providence.serializer.SerializerException("Wrong item type " + net.morimekta.providence.serializer.binary.BinaryType.asString(t_13) + " for providence.PrimitiveListDefaults.doubleList, should be double(4)");
+                            }
+                            optionals.set(2);
+                        } else {
+                            throw new net.morimekta.providence.serializer.SerializerException("Wrong type " + net.morimekta.providence.serializer.binary.BinaryType.asString(type) + " for providence.PrimitiveListDefaults.doubleList, should be struct(12)");
+                        }
+                        break;
+                    }
+                    default: {
+                        net.morimekta.providence.serializer.binary.BinaryFormatUtils.readFieldValue(reader, new net.morimekta.providence.serializer.binary.BinaryFormatUtils.FieldInfo(field, type), null, false);
+                        break;
+                    }
+                }
+                type = reader.expectByte();
+            }
+        }
+
+        @Override
+        public PrimitiveListDefaults build() {
+            return new PrimitiveListDefaults(this);
+        }
+    }
+}
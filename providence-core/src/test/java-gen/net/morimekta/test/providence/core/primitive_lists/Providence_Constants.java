@@ -0,0 +1,19 @@
+package net.morimekta.test.providence.core.primitive_lists;
+
+@javax.annotation.Generated("providence-maven-plugin")
+@SuppressWarnings("unused")
+public class Providence_Constants {
+    private Providence_Constants() {}
+
+    public static final java.util.List<net.morimekta.test.providence.core.primitive_lists.CompactFields> kDefaultCompactFields = new net.morimekta.providence.descriptor.PList.DefaultBuilder<net.morimekta.test.providence.core.primitive_lists.CompactFields>()
+            .add(net.morimekta.test.providence.core.primitive_lists.CompactFields.builder()
+                     .setName("Tut-Ankh-Amon")
+                     .setId(1333)
+                     .setLabel("dead")
+                     .build())
+            .add(net.morimekta.test.providence.core.primitive_lists.CompactFields.builder()
+                     .setName("Ramses II")
+                     .setId(1279)
+                     .build())
+            .build();
+}
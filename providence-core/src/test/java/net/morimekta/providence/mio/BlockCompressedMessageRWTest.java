@@ -0,0 +1,268 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.mio;
+
+import net.morimekta.providence.serializer.BinarySerializer;
+import net.morimekta.providence.serializer.JsonSerializer;
+import net.morimekta.providence.serializer.Serializer;
+import net.morimekta.test.providence.core.CompactFields;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class BlockCompressedMessageRWTest {
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    @Test
+    public void testBinary() throws IOException {
+        assertRoundTrip(new BinarySerializer());
+    }
+
+    @Test
+    public void testReadable() throws IOException {
+        assertRoundTrip(new JsonSerializer());
+    }
+
+    @Test
+    public void testCompresses() throws IOException {
+        File plain = tmp.newFile();
+        File compressed = tmp.newFile();
+        try (FileMessageWriter a = new FileMessageWriter(plain, new JsonSerializer());
+             FileMessageWriter b = new FileMessageWriter(compressed, new JsonSerializer(), false, null,
+                                                         new BlockCompressionPolicy())) {
+            for (CompactFields message : messages(100)) {
+                a.write(message);
+                a.separator();
+                b.write(message);
+                b.separator();
+            }
+        }
+
+        assertThat(Files.size(compressed.toPath()) < Files.size(plain.toPath()) / 4, is(true));
+    }
+
+    @Test
+    public void testSkip() throws IOException {
+        File file = tmp.newFile();
+        List<CompactFields> expected = messages(25);
+        BlockCompressionPolicy policy = new BlockCompressionPolicy(BlockCompressionPolicy.DEFLATE, 10, 1 << 16);
+        try (FileMessageWriter writer = new FileMessageWriter(file, new BinarySerializer(), false, null, policy)) {
+            for (CompactFields message : expected) {
+                writer.write(message);
+            }
+        }
+
+        try (BlockCompressedMessageReader reader =
+                     new BlockCompressedMessageReader(file, new BinarySerializer())) {
+            assertThat(reader.read(CompactFields.kDescriptor), is(expected.get(0)));
+            // Skips the rest of the first block, and the whole second block.
+            assertThat(reader.skip(19, CompactFields.kDescriptor), is(19L));
+            assertThat(reader.read(CompactFields.kDescriptor), is(expected.get(20)));
+            assertThat(reader.skip(10, CompactFields.kDescriptor), is(4L));
+            try {
+                reader.read(CompactFields.kDescriptor);
+                fail("no exception");
+            } catch (EOFException e) {
+                assertThat(e.getMessage(), is("No more messages"));
+            }
+        }
+    }
+
+    @Test
+    public void testFlush() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BlockCompressedMessageWriter writer = new BlockCompressedMessageWriter(
+                out, new BinarySerializer(), new BlockCompressionPolicy());
+        CompactFields message = new CompactFields("name", 1, null);
+
+        writer.write(message);
+        assertThat(out.size(), is(0));
+        // Flushing does not cut the block.
+        writer.flush();
+        assertThat(out.size(), is(0));
+        writer.finishBlock();
+        assertThat(out.size() > 0, is(true));
+        // Nothing more is written until the next message.
+        int size = out.size();
+        writer.finishBlock();
+        writer.flush();
+        assertThat(out.size(), is(size));
+
+        writer.write(message);
+        writer.close();
+
+        try (BlockCompressedMessageReader reader = new BlockCompressedMessageReader(
+                new ByteArrayInputStream(out.toByteArray()), new BinarySerializer())) {
+            assertThat(reader.read(CompactFields.kDescriptor), is(message));
+            assertThat(reader.read(CompactFields.kDescriptor), is(message));
+        }
+    }
+
+    @Test
+    public void testFileFlushAndSync() throws IOException {
+        File file = tmp.newFile();
+        CompactFields message = new CompactFields("name", 1, null);
+        try (FileMessageWriter writer = new FileMessageWriter(file, new BinarySerializer(), false, null,
+                                                              new BlockCompressionPolicy())) {
+            writer.write(message);
+            writer.flush();
+            assertThat(Files.size(file.toPath()), is(0L));
+            writer.sync();
+            assertThat(Files.size(file.toPath()) > 0L, is(true));
+            writer.write(message);
+        }
+
+        try (BlockCompressedMessageReader reader = new BlockCompressedMessageReader(file, new BinarySerializer())) {
+            assertThat(reader.read(CompactFields.kDescriptor), is(message));
+            assertThat(reader.read(CompactFields.kDescriptor), is(message));
+        }
+    }
+
+    @Test
+    public void testRolling() throws IOException {
+        RollingFileMessageWriter writer = new RollingFileMessageWriter(
+                tmp.getRoot(),
+                new JsonSerializer(),
+                "my-log.txt",
+                (updater, initial) -> {
+                    if (initial) {
+                        updater.updateCurrentFile("my-log-001.txt");
+                    }
+                },
+                null,
+                null,
+                new BlockCompressionPolicy());
+        List<CompactFields> expected = messages(10);
+        for (CompactFields message : expected) {
+            writer.write(message);
+            writer.separator();
+        }
+        writer.close();
+
+        File file = new File(tmp.getRoot(), "my-log-001.txt");
+        try (BlockCompressedMessageReader reader =
+                     new BlockCompressedMessageReader(file, new JsonSerializer())) {
+            for (CompactFields message : expected) {
+                assertThat(reader.read(CompactFields.kDescriptor), is(message));
+            }
+        }
+    }
+
+    @Test
+    public void testCustomCodec() throws IOException {
+        BlockCompressionPolicy.Codec custom = new BlockCompressionPolicy.Codec() {
+            @Override
+            public byte getId() {
+                return 7;
+            }
+
+            @Override
+            public OutputStream compress(OutputStream out) throws IOException {
+                return BlockCompressionPolicy.DEFLATE.compress(out);
+            }
+
+            @Override
+            public InputStream decompress(InputStream in) throws IOException {
+                return BlockCompressionPolicy.DEFLATE.decompress(in);
+            }
+        };
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CompactFields message = new CompactFields("name", 1, null);
+        try (BlockCompressedMessageWriter writer = new BlockCompressedMessageWriter(
+                out, new BinarySerializer(), new BlockCompressionPolicy(custom, 10, 1 << 16))) {
+            writer.write(message);
+        }
+
+        try (BlockCompressedMessageReader reader = new BlockCompressedMessageReader(
+                new ByteArrayInputStream(out.toByteArray()), new BinarySerializer(), custom)) {
+            assertThat(reader.read(CompactFields.kDescriptor), is(message));
+        }
+        try (BlockCompressedMessageReader reader = new BlockCompressedMessageReader(
+                new ByteArrayInputStream(out.toByteArray()), new BinarySerializer())) {
+            reader.read(CompactFields.kDescriptor);
+            fail("no exception");
+        } catch (IOException e) {
+            assertThat(e.getMessage(), is("Unknown block codec 7"));
+        }
+    }
+
+    @Test
+    public void testBadBlock() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (BlockCompressedMessageWriter writer = new BlockCompressedMessageWriter(
+                out, new BinarySerializer(), new BlockCompressionPolicy())) {
+            writer.write(new CompactFields("name", 1, null));
+        }
+
+        byte[] bad = out.toByteArray();
+        bad[3] = 'X';
+        try (BlockCompressedMessageReader reader = new BlockCompressedMessageReader(
+                new ByteArrayInputStream(bad), new BinarySerializer())) {
+            reader.read(CompactFields.kDescriptor);
+            fail("no exception");
+        } catch (IOException e) {
+            assertThat(e.getMessage(), is("Invalid block magic 0x50564458"));
+        }
+    }
+
+    private void assertRoundTrip(Serializer serializer) throws IOException {
+        File file = tmp.newFile();
+        List<CompactFields> expected = messages(50);
+        BlockCompressionPolicy policy = new BlockCompressionPolicy(BlockCompressionPolicy.DEFLATE, 16, 1 << 16);
+        try (FileMessageWriter writer = new FileMessageWriter(file, serializer, false, null, policy)) {
+            for (CompactFields message : expected) {
+                writer.write(message);
+                writer.separator();
+            }
+        }
+
+        try (BlockCompressedMessageReader reader =
+                     new BlockCompressedMessageReader(file, serializer)) {
+            for (CompactFields message : expected) {
+                assertThat(reader.read(CompactFields.kDescriptor), is(message));
+            }
+        }
+    }
+
+    private static List<CompactFields> messages(int num) {
+        List<CompactFields> messages = new ArrayList<>();
+        for (int i = 0; i < num; ++i) {
+            messages.add(new CompactFields("name " + i, i, "label " + (i % 3)));
+        }
+        return messages;
+    }
+}
@@ -7,6 +7,10 @@ import net.morimekta.test.providence.core.CompactFields;
 import net.morimekta.test.providence.core.OptionalFields;
 import net.morimekta.test.providence.core.calculator.Calculator;
 import net.morimekta.test.providence.core.calculator.Operation;
+import net.morimekta.testing.concurrent.FakeScheduledExecutor;
+import net.morimekta.testing.time.FakeClock;
+
+import com.google.common.base.Strings;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -16,10 +20,13 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static net.morimekta.testing.ResourceUtils.writeContentTo;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 public class FileMessageRWTest {
@@ -66,6 +73,65 @@ public class FileMessageRWTest {
         }
     }
 
+    @Test
+    public void testGroupCommit() throws IOException {
+        File test = tmp.newFile();
+        FakeClock clock = new FakeClock();
+        FakeScheduledExecutor scheduler = new FakeScheduledExecutor(clock);
+        GroupCommitPolicy policy = new GroupCommitPolicy(10, TimeUnit.MILLISECONDS, 1024, scheduler);
+
+        try (FileMessageWriter writer = new FileMessageWriter(test, new BinarySerializer(), false, policy)) {
+            assertThat(writer.commit().isDone(), is(true));
+
+            writer.write(m1);
+            CompletableFuture<Void> first = writer.commit();
+            assertThat(first.isDone(), is(false));
+            assertThat(test.length(), is(0L));
+
+            writer.write(m2);
+            assertThat(writer.commit(), is(sameInstance(first)));
+
+            // The time window triggers the sync.
+            clock.tick(10, TimeUnit.MILLISECONDS);
+            assertThat(first.isDone(), is(true));
+            assertThat(first.isCompletedExceptionally(), is(false));
+            assertThat(writer.commit().isDone(), is(true));
+            long synced = test.length();
+            assertThat(synced > 0L, is(true));
+
+            // The size limit triggers the sync.
+            CompactFields large = new CompactFields(Strings.repeat("a", 1024), 42, null);
+            writer.write(large);
+            assertThat(writer.commit().isDone(), is(true));
+            assertThat(test.length() > synced + 1024, is(true));
+
+            writer.write(m1);
+            CompletableFuture<Void> last = writer.commit();
+            assertThat(last.isDone(), is(false));
+            writer.close();
+            assertThat(last.isDone(), is(true));
+        }
+
+        try (FileMessageReader reader = new FileMessageReader(test, new BinarySerializer())) {
+            assertThat(reader.read(CompactFields.kDescriptor), is(m1));
+            assertThat(reader.read(OptionalFields.kDescriptor), is(m2));
+            assertThat(reader.read(CompactFields.kDescriptor).getName(), is(Strings.repeat("a", 1024)));
+            assertThat(reader.read(CompactFields.kDescriptor), is(m1));
+        }
+    }
+
+    @Test
+    public void testCommit_noPolicy() throws IOException {
+        File test = tmp.newFile();
+
+        try (FileMessageWriter writer = new FileMessageWriter(test, new BinarySerializer())) {
+            writer.write(m1);
+            assertThat(test.length(), is(0L));
+            assertThat(writer.commit().isDone(), is(true));
+            assertThat(test.length() > 0L, is(true));
+        }
+    }
+
     @Test
     public void testService() throws IOException {
         String content = "[\"calculate\",\"call\",44,{\"op\":{\"operator\":\"ADD\",\"operands\":[]}}]";
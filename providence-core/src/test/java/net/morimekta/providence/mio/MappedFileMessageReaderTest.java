@@ -0,0 +1,182 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.mio;
+
+import net.morimekta.providence.serializer.BinarySerializer;
+import net.morimekta.providence.serializer.FastBinarySerializer;
+import net.morimekta.providence.serializer.JsonSerializer;
+import net.morimekta.providence.serializer.Serializer;
+import net.morimekta.providence.streams.MessageCollectors;
+import net.morimekta.providence.streams.MessageFraming;
+import net.morimekta.providence.util_internal.MessageGenerator;
+import net.morimekta.test.providence.core.CompactFields;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class MappedFileMessageReaderTest {
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    @Rule
+    public MessageGenerator generator = new MessageGenerator();
+
+    @Test
+    public void testRollingFile_binary() throws IOException {
+        testRollingFile(new BinarySerializer());
+    }
+
+    @Test
+    public void testRollingFile_fastBinary() throws IOException {
+        testRollingFile(new FastBinarySerializer());
+    }
+
+    @Test
+    public void testRollingFile_json() throws IOException {
+        testRollingFile(new JsonSerializer());
+    }
+
+    @Test
+    public void testFramed() throws IOException {
+        File file = tmp.newFile();
+        List<CompactFields> expected = generate(100);
+        expected.stream().collect(MessageCollectors.toFile(file, new BinarySerializer(), MessageFraming.LENGTH_PREFIXED));
+
+        try (MappedFileMessageReader reader = new MappedFileMessageReader(
+                file, new BinarySerializer(), MessageFraming.LENGTH_PREFIXED)) {
+            assertThat(reader.count(), is(100));
+            assertThat(reader.read(42, CompactFields.kDescriptor), is(expected.get(42)));
+            assertThat(reader.stream(0, 100, CompactFields.kDescriptor)
+                             .parallel()
+                             .collect(Collectors.toList()), is(expected));
+        }
+    }
+
+    @Test
+    public void testIndexFile() throws IOException {
+        File file = tmp.newFile();
+        File index = new File(tmp.getRoot(), "index");
+        List<CompactFields> expected = generate(20);
+
+        try (FileMessageWriter writer = new FileMessageWriter(file, new BinarySerializer())) {
+            for (CompactFields message : expected.subList(0, 10)) {
+                writer.write(message);
+            }
+        }
+
+        try (MappedFileMessageReader reader = new MappedFileMessageReader(
+                file, new BinarySerializer(), CompactFields.kDescriptor, index)) {
+            assertThat(reader.count(), is(10));
+        }
+        assertThat(index.exists(), is(true));
+        long modified = Files.getLastModifiedTime(index.toPath()).toMillis();
+
+        // Unchanged file does not update the index.
+        try (MappedFileMessageReader reader = new MappedFileMessageReader(
+                file, new BinarySerializer(), CompactFields.kDescriptor, index)) {
+            assertThat(reader.count(), is(10));
+            assertThat(reader.read(9, CompactFields.kDescriptor), is(expected.get(9)));
+        }
+        assertThat(Files.getLastModifiedTime(index.toPath()).toMillis(), is(modified));
+
+        // Appended content is added to the index.
+        try (FileMessageWriter writer = new FileMessageWriter(file, new BinarySerializer(), true)) {
+            for (CompactFields message : expected.subList(10, 20)) {
+                writer.write(message);
+            }
+        }
+        try (MappedFileMessageReader reader = new MappedFileMessageReader(
+                file, new BinarySerializer(), CompactFields.kDescriptor, index)) {
+            assertThat(reader.count(), is(20));
+            assertThat(reader.stream(0, 20, CompactFields.kDescriptor)
+                             .collect(Collectors.toList()), is(expected));
+        }
+
+        // Index of another type of file is ignored.
+        try (MappedFileMessageReader reader = new MappedFileMessageReader(
+                file, new BinarySerializer(), MessageFraming.LENGTH_PREFIXED, index)) {
+            reader.count();
+            fail("no exception");
+        } catch (IOException e) {
+            // the binary content is not length prefixed.
+        }
+    }
+
+    private void testRollingFile(Serializer serializer) throws IOException {
+        List<CompactFields> expected = generate(100);
+        try (RollingFileMessageWriter writer = new RollingFileMessageWriter(
+                tmp.getRoot(), serializer, "current", (updater, initial) -> {
+                    if (initial) {
+                        updater.updateCurrentFile("log-1");
+                    }
+                })) {
+            for (CompactFields message : expected) {
+                writer.write(message);
+            }
+        }
+
+        File file = new File(tmp.getRoot(), "current");
+        try (MappedFileMessageReader reader = new MappedFileMessageReader(
+                file, serializer, CompactFields.kDescriptor, new File(tmp.getRoot(), "current.index"))) {
+            assertThat(reader.count(), is(100));
+            assertThat(reader.read(57, CompactFields.kDescriptor), is(expected.get(57)));
+            assertThat(reader.read(0, CompactFields.kDescriptor), is(expected.get(0)));
+            assertThat(reader.stream(10, 20, CompactFields.kDescriptor)
+                             .collect(Collectors.toList()), is(expected.subList(10, 20)));
+
+            reader.seek(98);
+            assertThat(reader.read(CompactFields.kDescriptor), is(expected.get(98)));
+            assertThat(reader.read(CompactFields.kDescriptor), is(expected.get(99)));
+            try {
+                reader.read(CompactFields.kDescriptor);
+                fail("no exception");
+            } catch (EOFException e) {
+                assertThat(e.getMessage(), is("No more messages in current after 100"));
+            }
+            try {
+                reader.read(100, CompactFields.kDescriptor);
+                fail("no exception");
+            } catch (IndexOutOfBoundsException e) {
+                assertThat(e.getMessage(), is("Record index 100 not in [0..100)"));
+            }
+        }
+    }
+
+    private List<CompactFields> generate(int num) {
+        List<CompactFields> out = new ArrayList<>();
+        for (int i = 0; i < num; ++i) {
+            out.add(generator.generate(CompactFields.kDescriptor));
+        }
+        return out;
+    }
+}
@@ -10,29 +10,39 @@ import net.morimekta.test.providence.core.CompactFields;
 import net.morimekta.testing.concurrent.FakeScheduledExecutor;
 import net.morimekta.testing.time.FakeClock;
 
+import com.google.common.util.concurrent.Uninterruptibles;
 import org.awaitility.Duration;
 import org.junit.Test;
+import org.mockito.InOrder;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import static java.lang.Thread.sleep;
+import static org.awaitility.Awaitility.await;
 import static org.awaitility.Awaitility.setDefaultPollDelay;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -250,6 +260,142 @@ public class QueuedFileMessageWriterTest {
         verifyNoMoreInteractions(executor, target);
     }
 
+    @Test
+    public void testOverflow_dropNewest() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        IOMessageWriter target = new IOMessageWriter(baos, new JsonSerializer().named());
+        ExecutorService executor = mock(ExecutorService.class);
+
+        QueuedMessageWriter writer = new QueuedMessageWriter(target, executor, 2, QueuedMessageWriter.OverflowPolicy.DROP_NEWEST);
+        assertThat(writer.write(new CompactFields("first", 1, null)), is(1));
+        assertThat(writer.write(new CompactFields("second", 2, null)), is(1));
+        assertThat(writer.write(new CompactFields("third", 3, null)), is(0));
+
+        assertThat(writer.size(), is(2));
+        assertThat(writer.enqueuedCount(), is(2L));
+        assertThat(writer.droppedCount(), is(1L));
+
+        writer.close();
+        assertThat(new String(baos.toByteArray()),
+                   is("[\"first\",1]\n" +
+                      "[\"second\",2]\n"));
+        assertThat(writer.writtenCount(), is(2L));
+
+        // Writes after close are dropped.
+        assertThat(writer.write(new CompactFields("fourth", 4, null)), is(0));
+        assertThat(writer.droppedCount(), is(2L));
+    }
+
+    @Test
+    public void testOverflow_dropOldest() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        IOMessageWriter target = new IOMessageWriter(baos, new JsonSerializer().named());
+        ExecutorService executor = mock(ExecutorService.class);
+
+        QueuedMessageWriter writer = new QueuedMessageWriter(target, executor, 2, QueuedMessageWriter.OverflowPolicy.DROP_OLDEST);
+        assertThat(writer.write(new CompactFields("first", 1, null)), is(1));
+        assertThat(writer.write(new CompactFields("second", 2, null)), is(1));
+        assertThat(writer.write(new CompactFields("third", 3, null)), is(1));
+
+        assertThat(writer.size(), is(2));
+        assertThat(writer.enqueuedCount(), is(3L));
+        assertThat(writer.droppedCount(), is(1L));
+
+        writer.close();
+        assertThat(new String(baos.toByteArray()),
+                   is("[\"second\",2]\n" +
+                      "[\"third\",3]\n"));
+    }
+
+    @Test
+    public void testOverflow_block() throws IOException, InterruptedException {
+        MessageWriter target = mock(MessageWriter.class);
+        ExecutorService executor = mock(ExecutorService.class);
+
+        QueuedMessageWriter writer = new QueuedMessageWriter(target, executor, 1, QueuedMessageWriter.OverflowPolicy.BLOCK);
+        assertThat(writer.write(new CompactFields("first", 1, null)), is(1));
+
+        AtomicReference<Exception> error = new AtomicReference<>();
+        Thread blocked = new Thread(() -> {
+            try {
+                writer.write(new CompactFields("second", 2, null));
+            } catch (IOException e) {
+                error.set(e);
+            }
+        });
+        blocked.start();
+        blocked.join(100L);
+        assertThat(blocked.isAlive(), is(true));
+        assertThat(writer.size(), is(1));
+
+        blocked.interrupt();
+        blocked.join();
+        assertThat(error.get(), is(instanceOf(InterruptedIOException.class)));
+        assertThat(writer.enqueuedCount(), is(1L));
+        assertThat(writer.droppedCount(), is(0L));
+    }
+
+    @Test
+    public void testBlockOnFullQueue_close() throws IOException, InterruptedException {
+        MessageWriter target = mock(MessageWriter.class);
+        ExecutorService executor = mock(ExecutorService.class);
+
+        QueuedMessageWriter writer = new QueuedMessageWriter(target, executor, 1, QueuedMessageWriter.OverflowPolicy.BLOCK);
+        assertThat(writer.write(new CompactFields("first", 1, null)), is(1));
+
+        AtomicReference<Exception> error = new AtomicReference<>();
+        Thread blocked = new Thread(() -> {
+            try {
+                writer.write(new CompactFields("second", 2, null));
+            } catch (IOException e) {
+                error.set(e);
+            }
+        });
+        blocked.start();
+        blocked.join(100L);
+        assertThat(blocked.isAlive(), is(true));
+
+        writer.close();
+        blocked.join(1000L);
+        assertThat(blocked.isAlive(), is(false));
+        assertThat(error.get(), is(instanceOf(IOException.class)));
+        assertThat(error.get().getMessage(), is("Writer closed while waiting for queue"));
+        assertThat(writer.enqueuedCount(), is(1L));
+        assertThat(writer.droppedCount(), is(1L));
+        verify(target).write(new CompactFields("first", 1, null));
+    }
+
+    @Test
+    public void testBatchWrites() throws IOException {
+        MessageWriter target = mock(MessageWriter.class);
+        FakeClock clock = new FakeClock();
+        FakeScheduledExecutor executor = new FakeScheduledExecutor(clock);
+
+        QueuedMessageWriter writer = new QueuedMessageWriter(
+                target, executor, 100, QueuedMessageWriter.OverflowPolicy.BLOCK, 4);
+        for (int i = 0; i < 10; ++i) {
+            writer.write(new CompactFields("name", i, null));
+        }
+        doAnswer(i -> {
+            executor.shutdown();
+            return null;
+        }).when(target).flush();
+
+        clock.tick(1);
+
+        // Only the first batch is written, and flushed once.
+        verify(target, times(4)).write(any(CompactFields.class));
+        verify(target, times(4)).separator();
+        verify(target).flush();
+        verifyNoMoreInteractions(target);
+
+        assertThat(writer.size(), is(6));
+        assertThat(writer.writtenCount(), is(4L));
+        assertThat(writer.failedCount(), is(0L));
+        assertThat(writer.maxQueueLatencyNanos() > 0L, is(true));
+        assertThat(writer.queueLatencyNanos() >= writer.maxQueueLatencyNanos(), is(true));
+    }
+
     private static class FakeQueuedMessageWriter extends QueuedMessageWriter {
         private final FakeClock fakeClock;
 
@@ -293,4 +439,35 @@ public class QueuedFileMessageWriterTest {
         verify(target).write(any(CompactFields.class));
         verifyNoMoreInteractions(target);
     }
+
+    @Test
+    public void testClose_waitsForWriteLoop() throws IOException {
+        MessageWriter target = mock(MessageWriter.class);
+        AtomicBoolean loopDone = new AtomicBoolean();
+        when(target.write(any(CompactFields.class))).thenThrow(new IOException("fail"));
+
+        QueuedMessageWriter writer = new QueuedMessageWriter(target) {
+            @Override
+            protected void sleep(long ms) {
+                // Longer than close waits for the loop, and not stopped
+                // by the interrupt.
+                Uninterruptibles.sleepUninterruptibly(1500L, TimeUnit.MILLISECONDS);
+                loopDone.set(true);
+            }
+        };
+        writer.write(new CompactFields("first", 1, null));
+        await().atMost(1, TimeUnit.SECONDS).until(() -> writer.failedCount() == 1L);
+        writer.write(new CompactFields("second", 2, null));
+
+        writer.close();
+
+        // The underlying writer is not closed until the loop has stopped,
+        // and the rest of the queue is written by close.
+        assertThat(loopDone.get(), is(true));
+        InOrder order = inOrder(target);
+        order.verify(target).write(new CompactFields("first", 1, null));
+        order.verify(target).write(new CompactFields("second", 2, null));
+        order.verify(target).close();
+        verifyNoMoreInteractions(target);
+    }
 }
@@ -11,6 +11,7 @@ import net.morimekta.providence.mio.rolling.TimeBasedRollingPolicy;
 import net.morimekta.providence.serializer.JsonSerializer;
 import net.morimekta.providence.util_internal.MessageGenerator;
 import net.morimekta.test.providence.core.CompactFields;
+import net.morimekta.testing.concurrent.FakeScheduledExecutor;
 import net.morimekta.testing.time.FakeClock;
 
 import com.google.common.collect.ImmutableSortedSet;
@@ -24,7 +25,9 @@ import java.nio.file.Files;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static net.morimekta.providence.mio.RollingFileMessageWriterTest.Tmp.publicGetFormatter;
 import static org.hamcrest.CoreMatchers.is;
@@ -341,4 +344,44 @@ public class RollingFileMessageWriterTest {
         assertThat(content,
                    is("[\"test\",\"exception\",73,{\"message\":\"boo\",\"id\":\"BAD_SEQUENCE_ID\"}]\n"));
     }
+
+    @Test
+    public void testGroupCommit() throws IOException {
+        FakeClock clock = new FakeClock();
+        FakeScheduledExecutor scheduler = new FakeScheduledExecutor(clock);
+        AtomicReference<String> rollTo = new AtomicReference<>("my-log-001.txt");
+
+        RollingFileMessageWriter writer = new RollingFileMessageWriter(
+                tmp.getRoot(),
+                new JsonSerializer(),
+                "my-log.txt",
+                (updater, initial) -> {
+                    String next = rollTo.getAndSet(null);
+                    if (next != null) {
+                        updater.updateCurrentFile(next);
+                    }
+                },
+                null,
+                new GroupCommitPolicy(1, TimeUnit.SECONDS, 1 << 20, scheduler));
+
+        assertThat(writer.commit().isDone(), is(true));
+
+        writer.write(generator.generate(CompactFields.kDescriptor));
+        CompletableFuture<Void> first = writer.commit();
+        assertThat(first.isDone(), is(false));
+
+        // Rolling the file commits the old file.
+        rollTo.set("my-log-002.txt");
+        writer.write(generator.generate(CompactFields.kDescriptor));
+        assertThat(first.isDone(), is(true));
+        assertThat(Files.size(tmp.getRoot().toPath().resolve("my-log-001.txt")) > 0L, is(true));
+
+        CompletableFuture<Void> second = writer.commit();
+        assertThat(second.isDone(), is(false));
+        clock.tick(1, TimeUnit.SECONDS);
+        assertThat(second.isDone(), is(true));
+        assertThat(Files.size(tmp.getRoot().toPath().resolve("my-log-002.txt")) > 0L, is(true));
+
+        writer.close();
+    }
 }
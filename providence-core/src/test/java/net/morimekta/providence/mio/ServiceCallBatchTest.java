@@ -0,0 +1,97 @@
+package net.morimekta.providence.mio;
+
+import net.morimekta.providence.PServiceCall;
+import net.morimekta.providence.serializer.BinarySerializer;
+import net.morimekta.providence.serializer.FastBinarySerializer;
+import net.morimekta.providence.serializer.JsonSerializer;
+import net.morimekta.providence.serializer.Serializer;
+import net.morimekta.test.providence.core.calculator.Calculator;
+
+import org.junit.Test;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class ServiceCallBatchTest {
+    @Test
+    public void testReadWrite() throws IOException {
+        List<byte[]> entries = new ArrayList<>();
+        entries.add("first".getBytes(UTF_8));
+        entries.add(new byte[0]);
+        entries.add("third".getBytes(UTF_8));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertThat(ServiceCallBatch.write(out, entries), is(8 + 3 * 4 + 10));
+        out.write("trailing".getBytes(UTF_8));
+
+        BufferedInputStream in = new BufferedInputStream(new ByteArrayInputStream(out.toByteArray()));
+        assertThat(ServiceCallBatch.isBatch(in), is(true));
+        assertThat(ServiceCallBatch.isBatch(ByteBuffer.wrap(out.toByteArray())), is(true));
+
+        List<byte[]> read = ServiceCallBatch.read(in);
+        assertThat(read.size(), is(3));
+        assertThat(new String(read.get(0), UTF_8), is("first"));
+        assertThat(read.get(1).length, is(0));
+        assertThat(new String(read.get(2), UTF_8), is("third"));
+        // Reads exactly the batch, and nothing more.
+        assertThat(in.read(), is((int) 't'));
+    }
+
+    @Test
+    public void testIsBatch_singleCall() throws IOException {
+        String content = "[\"calculate\",\"call\",44,{\"op\":{\"operator\":\"ADD\",\"operands\":[]}}]";
+        PServiceCall call = new JsonSerializer().deserialize(new ByteArrayInputStream(content.getBytes(UTF_8)),
+                                                             Calculator.kDescriptor);
+
+        Serializer[] serializers = new Serializer[]{
+                new BinarySerializer(),
+                new BinarySerializer(false, false),
+                new FastBinarySerializer(),
+                new JsonSerializer(),
+                new JsonSerializer().named().pretty(),
+        };
+        for (Serializer serializer : serializers) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            serializer.serialize(out, call);
+
+            BufferedInputStream in = new BufferedInputStream(new ByteArrayInputStream(out.toByteArray()));
+            assertThat(serializer.toString(), ServiceCallBatch.isBatch(in), is(false));
+            assertThat(serializer.toString(), ServiceCallBatch.isBatch(ByteBuffer.wrap(out.toByteArray())), is(false));
+            // And the stream is not consumed.
+            assertThat(serializer.deserialize(in, Calculator.kDescriptor), is(call));
+        }
+
+        assertThat(ServiceCallBatch.isBatch(new BufferedInputStream(new ByteArrayInputStream(new byte[]{0x50}))),
+                   is(false));
+        assertThat(ServiceCallBatch.isBatch(ByteBuffer.wrap(new byte[]{0x50})), is(false));
+    }
+
+    @Test
+    public void testRead_invalid() throws IOException {
+        assertBadBatch(new byte[]{0x50, 0x56, 0x42, 0x44, 0, 0, 0, 0},
+                       "Invalid batch magic: 0x50564244");
+        assertBadBatch(new byte[]{0x50, 0x56, 0x42, 0x43, -1, 0, 0, 0},
+                       "Invalid number of batch entries: -16777216");
+        assertBadBatch(new byte[]{0x50, 0x56, 0x42, 0x43, 0, 0, 0, 1, 0x7f, 0, 0, 0},
+                       "Invalid batch entry size: 2130706432");
+    }
+
+    private void assertBadBatch(byte[] content, String message) {
+        try {
+            ServiceCallBatch.read(new ByteArrayInputStream(content));
+            fail("No exception");
+        } catch (IOException e) {
+            assertThat(e.getMessage(), is(message));
+        }
+    }
+}
@@ -145,6 +145,30 @@ public class BinarySerializerTest {
         }
     }
 
+    @Test
+    public void testCompiled() throws IOException {
+        BinarySerializer compiled = new BinarySerializer().compiled();
+        BinarySerializer plain = new BinarySerializer();
+
+        for (Containers expected : containers) {
+            byte[] data = serialize(compiled, expected);
+            assertThat(data, is(serialize(plain, expected)));
+
+            Containers actual = compiled.deserialize(new ByteArrayInputStream(data), Containers.kDescriptor);
+            assertThat(actual, is(equalToMessage(expected)));
+        }
+    }
+
+    @Test
+    public void testReadFailures_compiled() throws IOException {
+        assertFailure(bytes(BinaryType.I16, (short) 4),
+                      "Wrong field type for id=4: expected i32(8), got i16(6)",
+                      OptionalFields.kDescriptor, lenient.compiled());
+        assertFailure(bytes(BinaryType.STOP),
+                      "Missing required fields booleanValue,byteValue,shortValue,integerValue,longValue,doubleValue,stringValue,binaryValue,enumValue,compactValue in message providence.RequiredFields",
+                      RequiredFields.kDescriptor, strict.compiled());
+    }
+
     @Test
     public void testService() throws IOException, CalculateException {
         PServiceCall call = decode("[\"calculate\", \"call\", 44, {\"1\": {\"1\": 2}}]".getBytes(UTF_8), json);
@@ -318,6 +342,12 @@ public class BinarySerializerTest {
                       RequiredFields.kDescriptor, strict);
     }
 
+    private static byte[] serialize(Serializer serializer, Containers message) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        serializer.serialize(baos, message);
+        return baos.toByteArray();
+    }
+
     private byte[] bytes(Object... values) throws IOException {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         BigEndianBinaryWriter writer = new BigEndianBinaryWriter(baos);
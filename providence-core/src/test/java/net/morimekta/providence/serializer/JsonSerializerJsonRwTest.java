@@ -0,0 +1,187 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.serializer;
+
+import net.morimekta.providence.PMessage;
+import net.morimekta.providence.descriptor.PField;
+import net.morimekta.providence.descriptor.PMessageDescriptor;
+import net.morimekta.providence.serializer.json.JsonMessageReader;
+import net.morimekta.providence.serializer.json.JsonMessageWriter;
+import net.morimekta.providence.util.ProvidenceHelper;
+import net.morimekta.test.providence.core.Containers;
+import net.morimekta.test.providence.core.json_rw.CompactFields;
+import net.morimekta.test.providence.core.json_rw.OptionalFields;
+import net.morimekta.test.providence.core.json_rw.UnionFields;
+import net.morimekta.test.providence.core.json_rw.Value;
+import net.morimekta.util.Binary;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static net.morimekta.providence.util_internal.EqualToMessage.equalToMessage;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests that the generated JSON read and write methods produce and accept
+ * the same JSON as the reflective serialization in the JSON serializer.
+ */
+public class JsonSerializerJsonRwTest {
+    private static ArrayList<Containers>                                           containers;
+    private static ArrayList<net.morimekta.test.providence.core.json_rw.Containers> jsonRwContainers;
+
+    private JsonSerializer[] serializers;
+
+    @Before
+    public void setUp() throws IOException {
+        synchronized (JsonSerializerJsonRwTest.class) {
+            // Since these are immutable, we don't need to read for each test.
+            if (containers == null) {
+                containers = ProvidenceHelper.arrayListFromJsonResource(
+                        "/compat/compact.json", Containers.kDescriptor);
+                jsonRwContainers = ProvidenceHelper.arrayListFromJsonResource(
+                        "/compat/compact.json", net.morimekta.test.providence.core.json_rw.Containers.kDescriptor);
+            }
+        }
+
+        serializers = new JsonSerializer[]{
+                new JsonSerializer(),
+                new JsonSerializer(true),
+                new JsonSerializer().named(),
+                new JsonSerializer().pretty(),
+                new JsonSerializer().withNamedEnums(),
+        };
+    }
+
+    @Test
+    public void testGeneratedCode() {
+        assertThat(jsonRwContainers.get(0), is(instanceOf(JsonMessageWriter.class)));
+        assertThat(jsonRwContainers.get(0).mutate(), is(instanceOf(JsonMessageReader.class)));
+        assertThat(containers.get(0), is(not(instanceOf(JsonMessageWriter.class))));
+    }
+
+    @Test
+    public void testContainers() throws IOException {
+        assertThat(jsonRwContainers.size(), is(containers.size()));
+        for (JsonSerializer serializer : serializers) {
+            for (int i = 0; i < containers.size(); ++i) {
+                assertSameJson(serializer,
+                               containers.get(i),
+                               jsonRwContainers.get(i),
+                               net.morimekta.test.providence.core.json_rw.Containers.kDescriptor);
+            }
+        }
+    }
+
+    @Test
+    public void testOptionalFields() throws IOException {
+        net.morimekta.test.providence.core.OptionalFields expected =
+                net.morimekta.test.providence.core.OptionalFields
+                        .builder()
+                        .setBooleanValue(true)
+                        .setByteValue((byte) -12)
+                        .setShortValue((short) 1234)
+                        .setIntegerValue(-123456)
+                        .setLongValue(1234567890123L)
+                        .setDoubleValue(12.34e56)
+                        .setStringValue("‡ \"quoted\"\n")
+                        .setBinaryValue(Binary.wrap(new byte[]{0, 1, 2, -1}))
+                        .setEnumValue(net.morimekta.test.providence.core.Value.EIGHTH)
+                        .setCompactValue(net.morimekta.test.providence.core.CompactFields
+                                                 .builder()
+                                                 .setName("name")
+                                                 .setId(42)
+                                                 .build())
+                        .build();
+        OptionalFields actual = OptionalFields
+                .builder()
+                .setBooleanValue(true)
+                .setByteValue((byte) -12)
+                .setShortValue((short) 1234)
+                .setIntegerValue(-123456)
+                .setLongValue(1234567890123L)
+                .setDoubleValue(12.34e56)
+                .setStringValue("‡ \"quoted\"\n")
+                .setBinaryValue(Binary.wrap(new byte[]{0, 1, 2, -1}))
+                .setEnumValue(Value.EIGHTH)
+                .setCompactValue(CompactFields.builder()
+                                              .setName("name")
+                                              .setId(42)
+                                              .build())
+                .build();
+
+        for (JsonSerializer serializer : serializers) {
+            assertSameJson(serializer, expected, actual, OptionalFields.kDescriptor);
+            assertSameJson(serializer,
+                           net.morimekta.test.providence.core.OptionalFields.builder().build(),
+                           OptionalFields.builder().build(),
+                           OptionalFields.kDescriptor);
+        }
+    }
+
+    @Test
+    public void testUnionFields() throws IOException {
+        for (JsonSerializer serializer : serializers) {
+            assertSameJson(serializer,
+                           net.morimekta.test.providence.core.UnionFields.withStringValue("string"),
+                           UnionFields.withStringValue("string"),
+                           UnionFields.kDescriptor);
+            assertSameJson(serializer,
+                           net.morimekta.test.providence.core.UnionFields.withEnumValue(
+                                   net.morimekta.test.providence.core.Value.FIFTH),
+                           UnionFields.withEnumValue(Value.FIFTH),
+                           UnionFields.kDescriptor);
+            assertSameJson(serializer,
+                           net.morimekta.test.providence.core.UnionFields.withCompactValue(
+                                   new net.morimekta.test.providence.core.CompactFields("name", 4, null)),
+                           UnionFields.withCompactValue(new CompactFields("name", 4, null)),
+                           UnionFields.kDescriptor);
+        }
+    }
+
+    private static <E extends PMessage<E, G>, G extends PField, M extends PMessage<M, F>, F extends PField>
+    void assertSameJson(JsonSerializer serializer,
+                        E expected,
+                        M actual,
+                        PMessageDescriptor<M, F> descriptor) throws IOException {
+        String expectedJson = write(serializer, expected);
+        String actualJson = write(serializer, actual);
+        assertThat(actualJson, is(expectedJson));
+
+        M parsed = serializer.deserialize(new ByteArrayInputStream(actualJson.getBytes(UTF_8)), descriptor);
+        assertThat(parsed, is(equalToMessage(actual)));
+    }
+
+    private static <M extends PMessage<M, F>, F extends PField>
+    String write(JsonSerializer serializer, M message) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        serializer.serialize(out, message);
+        return new String(out.toByteArray(), UTF_8);
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.serializer;
+
+import net.morimekta.providence.util_internal.EqualToMessage;
+import net.morimekta.providence.util_internal.MessageGenerator;
+import net.morimekta.test.providence.core.CompactFields;
+import net.morimekta.test.providence.core.Containers;
+import net.morimekta.test.providence.core.RequiredFields;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class LazyBinaryMessageTest {
+    @Rule
+    public MessageGenerator generator = new MessageGenerator();
+
+    @Test
+    public void testBinary() throws IOException {
+        BinarySerializer serializer = new BinarySerializer();
+        for (int i = 0; i < 10; ++i) {
+            Containers expected = generator.generate(Containers.kDescriptor);
+            ByteBuffer buffer = ByteBuffer.allocate(1 << 20);
+            int size = serializer.serialize(buffer, expected);
+            buffer.put((byte) 42);
+            buffer.flip();
+
+            LazyBinaryMessage<Containers, Containers._Field> lazy = serializer.deserializeLazy(buffer, Containers.kDescriptor);
+            assertThat(buffer.position(), is(size));
+            assertThat(buffer.get(), is((byte) 42));
+            assertThat(lazy.serializedSize(), is(size));
+
+            assertLazy(lazy, expected);
+        }
+    }
+
+    @Test
+    public void testFastBinary() throws IOException {
+        FastBinarySerializer serializer = new FastBinarySerializer();
+        for (int i = 0; i < 10; ++i) {
+            Containers expected = generator.generate(Containers.kDescriptor);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20);
+            int size = serializer.serialize(buffer, expected);
+            buffer.flip();
+
+            LazyBinaryMessage<Containers, Containers._Field> lazy = serializer.deserializeLazy(buffer, Containers.kDescriptor);
+            assertThat(buffer.position(), is(size));
+            assertThat(lazy.serializedSize(), is(size));
+
+            assertLazy(lazy, expected);
+        }
+    }
+
+    @Test
+    public void testDecode() throws IOException {
+        BinarySerializer serializer = new BinarySerializer();
+        Containers expected = generator.generate(Containers.kDescriptor);
+        ByteBuffer buffer = ByteBuffer.allocate(1 << 20);
+        serializer.serialize(buffer, expected);
+        buffer.flip();
+
+        LazyBinaryMessage<Containers, Containers._Field> lazy = serializer.deserializeLazy(buffer, Containers.kDescriptor);
+        assertThat(lazy.decode(), is(new EqualToMessage<>(expected)));
+        assertThat(lazy.decode() == lazy.decode(), is(true));
+        assertThat(lazy.decode().equals(expected), is(true));
+        assertThat(lazy.hashCode(), is(expected.hashCode()));
+
+        // Equality is only between lazy messages, so it stays symmetric.
+        buffer.position(0);
+        LazyBinaryMessage<Containers, Containers._Field> other = serializer.deserializeLazy(buffer, Containers.kDescriptor);
+        assertThat(lazy.equals(other), is(true));
+        assertThat(other.equals(lazy), is(true));
+        assertThat(lazy.equals(expected), is(false));
+        assertThat(expected.equals(lazy), is(false));
+        assertThat(lazy.asString(), is(expected.asString()));
+        assertThat(lazy.mutate().build(), is(expected));
+        for (Containers._Field field : Containers._Field.values()) {
+            assertThat(lazy.isDecoded(field.getId()), is(true));
+        }
+    }
+
+    @Test
+    public void testMissingFields() throws IOException {
+        BinarySerializer serializer = new BinarySerializer();
+        CompactFields expected = CompactFields.builder()
+                                              .setName("name")
+                                              .setId(42)
+                                              .build();
+        ByteBuffer buffer = ByteBuffer.allocate(1 << 10);
+        serializer.serialize(buffer, expected);
+        buffer.flip();
+
+        LazyBinaryMessage<CompactFields, CompactFields._Field> lazy = serializer.deserializeLazy(buffer, CompactFields.kDescriptor);
+        assertThat(lazy.has(CompactFields._Field.LABEL), is(false));
+        assertThat(lazy.get(CompactFields._Field.LABEL), is((Object) null));
+        assertThat(lazy.get(CompactFields._Field.NAME), is("name"));
+        assertThat(lazy.get(CompactFields._Field.ID), is(42));
+    }
+
+    @Test
+    public void testStrict() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(1 << 10);
+        new BinarySerializer().serialize(buffer, RequiredFields.builder().build());
+        buffer.flip();
+
+        try {
+            new BinarySerializer(true).deserializeLazy(buffer, RequiredFields.kDescriptor);
+            fail("no exception");
+        } catch (SerializerException e) {
+            assertThat(e.getMessage(),
+                       is("Missing required field enumValue in providence.RequiredFields"));
+        }
+
+        buffer.rewind();
+        LazyBinaryMessage<RequiredFields, RequiredFields._Field> lazy =
+                new BinarySerializer(false).deserializeLazy(buffer, RequiredFields.kDescriptor);
+        assertThat(lazy.has(RequiredFields._Field.ENUM_VALUE), is(false));
+    }
+
+    @Test
+    public void testWrongFieldType() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(1 << 10);
+        // Field 1 (name) with an i32 value instead of string.
+        buffer.put((byte) 8).putShort((short) 1).putInt(42).put((byte) 0);
+        buffer.flip();
+
+        try {
+            new BinarySerializer().deserializeLazy(buffer, CompactFields.kDescriptor);
+            fail("no exception");
+        } catch (SerializerException e) {
+            assertThat(e.getMessage(), is("Wrong field type for id=1: expected string(11), got i32(8)"));
+        }
+    }
+
+    @Test
+    public void testWrongFieldType_fastBinary() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(1 << 10);
+        // Field 1 (name) with a varint value instead of binary.
+        buffer.put((byte) (1 << 3 | 0x03)).put((byte) 84).put((byte) 0);
+        buffer.flip();
+
+        try {
+            new FastBinarySerializer().deserializeLazy(buffer, CompactFields.kDescriptor);
+            fail("no exception");
+        } catch (SerializerException e) {
+            assertThat(e.getMessage(), is("Wrong field type for id=1: expected binary, got varint"));
+        }
+    }
+
+    private static void assertLazy(LazyBinaryMessage<Containers, Containers._Field> lazy, Containers expected) {
+        for (Containers._Field field : Containers._Field.values()) {
+            assertThat(lazy.has(field), is(expected.has(field)));
+        }
+        for (Containers._Field field : Containers._Field.values()) {
+            if (expected.has(field)) {
+                assertThat(lazy.isDecoded(field.getId()), is(false));
+                assertThat(field.getName(), lazy.get(field), is((Object) expected.get(field)));
+                assertThat(lazy.isDecoded(field.getId()), is(true));
+            } else {
+                assertThat(lazy.get(field), is((Object) expected.get(field)));
+            }
+        }
+    }
+}
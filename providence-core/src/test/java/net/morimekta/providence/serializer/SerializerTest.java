@@ -52,6 +52,8 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -273,6 +275,43 @@ public class SerializerTest {
 
                 assertThat(re, is(call));
             }
+
+            // byte buffers, heap and direct, with native and swapped byte order.
+            for (ByteBuffer buffer : new ByteBuffer[]{
+                    ByteBuffer.allocate(1 << 16),
+                    ByteBuffer.allocateDirect(1 << 16),
+                    ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN),
+                    ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.BIG_ENDIAN)}) {
+                for (Containers expected : containers) {
+                    baos.reset();
+                    serializer.serialize(baos, expected);
+
+                    buffer.clear();
+                    size = serializer.serialize(buffer, expected);
+                    assertThat(buffer.position(), is(size));
+                    buffer.flip();
+
+                    byte[] bytes = new byte[buffer.remaining()];
+                    buffer.duplicate().get(bytes);
+                    assertThat(Binary.wrap(bytes), is(Binary.wrap(baos.toByteArray())));
+
+                    Containers actual = serializer.deserialize(buffer, Containers.kDescriptor);
+                    assertThat(actual, new EqualToMessage<>(expected));
+                    if (serializer.binaryProtocol()) {
+                        assertThat(buffer.remaining(), is(0));
+                    }
+                }
+
+                for (PServiceCall<?, ?> call : serviceCalls) {
+                    buffer.clear();
+                    size = serializer.serialize(buffer, call);
+                    assertThat(buffer.position(), is(size));
+                    buffer.flip();
+
+                    PServiceCall<?, ?> re = serializer.deserialize(buffer, ContainerService.kDescriptor);
+                    assertThat(re, is(call));
+                }
+            }
         } catch (SerializerException e) {
             System.err.println(e.asString());
             throw e;
@@ -359,6 +398,22 @@ public class SerializerTest {
         Serializer serializer = new BinarySerializer(true, false);
         testSerializer(serializer);
         testOutput(serializer, "/compat/binary.data");
+        testByteBufferOverflow(serializer);
+    }
+
+    @Test
+    public void testBinary_pooled() throws IOException {
+        Serializer serializer = new BinarySerializer(true, false).pooled();
+        testSerializer(serializer);
+        testOutput(serializer, "/compat/binary.data");
+        testPooledOverflow(serializer);
+    }
+
+    @Test
+    public void testBinary_compiled() throws IOException {
+        Serializer serializer = new BinarySerializer(true, false).compiled();
+        testSerializer(serializer);
+        testOutput(serializer, "/compat/binary.data");
     }
 
     @Test
@@ -366,5 +421,72 @@ public class SerializerTest {
         Serializer serializer = new FastBinarySerializer(true);
         testSerializer(serializer);
         testOutput(serializer, "/compat/fast-binary.data");
+        testByteBufferOverflow(serializer);
+    }
+
+    @Test
+    public void testFastBinary_pooled() throws IOException {
+        Serializer serializer = new FastBinarySerializer(true).pooled();
+        testSerializer(serializer);
+        testOutput(serializer, "/compat/fast-binary.data");
+        testPooledOverflow(serializer);
+    }
+
+    @Test
+    public void testFastBinary_compiled() throws IOException {
+        Serializer serializer = new FastBinarySerializer(true).compiled().pooled();
+        testSerializer(serializer);
+        testOutput(serializer, "/compat/fast-binary.data");
+        testPooledOverflow(serializer);
+    }
+
+    private void testPooledOverflow(Serializer serializer) throws IOException {
+        // Larger than the initial scratch buffer, so is first written
+        // directly to the stream, and then through the grown buffer.
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 1000; ++i) {
+            builder.append("æøå-").append(i);
+        }
+        CompactFields expected = CompactFields.builder()
+                                              .setName(builder.toString())
+                                              .setId(42)
+                                              .build();
+        for (int i = 0; i < 2; ++i) {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            int size = serializer.serialize(baos, expected);
+            assertThat(size, is(baos.size()));
+            CompactFields actual = serializer.deserialize(new ByteArrayInputStream(baos.toByteArray()),
+                                                          CompactFields.kDescriptor);
+            assertThat(actual, is(expected));
+        }
+    }
+
+    private void testByteBufferOverflow(Serializer serializer) throws IOException {
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < 100; ++i) {
+            name.append((char) ('a' + i % 26));
+        }
+        CompactFields message = new CompactFields(name.toString(), 42, "label");
+
+        // Not the generated messages, as they may be small enough to fit.
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+        try {
+            serializer.serialize(buffer, message);
+            fail("no exception");
+        } catch (IOException e) {
+            assertThat(e.getMessage(), is("Buffer overflow"));
+        }
+
+        // Truncated in the middle of the long name string.
+        buffer = ByteBuffer.allocate(1 << 12);
+        serializer.serialize(buffer, message);
+        buffer.flip();
+        buffer.limit(buffer.limit() / 2);
+        try {
+            serializer.deserialize(buffer, CompactFields.kDescriptor);
+            fail("no exception");
+        } catch (IOException e) {
+            // the exact message depends on the serializer.
+        }
     }
 }
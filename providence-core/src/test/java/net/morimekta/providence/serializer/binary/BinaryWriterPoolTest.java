@@ -0,0 +1,134 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.serializer.binary;
+
+import net.morimekta.test.providence.core.CompactFields;
+import net.morimekta.util.Binary;
+import net.morimekta.util.Strings;
+import net.morimekta.util.io.BigEndianBinaryWriter;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class BinaryWriterPoolTest {
+    @Test
+    public void testWrite() throws IOException {
+        BinaryWriterPool<BigEndianBinaryWriter> pool =
+                new BinaryWriterPool<>(BigEndianByteBufferWriter::new, BigEndianBinaryWriter::new, 64, 256);
+        CompactFields message = CompactFields.builder()
+                                             .setName("name")
+                                             .setId(42)
+                                             .build();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int len = pool.write(out, writer -> BinaryFormatUtils.writeMessage(writer, message));
+        assertThat(len, is(out.size()));
+        assertThat(Binary.wrap(out.toByteArray()), is(Binary.wrap(expected(message))));
+    }
+
+    @Test
+    public void testWrite_largerThanBuffer() throws IOException {
+        BinaryWriterPool<BigEndianBinaryWriter> pool =
+                new BinaryWriterPool<>(BigEndianByteBufferWriter::new, BigEndianBinaryWriter::new, 64, 256);
+        CompactFields message = CompactFields.builder()
+                                             .setName(Strings.times("name", 200))
+                                             .setId(42)
+                                             .setLabel(Strings.times("label", 200))
+                                             .build();
+        byte[] expected = expected(message);
+
+        // Larger than the max scratch buffer, so every write overflows.
+        for (int i = 0; i < 3; ++i) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            int len = pool.write(out, writer -> BinaryFormatUtils.writeMessage(writer, message));
+            assertThat(len, is(expected.length));
+            assertThat(Binary.wrap(out.toByteArray()), is(Binary.wrap(expected)));
+        }
+    }
+
+    @Test
+    public void testWrite_bufferOverflowException() throws IOException {
+        BinaryWriterPool<BigEndianBinaryWriter> pool =
+                new BinaryWriterPool<>(BigEndianByteBufferWriter::new, BigEndianBinaryWriter::new, 64, 256);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int len = pool.write(out, writer -> {
+            if (writer instanceof BigEndianByteBufferWriter) {
+                writer.writeInt(1);
+                throw new BufferOverflowException();
+            }
+            return writer.writeInt(1) + writer.writeInt(2);
+        });
+        assertThat(len, is(8));
+        assertThat(Binary.wrap(out.toByteArray()), is(Binary.wrap(new byte[]{0, 0, 0, 1, 0, 0, 0, 2})));
+    }
+
+    @Test
+    public void testWrite_ioException() {
+        BinaryWriterPool<BigEndianBinaryWriter> pool =
+                new BinaryWriterPool<>(BigEndianByteBufferWriter::new, BigEndianBinaryWriter::new, 64, 256);
+        AtomicInteger calls = new AtomicInteger();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            pool.write(out, writer -> {
+                calls.incrementAndGet();
+                throw new IOException("failed");
+            });
+            fail("no exception");
+        } catch (IOException e) {
+            assertThat(e.getMessage(), is("failed"));
+        }
+        // Not an overflow, so not retried.
+        assertThat(calls.get(), is(1));
+        assertThat(out.size(), is(0));
+    }
+
+    @Test
+    public void testWrite_nested() throws IOException {
+        BinaryWriterPool<BigEndianBinaryWriter> pool =
+                new BinaryWriterPool<>(BigEndianByteBufferWriter::new, BigEndianBinaryWriter::new, 64, 256, 1);
+
+        ByteArrayOutputStream outer = new ByteArrayOutputStream();
+        ByteArrayOutputStream inner = new ByteArrayOutputStream();
+        int len = pool.write(outer, writer -> {
+            int l = writer.writeInt(1);
+            pool.write(inner, nested -> nested.writeInt(2));
+            return l + writer.writeInt(3);
+        });
+        assertThat(len, is(8));
+        assertThat(Binary.wrap(outer.toByteArray()), is(Binary.wrap(new byte[]{0, 0, 0, 1, 0, 0, 0, 3})));
+        assertThat(Binary.wrap(inner.toByteArray()), is(Binary.wrap(new byte[]{0, 0, 0, 2})));
+    }
+
+    private static byte[] expected(CompactFields message) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryFormatUtils.writeMessage(new BigEndianBinaryWriter(out), message);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.serializer.binary;
+
+import net.morimekta.providence.PType;
+import net.morimekta.test.providence.core.no_rw_binary.Containers;
+import net.morimekta.test.providence.core.no_rw_binary.OptionalFields;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class MessageLayoutTest {
+    @Test
+    public void testLayout() {
+        MessageLayout layout = MessageLayout.forType(OptionalFields.kDescriptor);
+
+        assertThat(MessageLayout.forType(OptionalFields.kDescriptor), is(sameInstance(layout)));
+        assertThat(layout.size(), is(OptionalFields.kDescriptor.getFields().length));
+        for (int i = 0; i < layout.size(); ++i) {
+            assertThat(layout.field(i), is(OptionalFields.kDescriptor.getFields()[i]));
+            assertThat(layout.indexOf(layout.id(i)), is(i));
+        }
+
+        int index = layout.indexOf(OptionalFields._Field.INTEGER_VALUE.getId());
+        assertThat(layout.type(index), is(PType.I32));
+        assertThat(layout.binaryType(index), is(BinaryType.I32));
+        assertThat(layout.indexOf(0), is(-1));
+        assertThat(layout.indexOf(1000), is(-1));
+        assertThat(layout.indexOf(-1), is(-1));
+    }
+
+    @Test
+    public void testLayout_keptWithDescriptor() {
+        int identity = System.identityHashCode(MessageLayout.forType(Containers.kDescriptor));
+        System.gc();
+
+        assertThat(System.identityHashCode(MessageLayout.forType(Containers.kDescriptor)), is(identity));
+    }
+
+    @Test
+    public void testLayout_gaps() {
+        MessageLayout layout = MessageLayout.forType(Containers.kDescriptor);
+
+        for (int i = 0; i < layout.size(); ++i) {
+            assertThat(layout.indexOf(layout.id(i)), is(i));
+        }
+        assertThat(layout.indexOf(Containers._Field.INTEGER_LIST.getId() + 5), is(-1));
+    }
+}
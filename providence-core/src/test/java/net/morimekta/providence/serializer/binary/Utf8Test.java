@@ -0,0 +1,87 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.serializer.binary;
+
+import net.morimekta.util.Binary;
+import net.morimekta.util.io.BigEndianBinaryWriter;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class Utf8Test {
+    private static final String[] STRINGS = {
+            "",
+            "ascii only",
+            "æøå ÆØÅ",
+            "€ 中文",
+            "😀 emoji",
+            "lone \ud83d high",
+            "lone \ude00 low",
+            "end \ud83d",
+            "\ude00\ud83d reversed",
+    };
+
+    @Test
+    public void testEncode() {
+        for (String str : STRINGS) {
+            byte[] expected = str.getBytes(UTF_8);
+            assertThat(str, Utf8.encodedLength(str), is(expected.length));
+
+            byte[] out = new byte[expected.length + 2];
+            assertThat(str, Utf8.encode(str, out, 2), is(expected.length));
+            assertThat(str, Binary.copy(out, 2, expected.length), is(Binary.wrap(expected)));
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect(expected.length);
+            assertThat(str, Utf8.encode(str, buffer, expected.length), is(expected.length));
+            assertThat(str, buffer.position(), is(expected.length));
+            buffer.flip();
+            byte[] actual = new byte[expected.length];
+            buffer.get(actual);
+            assertThat(str, Binary.wrap(actual), is(Binary.wrap(expected)));
+        }
+    }
+
+    @Test
+    public void testWrite() throws IOException {
+        for (String str : STRINGS) {
+            byte[] expected = str.getBytes(UTF_8);
+            int len = Utf8.encodedLength(str);
+
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            assertThat(Utf8.write(new BigEndianBinaryWriter(baos), str, len), is(expected.length));
+            assertThat(Binary.wrap(baos.toByteArray()), is(Binary.wrap(expected)));
+
+            ByteBuffer buffer = ByteBuffer.allocate(len);
+            assertThat(Utf8.write(new BigEndianByteBufferWriter(buffer), str, len), is(expected.length));
+            assertThat(Binary.wrap(buffer.array()), is(Binary.wrap(expected)));
+
+            buffer = ByteBuffer.allocate(len);
+            assertThat(Utf8.write(new LittleEndianByteBufferWriter(buffer), str, len), is(expected.length));
+            assertThat(Binary.wrap(buffer.array()), is(Binary.wrap(expected)));
+        }
+    }
+}
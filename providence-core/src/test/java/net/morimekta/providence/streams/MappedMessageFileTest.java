@@ -0,0 +1,216 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.streams;
+
+import net.morimekta.providence.serializer.BinarySerializer;
+import net.morimekta.providence.serializer.FastBinarySerializer;
+import net.morimekta.providence.serializer.JsonSerializer;
+import net.morimekta.test.providence.core.CompactFields;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class MappedMessageFileTest {
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    @Test
+    public void testLengthPrefixed() throws IOException {
+        Path file = tmp.newFile().toPath();
+        Files.write(file, new byte[]{
+                0, 0, 0, 3, 'a', 'b', 'c',
+                0, 0, 0, 0,
+                0, 0, 0, 2, 'd', 'e'});
+
+        MappedMessageFile mapped = MappedMessageFile.map(file, MessageFraming.LENGTH_PREFIXED);
+        assertThat(mapped.count(), is(3));
+        assertThat(mapped.offset(0), is(4L));
+        assertThat(mapped.length(0), is(3));
+        assertThat(mapped.offset(2), is(15L));
+        assertThat(string(mapped.record(0)), is("abc"));
+        assertThat(string(mapped.record(1)), is(""));
+        assertThat(string(mapped.record(2)), is("de"));
+    }
+
+    @Test
+    public void testSeparated() throws IOException {
+        Path file = tmp.newFile().toPath();
+        Files.write(file, "abc\n\nde\nf".getBytes(UTF_8));
+
+        MappedMessageFile mapped = MappedMessageFile.map(file, MessageFraming.SEPARATED);
+        assertThat(mapped.count(), is(3));
+        assertThat(string(mapped.record(0)), is("abc"));
+        assertThat(string(mapped.record(1)), is("de"));
+        assertThat(string(mapped.record(2)), is("f"));
+    }
+
+    @Test
+    public void testEmpty() throws IOException {
+        Path file = tmp.newFile().toPath();
+
+        assertThat(MappedMessageFile.map(file, MessageFraming.SEPARATED).count(), is(0));
+        assertThat(MappedMessageFile.map(file, MessageFraming.LENGTH_PREFIXED).count(), is(0));
+    }
+
+    @Test
+    public void testSegments() throws IOException {
+        Path file = tmp.newFile().toPath();
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 100; ++i) {
+            content.append("record ").append(i).append('\n');
+        }
+        Files.write(file, content.toString().getBytes(UTF_8));
+
+        // Small segments to force records spread over many mappings.
+        MappedMessageFile mapped = MappedMessageFile.map(file, MessageFraming.SEPARATED, 64);
+        assertThat(mapped.count(), is(100));
+        for (int i = 0; i < 100; ++i) {
+            assertThat(string(mapped.record(i)), is("record " + i));
+        }
+    }
+
+    @Test
+    public void testUnframed() throws IOException {
+        Path file = tmp.newFile().toPath();
+        List<CompactFields> expected = new ArrayList<>();
+        for (int i = 0; i < 100; ++i) {
+            expected.add(new CompactFields("name " + i, i, null));
+        }
+        BinarySerializer serializer = new BinarySerializer();
+        expected.stream().collect(MessageCollectors.toPath(file, serializer));
+
+        // Small segments to force messages crossing the scanned windows.
+        MappedMessageFile mapped = MappedMessageFile.map(file, serializer, CompactFields.kDescriptor, 64);
+        assertThat(mapped.count(), is(100));
+        for (int i = 0; i < 100; ++i) {
+            assertThat(serializer.deserialize(mapped.record(i), CompactFields.kDescriptor), is(expected.get(i)));
+        }
+
+        try {
+            MappedMessageFile.map(file, new JsonSerializer(), CompactFields.kDescriptor, null);
+            fail("no exception");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), is("Non-binary serializer JsonSerializer can not be used for unframed files, use separated framing"));
+        }
+    }
+
+    @Test
+    public void testUnframed_fastBinary() throws IOException {
+        Path file = tmp.newFile().toPath();
+        List<CompactFields> expected = new ArrayList<>();
+        for (int i = 0; i < 100; ++i) {
+            expected.add(new CompactFields("name " + i, i, i % 3 == 0 ? null : "label " + i));
+        }
+        FastBinarySerializer serializer = new FastBinarySerializer();
+        expected.stream().collect(MessageCollectors.toPath(file, serializer));
+
+        // Windows smaller than a few records, so most windows end in the
+        // middle of a record.
+        for (long maxSegmentSize : new long[]{23, 32, 64}) {
+            MappedMessageFile mapped = MappedMessageFile.map(file, serializer, CompactFields.kDescriptor, maxSegmentSize);
+            assertThat(mapped.count(), is(100));
+            long offset = 0;
+            for (int i = 0; i < 100; ++i) {
+                assertThat(mapped.offset(i), is(offset));
+                assertThat(serializer.deserialize(mapped.record(i), CompactFields.kDescriptor), is(expected.get(i)));
+                offset += mapped.length(i);
+            }
+            assertThat(offset, is(Files.size(file)));
+        }
+    }
+
+    @Test
+    public void testUnframed_truncated() throws IOException {
+        Path file = tmp.newFile().toPath();
+        FastBinarySerializer serializer = new FastBinarySerializer();
+        Stream.of(new CompactFields("first", 1, null),
+                  new CompactFields("second", 2, "label"))
+              .collect(MessageCollectors.toPath(file, serializer));
+        long size = Files.size(file);
+
+        // Cut off the STOP of the last message.
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(size - 1);
+        }
+        try {
+            MappedMessageFile.map(file, serializer, CompactFields.kDescriptor, 8);
+            fail("no exception");
+        } catch (IOException e) {
+            assertThat(e.getMessage(), startsWith("Invalid message at offset "));
+        }
+    }
+
+    @Test
+    public void testBadFraming() throws IOException {
+        Path file = tmp.newFile().toPath();
+        Files.write(file, new byte[]{0, 0, 0, 3, 'a', 'b', 'c', 0, 0});
+        try {
+            MappedMessageFile.map(file, MessageFraming.LENGTH_PREFIXED);
+            fail("no exception");
+        } catch (IOException e) {
+            assertThat(e.getMessage(), is("Truncated length prefix at offset 7"));
+        }
+
+        Files.write(file, new byte[]{0, 0, 0, 3, 'a', 'b', 'c', 0, 0, 0, 4, 'd'});
+        try {
+            MappedMessageFile.map(file, MessageFraming.LENGTH_PREFIXED);
+            fail("no exception");
+        } catch (IOException e) {
+            assertThat(e.getMessage(), is("Invalid record length 4 at offset 7"));
+        }
+    }
+
+    @Test
+    public void testBadIndex() throws IOException {
+        Path file = tmp.newFile().toPath();
+        Files.write(file, "abc\n".getBytes(UTF_8));
+
+        MappedMessageFile mapped = MappedMessageFile.map(file, MessageFraming.SEPARATED);
+        try {
+            mapped.record(1);
+            fail("no exception");
+        } catch (IndexOutOfBoundsException e) {
+            assertThat(e.getMessage(), is("Record index 1 not in [0..1)"));
+        }
+    }
+
+    private static String string(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+}
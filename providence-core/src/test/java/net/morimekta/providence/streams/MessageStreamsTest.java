@@ -43,12 +43,16 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Spliterator;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
@@ -181,6 +185,62 @@ public class MessageStreamsTest {
         assertThat(out, is(equalTo(list)));
     }
 
+    @Test
+    public void testToJsonArray() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+
+        int size = list.stream()
+                       .collect(MessageCollectors.toJsonArray(baos, new JsonSerializer()));
+
+        assertThat(baos.size(), is(size));
+        assertThat(new String(baos.toByteArray(), UTF_8),
+                   is("[[\"first\",1234,\"The first!\"]," +
+                      "[\"second\",4321]," +
+                      "[\"third\",5432,\"Noop!\"]]"));
+
+        ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
+        try (Stream<CompactFields> stream = MessageStreams.jsonArray(bais, new JsonSerializer(), CompactFields.kDescriptor)) {
+            assertThat(stream.collect(Collectors.toList()), is(equalTo(list)));
+        }
+
+        baos.reset();
+        size = Stream.<CompactFields>empty().collect(MessageCollectors.toJsonArray(baos, new JsonSerializer().named()));
+        assertThat(size, is(2));
+        assertThat(new String(baos.toByteArray(), UTF_8), is("[]"));
+
+        bais = new ByteArrayInputStream(baos.toByteArray());
+        try (Stream<CompactFields> stream = MessageStreams.jsonArray(bais, new JsonSerializer(), CompactFields.kDescriptor)) {
+            assertThat(stream.count(), is(0L));
+        }
+    }
+
+    @Test
+    public void testJsonArray_lazy() throws IOException {
+        byte[] data = "[[\"first\",1234],{\"1\":\"second\",\"2\":\"bad\"}]".getBytes(UTF_8);
+        ByteArrayInputStream bais = new ByteArrayInputStream(data);
+        Stream<CompactFields> stream = MessageStreams.jsonArray(bais, new JsonSerializer(), CompactFields.kDescriptor);
+        Iterator<CompactFields> iterator = stream.iterator();
+
+        // The first message is read before the bad one fails.
+        assertThat(iterator.next(), is(new CompactFields("first", 1234, null)));
+        try {
+            iterator.next();
+            fail("no exception");
+        } catch (UncheckedIOException e) {
+            assertThat(e.getMessage(), is("Not a valid int value: '\"bad\"'"));
+        }
+        stream.close();
+
+        try {
+            MessageStreams.jsonArray(new ByteArrayInputStream("{}".getBytes(UTF_8)),
+                                     new JsonSerializer(),
+                                     CompactFields.kDescriptor);
+            fail("no exception");
+        } catch (IOException e) {
+            assertThat(e.getMessage(), is("Expected array start ('['): but found '{'"));
+        }
+    }
+
     @Test
     public void testStreamCollector() throws IOException {
         Serializer serializer = mock(Serializer.class);
@@ -275,6 +335,72 @@ public class MessageStreamsTest {
         verifyZeroInteractions(serializer, consumer);
     }
 
+    @Test
+    public void testMapped_lengthPrefixed() throws IOException {
+        Path file = tmp.newFile().toPath();
+        Serializer serializer = new BinarySerializer();
+
+        int size = list.stream()
+                       .collect(MessageCollectors.toPath(file, serializer, MessageFraming.LENGTH_PREFIXED));
+
+        assertThat(Files.size(file), is((long) size));
+
+        List<CompactFields> out = MessageStreams.mapped(file, serializer, CompactFields.kDescriptor, MessageFraming.LENGTH_PREFIXED)
+                                                .collect(Collectors.toList());
+
+        assertThat(out, is(equalTo(list)));
+    }
+
+    @Test
+    public void testMapped_separated() throws IOException {
+        File file = tmp.newFile();
+        Serializer serializer = new JsonSerializer();
+
+        // Separated framing is what the normal file collector writes for
+        // non-binary serializers.
+        list.stream().collect(MessageCollectors.toFile(file, serializer));
+
+        List<CompactFields> out = MessageStreams.mapped(file.toPath(), serializer, CompactFields.kDescriptor, MessageFraming.SEPARATED)
+                                                .collect(Collectors.toList());
+
+        assertThat(out, is(equalTo(list)));
+
+        try {
+            MessageStreams.mapped(file.toPath(), new BinarySerializer(), CompactFields.kDescriptor, MessageFraming.SEPARATED);
+            fail("no exception");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), is("Binary serializer BinarySerializer can not be used with separated framing"));
+        }
+    }
+
+    @Test
+    public void testMapped_parallel() throws IOException {
+        Path file = tmp.newFile().toPath();
+        Serializer serializer = new BinarySerializer();
+
+        ImmutableList.Builder<CompactFields> builder = ImmutableList.builder();
+        for (int i = 0; i < 10000; ++i) {
+            builder.add(new CompactFields("name " + i, i, i % 3 == 0 ? null : "label " + i));
+        }
+        List<CompactFields> many = builder.build();
+        many.stream().collect(MessageCollectors.toPath(file, serializer, MessageFraming.LENGTH_PREFIXED));
+
+        Spliterator<CompactFields> spliterator = MessageStreams.mapped(file, serializer, CompactFields.kDescriptor, MessageFraming.LENGTH_PREFIXED)
+                                                               .spliterator();
+        assertThat(spliterator.getExactSizeIfKnown(), is(10000L));
+        assertThat(spliterator.hasCharacteristics(Spliterator.SUBSIZED), is(true));
+        Spliterator<CompactFields> prefix = spliterator.trySplit();
+        assertThat(prefix, is(notNullValue()));
+        assertThat(prefix.getExactSizeIfKnown(), is(5000L));
+        assertThat(spliterator.getExactSizeIfKnown(), is(5000L));
+
+        List<CompactFields> out = MessageStreams.mapped(file, serializer, CompactFields.kDescriptor, MessageFraming.LENGTH_PREFIXED)
+                                                .parallel()
+                                                .collect(Collectors.toList());
+
+        assertThat(out, is(equalTo(many)));
+    }
+
     @Test
     public void testConstructor()
             throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
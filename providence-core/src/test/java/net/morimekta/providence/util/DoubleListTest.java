@@ -0,0 +1,50 @@
+package net.morimekta.providence.util;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class DoubleListTest {
+    @Test
+    public void testList() {
+        DoubleList list = DoubleList.of(1.5, Double.NaN, -0.0);
+        List<Double> boxed = ImmutableList.of(1.5, Double.NaN, -0.0);
+
+        assertThat(list.size(), is(3));
+        assertThat(list.get(0), is(1.5));
+        assertThat(list.getDouble(2), is(-0.0));
+        assertThat(list.toDoubleArray(), is(new double[]{1.5, Double.NaN, -0.0}));
+        assertThat(list.doubleStream().count(), is(3L));
+
+        // Same equality as for boxed doubles.
+        assertThat(list.equals(boxed), is(true));
+        assertThat(boxed.equals(list), is(true));
+        assertThat(list.hashCode(), is(boxed.hashCode()));
+        assertThat(list, is(DoubleList.of(1.5, Double.NaN, -0.0)));
+        assertThat(list, is(not(DoubleList.of(1.5, Double.NaN, 0.0))));
+    }
+
+    @Test
+    public void testCopyOf() {
+        DoubleList list = DoubleList.of(1.0, 2.0);
+        assertThat(DoubleList.copyOf(list), is(sameInstance(list)));
+        assertThat(DoubleList.copyOf(ImmutableList.of(1.0, 2.0)), is(list));
+    }
+
+    @Test
+    public void testBuilder() {
+        DoubleList list = new DoubleList.Builder()
+                .add(1.0)
+                .add(Double.valueOf(2.0))
+                .addAll(ImmutableList.of(3.0))
+                .build();
+        assertThat(list, is(DoubleList.of(1.0, 2.0, 3.0)));
+        assertThat(new DoubleList.Builder().build(), is(sameInstance(DoubleList.of())));
+    }
+}
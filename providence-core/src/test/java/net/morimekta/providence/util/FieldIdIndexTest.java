@@ -0,0 +1,44 @@
+package net.morimekta.providence.util;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class FieldIdIndexTest {
+    @Test
+    public void testDense() {
+        FieldIdIndex index = new FieldIdIndex(new int[]{3, 1, 2, 5});
+
+        assertThat(index.indexOf(3), is(0));
+        assertThat(index.indexOf(1), is(1));
+        assertThat(index.indexOf(2), is(2));
+        assertThat(index.indexOf(5), is(3));
+        assertThat(index.indexOf(4), is(-1));
+        assertThat(index.indexOf(0), is(-1));
+        assertThat(index.indexOf(6), is(-1));
+        assertThat(index.indexOf(Integer.MIN_VALUE), is(-1));
+        assertThat(index.indexOf(Integer.MAX_VALUE), is(-1));
+    }
+
+    @Test
+    public void testSparse() {
+        FieldIdIndex index = new FieldIdIndex(new int[]{1000, -4, 1, Short.MAX_VALUE});
+
+        assertThat(index.indexOf(1000), is(0));
+        assertThat(index.indexOf(-4), is(1));
+        assertThat(index.indexOf(1), is(2));
+        assertThat(index.indexOf(Short.MAX_VALUE), is(3));
+        assertThat(index.indexOf(2), is(-1));
+        assertThat(index.indexOf(-5), is(-1));
+        assertThat(index.indexOf(Integer.MAX_VALUE), is(-1));
+    }
+
+    @Test
+    public void testEmpty() {
+        FieldIdIndex index = new FieldIdIndex(new int[0]);
+
+        assertThat(index.indexOf(0), is(-1));
+        assertThat(index.indexOf(1), is(-1));
+    }
+}
@@ -0,0 +1,69 @@
+package net.morimekta.providence.util;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class IntListTest {
+    @Test
+    public void testList() {
+        IntList list = IntList.of(1, -2, 3);
+        List<Integer> boxed = ImmutableList.of(1, -2, 3);
+
+        assertThat(list.size(), is(3));
+        assertThat(list.get(1), is(-2));
+        assertThat(list.getInt(2), is(3));
+        assertThat(list.toIntArray(), is(new int[]{1, -2, 3}));
+        assertThat(list.intStream().sum(), is(2));
+        assertThat(list.toString(), is("[1, -2, 3]"));
+
+        assertThat(list.equals(boxed), is(true));
+        assertThat(boxed.equals(list), is(true));
+        assertThat(list.hashCode(), is(boxed.hashCode()));
+        assertThat(list, is(IntList.of(1, -2, 3)));
+        assertThat(list, is(not(IntList.of(1, -2))));
+
+        try {
+            list.getInt(3);
+            fail("no exception");
+        } catch (IndexOutOfBoundsException e) {
+            // expected.
+        }
+        try {
+            list.add(4);
+            fail("no exception");
+        } catch (UnsupportedOperationException e) {
+            // expected.
+        }
+    }
+
+    @Test
+    public void testCopyOf() {
+        IntList list = IntList.of(1, 2, 3);
+        assertThat(IntList.copyOf(list), is(sameInstance(list)));
+        assertThat(IntList.copyOf(ImmutableList.of(1, 2, 3)), is(list));
+        assertThat(IntList.copyOf(ImmutableList.of()), is(sameInstance(IntList.of())));
+    }
+
+    @Test
+    public void testBuilder() {
+        IntList list = new IntList.Builder(1)
+                .add(1)
+                .add(Integer.valueOf(2))
+                .addAll(ImmutableList.of(3, 4))
+                .addAll(IntList.of(5, 6))
+                .build();
+        assertThat(list, is(IntList.of(1, 2, 3, 4, 5, 6)));
+
+        // Bad capacity hints are ignored.
+        assertThat(new IntList.Builder(-1).add(7).build(), is(IntList.of(7)));
+        assertThat(new IntList.Builder(Integer.MAX_VALUE).build().isEmpty(), is(true));
+    }
+}
@@ -0,0 +1,55 @@
+package net.morimekta.providence.util;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.closeTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class LatencyHistogramTest {
+    @Test
+    public void testBuckets() {
+        for (long micros = 0; micros < 100000; ++micros) {
+            int index = LatencyHistogram.bucketIndex(micros);
+            long upper = LatencyHistogram.upperBound(index);
+            assertThat("upper bound of " + micros, upper >= micros, is(true));
+            // Relative error within one sub-bucket.
+            assertThat("precision of " + micros,
+                       upper - micros <= Math.max(0, micros / LatencyHistogram.SUB_BUCKETS), is(true));
+            if (index > 0) {
+                assertThat("lower bound of " + micros, LatencyHistogram.upperBound(index - 1) < micros, is(true));
+            }
+        }
+        // Very large values are counted in the last bucket.
+        assertThat(LatencyHistogram.bucketIndex(Long.MAX_VALUE),
+                   is(LatencyHistogram.bucketIndex(1L << 41)));
+    }
+
+    @Test
+    public void testSnapshot() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        LatencyHistogram.Snapshot empty = histogram.snapshot();
+        assertThat(empty.getCount(), is(0L));
+        assertThat(empty.getMean(), is(0.0));
+        assertThat(empty.getPercentile(99), is(0.0));
+
+        for (int i = 1; i <= 100; ++i) {
+            histogram.record(i);
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.getCount(), is(100L));
+        assertThat(snapshot.getMean(), is(closeTo(50.5, 0.001)));
+        assertThat(snapshot.getMax(), is(100.0));
+        assertThat(snapshot.getPercentile(50), is(closeTo(50.0, 50.0 / 16)));
+        assertThat(snapshot.getPercentile(99), is(closeTo(99.0, 99.0 / 16)));
+        assertThat(snapshot.getPercentile(100), is(100.0));
+
+        try {
+            snapshot.getPercentile(101);
+            fail("no exception");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), is("Invalid percentile: 101.0"));
+        }
+    }
+}
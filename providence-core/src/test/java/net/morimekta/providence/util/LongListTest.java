@@ -0,0 +1,69 @@
+package net.morimekta.providence.util;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class LongListTest {
+    @Test
+    public void testList() {
+        LongList list = LongList.of(1, -2, 3);
+        List<Long> boxed = ImmutableList.of(1L, -2L, 3L);
+
+        assertThat(list.size(), is(3));
+        assertThat(list.get(1), is(-2L));
+        assertThat(list.getLong(2), is(3L));
+        assertThat(list.toLongArray(), is(new long[]{1L, -2L, 3L}));
+        assertThat(list.longStream().sum(), is(2L));
+        assertThat(list.toString(), is("[1, -2, 3]"));
+
+        assertThat(list.equals(boxed), is(true));
+        assertThat(boxed.equals(list), is(true));
+        assertThat(list.hashCode(), is(boxed.hashCode()));
+        assertThat(list, is(LongList.of(1, -2, 3)));
+        assertThat(list, is(not(LongList.of(1, -2))));
+
+        try {
+            list.getLong(3);
+            fail("no exception");
+        } catch (IndexOutOfBoundsException e) {
+            // expected.
+        }
+        try {
+            list.add(4L);
+            fail("no exception");
+        } catch (UnsupportedOperationException e) {
+            // expected.
+        }
+    }
+
+    @Test
+    public void testCopyOf() {
+        LongList list = LongList.of(1, 2, 3);
+        assertThat(LongList.copyOf(list), is(sameInstance(list)));
+        assertThat(LongList.copyOf(ImmutableList.of(1L, 2L, 3L)), is(list));
+        assertThat(LongList.copyOf(ImmutableList.<Long>of()), is(sameInstance(LongList.of())));
+    }
+
+    @Test
+    public void testBuilder() {
+        LongList list = new LongList.Builder(1)
+                .add(1)
+                .add(Long.valueOf(2L))
+                .addAll(ImmutableList.of(3L, 4L))
+                .addAll(LongList.of(5, 6))
+                .build();
+        assertThat(list, is(LongList.of(1, 2, 3, 4, 5, 6)));
+
+        // Bad capacity hints are ignored.
+        assertThat(new LongList.Builder(-1).add(7).build(), is(LongList.of(7)));
+        assertThat(new LongList.Builder(Integer.MAX_VALUE).build().isEmpty(), is(true));
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.util;
+
+import net.morimekta.providence.PMessage;
+import net.morimekta.providence.descriptor.PField;
+import net.morimekta.providence.descriptor.PMessageDescriptor;
+import net.morimekta.providence.serializer.BinarySerializer;
+import net.morimekta.providence.serializer.JsonSerializer;
+import net.morimekta.providence.serializer.Serializer;
+import net.morimekta.test.providence.core.primitive_lists.Containers;
+import net.morimekta.test.providence.core.primitive_lists.PrimitiveListDefaults;
+import net.morimekta.util.Binary;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+
+import static net.morimekta.providence.util_internal.EqualToMessage.equalToMessage;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for models generated with the primitive_lists option, checked
+ * against the same model generated with boxed lists.
+ */
+public class PrimitiveListsTest {
+    private static ArrayList<net.morimekta.test.providence.core.Containers> boxed;
+    private static ArrayList<Containers>                                   primitive;
+
+    @Before
+    public void setUp() throws IOException {
+        synchronized (PrimitiveListsTest.class) {
+            // Since these are immutable, we don't need to read for each test.
+            if (boxed == null) {
+                boxed = ProvidenceHelper.arrayListFromJsonResource(
+                        "/compat/compact.json", net.morimekta.test.providence.core.Containers.kDescriptor);
+                primitive = ProvidenceHelper.arrayListFromJsonResource(
+                        "/compat/compact.json", Containers.kDescriptor);
+            }
+        }
+    }
+
+    @Test
+    public void testBuilder() {
+        Containers containers = Containers.builder()
+                                          .setIntegerList(ImmutableList.of(1, 2, 3))
+                                          .addToLongList(4L, 5L)
+                                          .setDoubleList(ImmutableList.of(6.5))
+                                          .build();
+
+        assertThat(containers.getIntegerList(), is(instanceOf(IntList.class)));
+        assertThat(containers.getLongList(), is(instanceOf(LongList.class)));
+        assertThat(containers.getDoubleList(), is(instanceOf(DoubleList.class)));
+        assertThat(containers.getIntegerList(), is(ImmutableList.of(1, 2, 3)));
+        assertThat(containers.getLongList(), is(ImmutableList.of(4L, 5L)));
+        assertThat(containers.getDoubleList(), is(ImmutableList.of(6.5)));
+        assertThat(containers.numIntegerList(), is(3));
+    }
+
+    @Test
+    public void testMutate() {
+        Containers original = Containers.builder()
+                                        .setIntegerList(ImmutableList.of(1, 2, 3))
+                                        .build();
+        Containers mutated = original.mutate()
+                                     .addToIntegerList(4)
+                                     .addToDoubleList(0.5)
+                                     .build();
+
+        assertThat(original.getIntegerList(), is(ImmutableList.of(1, 2, 3)));
+        assertThat(original.hasDoubleList(), is(false));
+        assertThat(mutated.getIntegerList(), is(instanceOf(IntList.class)));
+        assertThat(mutated.getIntegerList(), is(ImmutableList.of(1, 2, 3, 4)));
+        assertThat(mutated.getDoubleList(), is(ImmutableList.of(0.5)));
+        assertThat(mutated.mutate().clearIntegerList().build().hasIntegerList(), is(false));
+    }
+
+    @Test
+    public void testEquals() {
+        Containers a = Containers.builder()
+                                 .setIntegerList(IntList.of(1, 2, 3))
+                                 .build();
+        Containers b = Containers.builder()
+                                 .setIntegerList(ImmutableList.of(1, 2, 3))
+                                 .build();
+        Containers c = Containers.builder()
+                                 .setIntegerList(ImmutableList.of(1, 2, 4))
+                                 .build();
+
+        assertThat(a, is(b));
+        assertThat(a.hashCode(), is(b.hashCode()));
+        assertThat(a, is(not(c)));
+        assertThat(a.compareTo(b), is(0));
+    }
+
+    @Test
+    public void testDefaults() {
+        PrimitiveListDefaults defaults = PrimitiveListDefaults.builder().build();
+
+        assertThat(defaults.getIntegerList(), is(instanceOf(IntList.class)));
+        assertThat(defaults.getIntegerList(), is(ImmutableList.of(1, 2, 3)));
+        assertThat(defaults.getLongList(), is(ImmutableList.of(1234567890123L)));
+        assertThat(defaults.hasDoubleList(), is(false));
+        assertThat(defaults.getDoubleList(), is(instanceOf(DoubleList.class)));
+        assertThat(defaults.getDoubleList(), is(ImmutableList.of(0.5, -1.25)));
+
+        PrimitiveListDefaults mutated = defaults.mutate()
+                                                .addToIntegerList(4)
+                                                .build();
+        assertThat(mutated.getIntegerList(), is(ImmutableList.of(1, 2, 3, 4)));
+    }
+
+    @Test
+    public void testBinary() throws IOException {
+        assertSerialized(new BinarySerializer());
+        assertSerialized(new BinarySerializer(true));
+
+        PrimitiveListDefaults defaults = PrimitiveListDefaults.builder().build();
+        BinarySerializer serializer = new BinarySerializer();
+        assertThat(read(serializer, write(serializer, defaults), PrimitiveListDefaults.kDescriptor),
+                   is(equalToMessage(defaults)));
+    }
+
+    @Test
+    public void testJson() throws IOException {
+        assertSerialized(new JsonSerializer());
+        assertSerialized(new JsonSerializer().named());
+        assertSerialized(new JsonSerializer().pretty());
+    }
+
+    private void assertSerialized(Serializer serializer) throws IOException {
+        assertThat(primitive.size(), is(boxed.size()));
+        for (int i = 0; i < boxed.size(); ++i) {
+            Containers expected = primitive.get(i);
+            Binary data = write(serializer, expected);
+            assertThat(data, is(write(serializer, boxed.get(i))));
+
+            Containers actual = read(serializer, data, Containers.kDescriptor);
+            assertThat(actual, is(equalToMessage(expected)));
+            if (actual.hasIntegerList()) {
+                assertThat(actual.getIntegerList(), is(instanceOf(IntList.class)));
+            }
+            if (actual.hasLongList()) {
+                assertThat(actual.getLongList(), is(instanceOf(LongList.class)));
+            }
+            if (actual.hasDoubleList()) {
+                assertThat(actual.getDoubleList(), is(instanceOf(DoubleList.class)));
+            }
+        }
+    }
+
+    private static <M extends PMessage<M, F>, F extends PField>
+    Binary write(Serializer serializer, M message) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        serializer.serialize(out, message);
+        return Binary.wrap(out.toByteArray());
+    }
+
+    private static <M extends PMessage<M, F>, F extends PField>
+    M read(Serializer serializer, Binary data, PMessageDescriptor<M, F> descriptor) throws IOException {
+        return serializer.deserialize(new ByteArrayInputStream(data.get()), descriptor);
+    }
+}
@@ -0,0 +1,80 @@
+package net.morimekta.providence.util;
+
+import net.morimekta.providence.PApplicationException;
+import net.morimekta.providence.PApplicationExceptionType;
+import net.morimekta.providence.PServiceCall;
+import net.morimekta.providence.PServiceCallType;
+import net.morimekta.providence.PUnion;
+import net.morimekta.providence.descriptor.PField;
+import net.morimekta.providence.util.ServiceCallInstrumentation.Phase;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ServiceCallMetricsTest {
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMetrics() {
+        ServiceCallMetrics metrics = new ServiceCallMetrics();
+        assertThat(metrics.snapshot().size(), is(0));
+        assertThat(metrics.snapshot("test"), is(nullValue()));
+
+        PServiceCall call = new PServiceCall<>("test", PServiceCallType.CALL, 1, new PApplicationException("request", PApplicationExceptionType.UNKNOWN));
+        PServiceCall reply = new PServiceCall("test", PServiceCallType.REPLY, 1, union(0));
+        PServiceCall declared = new PServiceCall("test", PServiceCallType.REPLY, 1, union(1));
+        PServiceCall error = new PServiceCall<>("test", PServiceCallType.EXCEPTION, 1, new PApplicationException("error", PApplicationExceptionType.PROTOCOL_ERROR));
+
+        metrics.onStart(call);
+        metrics.onStart(call);
+        assertThat(metrics.snapshot("test").getInFlight(), is(2L));
+
+        metrics.onPhase(Phase.HANDLE, 2.0, call);
+        metrics.onCallTiming(1.0, 2.0, call, reply);
+        metrics.onMessageSize(call, 100);
+        metrics.onMessageSize(reply, 250);
+        metrics.onComplete(3.0, call, reply);
+        metrics.onComplete(4.0, call, declared);
+        metrics.onComplete(5.0, call, error);
+        metrics.onTransportException(new IOException("fail"), 6.0, call, null);
+        metrics.onRejected(0.1, call, error);
+        metrics.onTransportException(new IOException("fail"), 1.0, null, null);
+
+        ServiceCallMetrics.MethodSnapshot test = metrics.snapshot("test");
+        assertThat(test.getMethod(), is("test"));
+        assertThat(test.getCompleted(), is(3L));
+        assertThat(test.getDeclaredExceptions(), is(1L));
+        assertThat(test.getApplicationErrors(), is(ImmutableMap.of(PApplicationExceptionType.PROTOCOL_ERROR, 1L)));
+        assertThat(test.getTransportErrors(), is(1L));
+        assertThat(test.getRejected(), is(1L));
+        // Never goes below zero.
+        assertThat(test.getInFlight(), is(0L));
+        assertThat(test.getRequestBytes(), is(100L));
+        assertThat(test.getResponseBytes(), is(250L));
+        assertThat(test.getLatency().getCount(), is(4L));
+        assertThat(test.getLatency().getMax(), is(6.0));
+        assertThat(test.getQueueTime().getCount(), is(1L));
+        assertThat(test.getPhase(Phase.HANDLE).getCount(), is(1L));
+        assertThat(test.getPhase(Phase.WRITE).getCount(), is(0L));
+
+        ServiceCallMetrics.MethodSnapshot unknown = metrics.snapshot(ServiceCallMetrics.UNKNOWN_METHOD);
+        assertThat(unknown.getTransportErrors(), is(1L));
+        assertThat(metrics.snapshot().keySet().toString(), is("[, test]"));
+    }
+
+    private static PUnion union(int fieldId) {
+        PField field = mock(PField.class);
+        when(field.getId()).thenReturn(fieldId);
+        PUnion union = mock(PUnion.class);
+        when(union.unionFieldIsSet()).thenReturn(true);
+        when(union.unionField()).thenReturn(field);
+        return union;
+    }
+}
@@ -96,7 +96,7 @@ public class JavaGenerator extends Generator {
     public void generate(@Nonnull ProgramTypeRegistry registry) throws IOException, GeneratorException {
         CProgram program = registry.getProgram();
         String javaPackage = JUtils.getJavaPackage(program);
-        JHelper helper = new JHelper(registry);
+        JHelper helper = new JHelper(registry, javaOptions);
 
         if (!javaOptions.generate_providence_core_types &&
             ("net.morimekta.providence".equals(helper.getJavaPackage(program)) ||
@@ -23,6 +23,8 @@ public class JavaGeneratorFactory implements GeneratorFactory {
     public void printGeneratorOptionsHelp(PrintStream out) {
         out.println(" - jackson             : Add jackson 2 annotations to model classes.");
         out.println(" - no_rw_binary        : Skip adding the binary RW methods to generated code. [Default on]");
+        out.println(" - json_rw             : Add the JSON RW methods to generated code.");
+        out.println(" - primitive_lists     : Store lists of i32, i64 and double in primitive arrays.");
         out.println(" - hazelcast_portable  : Add hazelcast portable to annotated model classes, and add portable\n" +
                     "                         factories.");
         out.println(" - no_generated_annotation_version : Remove providence version from the <code>@Generated</code>\n" +
@@ -41,6 +43,12 @@ public class JavaGeneratorFactory implements GeneratorFactory {
                 case "no_rw_binary":
                     options.rw_binary = false;
                     break;
+                case "json_rw":
+                    options.json_rw = true;
+                    break;
+                case "primitive_lists":
+                    options.primitive_lists = true;
+                    break;
                 case "hazelcast_portable":
                     options.hazelcast_portable = true;
                     break;
@@ -36,6 +36,8 @@ import net.morimekta.providence.generator.format.java.messages.extras.BinarySeri
 import net.morimekta.providence.generator.format.java.messages.extras.BinaryWriterFormatter;
 import net.morimekta.providence.generator.format.java.messages.extras.HazelcastPortableMessageFormatter;
 import net.morimekta.providence.generator.format.java.messages.extras.JacksonMessageFormatter;
+import net.morimekta.providence.generator.format.java.messages.extras.JsonReaderBuilderFormatter;
+import net.morimekta.providence.generator.format.java.messages.extras.JsonWriterFormatter;
 import net.morimekta.providence.generator.format.java.shared.BaseMessageFormatter;
 import net.morimekta.providence.generator.format.java.shared.MessageMemberFormatter;
 import net.morimekta.providence.generator.format.java.utils.JHelper;
@@ -94,6 +96,10 @@ public class JavaMessageFormatter extends BaseMessageFormatter {
             formatters.add(new BinaryWriterFormatter(writer, helper));
             builderFormatters.add(new BinaryReaderBuilderFormatter(writer, helper));
         }
+        if (javaOptions.json_rw) {
+            formatters.add(new JsonWriterFormatter(writer));
+            builderFormatters.add(new JsonReaderBuilderFormatter(writer, helper));
+        }
 
         formatters.add(new CommonBuilderFormatter(writer, helper, builderFormatters.build()));
         return formatters.build();
@@ -34,6 +34,18 @@ public class JavaOptions {
      */
     public boolean rw_binary = true;
 
+    /**
+     * Add precompiled serialization for the JSON protocol.
+     */
+    public boolean json_rw = false;
+
+    /**
+     * Store list fields of i32, i64 and double in primitive arrays instead of
+     * lists of boxed values. Can be set per field with the
+     * <code>java.primitive.list = ""</code> annotation.
+     */
+    public boolean primitive_lists = false;
+
     /**
      * Add hazelcast_portable serializer and deserializers for portable interface.
      */
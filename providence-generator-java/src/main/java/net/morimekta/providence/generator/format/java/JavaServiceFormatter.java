@@ -52,6 +52,8 @@ import net.morimekta.util.io.IndentedPrintWriter;
 
 import javax.annotation.Generated;
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 public class JavaServiceFormatter implements BaseServiceFormatter {
     private final JHelper              helper;
@@ -198,33 +200,8 @@ public class JavaServiceFormatter implements BaseServiceFormatter {
                   .end()
                   .begin();
 
-            writer.formatln("%s._Builder rq = %s.builder();",
-                            service.getRequestClassRef(method),
-                            service.getRequestClassRef(method));
-
-            for (JField param : method.params()) {
-                if (!param.alwaysPresent()) {
-                    writer.formatln("if (%s != null) {", param.param())
-                          .begin();
-                }
-                writer.formatln("rq.%s(%s);", param.setter(), param.param());
-                if (!param.alwaysPresent()) {
-                    writer.end()
-                          .appendln("}");
-                }
-            }
-
-            String type = method.getMethod().isOneway()
-                          ? PServiceCallType.ONEWAY.name()
-                          : PServiceCallType.CALL.name();
-            writer.newline()
-                  .formatln("%s call = new %s<>(\"%s\", %s.%s, getNextSequenceId(), rq.build());",
-                            PServiceCall.class.getName(),
-                            PServiceCall.class.getName(),
-                            method.name(),
-                            PServiceCallType.class.getName(),
-                            type)
-                  .appendln();
+            appendClientCall(writer, service, method);
+            writer.appendln();
 
             if (method.getResponseClass() != null) {
                 writer.format("%s resp = ", PServiceCall.class.getName());
@@ -281,7 +258,10 @@ public class JavaServiceFormatter implements BaseServiceFormatter {
             }
 
             writer.end()
-                  .appendln('}');
+                  .appendln('}')
+                  .newline();
+
+            appendClientAsyncMethod(writer, service, method);
         }
 
         writer.end()
@@ -289,6 +269,149 @@ public class JavaServiceFormatter implements BaseServiceFormatter {
               .newline();
     }
 
+    /**
+     * Append the async variant of the client method. Instead of throwing
+     * declared exceptions, the returned future is completed exceptionally.
+     *
+     * @param writer The writer to append to.
+     * @param service The service.
+     * @param method The method to make async variant of.
+     * @throws GeneratorException If unable to generate method.
+     */
+    private void appendClientAsyncMethod(IndentedPrintWriter writer, JService service, JServiceMethod method)
+            throws GeneratorException {
+        JField ret = method.getResponse();
+        String futureType = ret == null || ret.isVoid()
+                            ? Void.class.getSimpleName()
+                            : helper.getFieldType(ret.field().getDescriptor());
+
+        new BlockCommentBuilder(writer)
+                .comment("Asynchronous variant of " + method.methodName() + "(). Declared exceptions " +
+                         "complete the future exceptionally.")
+                .newline()
+                .return_("The future result.")
+                .finish();
+
+        writer.formatln("public %s<%s> %sAsync(", CompletableFuture.class.getName(), futureType, method.methodName())
+              .begin("        ");
+
+        boolean first = true;
+        for (JField param : method.params()) {
+            if (first) {
+                first = false;
+            } else {
+                writer.append(",");
+            }
+            writer.formatln("%s %s", param.fieldType(), param.param());
+        }
+
+        writer.end()
+              .append(") {")
+              .begin();
+
+        appendClientCall(writer, service, method);
+
+        writer.formatln("%s<%s> future = handler.handleCallAsync(call, %s.kDescriptor);",
+                        CompletableFuture.class.getName(),
+                        PServiceCall.class.getName(),
+                        service.className());
+
+        if (method.getResponseClass() == null) {
+            writer.appendln("return future.thenApply(resp -> null);")
+                  .end()
+                  .appendln('}');
+            return;
+        }
+
+        writer.appendln("return future.thenApply(resp -> {")
+              .begin()
+              .formatln("if (resp.getType() == %s.%s) {", PServiceCallType.class.getName(), PServiceCallType.EXCEPTION.name())
+              .formatln("    throw new %s((%s) resp.getMessage());",
+                        CompletionException.class.getName(),
+                        PApplicationException.class.getName())
+              .appendln('}')
+              .newline()
+              .formatln("%s msg = (%s) resp.getMessage();",
+                        service.getResponseClassRef(method),
+                        service.getResponseClassRef(method));
+
+        writer.appendln("if (msg.unionFieldIsSet()) {")
+              .begin()
+              .appendln("switch (msg.unionField()) {")
+              .begin();
+        for (JField ex : method.exceptions()) {
+            writer.formatln("case %s:", ex.fieldEnum())
+                  .formatln("    throw new %s(msg.%s());", CompletionException.class.getName(), ex.getter());
+        }
+        if (ret != null) {
+            writer.formatln("case %s:", ret.fieldEnum());
+            if (ret.isVoid()) {
+                writer.appendln("    return null;");
+            } else {
+                writer.formatln("    return msg.%s();", ret.getter());
+            }
+        }
+        writer.end()
+              .appendln("}")
+              .end()
+              .appendln("}")
+              .newline();
+
+        writer.formatln("throw new %s(new %s(\"Result field for %s.%s() not set\",",
+                        CompletionException.class.getName(),
+                        PApplicationException.class.getName(),
+                        service.getService().getQualifiedName(),
+                        method.name())
+              .formatln("          %s      %s %s.%s));",
+                        CompletionException.class.getName().replaceAll(".", " "),
+                        PApplicationException.class.getName().replaceAll(".", " "),
+                        PApplicationExceptionType.class.getName(),
+                        PApplicationExceptionType.MISSING_RESULT.name());
+
+        writer.end()
+              .appendln("});")
+              .end()
+              .appendln('}');
+    }
+
+    /**
+     * Append building of the request service call, as the 'call' variable.
+     *
+     * @param writer The writer to append to.
+     * @param service The service.
+     * @param method The method to make the call for.
+     * @throws GeneratorException If unable to generate call.
+     */
+    private void appendClientCall(IndentedPrintWriter writer, JService service, JServiceMethod method)
+            throws GeneratorException {
+        writer.formatln("%s._Builder rq = %s.builder();",
+                        service.getRequestClassRef(method),
+                        service.getRequestClassRef(method));
+
+        for (JField param : method.params()) {
+            if (!param.alwaysPresent()) {
+                writer.formatln("if (%s != null) {", param.param())
+                      .begin();
+            }
+            writer.formatln("rq.%s(%s);", param.setter(), param.param());
+            if (!param.alwaysPresent()) {
+                writer.end()
+                      .appendln("}");
+            }
+        }
+
+        String type = method.getMethod().isOneway()
+                      ? PServiceCallType.ONEWAY.name()
+                      : PServiceCallType.CALL.name();
+        writer.newline()
+              .formatln("%s call = new %s<>(\"%s\", %s.%s, getNextSequenceId(), rq.build());",
+                        PServiceCall.class.getName(),
+                        PServiceCall.class.getName(),
+                        method.name(),
+                        PServiceCallType.class.getName(),
+                        type);
+    }
+
     private void appendProcessor(IndentedPrintWriter writer, JService service) throws GeneratorException {
         writer.formatln("public static class Processor implements %s {", PProcessor.class.getName())
               .begin()
@@ -356,7 +356,7 @@ public class CommonMemberFormatter implements MessageMemberFormatter {
                 // Void fields have no value.
                 continue;
             }
-            writer.formatln("private final transient %s %s;", field.fieldType(), field.member());
+            writer.formatln("private final transient %s %s;", field.memberType(), field.member());
         }
         writer.newline();
     }
@@ -204,11 +204,20 @@ public class BinaryReaderBuilderFormatter implements MessageMemberFormatter {
                 }
 
                 String builder = "b_" + nextId.getAndIncrement();
-                writer.formatln("%s<%s> %s = new %s<>();",
-                                field.builderInstanceType(),
-                                helper.getFieldType(pCont.itemDescriptor()),
-                                builder,
-                                field.builderInstanceType());
+                if (field.primitiveList()) {
+                    // The items are read as primitive values, and added
+                    // without boxing.
+                    writer.formatln("%s.Builder %s = new %s.Builder();",
+                                    field.primitiveListType(),
+                                    builder,
+                                    field.primitiveListType());
+                } else {
+                    writer.formatln("%s<%s> %s = new %s<>();",
+                                    field.builderInstanceType(),
+                                    helper.getFieldType(pCont.itemDescriptor()),
+                                    builder,
+                                    field.builderInstanceType());
+                }
                 String len = "len_" + nextId.getAndIncrement();
                 String itemType = "t_" + nextId.getAndIncrement();
                 writer.formatln("byte %s = reader.expectByte();", itemType)
@@ -22,6 +22,7 @@ package net.morimekta.providence.generator.format.java.messages.extras;
 
 import net.morimekta.providence.descriptor.PContainer;
 import net.morimekta.providence.descriptor.PDescriptor;
+import net.morimekta.providence.descriptor.PList;
 import net.morimekta.providence.descriptor.PMap;
 import net.morimekta.providence.generator.GeneratorException;
 import net.morimekta.providence.generator.format.java.shared.MessageMemberFormatter;
@@ -31,15 +32,14 @@ import net.morimekta.providence.generator.format.java.utils.JMessage;
 import net.morimekta.providence.serializer.binary.BinaryFormatUtils;
 import net.morimekta.providence.serializer.binary.BinaryType;
 import net.morimekta.providence.serializer.binary.BinaryWriter;
-import net.morimekta.util.Binary;
 import net.morimekta.util.io.BigEndianBinaryWriter;
 import net.morimekta.util.io.IndentedPrintWriter;
 
 import com.google.common.collect.ImmutableList;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.Collection;
+import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -92,19 +92,11 @@ public class BinaryWriterFormatter implements MessageMemberFormatter {
                 writer.formatln("length += writer.writeUInt32(%s.length());", member);
                 writer.formatln("length += writer.writeBinary(%s);", member);
                 break;
-            case STRING: {
-                String tmpName = "tmp_" + nextId.getAndIncrement();
-
-                writer.formatln("%s %s = %s.wrap(%s.getBytes(%s.UTF_8));",
-                                Binary.class.getName(),
-                                tmpName,
-                                Binary.class.getName(),
-                                member,
-                                StandardCharsets.class.getName());
-                writer.formatln("length += writer.writeUInt32(%s.length());", tmpName);
-                writer.formatln("length += writer.writeBinary(%s);", tmpName);
+            case STRING:
+                writer.formatln("length += %s.writeString(writer, %s);",
+                                BinaryFormatUtils.class.getName(),
+                                member);
                 break;
-            }
             case ENUM:
                 writer.formatln("length += writer.writeInt(%s.asInteger());", member);
                 break;
@@ -161,6 +153,44 @@ public class BinaryWriterFormatter implements MessageMemberFormatter {
 
     }
 
+    private void appendWriteField(JField field) {
+        if (!field.primitiveList()) {
+            appendWriteFieldValue(field.member(),
+                                  field.field()
+                                       .getDescriptor());
+            return;
+        }
+
+        // Primitive lists are written from the array without boxing. The
+        // member is declared with the primitive list type, so no copy or
+        // cast is needed.
+        PList<?> pList = field.toPList();
+        String list = field.member();
+        String i = "i_" + nextId.getAndIncrement();
+        String getter;
+        switch (pList.itemDescriptor().getType()) {
+            case I32:
+                getter = "getInt";
+                break;
+            case I64:
+                getter = "getLong";
+                break;
+            default:
+                getter = "getDouble";
+                break;
+        }
+
+        writer.formatln("length += writer.writeByte((byte) %d);", forType(pList.itemDescriptor().getType()))
+              .formatln("length += writer.writeUInt32(%s.size());", list)
+              .formatln("for (int %s = 0; %s < %s.size(); ++%s) {", i, i, list, i)
+              .begin();
+
+        appendWriteFieldValue(String.format(Locale.US, "%s.%s(%s)", list, getter, i), pList.itemDescriptor());
+
+        writer.end()
+              .appendln('}');
+    }
+
     @Override
     public void appendMethods(JMessage<?> message) {
         writer.appendln("@Override")
@@ -182,9 +212,7 @@ public class BinaryWriterFormatter implements MessageMemberFormatter {
                       .formatln("length += writer.writeByte((byte) %d);", forType(field.type()))
                       .formatln("length += writer.writeShort((short) %d);", field.id());
 
-                appendWriteFieldValue(field.member(),
-                                      field.field()
-                                           .getDescriptor());
+                appendWriteField(field);
 
                 writer.appendln("break;")
                       .end()
@@ -205,9 +233,7 @@ public class BinaryWriterFormatter implements MessageMemberFormatter {
                 writer.formatln("length += writer.writeByte((byte) %d);", forType(field.type()))
                       .formatln("length += writer.writeShort((short) %d);", field.id());
 
-                appendWriteFieldValue(field.member(),
-                                      field.field()
-                                           .getDescriptor());
+                appendWriteField(field);
 
                 if (!field.alwaysPresent()) {
                     writer.end()
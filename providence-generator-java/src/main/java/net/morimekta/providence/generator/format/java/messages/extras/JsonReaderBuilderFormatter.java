@@ -0,0 +1,229 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.generator.format.java.messages.extras;
+
+import net.morimekta.providence.generator.GeneratorException;
+import net.morimekta.providence.generator.format.java.shared.MessageMemberFormatter;
+import net.morimekta.providence.generator.format.java.utils.JField;
+import net.morimekta.providence.generator.format.java.utils.JHelper;
+import net.morimekta.providence.generator.format.java.utils.JMessage;
+import net.morimekta.providence.serializer.SerializerException;
+import net.morimekta.providence.serializer.json.JsonFormat;
+import net.morimekta.providence.serializer.json.JsonMessageReader;
+import net.morimekta.util.Binary;
+import net.morimekta.util.io.IndentedPrintWriter;
+import net.morimekta.util.json.JsonException;
+import net.morimekta.util.json.JsonToken;
+import net.morimekta.util.json.JsonTokenizer;
+
+import com.google.common.collect.ImmutableList;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Formatter for the precompiled JSON deserialization in message builders.
+ * Fields are matched on both field ID and name, primitive values are read
+ * directly, while messages and containers are read via the
+ * {@link JsonFormat}. Keys that does not match any field are handled by
+ * the format, so the result is the same as when read by the serializer.
+ */
+public class JsonReaderBuilderFormatter implements MessageMemberFormatter {
+    private final IndentedPrintWriter writer;
+    private final JHelper helper;
+
+    public JsonReaderBuilderFormatter(IndentedPrintWriter writer, JHelper helper) {
+        this.writer = writer;
+        this.helper = helper;
+    }
+
+    @Override
+    public Collection<String> getExtraImplements(JMessage<?> message) throws GeneratorException {
+        return ImmutableList.of(JsonMessageReader.class.getName());
+    }
+
+    private void appendValueCheck(String check, String setValue, String error) {
+        writer.formatln("} else if (%s) {", check)
+              .formatln("    %s;", setValue)
+              .appendln("} else {")
+              .formatln("    throw new %s(%s);", SerializerException.class.getName(), error)
+              .appendln('}');
+    }
+
+    private static String quoted(String message) {
+        return "\"" + message + "'\" + token.asString() + \"'\"";
+    }
+
+    private void appendReadFieldValue(JField field) throws GeneratorException {
+        String setter = field.setter();
+
+        writer.appendln("if (token.isNull()) {")
+              .formatln("    %s();", field.resetter());
+        switch (field.type()) {
+            case VOID:
+                writer.appendln("} else if (token.isBoolean()) {")
+                      .appendln("    if (token.booleanValue()) {")
+                      .formatln("        %s();", setter)
+                      .appendln("    } else {")
+                      .formatln("        %s();", field.resetter())
+                      .appendln("    }")
+                      .appendln("} else {")
+                      .formatln("    throw new %s(%s);",
+                                SerializerException.class.getName(), quoted("Not a void token value: "))
+                      .appendln('}');
+                break;
+            case BOOL:
+                appendValueCheck("token.isBoolean()",
+                                 setter + "(token.booleanValue())",
+                                 quoted("No boolean value for token: "));
+                break;
+            case BYTE:
+                appendValueCheck("token.isInteger()",
+                                 setter + "(token.byteValue())",
+                                 quoted("Not a valid byte value: "));
+                break;
+            case I16:
+                appendValueCheck("token.isInteger()",
+                                 setter + "(token.shortValue())",
+                                 quoted("Not a valid short value: "));
+                break;
+            case I32:
+                appendValueCheck("token.isInteger()",
+                                 setter + "(token.intValue())",
+                                 quoted("Not a valid int value: "));
+                break;
+            case I64:
+                appendValueCheck("token.isInteger()",
+                                 setter + "(token.longValue())",
+                                 quoted("Not a valid long value: "));
+                break;
+            case DOUBLE:
+                appendValueCheck("token.isNumber()",
+                                 setter + "(token.doubleValue())",
+                                 quoted("Not a valid double value: "));
+                break;
+            case STRING:
+                appendValueCheck("token.isLiteral()",
+                                 setter + "(token.decodeJsonLiteral())",
+                                 quoted("Not a valid string value: "));
+                break;
+            case BINARY:
+                writer.appendln("} else if (token.isLiteral()) {")
+                      .appendln("    try {")
+                      .formatln("        %s(%s.fromBase64(token.rawJsonLiteral()));", setter, Binary.class.getName())
+                      .appendln("    } catch (IllegalArgumentException e) {")
+                      .formatln("        throw new %s(e, \"Unable to parse Base64 data: \" + token.asString());",
+                                SerializerException.class.getName())
+                      .appendln("    }")
+                      .appendln("} else {")
+                      .formatln("    throw new %s(\"Not a valid binary value: \" + token.asString());",
+                                SerializerException.class.getName())
+                      .appendln('}');
+                break;
+            case ENUM: {
+                // Unknown enum values clears the field, same as when read
+                // by the serializer.
+                String enumType = helper.getFieldType(field.field().getDescriptor());
+                writer.appendln("} else if (token.isInteger()) {")
+                      .formatln("    %s(%s.findById(token.intValue()));", setter, enumType);
+                appendValueCheck("token.isLiteral()",
+                                 setter + "(" + enumType + ".findByName(token.rawJsonLiteral()))",
+                                 "token.asString() + \" is not a enum value type\"");
+                break;
+            }
+            case MESSAGE:
+            case MAP:
+            case SET:
+            case LIST:
+                writer.appendln("} else {")
+                      .formatln("    %s((%s) format.readValue(token, tokenizer, _Field.%s.getDescriptor()));",
+                                setter, field.fieldType(), field.fieldEnum())
+                      .appendln('}');
+                break;
+            default:
+                throw new GeneratorException("Unsupported json reader type: " + field.field().getDescriptor().getQualifiedName());
+        }
+    }
+
+    @Override
+    public void appendMethods(JMessage<?> message) {
+        if (message.declaredOrderFields().stream().anyMatch(JField::container)) {
+            writer.appendln("@SuppressWarnings(\"unchecked\")");
+        }
+        writer.appendln("@Override")
+              .formatln("public void readJson(%s tokenizer, %s format) throws %s, %s {",
+                        JsonTokenizer.class.getName(),
+                        JsonFormat.class.getName(),
+                        IOException.class.getName(),
+                        JsonException.class.getName())
+              .begin();
+
+        writer.formatln("if (tokenizer.peek(\"message end or key\").isSymbol(%s.kMapEnd)) {",
+                        JsonToken.class.getName())
+              .appendln("    tokenizer.next();")
+              .appendln("    return;")
+              .appendln('}')
+              .newline();
+
+        writer.formatln("char sep = %s.kMapStart;", JsonToken.class.getName())
+              .formatln("while (sep != %s.kMapEnd) {", JsonToken.class.getName())
+              .begin();
+
+        writer.appendln("String key = tokenizer.expectString(\"field spec\").rawJsonLiteral();")
+              .formatln("tokenizer.expectSymbol(\"field KV sep\", %s.kKeyValSep);", JsonToken.class.getName())
+              .formatln("%s token = tokenizer.expect(\"field value\");", JsonToken.class.getName())
+              .newline();
+
+        writer.appendln("switch (key) {")
+              .begin();
+
+        for (JField field : message.declaredOrderFields()) {
+            writer.formatln("case \"%d\":", field.id())
+                  .formatln("case \"%s\": {", field.name())
+                  .begin();
+
+            appendReadFieldValue(field);
+
+            writer.appendln("break;")
+                  .end()  // case
+                  .appendln('}');
+        }
+
+        writer.appendln("default: {")
+              .appendln("    format.readField(this, key, token, tokenizer);")
+              .appendln("    break;")
+              .appendln('}');
+
+        writer.end()  // switch
+              .appendln('}')
+              .newline();
+
+        writer.formatln("sep = tokenizer.expectSymbol(\"message end or sep\", %s.kMapEnd, %s.kListSep);",
+                        JsonToken.class.getName(),
+                        JsonToken.class.getName())
+              .end()  // while
+              .appendln('}');
+
+        writer.end()  // readJson
+              .appendln('}')
+              .newline();
+    }
+}
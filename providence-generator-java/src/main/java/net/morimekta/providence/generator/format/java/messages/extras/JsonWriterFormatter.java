@@ -0,0 +1,156 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.generator.format.java.messages.extras;
+
+import net.morimekta.providence.generator.GeneratorException;
+import net.morimekta.providence.generator.format.java.shared.MessageMemberFormatter;
+import net.morimekta.providence.generator.format.java.utils.JField;
+import net.morimekta.providence.generator.format.java.utils.JMessage;
+import net.morimekta.providence.serializer.SerializerException;
+import net.morimekta.providence.serializer.json.JsonFormat;
+import net.morimekta.providence.serializer.json.JsonMessageWriter;
+import net.morimekta.util.io.IndentedPrintWriter;
+import net.morimekta.util.json.JsonWriter;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.Collection;
+
+import static net.morimekta.providence.generator.format.java.messages.CoreOverridesFormatter.UNION_FIELD;
+
+/**
+ * Formatter for the precompiled JSON serialization of messages. Primitive
+ * fields are written directly, while messages and containers are written
+ * via the {@link JsonFormat}.
+ */
+public class JsonWriterFormatter implements MessageMemberFormatter {
+    private final IndentedPrintWriter writer;
+
+    public JsonWriterFormatter(IndentedPrintWriter writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public Collection<String> getExtraImplements(JMessage<?> message) throws GeneratorException {
+        return ImmutableList.of(JsonMessageWriter.class.getName());
+    }
+
+    private void appendWriteKey(JField field) {
+        writer.appendln("if (named) {")
+              .formatln("    writer.keyUnescaped(\"%s\");", field.name())
+              .appendln("} else {")
+              .formatln("    writer.key(%d);", field.id())
+              .appendln('}');
+    }
+
+    private void appendWriteFieldValue(JField field) {
+        switch (field.type()) {
+            case VOID:
+                writer.appendln("writer.value(true);");
+                break;
+            case BOOL:
+            case BYTE:
+            case I16:
+            case I32:
+            case I64:
+            case DOUBLE:
+            case STRING:
+            case BINARY:
+                writer.formatln("writer.value(%s);", field.member());
+                break;
+            case ENUM:
+                writer.appendln("if (format.namedEnums()) {")
+                      .formatln("    writer.valueUnescaped(%s.asString());", field.member())
+                      .appendln("} else {")
+                      .formatln("    writer.value(%s.asInteger());", field.member())
+                      .appendln('}');
+                break;
+            case MESSAGE:
+            case MAP:
+            case SET:
+            case LIST:
+                // Messages are written via the format, as the referred class
+                // may not implement the JsonMessageWriter interface, or may
+                // be written as compact JSON.
+                writer.formatln("format.writeValue(writer, _Field.%s.getDescriptor(), %s);",
+                                field.fieldEnum(), field.member());
+                break;
+            default:
+                throw new GeneratorException("Unsupported json writer type: " + field.field().getDescriptor().getQualifiedName());
+        }
+    }
+
+    @Override
+    public void appendMethods(JMessage<?> message) {
+        writer.appendln("@Override")
+              .formatln("public void writeJson(%s writer, %s format) throws %s {",
+                        JsonWriter.class.getName(),
+                        JsonFormat.class.getName(),
+                        SerializerException.class.getName())
+              .begin()
+              .appendln("boolean named = format.namedFields();")
+              .appendln("writer.object();");
+
+        if (message.isUnion()) {
+            writer.formatln("if (%s != null) {", UNION_FIELD)
+                  .begin()
+                  .formatln("switch (%s) {", UNION_FIELD)
+                  .begin();
+            for (JField field : message.declaredOrderFields()) {
+                writer.formatln("case %s: {", field.fieldEnum())
+                      .begin();
+
+                appendWriteKey(field);
+                appendWriteFieldValue(field);
+
+                writer.appendln("break;")
+                      .end()
+                      .appendln('}');
+            }
+            writer.appendln("default: break;")
+                  .end()
+                  .appendln('}')
+                  .end()
+                  .appendln('}');
+        } else {
+            // Fields are written in declared order, same as the serializer.
+            for (JField field : message.declaredOrderFields()) {
+                if (!field.alwaysPresent()) {
+                    writer.formatln("if (%s()) {", field.presence())
+                          .begin();
+                }
+
+                appendWriteKey(field);
+                appendWriteFieldValue(field);
+
+                if (!field.alwaysPresent()) {
+                    writer.end()
+                          .appendln('}');
+                }
+            }
+        }
+
+        writer.appendln("writer.endObject();")
+              .end()
+              .appendln('}')
+              .newline();
+    }
+}
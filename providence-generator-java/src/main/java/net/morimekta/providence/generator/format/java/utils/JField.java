@@ -35,6 +35,9 @@ import net.morimekta.providence.descriptor.PSet;
 import net.morimekta.providence.generator.GeneratorException;
 import net.morimekta.providence.reflect.contained.CField;
 import net.morimekta.providence.reflect.contained.CMessageDescriptor;
+import net.morimekta.providence.util.DoubleList;
+import net.morimekta.providence.util.IntList;
+import net.morimekta.providence.util.LongList;
 import net.morimekta.providence.util.ThriftAnnotation;
 import net.morimekta.providence.util.ThriftContainer;
 
@@ -180,6 +183,42 @@ public class JField {
         return JAnnotation.containerType(this);
     }
 
+    /**
+     * @return True if the field is a list stored in a primitive array.
+     */
+    public boolean primitiveList() {
+        if (field.getType() != PType.LIST) {
+            return false;
+        }
+        switch (toPList().itemDescriptor().getType()) {
+            case I32:
+            case I64:
+            case DOUBLE:
+                return helper.getOptions().primitive_lists ||
+                       field.hasAnnotation(ThriftAnnotation.JAVA_PRIMITIVE_LIST);
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * @return The primitive list class for the field.
+     * @throws GeneratorException If not a primitive list field.
+     */
+    public String primitiveListType() throws GeneratorException {
+        if (primitiveList()) {
+            switch (toPList().itemDescriptor().getType()) {
+                case I32:
+                    return IntList.class.getName();
+                case I64:
+                    return LongList.class.getName();
+                case DOUBLE:
+                    return DoubleList.class.getName();
+            }
+        }
+        throw new GeneratorException("Not a primitive list field: " + field.getName());
+    }
+
     public boolean alwaysPresent() {
         return field.getRequirement() != PRequirement.OPTIONAL &&
                helper.getDefaultValue(field) != null;
@@ -201,6 +240,19 @@ public class JField {
         return helper.getFieldType(field.getDescriptor());
     }
 
+    /**
+     * @return The type of the member holding the field value in the message.
+     *         Same as the field type, except for primitive lists, which are
+     *         kept as the primitive list class.
+     * @throws GeneratorException If unable to get the type.
+     */
+    public String memberType() throws GeneratorException {
+        if (primitiveList()) {
+            return primitiveListType();
+        }
+        return fieldType();
+    }
+
     public String paramType() throws GeneratorException {
         if (alwaysPresent() && isRequired()) {
             return valueType();
@@ -273,6 +325,9 @@ public class JField {
     public String fieldInstanceCopy(String var) throws GeneratorException  {
         switch (field.getType()) {
             case LIST:
+                if (primitiveList()) {
+                    return primitiveListType() + ".copyOf(" + var + ")";
+                }
                 return ImmutableList.class.getName().replace('$', '.') + ".copyOf(" + var + ")";
             case MAP:
                 switch (containerType()) {
@@ -337,6 +392,13 @@ public class JField {
                 return String.format(Locale.US, "%s.provider()", helper.getFieldType(field.getDescriptor()));
             case LIST:
                 PList<?> lType = (PList<?>) field.getDescriptor();
+                if (primitiveList()) {
+                    return String.format(Locale.US, "%s.<%s>provider(%s, %s.Builder::new)",
+                                         PList.class.getName(),
+                                         helper.getFieldType(lType.itemDescriptor()),
+                                         helper.getProviderName(lType.itemDescriptor()),
+                                         primitiveListType());
+                }
                 return String.format(Locale.US, "%s.provider(%s)", PList.class.getName(), helper.getProviderName(lType.itemDescriptor()));
             case SET:
                 PSet<?> sType = (PSet<?>) field.getDescriptor();
@@ -33,6 +33,7 @@ import net.morimekta.providence.descriptor.PPrimitive;
 import net.morimekta.providence.descriptor.PService;
 import net.morimekta.providence.descriptor.PSet;
 import net.morimekta.providence.generator.GeneratorException;
+import net.morimekta.providence.generator.format.java.JavaOptions;
 import net.morimekta.providence.reflect.contained.CField;
 import net.morimekta.providence.reflect.contained.CProgram;
 import net.morimekta.providence.reflect.util.ProgramTypeRegistry;
@@ -56,15 +57,25 @@ public class JHelper {
     public static final String packageSeparator = ".";
 
     private final ProgramTypeRegistry mRegistry;
+    private final JavaOptions         mOptions;
 
     public JHelper(ProgramTypeRegistry registry) {
+        this(registry, new JavaOptions());
+    }
+
+    public JHelper(ProgramTypeRegistry registry, JavaOptions options) {
         mRegistry = registry;
+        mOptions = options;
     }
 
     public ProgramTypeRegistry getRegistry() {
         return mRegistry;
     }
 
+    public JavaOptions getOptions() {
+        return mOptions;
+    }
+
     public String getJavaPackage(PDeclaredDescriptor<?> type) throws GeneratorException {
         String packageContext = type.getProgramName();
         CProgram document = mRegistry.getProgramForName(packageContext);
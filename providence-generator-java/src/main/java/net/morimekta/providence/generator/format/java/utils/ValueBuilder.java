@@ -56,13 +56,26 @@ public class ValueBuilder {
                 Object defaultValue = helper.getDefaultValue(field.field());
                 if (defaultValue != null) {
                     hasDefault = true;
-                    writer.formatln("private final static %s %s = ", field.valueType(), field.kDefault())
-                          .begin(IndentedPrintWriter.INDENT + IndentedPrintWriter.INDENT);
-                    appendTypedValue(defaultValue,
-                                     field.field()
-                                          .getDescriptor());
-                    writer.append(';')
-                          .end();
+                    if (field.primitiveList()) {
+                        // Kept as a primitive list, so it can be assigned
+                        // to the message member.
+                        writer.formatln("private final static %s %s = ", field.memberType(), field.kDefault())
+                              .begin(IndentedPrintWriter.INDENT + IndentedPrintWriter.INDENT)
+                              .format("%s.copyOf(", field.primitiveListType());
+                        appendTypedValue(defaultValue,
+                                         field.field()
+                                              .getDescriptor());
+                        writer.append(");")
+                              .end();
+                    } else {
+                        writer.formatln("private final static %s %s = ", field.valueType(), field.kDefault())
+                              .begin(IndentedPrintWriter.INDENT + IndentedPrintWriter.INDENT);
+                        appendTypedValue(defaultValue,
+                                         field.field()
+                                              .getDescriptor());
+                        writer.append(';')
+                              .end();
+                    }
                 }
             }
         }
@@ -90,6 +90,34 @@ public class JavaGeneratorTest {
         }
     }
 
+    @Test
+    public void testGenerate_jsonRw() throws GeneratorException, IOException {
+        defaultSources();
+
+        JavaOptions options = new JavaOptions();
+        options.json_rw = true;
+        for (CProgram program : programs) {
+            Generator generator = new JavaGenerator(fileManager,
+                                                    generatorOptions,
+                                                    options);
+            generator.generate(programRegistry.registryForPath(program.getProgramFilePath()));
+        }
+    }
+
+    @Test
+    public void testGenerate_primitiveLists() throws GeneratorException, IOException {
+        defaultSources();
+
+        JavaOptions options = new JavaOptions();
+        options.primitive_lists = true;
+        for (CProgram program : programs) {
+            Generator generator = new JavaGenerator(fileManager,
+                                                    generatorOptions,
+                                                    options);
+            generator.generate(programRegistry.registryForPath(program.getProgramFilePath()));
+        }
+    }
+
     @Test
     public void testHazelcast() throws IOException {
         File src = tmp.newFolder("hz");
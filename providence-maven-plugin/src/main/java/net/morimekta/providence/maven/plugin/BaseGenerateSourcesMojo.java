@@ -136,6 +136,22 @@ public abstract class BaseGenerateSourcesMojo extends AbstractMojo {
                property = "providence.gen.rw_binary")
     protected boolean rw_binary = true;
 
+    /**
+     * Generate model methods to read and write JSON, used by the JSON
+     * serializer in place of the reflective serialization.
+     */
+    @Parameter(defaultValue = "false",
+               property = "providence.gen.json_rw")
+    protected boolean json_rw;
+
+    /**
+     * Store lists of i32, i64 and double in primitive arrays instead of
+     * lists of boxed values.
+     */
+    @Parameter(defaultValue = "false",
+               property = "providence.gen.primitive_lists")
+    protected boolean primitive_lists;
+
     /**
      * If set to true will add hazelcast annotations to messages and enums.
      */
@@ -272,6 +288,8 @@ public abstract class BaseGenerateSourcesMojo extends AbstractMojo {
         JavaOptions javaOptions = new JavaOptions();
         javaOptions.jackson = jackson;
         javaOptions.rw_binary = rw_binary;
+        javaOptions.json_rw = json_rw;
+        javaOptions.primitive_lists = primitive_lists;
         javaOptions.hazelcast_portable = hazelcast_portable;
         javaOptions.generated_annotation_version = generated_annotation_version;
         javaOptions.public_constructors = public_constructors;
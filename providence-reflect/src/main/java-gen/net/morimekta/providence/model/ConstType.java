@@ -405,28 +405,20 @@ public class ConstType
         if (hasDocumentation()) {
             length += writer.writeByte((byte) 11);
             length += writer.writeShort((short) 1);
-            net.morimekta.util.Binary tmp_1 = net.morimekta.util.Binary.wrap(mDocumentation.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-            length += writer.writeUInt32(tmp_1.length());
-            length += writer.writeBinary(tmp_1);
+            length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, mDocumentation);
         }
 
         length += writer.writeByte((byte) 11);
         length += writer.writeShort((short) 4);
-        net.morimekta.util.Binary tmp_2 = net.morimekta.util.Binary.wrap(mType.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-        length += writer.writeUInt32(tmp_2.length());
-        length += writer.writeBinary(tmp_2);
+        length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, mType);
 
         length += writer.writeByte((byte) 11);
         length += writer.writeShort((short) 5);
-        net.morimekta.util.Binary tmp_3 = net.morimekta.util.Binary.wrap(mName.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-        length += writer.writeUInt32(tmp_3.length());
-        length += writer.writeBinary(tmp_3);
+        length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, mName);
 
         length += writer.writeByte((byte) 11);
         length += writer.writeShort((short) 6);
-        net.morimekta.util.Binary tmp_4 = net.morimekta.util.Binary.wrap(mValue.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-        length += writer.writeUInt32(tmp_4.length());
-        length += writer.writeBinary(tmp_4);
+        length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, mValue);
 
         if (hasAnnotations()) {
             length += writer.writeByte((byte) 13);
@@ -434,13 +426,9 @@ public class ConstType
             length += writer.writeByte((byte) 11);
             length += writer.writeByte((byte) 11);
             length += writer.writeUInt32(mAnnotations.size());
-            for (java.util.Map.Entry<String,String> entry_5 : mAnnotations.entrySet()) {
-                net.morimekta.util.Binary tmp_6 = net.morimekta.util.Binary.wrap(entry_5.getKey().getBytes(java.nio.charset.StandardCharsets.UTF_8));
-                length += writer.writeUInt32(tmp_6.length());
-                length += writer.writeBinary(tmp_6);
-                net.morimekta.util.Binary tmp_7 = net.morimekta.util.Binary.wrap(entry_5.getValue().getBytes(java.nio.charset.StandardCharsets.UTF_8));
-                length += writer.writeUInt32(tmp_7.length());
-                length += writer.writeBinary(tmp_7);
+            for (java.util.Map.Entry<String,String> entry_1 : mAnnotations.entrySet()) {
+                length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, entry_1.getKey());
+                length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, entry_1.getValue());
             }
         }
 
@@ -336,16 +336,12 @@ public class EnumValue
         if (hasDocumentation()) {
             length += writer.writeByte((byte) 11);
             length += writer.writeShort((short) 1);
-            net.morimekta.util.Binary tmp_1 = net.morimekta.util.Binary.wrap(mDocumentation.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-            length += writer.writeUInt32(tmp_1.length());
-            length += writer.writeBinary(tmp_1);
+            length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, mDocumentation);
         }
 
         length += writer.writeByte((byte) 11);
         length += writer.writeShort((short) 2);
-        net.morimekta.util.Binary tmp_2 = net.morimekta.util.Binary.wrap(mName.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-        length += writer.writeUInt32(tmp_2.length());
-        length += writer.writeBinary(tmp_2);
+        length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, mName);
 
         if (hasId()) {
             length += writer.writeByte((byte) 8);
@@ -359,13 +355,9 @@ public class EnumValue
             length += writer.writeByte((byte) 11);
             length += writer.writeByte((byte) 11);
             length += writer.writeUInt32(mAnnotations.size());
-            for (java.util.Map.Entry<String,String> entry_3 : mAnnotations.entrySet()) {
-                net.morimekta.util.Binary tmp_4 = net.morimekta.util.Binary.wrap(entry_3.getKey().getBytes(java.nio.charset.StandardCharsets.UTF_8));
-                length += writer.writeUInt32(tmp_4.length());
-                length += writer.writeBinary(tmp_4);
-                net.morimekta.util.Binary tmp_5 = net.morimekta.util.Binary.wrap(entry_3.getValue().getBytes(java.nio.charset.StandardCharsets.UTF_8));
-                length += writer.writeUInt32(tmp_5.length());
-                length += writer.writeBinary(tmp_5);
+            for (java.util.Map.Entry<String,String> entry_1 : mAnnotations.entrySet()) {
+                length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, entry_1.getKey());
+                length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, entry_1.getValue());
             }
         }
 
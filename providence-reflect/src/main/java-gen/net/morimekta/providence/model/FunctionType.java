@@ -458,9 +458,7 @@ public class FunctionType
         if (hasDocumentation()) {
             length += writer.writeByte((byte) 11);
             length += writer.writeShort((short) 1);
-            net.morimekta.util.Binary tmp_1 = net.morimekta.util.Binary.wrap(mDocumentation.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-            length += writer.writeUInt32(tmp_1.length());
-            length += writer.writeBinary(tmp_1);
+            length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, mDocumentation);
         }
 
         if (hasOneWay()) {
@@ -472,23 +470,19 @@ public class FunctionType
         if (hasReturnType()) {
             length += writer.writeByte((byte) 11);
             length += writer.writeShort((short) 3);
-            net.morimekta.util.Binary tmp_2 = net.morimekta.util.Binary.wrap(mReturnType.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-            length += writer.writeUInt32(tmp_2.length());
-            length += writer.writeBinary(tmp_2);
+            length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, mReturnType);
         }
 
         length += writer.writeByte((byte) 11);
         length += writer.writeShort((short) 4);
-        net.morimekta.util.Binary tmp_3 = net.morimekta.util.Binary.wrap(mName.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-        length += writer.writeUInt32(tmp_3.length());
-        length += writer.writeBinary(tmp_3);
+        length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, mName);
 
         length += writer.writeByte((byte) 15);
         length += writer.writeShort((short) 5);
         length += writer.writeByte((byte) 12);
         length += writer.writeUInt32(mParams.size());
-        for (net.morimekta.providence.model.FieldType entry_4 : mParams) {
-            length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeMessage(writer, entry_4);
+        for (net.morimekta.providence.model.FieldType entry_1 : mParams) {
+            length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeMessage(writer, entry_1);
         }
 
         if (hasExceptions()) {
@@ -496,8 +490,8 @@ public class FunctionType
             length += writer.writeShort((short) 6);
             length += writer.writeByte((byte) 12);
             length += writer.writeUInt32(mExceptions.size());
-            for (net.morimekta.providence.model.FieldType entry_5 : mExceptions) {
-                length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeMessage(writer, entry_5);
+            for (net.morimekta.providence.model.FieldType entry_2 : mExceptions) {
+                length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeMessage(writer, entry_2);
             }
         }
 
@@ -507,13 +501,9 @@ public class FunctionType
             length += writer.writeByte((byte) 11);
             length += writer.writeByte((byte) 11);
             length += writer.writeUInt32(mAnnotations.size());
-            for (java.util.Map.Entry<String,String> entry_6 : mAnnotations.entrySet()) {
-                net.morimekta.util.Binary tmp_7 = net.morimekta.util.Binary.wrap(entry_6.getKey().getBytes(java.nio.charset.StandardCharsets.UTF_8));
-                length += writer.writeUInt32(tmp_7.length());
-                length += writer.writeBinary(tmp_7);
-                net.morimekta.util.Binary tmp_8 = net.morimekta.util.Binary.wrap(entry_6.getValue().getBytes(java.nio.charset.StandardCharsets.UTF_8));
-                length += writer.writeUInt32(tmp_8.length());
-                length += writer.writeBinary(tmp_8);
+            for (java.util.Map.Entry<String,String> entry_3 : mAnnotations.entrySet()) {
+                length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, entry_3.getKey());
+                length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, entry_3.getValue());
             }
         }
 
@@ -373,9 +373,7 @@ public class MessageType
         if (hasDocumentation()) {
             length += writer.writeByte((byte) 11);
             length += writer.writeShort((short) 1);
-            net.morimekta.util.Binary tmp_1 = net.morimekta.util.Binary.wrap(mDocumentation.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-            length += writer.writeUInt32(tmp_1.length());
-            length += writer.writeBinary(tmp_1);
+            length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, mDocumentation);
         }
 
         if (hasVariant()) {
@@ -386,16 +384,14 @@ public class MessageType
 
         length += writer.writeByte((byte) 11);
         length += writer.writeShort((short) 3);
-        net.morimekta.util.Binary tmp_2 = net.morimekta.util.Binary.wrap(mName.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-        length += writer.writeUInt32(tmp_2.length());
-        length += writer.writeBinary(tmp_2);
+        length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, mName);
 
         length += writer.writeByte((byte) 15);
         length += writer.writeShort((short) 4);
         length += writer.writeByte((byte) 12);
         length += writer.writeUInt32(mFields.size());
-        for (net.morimekta.providence.model.FieldType entry_3 : mFields) {
-            length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeMessage(writer, entry_3);
+        for (net.morimekta.providence.model.FieldType entry_1 : mFields) {
+            length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeMessage(writer, entry_1);
         }
 
         if (hasAnnotations()) {
@@ -404,13 +400,9 @@ public class MessageType
             length += writer.writeByte((byte) 11);
             length += writer.writeByte((byte) 11);
             length += writer.writeUInt32(mAnnotations.size());
-            for (java.util.Map.Entry<String,String> entry_4 : mAnnotations.entrySet()) {
-                net.morimekta.util.Binary tmp_5 = net.morimekta.util.Binary.wrap(entry_4.getKey().getBytes(java.nio.charset.StandardCharsets.UTF_8));
-                length += writer.writeUInt32(tmp_5.length());
-                length += writer.writeBinary(tmp_5);
-                net.morimekta.util.Binary tmp_6 = net.morimekta.util.Binary.wrap(entry_4.getValue().getBytes(java.nio.charset.StandardCharsets.UTF_8));
-                length += writer.writeUInt32(tmp_6.length());
-                length += writer.writeBinary(tmp_6);
+            for (java.util.Map.Entry<String,String> entry_2 : mAnnotations.entrySet()) {
+                length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, entry_2.getKey());
+                length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, entry_2.getValue());
             }
         }
 
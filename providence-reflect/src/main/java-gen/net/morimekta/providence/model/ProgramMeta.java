@@ -286,9 +286,7 @@ public class ProgramMeta
         if (hasFilePath()) {
             length += writer.writeByte((byte) 11);
             length += writer.writeShort((short) 1);
-            net.morimekta.util.Binary tmp_1 = net.morimekta.util.Binary.wrap(mFilePath.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-            length += writer.writeUInt32(tmp_1.length());
-            length += writer.writeBinary(tmp_1);
+            length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, mFilePath);
         }
 
         if (hasFileLines()) {
@@ -296,10 +294,8 @@ public class ProgramMeta
             length += writer.writeShort((short) 2);
             length += writer.writeByte((byte) 11);
             length += writer.writeUInt32(mFileLines.size());
-            for (String entry_2 : mFileLines) {
-                net.morimekta.util.Binary tmp_3 = net.morimekta.util.Binary.wrap(entry_2.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-                length += writer.writeUInt32(tmp_3.length());
-                length += writer.writeBinary(tmp_3);
+            for (String entry_1 : mFileLines) {
+                length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, entry_1);
             }
         }
 
@@ -315,11 +311,9 @@ public class ProgramMeta
             length += writer.writeByte((byte) 11);
             length += writer.writeByte((byte) 12);
             length += writer.writeUInt32(mIncludes.size());
-            for (java.util.Map.Entry<String,net.morimekta.providence.model.ProgramMeta> entry_4 : mIncludes.entrySet()) {
-                net.morimekta.util.Binary tmp_5 = net.morimekta.util.Binary.wrap(entry_4.getKey().getBytes(java.nio.charset.StandardCharsets.UTF_8));
-                length += writer.writeUInt32(tmp_5.length());
-                length += writer.writeBinary(tmp_5);
-                length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeMessage(writer, entry_4.getValue());
+            for (java.util.Map.Entry<String,net.morimekta.providence.model.ProgramMeta> entry_2 : mIncludes.entrySet()) {
+                length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, entry_2.getKey());
+                length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeMessage(writer, entry_2.getValue());
             }
         }
 
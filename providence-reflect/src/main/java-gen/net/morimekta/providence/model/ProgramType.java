@@ -338,26 +338,20 @@ public class ProgramType
         if (hasDocumentation()) {
             length += writer.writeByte((byte) 11);
             length += writer.writeShort((short) 1);
-            net.morimekta.util.Binary tmp_1 = net.morimekta.util.Binary.wrap(mDocumentation.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-            length += writer.writeUInt32(tmp_1.length());
-            length += writer.writeBinary(tmp_1);
+            length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, mDocumentation);
         }
 
         length += writer.writeByte((byte) 11);
         length += writer.writeShort((short) 2);
-        net.morimekta.util.Binary tmp_2 = net.morimekta.util.Binary.wrap(mProgramName.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-        length += writer.writeUInt32(tmp_2.length());
-        length += writer.writeBinary(tmp_2);
+        length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, mProgramName);
 
         if (hasIncludes()) {
             length += writer.writeByte((byte) 15);
             length += writer.writeShort((short) 3);
             length += writer.writeByte((byte) 11);
             length += writer.writeUInt32(mIncludes.size());
-            for (String entry_3 : mIncludes) {
-                net.morimekta.util.Binary tmp_4 = net.morimekta.util.Binary.wrap(entry_3.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-                length += writer.writeUInt32(tmp_4.length());
-                length += writer.writeBinary(tmp_4);
+            for (String entry_1 : mIncludes) {
+                length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, entry_1);
             }
         }
 
@@ -367,13 +361,9 @@ public class ProgramType
             length += writer.writeByte((byte) 11);
             length += writer.writeByte((byte) 11);
             length += writer.writeUInt32(mNamespaces.size());
-            for (java.util.Map.Entry<String,String> entry_5 : mNamespaces.entrySet()) {
-                net.morimekta.util.Binary tmp_6 = net.morimekta.util.Binary.wrap(entry_5.getKey().getBytes(java.nio.charset.StandardCharsets.UTF_8));
-                length += writer.writeUInt32(tmp_6.length());
-                length += writer.writeBinary(tmp_6);
-                net.morimekta.util.Binary tmp_7 = net.morimekta.util.Binary.wrap(entry_5.getValue().getBytes(java.nio.charset.StandardCharsets.UTF_8));
-                length += writer.writeUInt32(tmp_7.length());
-                length += writer.writeBinary(tmp_7);
+            for (java.util.Map.Entry<String,String> entry_2 : mNamespaces.entrySet()) {
+                length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, entry_2.getKey());
+                length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, entry_2.getValue());
             }
         }
 
@@ -382,8 +372,8 @@ public class ProgramType
             length += writer.writeShort((short) 5);
             length += writer.writeByte((byte) 12);
             length += writer.writeUInt32(mDecl.size());
-            for (net.morimekta.providence.model.Declaration entry_8 : mDecl) {
-                length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeMessage(writer, entry_8);
+            for (net.morimekta.providence.model.Declaration entry_3 : mDecl) {
+                length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeMessage(writer, entry_3);
             }
         }
 
@@ -21,8 +21,15 @@
 package net.morimekta.providence.reflect.contained;
 
 import net.morimekta.providence.PMessageBuilder;
+import net.morimekta.providence.serializer.SerializerException;
+import net.morimekta.providence.serializer.binary.BinaryWriter;
+import net.morimekta.providence.serializer.json.JsonFormat;
+import net.morimekta.providence.serializer.json.JsonMessageWriter;
+import net.morimekta.util.io.BigEndianBinaryWriter;
+import net.morimekta.util.json.JsonWriter;
 
 import javax.annotation.Nonnull;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Map;
 
@@ -30,25 +37,57 @@ import java.util.Map;
  * @author Stein Eldar Johnsen
  * @since 07.09.15
  */
-public class CException extends Exception implements CMessage<CException> {
+public class CException extends Exception
+        implements CMessage<CException>, BinaryWriter, JsonMessageWriter {
     private final CExceptionDescriptor descriptor;
-    private final Map<Integer, Object> values;
+    private final Object[]             values;
 
     private CException(Builder builder) {
-        values = builder.getValueMap();
+        values = builder.buildValues();
         descriptor = builder.descriptor;
     }
 
     @Override
     public Map<Integer,Object> values() {
-        return values;
+        return CStruct.valueMap(descriptor.fieldIndex(), values);
+    }
+
+    @Override
+    public boolean has(int key) {
+        int index = descriptor.fieldIndex().indexOf(key);
+        return index >= 0 && values[index] != null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(int key) {
+        int index = descriptor.fieldIndex().indexOf(key);
+        return index < 0 ? null : (T) values[index];
+    }
+
+    @Override
+    public int writeBinary(BigEndianBinaryWriter writer) throws IOException {
+        return CStruct.writeBinary(writer, descriptor.fieldIndex(), values);
+    }
+
+    @Override
+    public void writeJson(JsonWriter writer, JsonFormat format) throws SerializerException {
+        CStruct.writeJson(writer, format, descriptor.fieldIndex(), values);
     }
 
     @Override
     public boolean equals(Object o) {
-        return this == o ||
-               !(o == null ||
-                 !(o instanceof CException)) && CStruct.equals(this, (CException) o);
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CException)) {
+            return false;
+        }
+        CException other = (CException) o;
+        if (descriptor == other.descriptor) {
+            return Arrays.equals(values, other.values);
+        }
+        return CStruct.equals(this, other);
     }
 
     @Override
@@ -77,6 +116,7 @@ public class CException extends Exception implements CMessage<CException> {
         private final CExceptionDescriptor descriptor;
 
         public Builder(CExceptionDescriptor type) {
+            super(type.fieldIndex());
             descriptor = type;
         }
 
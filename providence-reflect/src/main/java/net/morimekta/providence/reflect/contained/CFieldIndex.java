@@ -0,0 +1,110 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.reflect.contained;
+
+import net.morimekta.providence.util.FieldIdIndex;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dense index of the fields of a contained message type, made once per
+ * descriptor. Each field gets an index from 0 to size - 1 in declared
+ * order, and the messages and builders keep their values in an array by
+ * that index. Field IDs are looked up with a {@link FieldIdIndex}.
+ */
+final class CFieldIndex {
+    private final CField[]             fields;
+    private final Map<String, Integer> nameIndex;
+    private final FieldIdIndex         idIndex;
+
+    CFieldIndex(List<CField> fields) {
+        this.fields = fields.toArray(new CField[fields.size()]);
+        this.nameIndex = new HashMap<>();
+
+        int[] ids = new int[this.fields.length];
+        for (int i = 0; i < this.fields.length; ++i) {
+            CField field = this.fields[i];
+            nameIndex.put(field.getName(), i);
+            ids[i] = field.getId();
+        }
+        this.idIndex = new FieldIdIndex(ids);
+    }
+
+    /**
+     * @return The number of fields.
+     */
+    int size() {
+        return fields.length;
+    }
+
+    /**
+     * @param index The field index.
+     * @return The field at the index.
+     */
+    CField field(int index) {
+        return fields[index];
+    }
+
+    /**
+     * @return Copy of the fields in declared order.
+     */
+    CField[] fields() {
+        return Arrays.copyOf(fields, fields.length);
+    }
+
+    /**
+     * @param id The field ID.
+     * @return The field index, or -1 if no such field.
+     */
+    int indexOf(int id) {
+        return idIndex.indexOf(id);
+    }
+
+    /**
+     * @param name The field name.
+     * @return The field index, or -1 if no such field.
+     */
+    int indexOf(String name) {
+        Integer index = nameIndex.get(name);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * @param id The field ID.
+     * @return The field, or null if no such field.
+     */
+    CField findById(int id) {
+        int index = indexOf(id);
+        return index < 0 ? null : fields[index];
+    }
+
+    /**
+     * @param name The field name.
+     * @return The field, or null if no such field.
+     */
+    CField findByName(String name) {
+        int index = indexOf(name);
+        return index < 0 ? null : fields[index];
+    }
+}
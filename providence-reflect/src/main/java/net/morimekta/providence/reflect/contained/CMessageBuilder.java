@@ -21,11 +21,21 @@ package net.morimekta.providence.reflect.contained;
 import net.morimekta.providence.PMessage;
 import net.morimekta.providence.PMessageBuilder;
 import net.morimekta.providence.PType;
-import net.morimekta.providence.descriptor.PField;
 import net.morimekta.providence.descriptor.PMessageDescriptor;
 import net.morimekta.providence.descriptor.PRequirement;
+import net.morimekta.providence.serializer.SerializerException;
+import net.morimekta.providence.serializer.binary.BinaryFormatUtils;
+import net.morimekta.providence.serializer.binary.BinaryReader;
+import net.morimekta.providence.serializer.binary.BinaryType;
+import net.morimekta.providence.serializer.json.JsonFormat;
+import net.morimekta.providence.serializer.json.JsonMessageReader;
 import net.morimekta.providence.util.ThriftAnnotation;
 import net.morimekta.providence.util.ThriftContainer;
+import net.morimekta.util.Strings;
+import net.morimekta.util.io.BigEndianBinaryReader;
+import net.morimekta.util.json.JsonException;
+import net.morimekta.util.json.JsonToken;
+import net.morimekta.util.json.JsonTokenizer;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.ImmutableList;
@@ -35,74 +45,90 @@ import com.google.common.collect.ImmutableSortedMap;
 import com.google.common.collect.ImmutableSortedSet;
 
 import javax.annotation.Nonnull;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.TreeMap;
-import java.util.TreeSet;
 
 /**
- * Base message builder class for contained messages.
+ * Base message builder class for contained messages. The values are kept
+ * in an array by the dense field index of the message type, and the
+ * modified fields in a bit set by the same index.
  */
 public abstract class CMessageBuilder<Builder extends CMessageBuilder<Builder, Message>,
                                       Message extends PMessage<Message, CField>>
-        extends PMessageBuilder<Message, CField> {
-    private final Map<Integer, Object> values;
-    private final Set<Integer>         modified;
+        extends PMessageBuilder<Message, CField> implements BinaryReader, JsonMessageReader {
+    private CFieldIndex fieldIndex;
+    private Object[]    values;
+    private BitSet      modified;
 
-    public CMessageBuilder() {
-        this.values = new TreeMap<>();
-        this.modified = new TreeSet<>();
+    /**
+     * Create a builder for a subclass outside this package. The field index
+     * is made from the {@link #descriptor()} on first use, as the descriptor
+     * is usually not available before the subclass is constructed.
+     *
+     * @deprecated The contained message builders get the field index of
+     *             their descriptor instead. Kept for compatibility.
+     */
+    @Deprecated
+    public CMessageBuilder() {}
+
+    CMessageBuilder(CFieldIndex fieldIndex) {
+        init(fieldIndex);
     }
 
     @Nonnull
     @Override
     @SuppressWarnings("unchecked")
     public Builder merge(Message from) {
-        for (PField field : descriptor().getFields()) {
+        ensureIndex();
+        for (int index = 0; index < values.length; ++index) {
+            CField field = fieldIndex.field(index);
             int key = field.getId();
             if (from.has(key)) {
                 switch (field.getType()) {
                     case MESSAGE:
-                        if (values.containsKey(key)) {
+                        if (values[index] != null) {
                             mutator(key).merge((PMessage) from.get(key));
                         } else {
-                            set(key, from.get(key));
+                            setValue(index, field, from.get(key));
                         }
                         break;
                     case SET:
-                        if (values.containsKey(key)) {
-                            Set<Object> set = (Set<Object>) values.get(key);
+                        if (values[index] != null) {
+                            Set<Object> set = (Set<Object>) values[index];
                             if (!(set instanceof LinkedHashSet)) {
                                 set = new LinkedHashSet<>(set);
-                                values.put(key, set);
+                                values[index] = set;
                             }
                             set.addAll((Collection<Object>) from.get(key));
                         } else {
-                            set(key, from.get(key));
+                            setValue(index, field, from.get(key));
                         }
                         break;
                     case MAP:
-                        if (values.containsKey(key)) {
-                            Map<Object, Object> map = (Map<Object, Object>) values.get(key);
+                        if (values[index] != null) {
+                            Map<Object, Object> map = (Map<Object, Object>) values[index];
                             if (!(map instanceof LinkedHashMap)) {
                                 map = new LinkedHashMap<>(map);
-                                values.put(key, map);
+                                values[index] = map;
                             }
                             map.putAll((Map<Object, Object>) from.get(key));
                         } else {
-                            set(key, from.get(key));
+                            setValue(index, field, from.get(key));
                         }
                         break;
                     default:
-                        set(key, from.get(key));
+                        setValue(index, field, from.get(key));
                         break;
                 }
-                modified.add(key);
+                modified.set(index);
             }
         }
 
@@ -113,36 +139,38 @@ public abstract class CMessageBuilder<Builder extends CMessageBuilder<Builder, M
     @Override
     @SuppressWarnings("unchecked")
     public PMessageBuilder mutator(int key) {
-        CField field = descriptor().findFieldById(key);
-        if (field == null) {
+        ensureIndex();
+        int index = fieldIndex.indexOf(key);
+        if (index < 0) {
             throw new IllegalArgumentException("No such field ID " + key);
-        } else if (field.getType() != PType.MESSAGE) {
+        }
+        CField field = fieldIndex.field(index);
+        if (field.getType() != PType.MESSAGE) {
             throw new IllegalArgumentException("Not a message field ID " + key + ": " + field.getName());
         }
 
-        Object current = values.get(key);
+        Object current = values[index];
         if (current == null) {
             current = ((PMessageDescriptor) field.getDescriptor()).builder();
-            values.put(key, current);
+            values[index] = current;
         } else if (current instanceof PMessage) {
             current = ((PMessage) current).mutate();
-            values.put(key, current);
+            values[index] = current;
         } else if (!(current instanceof PMessageBuilder)) {
             // This should in theory not be possible. This is just a safe-guard.
             throw new IllegalArgumentException("Invalid value in map on message type: " + current.getClass().getSimpleName());
         }
-        modified.add(key);
+        modified.set(index);
 
         return (PMessageBuilder) current;
     }
 
     @Override
     public boolean valid() {
-        for (PField field : descriptor().getFields()) {
-            if (field.getRequirement() == PRequirement.REQUIRED) {
-                if (!values.containsKey(field.getId())) {
-                    return false;
-                }
+        ensureIndex();
+        for (int index = 0; index < values.length; ++index) {
+            if (values[index] == null && fieldIndex.field(index).getRequirement() == PRequirement.REQUIRED) {
+                return false;
             }
         }
 
@@ -151,12 +179,12 @@ public abstract class CMessageBuilder<Builder extends CMessageBuilder<Builder, M
 
     @Override
     public void validate() {
+        ensureIndex();
         ArrayList<String> missing = new ArrayList<>();
-        for (PField field : descriptor().getFields()) {
-            if (field.getRequirement() == PRequirement.REQUIRED) {
-                if (!values.containsKey(field.getId())) {
-                    missing.add(field.getName());
-                }
+        for (int index = 0; index < values.length; ++index) {
+            CField field = fieldIndex.field(index);
+            if (values[index] == null && field.getRequirement() == PRequirement.REQUIRED) {
+                missing.add(field.getName());
             }
         }
 
@@ -172,91 +200,66 @@ public abstract class CMessageBuilder<Builder extends CMessageBuilder<Builder, M
     @Override
     @SuppressWarnings("unchecked")
     public Builder set(int key, Object value) {
-        CField field = descriptor().findFieldById(key);
-        if (field == null) {
+        ensureIndex();
+        int index = fieldIndex.indexOf(key);
+        if (index < 0) {
             return (Builder) this; // soft ignoring unsupported fields.
         }
-        if (value == null) {
-            values.remove(key);
-        } else {
-            switch (field.getType()) {
-                case LIST: {
-                    values.put(key, ImmutableList.copyOf((Collection) value));
-                    break;
-                }
-                case SET: {
-                    ThriftContainer ctype = ThriftContainer.forName(field.getAnnotationValue(ThriftAnnotation.CONTAINER));
-                    if (ctype == ThriftContainer.SORTED) {
-                        values.put(key, ImmutableSortedSet.copyOf((Collection) value));
-                    } else {
-                        values.put(key, ImmutableSet.copyOf((Collection) value));
-                    }
-                    break;
-                }
-                case MAP: {
-                    ThriftContainer ctype = ThriftContainer.forName(field.getAnnotationValue(ThriftAnnotation.CONTAINER));
-                    if (ctype == ThriftContainer.SORTED) {
-                        values.put(key, ImmutableSortedMap.copyOf((Map) value));
-                    } else {
-                        values.put(key, ImmutableMap.copyOf((Map) value));
-                    }
-                    break;
-                }
-                default:
-                    values.put(key, value);
-                    break;
-            }
-        }
-
-        modified.add(key);
+        setValue(index, fieldIndex.field(index), value);
         return (Builder) this;
     }
 
     @Override
     public boolean isSet(int key) {
-        return values.containsKey(key);
+        ensureIndex();
+        int index = fieldIndex.indexOf(key);
+        return index >= 0 && values[index] != null;
     }
 
     @Override
     public boolean isModified(int key) {
-        return modified.contains(key);
+        ensureIndex();
+        int index = fieldIndex.indexOf(key);
+        return index >= 0 && modified.get(index);
     }
 
     @Nonnull
     @Override
     @SuppressWarnings("unchecked")
     public Builder addTo(int key, Object value) {
-        CField field = descriptor().findFieldById(key);
-        if (field == null) {
+        ensureIndex();
+        int index = fieldIndex.indexOf(key);
+        if (index < 0) {
             return (Builder) this; // soft ignoring unsupported fields.
         }
+        CField field = fieldIndex.field(index);
         if (value == null) {
             throw new IllegalArgumentException("Adding null value");
         }
         if (field.getType() == PType.LIST) {
-            List<Object> list = (List<Object>) values.get(field.getId());
+            List<Object> list = (List<Object>) values[index];
             if (list == null) {
                 list = new ArrayList<>();
-                values.put(field.getId(), list);
+                values[index] = list;
             } else if (!(list instanceof ArrayList)) {
                 list = new ArrayList<>(list);
-                values.put(field.getId(), list);
+                values[index] = list;
             }
             list.add(value);
         } else if (field.getType() == PType.SET) {
-            Set<Object> set = (Set<Object>) values.get(field.getId());
+            Set<Object> set = (Set<Object>) values[index];
             if (set == null) {
                 set = new LinkedHashSet<>();
-                values.put(field.getId(), set);
+                values[index] = set;
             } else if (!(set instanceof LinkedHashSet)) {
                 set = new LinkedHashSet<>(set);
-                values.put(field.getId(), set);
+                values[index] = set;
             }
             set.add(value);
         } else {
             throw new IllegalArgumentException("Field " + field.getName() + " in " + descriptor().getQualifiedName() + " is not a collection: " + field.getType());
         }
-        modified.add(key);
+        modified.set(index);
         return (Builder) this;
     }
 
@@ -264,75 +267,182 @@ public abstract class CMessageBuilder<Builder extends CMessageBuilder<Builder, M
     @Override
     @SuppressWarnings("unchecked")
     public Builder clear(int key) {
-        values.remove(key);
-        modified.add(key);
+        ensureIndex();
+        int index = fieldIndex.indexOf(key);
+        if (index >= 0) {
+            values[index] = null;
+            modified.set(index);
+        }
         return (Builder) this;
     }
 
-    @SuppressWarnings("unchecked")
-    Map<Integer, Object> getValueMap() {
-        ImmutableMap.Builder<Integer, Object> out = ImmutableMap.builder();
-        for (CField field : descriptor().getFields()) {
-            int key = field.getId();
-            if (values.containsKey(key)) {
+    @Override
+    public void readBinary(BigEndianBinaryReader reader, boolean strict) throws IOException {
+        ensureIndex();
+        byte type = reader.expectByte();
+        while (type != BinaryType.STOP) {
+            BinaryFormatUtils.FieldInfo fieldInfo = new BinaryFormatUtils.FieldInfo(reader.expectShort(), type);
+            int index = fieldIndex.indexOf(fieldInfo.getId());
+            if (index >= 0) {
+                CField field = fieldIndex.field(index);
+                setValue(index, field, BinaryFormatUtils.readFieldValue(reader, fieldInfo, field.getDescriptor(), strict));
+            } else {
+                BinaryFormatUtils.readFieldValue(reader, fieldInfo, null, false);
+            }
+            type = reader.expectByte();
+        }
+
+        if (strict) {
+            try {
+                validate();
+            } catch (IllegalStateException e) {
+                throw new SerializerException(e, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void readJson(JsonTokenizer tokenizer, JsonFormat format) throws IOException, JsonException {
+        ensureIndex();
+        if (tokenizer.peek("message end or key").isSymbol(JsonToken.kMapEnd)) {
+            tokenizer.next();
+            return;
+        }
+
+        char sep = JsonToken.kMapStart;
+        while (sep != JsonToken.kMapEnd) {
+            String key = tokenizer.expectString("field spec").rawJsonLiteral();
+            tokenizer.expectSymbol("field KV sep", JsonToken.kKeyValSep);
+            JsonToken token = tokenizer.expect("field value");
+
+            int index = Strings.isInteger(key) ? fieldIndex.indexOf(Integer.parseInt(key)) : fieldIndex.indexOf(key);
+            if (index >= 0) {
+                CField field = fieldIndex.field(index);
+                setValue(index, field, format.readValue(token, tokenizer, field.getDescriptor()));
+            } else {
+                format.readField(this, key, token, tokenizer);
+            }
+
+            sep = tokenizer.expectSymbol("message end or sep", JsonToken.kMapEnd, JsonToken.kListSep);
+        }
+    }
+
+    /**
+     * Make the values of the message to be built, by field index. Fields
+     * that are not set are null, except for non-optional fields with a
+     * default value.
+     *
+     * @return The message values.
+     */
+    Object[] buildValues() {
+        ensureIndex();
+        Object[] out = new Object[values.length];
+        for (int index = 0; index < values.length; ++index) {
+            CField field = fieldIndex.field(index);
+            Object current = values[index];
+            if (current != null) {
                 switch (field.getType()) {
                     case LIST:
-                        out.put(key, ImmutableList.copyOf((List<Object>) values.get(key)));
+                        out[index] = ImmutableList.copyOf((Collection<?>) current);
                         break;
-                    case SET: {
-                        ThriftContainer ctype = ThriftContainer.forName(field.getAnnotationValue(ThriftAnnotation.CONTAINER));
-                        switch (ctype) {
-                            case SORTED:
-                                out.put(key, ImmutableSortedSet.copyOf((Set) values.get(key)));
-                                break;
-                            default:
-                                out.put(key, ImmutableSet.copyOf((Set) values.get(key)));
-                                break;
-                        }
+                    case SET:
+                        out[index] = immutableSet(field, (Collection<?>) current);
                         break;
-                    }
-                    case MAP: {
-                        ThriftContainer ctype = ThriftContainer.forName(field.getAnnotationValue(ThriftAnnotation.CONTAINER));
-                        switch (ctype) {
-                            case SORTED:
-                                out.put(key, ImmutableSortedMap.copyOf((Map) values.get(key)));
-                                break;
-                            default:
-                                out.put(key, ImmutableMap.copyOf((Map) values.get(key)));
-                                break;
-                        }
+                    case MAP:
+                        out[index] = immutableMap(field, (Map<?, ?>) current);
                         break;
-                    }
                     case MESSAGE:
-                        Object current = values.get(key);
                         if (current instanceof PMessageBuilder) {
-                            out.put(key, ((PMessageBuilder) current).build());
+                            out[index] = ((PMessageBuilder) current).build();
                         } else {
-                            out.put(key, current);
+                            out[index] = current;
                         }
                         break;
                     default:
-                        out.put(key, values.get(key));
+                        out[index] = current;
                         break;
                 }
             } else if (field.getRequirement() != PRequirement.OPTIONAL) {
                 // Should always be set. Meaning has() always has a value,
                 // if one can be obtained.
                 if (field.hasDefaultValue()) {
-                    out.put(key, field.getDefaultValue());
+                    out[index] = field.getDefaultValue();
                 } else if (field.getDescriptor().getDefaultValue() != null) {
-                    out.put(key, field.getDescriptor().getDefaultValue());
+                    out[index] = field.getDescriptor().getDefaultValue();
                 }
             }
         }
-        return out.build();
+        return out;
     }
 
     @Override
     public String toString() {
+        ensureIndex();
+        Map<Integer, Object> set = new LinkedHashMap<>();
+        for (int index = 0; index < values.length; ++index) {
+            if (values[index] != null) {
+                set.put(fieldIndex.field(index).getId(), values[index]);
+            }
+        }
+        List<Integer> mod = new ArrayList<>();
+        for (int index = modified.nextSetBit(0); index >= 0; index = modified.nextSetBit(index + 1)) {
+            mod.add(fieldIndex.field(index).getId());
+        }
         return MoreObjects.toStringHelper(descriptor().getQualifiedName() + "._Builder")
-                          .add("values", values)
-                          .add("modified", modified)
+                          .add("values", set)
+                          .add("modified", mod)
                           .toString();
     }
+
+    private void init(CFieldIndex fieldIndex) {
+        this.fieldIndex = fieldIndex;
+        this.values = new Object[fieldIndex.size()];
+        this.modified = new BitSet(fieldIndex.size());
+    }
+
+    private void ensureIndex() {
+        if (fieldIndex == null) {
+            init(new CFieldIndex(Arrays.asList(descriptor().getFields())));
+        }
+    }
+
+    private void setValue(int index, CField field, Object value) {
+        if (value == null) {
+            values[index] = null;
+        } else {
+            switch (field.getType()) {
+                case LIST:
+                    values[index] = ImmutableList.copyOf((Collection<?>) value);
+                    break;
+                case SET:
+                    values[index] = immutableSet(field, (Collection<?>) value);
+                    break;
+                case MAP:
+                    values[index] = immutableMap(field, (Map<?, ?>) value);
+                    break;
+                default:
+                    values[index] = value;
+                    break;
+            }
+        }
+        modified.set(index);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<?> immutableSet(CField field, Collection<?> value) {
+        ThriftContainer ctype = ThriftContainer.forName(field.getAnnotationValue(ThriftAnnotation.CONTAINER));
+        if (ctype == ThriftContainer.SORTED) {
+            return ImmutableSortedSet.copyOf((Collection) value);
+        }
+        return ImmutableSet.copyOf(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<?, ?> immutableMap(CField field, Map<?, ?> value) {
+        ThriftContainer ctype = ThriftContainer.forName(field.getAnnotationValue(ThriftAnnotation.CONTAINER));
+        if (ctype == ThriftContainer.SORTED) {
+            return ImmutableSortedMap.copyOf((Map) value);
+        }
+        return ImmutableMap.copyOf(value);
+    }
 }
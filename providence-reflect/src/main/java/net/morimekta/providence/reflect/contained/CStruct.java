@@ -22,13 +22,26 @@ package net.morimekta.providence.reflect.contained;
 
 import net.morimekta.providence.PMessage;
 import net.morimekta.providence.PMessageBuilder;
+import net.morimekta.providence.descriptor.PDescriptor;
 import net.morimekta.providence.descriptor.PField;
 import net.morimekta.providence.descriptor.PMessageDescriptor;
 import net.morimekta.providence.serializer.PrettySerializer;
+import net.morimekta.providence.serializer.SerializerException;
+import net.morimekta.providence.serializer.binary.BinaryFormatUtils;
+import net.morimekta.providence.serializer.binary.BinaryType;
+import net.morimekta.providence.serializer.binary.BinaryWriter;
 import net.morimekta.providence.serializer.json.JsonCompactible;
+import net.morimekta.providence.serializer.json.JsonFormat;
+import net.morimekta.providence.serializer.json.JsonMessageWriter;
+import net.morimekta.util.io.BigEndianBinaryWriter;
+import net.morimekta.util.json.JsonWriter;
+
+import com.google.common.collect.ImmutableMap;
 
 import javax.annotation.Nonnull;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
 
@@ -37,19 +50,43 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 /**
  * A contained message of variant struct.
  */
-public class CStruct implements CMessage<CStruct>, JsonCompactible {
+public class CStruct implements CMessage<CStruct>, JsonCompactible, BinaryWriter, JsonMessageWriter {
     private static final PrettySerializer PRETTY_SERIALIZER = new PrettySerializer().compact();
 
-    private Map<Integer,Object> values;
-    private CStructDescriptor   descriptor;
+    private final Object[]          values;
+    private final CStructDescriptor descriptor;
 
     private CStruct(Builder builder) {
         descriptor = builder.descriptor;
-        values     = builder.getValueMap();
+        values     = builder.buildValues();
     }
 
+    @Override
     public Map<Integer,Object> values() {
-        return values;
+        return valueMap(descriptor.fieldIndex(), values);
+    }
+
+    @Override
+    public boolean has(int key) {
+        int index = descriptor.fieldIndex().indexOf(key);
+        return index >= 0 && values[index] != null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(int key) {
+        int index = descriptor.fieldIndex().indexOf(key);
+        return index < 0 ? null : (T) values[index];
+    }
+
+    @Override
+    public int writeBinary(BigEndianBinaryWriter writer) throws IOException {
+        return writeBinary(writer, descriptor.fieldIndex(), values);
+    }
+
+    @Override
+    public void writeJson(JsonWriter writer, JsonFormat format) throws SerializerException {
+        writeJson(writer, format, descriptor.fieldIndex(), values);
     }
 
     @Override
@@ -59,8 +96,8 @@ public class CStruct implements CMessage<CStruct>, JsonCompactible {
             return false;
         }
         boolean missing = false;
-        for (CField field : descriptor.getFields()) {
-            if (has(field.getId())) {
+        for (Object value : values) {
+            if (value != null) {
                 if (missing) {
                     return false;
                 }
@@ -73,9 +110,17 @@ public class CStruct implements CMessage<CStruct>, JsonCompactible {
 
     @Override
     public boolean equals(Object o) {
-        return this == o ||
-               !(o == null ||
-                 !(o instanceof CStruct)) && equals(this, (CStruct) o);
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CStruct)) {
+            return false;
+        }
+        CStruct other = (CStruct) o;
+        if (descriptor == other.descriptor) {
+            return Arrays.equals(values, other.values);
+        }
+        return equals(this, other);
     }
 
     @Override
@@ -104,6 +149,7 @@ public class CStruct implements CMessage<CStruct>, JsonCompactible {
         private final CStructDescriptor descriptor;
 
         public Builder(CStructDescriptor descriptor) {
+            super(descriptor.fieldIndex());
             this.descriptor = descriptor;
         }
 
@@ -152,6 +198,74 @@ public class CStruct implements CMessage<CStruct>, JsonCompactible {
         return hash;
     }
 
+    /**
+     * Make a map of the set values of a message, from field ID to value.
+     *
+     * @param fieldIndex The field index of the message type.
+     * @param values The message values by field index.
+     * @return The value map.
+     */
+    static Map<Integer, Object> valueMap(CFieldIndex fieldIndex, Object[] values) {
+        ImmutableMap.Builder<Integer, Object> out = ImmutableMap.builder();
+        for (int index = 0; index < values.length; ++index) {
+            if (values[index] != null) {
+                out.put(fieldIndex.field(index).getId(), values[index]);
+            }
+        }
+        return out.build();
+    }
+
+    /**
+     * Write the set values of a message as a binary struct.
+     *
+     * @param writer The binary writer.
+     * @param fieldIndex The field index of the message type.
+     * @param values The message values by field index.
+     * @return The number of bytes written.
+     * @throws IOException If write failed.
+     */
+    static int writeBinary(BigEndianBinaryWriter writer, CFieldIndex fieldIndex, Object[] values) throws IOException {
+        int len = 0;
+        for (int index = 0; index < values.length; ++index) {
+            if (values[index] != null) {
+                CField field = fieldIndex.field(index);
+                PDescriptor type = field.getDescriptor();
+                len += writer.writeByte(BinaryType.forType(type.getType()));
+                len += writer.writeShort((short) field.getId());
+                len += BinaryFormatUtils.writeFieldValue(writer, values[index], type);
+            }
+        }
+        len += writer.writeUInt8(BinaryType.STOP);
+        return len;
+    }
+
+    /**
+     * Write the set values of a message as a JSON object.
+     *
+     * @param writer The JSON writer.
+     * @param format The JSON format to write with.
+     * @param fieldIndex The field index of the message type.
+     * @param values The message values by field index.
+     * @throws SerializerException If write failed.
+     */
+    static void writeJson(JsonWriter writer, JsonFormat format, CFieldIndex fieldIndex, Object[] values)
+            throws SerializerException {
+        boolean named = format.namedFields();
+        writer.object();
+        for (int index = 0; index < values.length; ++index) {
+            if (values[index] != null) {
+                CField field = fieldIndex.field(index);
+                if (named) {
+                    writer.keyUnescaped(field.getName());
+                } else {
+                    writer.key(field.getId());
+                }
+                format.writeValue(writer, field.getDescriptor(), values[index]);
+            }
+        }
+        writer.endObject();
+    }
+
     /**
      * Prints a jsonCompact string representation of the message.
      *
@@ -27,9 +27,7 @@ import net.morimekta.providence.serializer.json.JsonCompactibleDescriptor;
 import net.morimekta.providence.util.ThriftAnnotation;
 
 import javax.annotation.Nonnull;
-import java.util.Arrays;
 import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -44,9 +42,7 @@ public class CStructDescriptor extends PStructDescriptor<CStruct, CField> implem
     public static final int     MAX_COMPACT_FIELDS = 10;
 
     private final String               comment;
-    private final CField[]             fields;
-    private final Map<Integer, CField> fieldIdMap;
-    private final Map<String, CField>  fieldNameMap;
+    private final CFieldIndex          fieldIndex;
     private final Map<String, String>  annotations;
     private final boolean              compactible;
 
@@ -55,18 +51,9 @@ public class CStructDescriptor extends PStructDescriptor<CStruct, CField> implem
         ((_Factory) getBuilderSupplier()).setType(this);
 
         this.comment = comment;
-        this.fields = fields.toArray(new CField[fields.size()]);
+        this.fieldIndex = new CFieldIndex(fields);
         this.annotations = annotations;
         this.compactible = isCompactCompatible(fields, annotations);
-
-        Map<Integer, CField> fieldIdMap = new LinkedHashMap<>();
-        Map<String, CField> fieldNameMap = new LinkedHashMap<>();
-        for (CField field : fields) {
-            fieldIdMap.put(field.getId(), field);
-            fieldNameMap.put(field.getName(), field);
-        }
-        this.fieldIdMap = fieldIdMap;
-        this.fieldNameMap = fieldNameMap;
     }
 
     @Override
@@ -77,17 +64,24 @@ public class CStructDescriptor extends PStructDescriptor<CStruct, CField> implem
     @Nonnull
     @Override
     public CField[] getFields() {
-        return Arrays.copyOf(fields, fields.length);
+        return fieldIndex.fields();
     }
 
     @Override
     public CField findFieldByName(String name) {
-        return fieldNameMap.get(name);
+        return fieldIndex.findByName(name);
     }
 
     @Override
     public CField findFieldById(int id) {
-        return fieldIdMap.get(id);
+        return fieldIndex.findById(id);
+    }
+
+    /**
+     * @return The dense field index of the message type.
+     */
+    CFieldIndex fieldIndex() {
+        return fieldIndex;
     }
 
     @Nonnull
@@ -25,9 +25,7 @@ import net.morimekta.providence.descriptor.PField;
 import net.morimekta.providence.descriptor.PUnionDescriptor;
 
 import javax.annotation.Nonnull;
-import java.util.Arrays;
 import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -38,9 +36,7 @@ import java.util.function.Supplier;
  * @since 07.09.15
  */
 public class CUnionDescriptor extends PUnionDescriptor<CUnion, CField> implements CMessageDescriptor {
-    private final CField[]             fields;
-    private final Map<Integer, CField> fieldIdMap;
-    private final Map<String, CField>  fieldNameMap;
+    private final CFieldIndex          fieldIndex;
     private final Map<String, String>  annotations;
     private final String               comment;
 
@@ -56,17 +52,8 @@ public class CUnionDescriptor extends PUnionDescriptor<CUnion, CField> implement
         ((_Factory) getBuilderSupplier()).setType(this);
 
         this.comment = comment;
-        this.fields = fields.toArray(new CField[fields.size()]);
+        this.fieldIndex = new CFieldIndex(fields);
         this.annotations = annotations;
-
-        Map<Integer, CField> fieldIdMap = new LinkedHashMap<>();
-        Map<String, CField> fieldNameMap = new LinkedHashMap<>();
-        for (CField field : fields) {
-            fieldIdMap.put(field.getId(), field);
-            fieldNameMap.put(field.getName(), field);
-        }
-        this.fieldIdMap = fieldIdMap;
-        this.fieldNameMap = fieldNameMap;
     }
 
     @Override
@@ -77,17 +64,24 @@ public class CUnionDescriptor extends PUnionDescriptor<CUnion, CField> implement
     @Nonnull
     @Override
     public CField[] getFields() {
-        return Arrays.copyOf(fields, fields.length);
+        return fieldIndex.fields();
     }
 
     @Override
     public CField findFieldByName(String name) {
-        return fieldNameMap.get(name);
+        return fieldIndex.findByName(name);
     }
 
     @Override
     public CField findFieldById(int id) {
-        return fieldIdMap.get(id);
+        return fieldIndex.findById(id);
+    }
+
+    /**
+     * @return The dense field index of the message type.
+     */
+    CFieldIndex fieldIndex() {
+        return fieldIndex;
     }
 
     @Override
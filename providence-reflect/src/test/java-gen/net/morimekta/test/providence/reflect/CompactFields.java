@@ -213,9 +213,7 @@ public class CompactFields
 
         length += writer.writeByte((byte) 11);
         length += writer.writeShort((short) 1);
-        net.morimekta.util.Binary tmp_1 = net.morimekta.util.Binary.wrap(mName.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-        length += writer.writeUInt32(tmp_1.length());
-        length += writer.writeBinary(tmp_1);
+        length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, mName);
 
         length += writer.writeByte((byte) 8);
         length += writer.writeShort((short) 2);
@@ -224,9 +222,7 @@ public class CompactFields
         if (hasLabel()) {
             length += writer.writeByte((byte) 11);
             length += writer.writeShort((short) 3);
-            net.morimekta.util.Binary tmp_2 = net.morimekta.util.Binary.wrap(mLabel.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-            length += writer.writeUInt32(tmp_2.length());
-            length += writer.writeBinary(tmp_2);
+            length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, mLabel);
         }
 
         length += writer.writeByte((byte) 0);
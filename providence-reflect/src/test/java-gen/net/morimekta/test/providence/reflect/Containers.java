@@ -1812,9 +1812,7 @@ public class Containers
             length += writer.writeByte((byte) 11);
             length += writer.writeUInt32(mStringList.size());
             for (String entry_7 : mStringList) {
-                net.morimekta.util.Binary tmp_8 = net.morimekta.util.Binary.wrap(entry_7.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-                length += writer.writeUInt32(tmp_8.length());
-                length += writer.writeBinary(tmp_8);
+                length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, entry_7);
             }
         }
 
@@ -1823,9 +1821,9 @@ public class Containers
             length += writer.writeShort((short) 8);
             length += writer.writeByte((byte) 11);
             length += writer.writeUInt32(mBinaryList.size());
-            for (net.morimekta.util.Binary entry_9 : mBinaryList) {
-                length += writer.writeUInt32(entry_9.length());
-                length += writer.writeBinary(entry_9);
+            for (net.morimekta.util.Binary entry_8 : mBinaryList) {
+                length += writer.writeUInt32(entry_8.length());
+                length += writer.writeBinary(entry_8);
             }
         }
 
@@ -1834,8 +1832,8 @@ public class Containers
             length += writer.writeShort((short) 11);
             length += writer.writeByte((byte) 2);
             length += writer.writeUInt32(mBooleanSet.size());
-            for (Boolean entry_10 : mBooleanSet) {
-                length += writer.writeUInt8(entry_10 ? (byte) 1 : (byte) 0);
+            for (Boolean entry_9 : mBooleanSet) {
+                length += writer.writeUInt8(entry_9 ? (byte) 1 : (byte) 0);
             }
         }
 
@@ -1844,8 +1842,8 @@ public class Containers
             length += writer.writeShort((short) 12);
             length += writer.writeByte((byte) 3);
             length += writer.writeUInt32(mByteSet.size());
-            for (Byte entry_11 : mByteSet) {
-                length += writer.writeByte(entry_11);
+            for (Byte entry_10 : mByteSet) {
+                length += writer.writeByte(entry_10);
             }
         }
 
@@ -1854,8 +1852,8 @@ public class Containers
             length += writer.writeShort((short) 13);
             length += writer.writeByte((byte) 6);
             length += writer.writeUInt32(mShortSet.size());
-            for (Short entry_12 : mShortSet) {
-                length += writer.writeShort(entry_12);
+            for (Short entry_11 : mShortSet) {
+                length += writer.writeShort(entry_11);
             }
         }
 
@@ -1864,8 +1862,8 @@ public class Containers
             length += writer.writeShort((short) 14);
             length += writer.writeByte((byte) 8);
             length += writer.writeUInt32(mIntegerSet.size());
-            for (Integer entry_13 : mIntegerSet) {
-                length += writer.writeInt(entry_13);
+            for (Integer entry_12 : mIntegerSet) {
+                length += writer.writeInt(entry_12);
             }
         }
 
@@ -1874,8 +1872,8 @@ public class Containers
             length += writer.writeShort((short) 15);
             length += writer.writeByte((byte) 10);
             length += writer.writeUInt32(mLongSet.size());
-            for (Long entry_14 : mLongSet) {
-                length += writer.writeLong(entry_14);
+            for (Long entry_13 : mLongSet) {
+                length += writer.writeLong(entry_13);
             }
         }
 
@@ -1884,8 +1882,8 @@ public class Containers
             length += writer.writeShort((short) 16);
             length += writer.writeByte((byte) 4);
             length += writer.writeUInt32(mDoubleSet.size());
-            for (Double entry_15 : mDoubleSet) {
-                length += writer.writeDouble(entry_15);
+            for (Double entry_14 : mDoubleSet) {
+                length += writer.writeDouble(entry_14);
             }
         }
 
@@ -1894,10 +1892,8 @@ public class Containers
             length += writer.writeShort((short) 17);
             length += writer.writeByte((byte) 11);
             length += writer.writeUInt32(mStringSet.size());
-            for (String entry_16 : mStringSet) {
-                net.morimekta.util.Binary tmp_17 = net.morimekta.util.Binary.wrap(entry_16.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-                length += writer.writeUInt32(tmp_17.length());
-                length += writer.writeBinary(tmp_17);
+            for (String entry_15 : mStringSet) {
+                length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, entry_15);
             }
         }
 
@@ -1906,9 +1902,9 @@ public class Containers
             length += writer.writeShort((short) 18);
             length += writer.writeByte((byte) 11);
             length += writer.writeUInt32(mBinarySet.size());
-            for (net.morimekta.util.Binary entry_18 : mBinarySet) {
-                length += writer.writeUInt32(entry_18.length());
-                length += writer.writeBinary(entry_18);
+            for (net.morimekta.util.Binary entry_16 : mBinarySet) {
+                length += writer.writeUInt32(entry_16.length());
+                length += writer.writeBinary(entry_16);
             }
         }
 
@@ -1918,9 +1914,9 @@ public class Containers
             length += writer.writeByte((byte) 2);
             length += writer.writeByte((byte) 2);
             length += writer.writeUInt32(mBooleanMap.size());
-            for (java.util.Map.Entry<Boolean,Boolean> entry_19 : mBooleanMap.entrySet()) {
-                length += writer.writeUInt8(entry_19.getKey() ? (byte) 1 : (byte) 0);
-                length += writer.writeUInt8(entry_19.getValue() ? (byte) 1 : (byte) 0);
+            for (java.util.Map.Entry<Boolean,Boolean> entry_17 : mBooleanMap.entrySet()) {
+                length += writer.writeUInt8(entry_17.getKey() ? (byte) 1 : (byte) 0);
+                length += writer.writeUInt8(entry_17.getValue() ? (byte) 1 : (byte) 0);
             }
         }
 
@@ -1930,9 +1926,9 @@ public class Containers
             length += writer.writeByte((byte) 3);
             length += writer.writeByte((byte) 3);
             length += writer.writeUInt32(mByteMap.size());
-            for (java.util.Map.Entry<Byte,Byte> entry_20 : mByteMap.entrySet()) {
-                length += writer.writeByte(entry_20.getKey());
-                length += writer.writeByte(entry_20.getValue());
+            for (java.util.Map.Entry<Byte,Byte> entry_18 : mByteMap.entrySet()) {
+                length += writer.writeByte(entry_18.getKey());
+                length += writer.writeByte(entry_18.getValue());
             }
         }
 
@@ -1942,9 +1938,9 @@ public class Containers
             length += writer.writeByte((byte) 6);
             length += writer.writeByte((byte) 6);
             length += writer.writeUInt32(mShortMap.size());
-            for (java.util.Map.Entry<Short,Short> entry_21 : mShortMap.entrySet()) {
-                length += writer.writeShort(entry_21.getKey());
-                length += writer.writeShort(entry_21.getValue());
+            for (java.util.Map.Entry<Short,Short> entry_19 : mShortMap.entrySet()) {
+                length += writer.writeShort(entry_19.getKey());
+                length += writer.writeShort(entry_19.getValue());
             }
         }
 
@@ -1954,9 +1950,9 @@ public class Containers
             length += writer.writeByte((byte) 8);
             length += writer.writeByte((byte) 8);
             length += writer.writeUInt32(mIntegerMap.size());
-            for (java.util.Map.Entry<Integer,Integer> entry_22 : mIntegerMap.entrySet()) {
-                length += writer.writeInt(entry_22.getKey());
-                length += writer.writeInt(entry_22.getValue());
+            for (java.util.Map.Entry<Integer,Integer> entry_20 : mIntegerMap.entrySet()) {
+                length += writer.writeInt(entry_20.getKey());
+                length += writer.writeInt(entry_20.getValue());
             }
         }
 
@@ -1966,9 +1962,9 @@ public class Containers
             length += writer.writeByte((byte) 10);
             length += writer.writeByte((byte) 10);
             length += writer.writeUInt32(mLongMap.size());
-            for (java.util.Map.Entry<Long,Long> entry_23 : mLongMap.entrySet()) {
-                length += writer.writeLong(entry_23.getKey());
-                length += writer.writeLong(entry_23.getValue());
+            for (java.util.Map.Entry<Long,Long> entry_21 : mLongMap.entrySet()) {
+                length += writer.writeLong(entry_21.getKey());
+                length += writer.writeLong(entry_21.getValue());
             }
         }
 
@@ -1978,9 +1974,9 @@ public class Containers
             length += writer.writeByte((byte) 4);
             length += writer.writeByte((byte) 4);
             length += writer.writeUInt32(mDoubleMap.size());
-            for (java.util.Map.Entry<Double,Double> entry_24 : mDoubleMap.entrySet()) {
-                length += writer.writeDouble(entry_24.getKey());
-                length += writer.writeDouble(entry_24.getValue());
+            for (java.util.Map.Entry<Double,Double> entry_22 : mDoubleMap.entrySet()) {
+                length += writer.writeDouble(entry_22.getKey());
+                length += writer.writeDouble(entry_22.getValue());
             }
         }
 
@@ -1990,13 +1986,9 @@ public class Containers
             length += writer.writeByte((byte) 11);
             length += writer.writeByte((byte) 11);
             length += writer.writeUInt32(mStringMap.size());
-            for (java.util.Map.Entry<String,String> entry_25 : mStringMap.entrySet()) {
-                net.morimekta.util.Binary tmp_26 = net.morimekta.util.Binary.wrap(entry_25.getKey().getBytes(java.nio.charset.StandardCharsets.UTF_8));
-                length += writer.writeUInt32(tmp_26.length());
-                length += writer.writeBinary(tmp_26);
-                net.morimekta.util.Binary tmp_27 = net.morimekta.util.Binary.wrap(entry_25.getValue().getBytes(java.nio.charset.StandardCharsets.UTF_8));
-                length += writer.writeUInt32(tmp_27.length());
-                length += writer.writeBinary(tmp_27);
+            for (java.util.Map.Entry<String,String> entry_23 : mStringMap.entrySet()) {
+                length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, entry_23.getKey());
+                length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, entry_23.getValue());
             }
         }
 
@@ -2006,11 +1998,11 @@ public class Containers
             length += writer.writeByte((byte) 11);
             length += writer.writeByte((byte) 11);
             length += writer.writeUInt32(mBinaryMap.size());
-            for (java.util.Map.Entry<net.morimekta.util.Binary,net.morimekta.util.Binary> entry_28 : mBinaryMap.entrySet()) {
-                length += writer.writeUInt32(entry_28.getKey().length());
-                length += writer.writeBinary(entry_28.getKey());
-                length += writer.writeUInt32(entry_28.getValue().length());
-                length += writer.writeBinary(entry_28.getValue());
+            for (java.util.Map.Entry<net.morimekta.util.Binary,net.morimekta.util.Binary> entry_24 : mBinaryMap.entrySet()) {
+                length += writer.writeUInt32(entry_24.getKey().length());
+                length += writer.writeBinary(entry_24.getKey());
+                length += writer.writeUInt32(entry_24.getValue().length());
+                length += writer.writeBinary(entry_24.getValue());
             }
         }
 
@@ -2019,8 +2011,8 @@ public class Containers
             length += writer.writeShort((short) 31);
             length += writer.writeByte((byte) 8);
             length += writer.writeUInt32(mEnumList.size());
-            for (net.morimekta.test.providence.reflect.Value entry_29 : mEnumList) {
-                length += writer.writeInt(entry_29.asInteger());
+            for (net.morimekta.test.providence.reflect.Value entry_25 : mEnumList) {
+                length += writer.writeInt(entry_25.asInteger());
             }
         }
 
@@ -2029,8 +2021,8 @@ public class Containers
             length += writer.writeShort((short) 32);
             length += writer.writeByte((byte) 8);
             length += writer.writeUInt32(mEnumSet.size());
-            for (net.morimekta.test.providence.reflect.Value entry_30 : mEnumSet) {
-                length += writer.writeInt(entry_30.asInteger());
+            for (net.morimekta.test.providence.reflect.Value entry_26 : mEnumSet) {
+                length += writer.writeInt(entry_26.asInteger());
             }
         }
 
@@ -2040,9 +2032,9 @@ public class Containers
             length += writer.writeByte((byte) 8);
             length += writer.writeByte((byte) 8);
             length += writer.writeUInt32(mEnumMap.size());
-            for (java.util.Map.Entry<net.morimekta.test.providence.reflect.Value,net.morimekta.test.providence.reflect.Value> entry_31 : mEnumMap.entrySet()) {
-                length += writer.writeInt(entry_31.getKey().asInteger());
-                length += writer.writeInt(entry_31.getValue().asInteger());
+            for (java.util.Map.Entry<net.morimekta.test.providence.reflect.Value,net.morimekta.test.providence.reflect.Value> entry_27 : mEnumMap.entrySet()) {
+                length += writer.writeInt(entry_27.getKey().asInteger());
+                length += writer.writeInt(entry_27.getValue().asInteger());
             }
         }
 
@@ -2051,8 +2043,8 @@ public class Containers
             length += writer.writeShort((short) 41);
             length += writer.writeByte((byte) 12);
             length += writer.writeUInt32(mMessageList.size());
-            for (net.morimekta.test.providence.reflect.DefaultFields entry_32 : mMessageList) {
-                length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeMessage(writer, entry_32);
+            for (net.morimekta.test.providence.reflect.DefaultFields entry_28 : mMessageList) {
+                length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeMessage(writer, entry_28);
             }
         }
 
@@ -2061,8 +2053,8 @@ public class Containers
             length += writer.writeShort((short) 42);
             length += writer.writeByte((byte) 12);
             length += writer.writeUInt32(mMessageSet.size());
-            for (net.morimekta.test.providence.reflect.DefaultFields entry_33 : mMessageSet) {
-                length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeMessage(writer, entry_33);
+            for (net.morimekta.test.providence.reflect.DefaultFields entry_29 : mMessageSet) {
+                length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeMessage(writer, entry_29);
             }
         }
 
@@ -2072,11 +2064,9 @@ public class Containers
             length += writer.writeByte((byte) 11);
             length += writer.writeByte((byte) 12);
             length += writer.writeUInt32(mMessageMap.size());
-            for (java.util.Map.Entry<String,net.morimekta.test.providence.reflect.DefaultFields> entry_34 : mMessageMap.entrySet()) {
-                net.morimekta.util.Binary tmp_35 = net.morimekta.util.Binary.wrap(entry_34.getKey().getBytes(java.nio.charset.StandardCharsets.UTF_8));
-                length += writer.writeUInt32(tmp_35.length());
-                length += writer.writeBinary(tmp_35);
-                length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeMessage(writer, entry_34.getValue());
+            for (java.util.Map.Entry<String,net.morimekta.test.providence.reflect.DefaultFields> entry_30 : mMessageMap.entrySet()) {
+                length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, entry_30.getKey());
+                length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeMessage(writer, entry_30.getValue());
             }
         }
 
@@ -2086,11 +2076,9 @@ public class Containers
             length += writer.writeByte((byte) 12);
             length += writer.writeByte((byte) 11);
             length += writer.writeUInt32(mMessageKeyMap.size());
-            for (java.util.Map.Entry<net.morimekta.test.providence.reflect.CompactFields,String> entry_36 : mMessageKeyMap.entrySet()) {
-                length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeMessage(writer, entry_36.getKey());
-                net.morimekta.util.Binary tmp_37 = net.morimekta.util.Binary.wrap(entry_36.getValue().getBytes(java.nio.charset.StandardCharsets.UTF_8));
-                length += writer.writeUInt32(tmp_37.length());
-                length += writer.writeBinary(tmp_37);
+            for (java.util.Map.Entry<net.morimekta.test.providence.reflect.CompactFields,String> entry_31 : mMessageKeyMap.entrySet()) {
+                length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeMessage(writer, entry_31.getKey());
+                length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, entry_31.getValue());
             }
         }
 
@@ -190,9 +190,7 @@ public class CalculateException
 
         length += writer.writeByte((byte) 11);
         length += writer.writeShort((short) 1);
-        net.morimekta.util.Binary tmp_1 = net.morimekta.util.Binary.wrap(mMessage.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-        length += writer.writeUInt32(tmp_1.length());
-        length += writer.writeBinary(tmp_1);
+        length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, mMessage);
 
         if (hasOperation()) {
             length += writer.writeByte((byte) 12);
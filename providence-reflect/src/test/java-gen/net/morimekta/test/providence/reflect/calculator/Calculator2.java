@@ -60,6 +60,40 @@ public class Calculator2 extends net.morimekta.test.providence.reflect.calculato
                                                                      net.morimekta.providence.PApplicationExceptionType.MISSING_RESULT);
         }
 
+        /**
+         * Asynchronous variant of calculate(). Declared exceptions complete the future exceptionally.
+         *
+         * @return The future result.
+         */
+        public java.util.concurrent.CompletableFuture<net.morimekta.test.providence.reflect.calculator.Operand> calculateAsync(
+                net.morimekta.test.providence.reflect.calculator.Operation pOp) {
+            net.morimekta.test.providence.reflect.calculator.Calculator._calculate_request._Builder rq = net.morimekta.test.providence.reflect.calculator.Calculator._calculate_request.builder();
+            if (pOp != null) {
+                rq.setOp(pOp);
+            }
+
+            net.morimekta.providence.PServiceCall call = new net.morimekta.providence.PServiceCall<>("calculate", net.morimekta.providence.PServiceCallType.CALL, getNextSequenceId(), rq.build());
+            java.util.concurrent.CompletableFuture<net.morimekta.providence.PServiceCall> future = handler.handleCallAsync(call, Calculator2.kDescriptor);
+            return future.thenApply(resp -> {
+                if (resp.getType() == net.morimekta.providence.PServiceCallType.EXCEPTION) {
+                    throw new java.util.concurrent.CompletionException((net.morimekta.providence.PApplicationException) resp.getMessage());
+                }
+
+                net.morimekta.test.providence.reflect.calculator.Calculator._calculate_response msg = (net.morimekta.test.providence.reflect.calculator.Calculator._calculate_response) resp.getMessage();
+                if (msg.unionFieldIsSet()) {
+                    switch (msg.unionField()) {
+                        case CE:
+                            throw new java.util.concurrent.CompletionException(msg.getCe());
+                        case SUCCESS:
+                            return msg.getSuccess();
+                    }
+                }
+
+                throw new java.util.concurrent.CompletionException(new net.morimekta.providence.PApplicationException("Result field for calculator.Calculator2.calculate() not set",
+                                                                                                                       net.morimekta.providence.PApplicationExceptionType.MISSING_RESULT));
+            });
+        }
+
         @Override
         public void iamalive()
                 throws java.io.IOException {
@@ -69,6 +103,19 @@ public class Calculator2 extends net.morimekta.test.providence.reflect.calculato
             handler.handleCall(call, Calculator2.kDescriptor);
         }
 
+        /**
+         * Asynchronous variant of iamalive(). Declared exceptions complete the future exceptionally.
+         *
+         * @return The future result.
+         */
+        public java.util.concurrent.CompletableFuture<Void> iamaliveAsync() {
+            net.morimekta.test.providence.reflect.calculator.Calculator._iamalive_request._Builder rq = net.morimekta.test.providence.reflect.calculator.Calculator._iamalive_request.builder();
+
+            net.morimekta.providence.PServiceCall call = new net.morimekta.providence.PServiceCall<>("iamalive", net.morimekta.providence.PServiceCallType.ONEWAY, getNextSequenceId(), rq.build());
+            java.util.concurrent.CompletableFuture<net.morimekta.providence.PServiceCall> future = handler.handleCallAsync(call, Calculator2.kDescriptor);
+            return future.thenApply(resp -> null);
+        }
+
         @Override
         public void ping()
                 throws java.io.IOException {
@@ -93,6 +140,34 @@ public class Calculator2 extends net.morimekta.test.providence.reflect.calculato
                                                                      net.morimekta.providence.PApplicationExceptionType.MISSING_RESULT);
         }
 
+        /**
+         * Asynchronous variant of ping(). Declared exceptions complete the future exceptionally.
+         *
+         * @return The future result.
+         */
+        public java.util.concurrent.CompletableFuture<Void> pingAsync() {
+            net.morimekta.test.providence.reflect.calculator.Calculator._ping_request._Builder rq = net.morimekta.test.providence.reflect.calculator.Calculator._ping_request.builder();
+
+            net.morimekta.providence.PServiceCall call = new net.morimekta.providence.PServiceCall<>("ping", net.morimekta.providence.PServiceCallType.CALL, getNextSequenceId(), rq.build());
+            java.util.concurrent.CompletableFuture<net.morimekta.providence.PServiceCall> future = handler.handleCallAsync(call, Calculator2.kDescriptor);
+            return future.thenApply(resp -> {
+                if (resp.getType() == net.morimekta.providence.PServiceCallType.EXCEPTION) {
+                    throw new java.util.concurrent.CompletionException((net.morimekta.providence.PApplicationException) resp.getMessage());
+                }
+
+                net.morimekta.test.providence.reflect.calculator.Calculator._ping_response msg = (net.morimekta.test.providence.reflect.calculator.Calculator._ping_response) resp.getMessage();
+                if (msg.unionFieldIsSet()) {
+                    switch (msg.unionField()) {
+                        case SUCCESS:
+                            return null;
+                    }
+                }
+
+                throw new java.util.concurrent.CompletionException(new net.morimekta.providence.PApplicationException("Result field for calculator.Calculator2.ping() not set",
+                                                                                                                       net.morimekta.providence.PApplicationExceptionType.MISSING_RESULT));
+            });
+        }
+
         @Override
         public String extra()
                 throws java.io.IOException {
@@ -116,6 +191,34 @@ public class Calculator2 extends net.morimekta.test.providence.reflect.calculato
             throw new net.morimekta.providence.PApplicationException("Result field for calculator.Calculator2.extra() not set",
                                                                      net.morimekta.providence.PApplicationExceptionType.MISSING_RESULT);
         }
+
+        /**
+         * Asynchronous variant of extra(). Declared exceptions complete the future exceptionally.
+         *
+         * @return The future result.
+         */
+        public java.util.concurrent.CompletableFuture<String> extraAsync() {
+            net.morimekta.test.providence.reflect.calculator.Calculator2._extra_request._Builder rq = net.morimekta.test.providence.reflect.calculator.Calculator2._extra_request.builder();
+
+            net.morimekta.providence.PServiceCall call = new net.morimekta.providence.PServiceCall<>("extra", net.morimekta.providence.PServiceCallType.CALL, getNextSequenceId(), rq.build());
+            java.util.concurrent.CompletableFuture<net.morimekta.providence.PServiceCall> future = handler.handleCallAsync(call, Calculator2.kDescriptor);
+            return future.thenApply(resp -> {
+                if (resp.getType() == net.morimekta.providence.PServiceCallType.EXCEPTION) {
+                    throw new java.util.concurrent.CompletionException((net.morimekta.providence.PApplicationException) resp.getMessage());
+                }
+
+                net.morimekta.test.providence.reflect.calculator.Calculator2._extra_response msg = (net.morimekta.test.providence.reflect.calculator.Calculator2._extra_response) resp.getMessage();
+                if (msg.unionFieldIsSet()) {
+                    switch (msg.unionField()) {
+                        case SUCCESS:
+                            return msg.getSuccess();
+                    }
+                }
+
+                throw new java.util.concurrent.CompletionException(new net.morimekta.providence.PApplicationException("Result field for calculator.Calculator2.extra() not set",
+                                                                                                                       net.morimekta.providence.PApplicationExceptionType.MISSING_RESULT));
+            });
+        }
     }
 
     public static class Processor implements net.morimekta.providence.PProcessor {
@@ -825,9 +928,7 @@ public class Calculator2 extends net.morimekta.test.providence.reflect.calculato
                     case SUCCESS: {
                         length += writer.writeByte((byte) 11);
                         length += writer.writeShort((short) 0);
-                        net.morimekta.util.Binary tmp_1 = net.morimekta.util.Binary.wrap(mSuccess.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-                        length += writer.writeUInt32(tmp_1.length());
-                        length += writer.writeBinary(tmp_1);
+                        length += net.morimekta.providence.serializer.binary.BinaryFormatUtils.writeString(writer, mSuccess);
                         break;
                     }
                     default: break;
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.reflect.contained;
+
+import net.morimekta.providence.descriptor.PPrimitive;
+import net.morimekta.providence.descriptor.PRequirement;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class CFieldIndexTest {
+    @Test
+    public void testDenseIds() {
+        CFieldIndex index = new CFieldIndex(ImmutableList.of(field(3, "c"), field(1, "a"), field(2, "b")));
+
+        assertThat(index.size(), is(3));
+        assertThat(index.indexOf(3), is(0));
+        assertThat(index.indexOf(1), is(1));
+        assertThat(index.indexOf(2), is(2));
+        assertThat(index.indexOf(0), is(-1));
+        assertThat(index.indexOf(4), is(-1));
+        assertThat(index.indexOf("b"), is(2));
+        assertThat(index.indexOf("d"), is(-1));
+        assertThat(index.findById(1).getName(), is("a"));
+        assertThat(index.findByName("c").getId(), is(3));
+        assertThat(index.findById(5), is(nullValue()));
+        assertThat(index.fields().length, is(3));
+    }
+
+    @Test
+    public void testSparseIds() {
+        CFieldIndex index = new CFieldIndex(ImmutableList.of(field(1000, "c"), field(-5, "a"), field(7, "b")));
+
+        assertThat(index.indexOf(1000), is(0));
+        assertThat(index.indexOf(-5), is(1));
+        assertThat(index.indexOf(7), is(2));
+        assertThat(index.indexOf(8), is(-1));
+        assertThat(index.indexOf(Integer.MIN_VALUE), is(-1));
+        assertThat(index.field(2).getName(), is("b"));
+    }
+
+    @Test
+    public void testNoFields() {
+        CFieldIndex index = new CFieldIndex(ImmutableList.of());
+
+        assertThat(index.size(), is(0));
+        assertThat(index.indexOf(1), is(-1));
+        assertThat(index.indexOf("a"), is(-1));
+    }
+
+    private static CField field(int id, String name) {
+        return new CField(null, id, PRequirement.OPTIONAL, name, PPrimitive.STRING.provider(), null, null);
+    }
+}
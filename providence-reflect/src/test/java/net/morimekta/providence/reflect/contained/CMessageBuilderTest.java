@@ -18,11 +18,19 @@
  */
 package net.morimekta.providence.reflect.contained;
 
+import net.morimekta.providence.PMessage;
+import net.morimekta.providence.descriptor.PDeclaredDescriptor;
+import net.morimekta.providence.descriptor.PField;
 import net.morimekta.providence.model.ProgramType;
 import net.morimekta.providence.reflect.parser.ThriftProgramParser;
 import net.morimekta.providence.reflect.util.ProgramConverter;
 import net.morimekta.providence.reflect.util.ProgramRegistry;
 import net.morimekta.providence.reflect.util.ProgramTypeRegistry;
+import net.morimekta.providence.serializer.BinarySerializer;
+import net.morimekta.providence.serializer.JsonSerializer;
+import net.morimekta.providence.serializer.Serializer;
+import net.morimekta.test.providence.reflect.OptionalFields;
+import net.morimekta.util.Binary;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -32,9 +40,14 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import javax.annotation.Nonnull;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import static net.morimekta.providence.util.ProvidenceHelper.debugString;
 import static net.morimekta.testing.ExtraMatchers.equalToLines;
 import static org.hamcrest.CoreMatchers.is;
@@ -267,4 +280,91 @@ public class CMessageBuilderTest {
         }
     }
 
+    @Test
+    public void testSerialization() throws IOException {
+        CStructDescriptor descriptor = (CStructDescriptor) (PDeclaredDescriptor) registry.getDeclaredType("test.OptionalFields");
+        CStruct struct = descriptor.builder()
+                                   .set(1, true)
+                                   .set(2, (byte) 42)
+                                   .set(5, 1234567890123L)
+                                   .set(7, "test")
+                                   .set(8, Binary.wrap(new byte[]{1, 2, 3}))
+                                   .build();
+        OptionalFields generated = OptionalFields.builder()
+                                                 .setBooleanValue(true)
+                                                 .setByteValue((byte) 42)
+                                                 .setLongValue(1234567890123L)
+                                                 .setStringValue("test")
+                                                 .setBinaryValue(Binary.wrap(new byte[]{1, 2, 3}))
+                                                 .build();
+
+        BinarySerializer binary = new BinarySerializer();
+        assertThat(roundTrip(binary, struct, descriptor), is(struct));
+        assertThat(serialize(binary, struct), is(serialize(binary, generated)));
+
+        JsonSerializer json = new JsonSerializer();
+        assertThat(roundTrip(json, struct, descriptor), is(struct));
+        assertThat(new String(serialize(json, struct), UTF_8),
+                   is("{\"1\":true,\"2\":42,\"5\":1234567890123,\"7\":\"test\",\"8\":\"AQID\"}"));
+
+        JsonSerializer named = json.named();
+        assertThat(roundTrip(named, struct, descriptor), is(struct));
+        assertThat(new String(serialize(named, struct), UTF_8),
+                   is(new String(serialize(named, generated), UTF_8)));
+
+        // Unknown fields are skipped, and null clears the field.
+        CStruct parsed = named.deserialize(
+                new ByteArrayInputStream("{\"booleanValue\":true,\"unknown\":[1,2],\"stringValue\":null}".getBytes(UTF_8)),
+                descriptor);
+        assertThat(parsed.has(1), is(true));
+        assertThat(parsed.has(7), is(false));
+    }
+
+    private static <M extends PMessage<M, F>, F extends PField>
+    byte[] serialize(Serializer serializer, M message) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        serializer.serialize(out, message);
+        return out.toByteArray();
+    }
+
+    private static CStruct roundTrip(Serializer serializer, CStruct message, CStructDescriptor descriptor) throws IOException {
+        return serializer.deserialize(new ByteArrayInputStream(serialize(serializer, message)), descriptor);
+    }
+
+    @Test
+    public void testDeprecatedConstructor() {
+        CStructDescriptor descriptor = (CStructDescriptor) (PDeclaredDescriptor) registry.getDeclaredType("test.OptionalFields");
+        LegacyBuilder builder = new LegacyBuilder(descriptor);
+
+        // The field index is made from the descriptor on first use.
+        assertThat(builder.isSet(2), is(false));
+        builder.set(2, (byte) 55);
+        builder.set(42, 1);  // does not exists.
+        assertThat(builder.isSet(2), is(true));
+        assertThat(builder.isModified(2), is(true));
+        assertThat(builder.isModified(1), is(false));
+        assertThat(builder.valid(), is(true));
+        assertThat(builder.toString(), is("test.OptionalFields._Builder{values={2=55}, modified=[2]}"));
+    }
+
+    private static class LegacyBuilder extends CMessageBuilder<LegacyBuilder, CStruct> {
+        private final CStructDescriptor descriptor;
+
+        @SuppressWarnings("deprecation")
+        private LegacyBuilder(CStructDescriptor descriptor) {
+            this.descriptor = descriptor;
+        }
+
+        @Nonnull
+        @Override
+        public CStructDescriptor descriptor() {
+            return descriptor;
+        }
+
+        @Nonnull
+        @Override
+        public CStruct build() {
+            throw new UnsupportedOperationException("Not used in test");
+        }
+    }
 }
@@ -0,0 +1,232 @@
+package net.morimekta.providence.storage;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+/**
+ * Policy for the in-memory message cache of the directory stores. By
+ * default the cache is unbounded, meaning every message read or written
+ * stays in memory until the store is closed. A bounded cache lets a
+ * directory store front a data set larger than the heap.
+ *
+ * <pre>{@code
+ * CachePolicy policy = CachePolicy.builder()
+ *                                 .maximumWeight(64 << 20)
+ *                                 .expireAfterAccess(10, TimeUnit.MINUTES)
+ *                                 .recordStats()
+ *                                 .build();
+ * }</pre>
+ *
+ * The weight of a cached entry is the serialized size of the message or
+ * message list in bytes, as it is stored in the file.
+ *
+ * @see DirectoryMessageStore
+ * @see DirectoryMessageListStore
+ */
+public final class CachePolicy {
+    /**
+     * @return An unbounded cache policy.
+     */
+    @Nonnull
+    public static CachePolicy unbounded() {
+        return builder().build();
+    }
+
+    /**
+     * @return A cache policy builder.
+     */
+    @Nonnull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return The max number of cached entries, or -1 if not limited by size.
+     */
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @return The max total weight in bytes of cached entries, or -1 if not
+     *         limited by weight.
+     */
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    /**
+     * @return Nanoseconds after last access entries expire, or -1 if entries
+     *         does not expire.
+     */
+    public long getExpireAfterAccessNanos() {
+        return expireAfterAccessNanos;
+    }
+
+    /**
+     * @return If cached values should be soft referenced.
+     */
+    public boolean isSoftValues() {
+        return softValues;
+    }
+
+    /**
+     * @return If cache statistics should be recorded.
+     */
+    public boolean isRecordStats() {
+        return recordStats;
+    }
+
+    public static class Builder {
+        /**
+         * Limit the number of cached entries.
+         *
+         * @param maximumSize The max number of cached entries.
+         * @return The builder.
+         */
+        @Nonnull
+        public Builder maximumSize(long maximumSize) {
+            if (maximumSize < 0) {
+                throw new IllegalArgumentException("Invalid maximum size: " + maximumSize);
+            }
+            if (maximumWeight >= 0) {
+                throw new IllegalStateException("Maximum weight already set");
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Limit the total serialized size of cached entries.
+         *
+         * @param maximumWeight The max total weight in bytes.
+         * @return The builder.
+         */
+        @Nonnull
+        public Builder maximumWeight(long maximumWeight) {
+            if (maximumWeight < 0) {
+                throw new IllegalArgumentException("Invalid maximum weight: " + maximumWeight);
+            }
+            if (maximumSize >= 0) {
+                throw new IllegalStateException("Maximum size already set");
+            }
+            this.maximumWeight = maximumWeight;
+            return this;
+        }
+
+        /**
+         * Expire entries that has not been accessed for some time.
+         *
+         * @param duration The time since last access.
+         * @param unit The time unit.
+         * @return The builder.
+         */
+        @Nonnull
+        public Builder expireAfterAccess(long duration, @Nonnull TimeUnit unit) {
+            if (duration < 0) {
+                throw new IllegalArgumentException("Invalid expire duration: " + duration);
+            }
+            this.expireAfterAccessNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        /**
+         * Keep cached values as soft references, so they can be garbage
+         * collected on memory pressure.
+         *
+         * @return The builder.
+         */
+        @Nonnull
+        public Builder softValues() {
+            this.softValues = true;
+            return this;
+        }
+
+        /**
+         * Record cache hit, miss and eviction statistics.
+         *
+         * @return The builder.
+         */
+        @Nonnull
+        public Builder recordStats() {
+            this.recordStats = true;
+            return this;
+        }
+
+        @Nonnull
+        public CachePolicy build() {
+            return new CachePolicy(this);
+        }
+
+        private long    maximumSize            = -1;
+        private long    maximumWeight          = -1;
+        private long    expireAfterAccessNanos = -1;
+        private boolean softValues;
+        private boolean recordStats;
+
+        private Builder() {}
+    }
+
+    /**
+     * Make a cache according to the policy.
+     *
+     * @param weigher Function to get the weight of a cached value.
+     * @param <K> The key type.
+     * @param <V> The value type.
+     * @return The cache.
+     */
+    <K, V> Cache<K, V> newCache(@Nonnull ToIntFunction<V> weigher) {
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder();
+        if (maximumSize >= 0) {
+            builder.maximumSize(maximumSize);
+        }
+        if (expireAfterAccessNanos >= 0) {
+            builder.expireAfterAccess(expireAfterAccessNanos, TimeUnit.NANOSECONDS);
+        }
+        if (softValues) {
+            builder.softValues();
+        }
+        if (recordStats) {
+            builder.recordStats();
+        }
+        if (maximumWeight >= 0) {
+            return builder.maximumWeight(maximumWeight)
+                          .<K, V>weigher((key, value) -> weigher.applyAsInt(value))
+                          .build();
+        }
+        return builder.build();
+    }
+
+    /**
+     * A cached value with its weight.
+     *
+     * @param <V> The value type.
+     */
+    static final class Weighted<V> {
+        final V   value;
+        final int weight;
+
+        Weighted(V value, long weight) {
+            this.value = value;
+            this.weight = (int) Math.min(weight, Integer.MAX_VALUE);
+        }
+    }
+
+    private final long    maximumSize;
+    private final long    maximumWeight;
+    private final long    expireAfterAccessNanos;
+    private final boolean softValues;
+    private final boolean recordStats;
+
+    private CachePolicy(Builder builder) {
+        this.maximumSize = builder.maximumSize;
+        this.maximumWeight = builder.maximumWeight;
+        this.expireAfterAccessNanos = builder.expireAfterAccessNanos;
+        this.softValues = builder.softValues;
+        this.recordStats = builder.recordStats;
+    }
+}
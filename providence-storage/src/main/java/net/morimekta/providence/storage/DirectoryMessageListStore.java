@@ -12,7 +12,7 @@ import net.morimekta.util.concurrent.ReadWriteMutex;
 import net.morimekta.util.concurrent.ReentrantReadWriteMutex;
 
 import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 
@@ -52,12 +52,12 @@ import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
  */
 public class DirectoryMessageListStore<K, M extends PMessage<M,F>, F extends PField>
         implements MessageListStore<K,M,F>, Closeable {
-    private final ReadWriteMutex           mutex;
-    private final Set<K>                   keyset;
-    private final FileManager<K>           manager;
-    private final Serializer               serializer;
-    private final PMessageDescriptor<M, F> descriptor;
-    private final Cache<K, List<M>>        cache;
+    private final ReadWriteMutex                          mutex;
+    private final Set<K>                                  keyset;
+    private final FileManager<K>                          manager;
+    private final Serializer                              serializer;
+    private final PMessageDescriptor<M, F>                descriptor;
+    private final Cache<K, CachePolicy.Weighted<List<M>>> cache;
 
     public DirectoryMessageListStore(@Nonnull File directory,
                                      @Nonnull Function<K, String> keyBuilder,
@@ -67,6 +67,15 @@ public class DirectoryMessageListStore<K, M extends PMessage<M,F>, F extends PFi
         this(directory.toPath(), keyBuilder, keyParser, descriptor, serializer);
     }
 
+    public DirectoryMessageListStore(@Nonnull File directory,
+                                     @Nonnull Function<K, String> keyBuilder,
+                                     @Nonnull Function<String, K> keyParser,
+                                     @Nonnull PMessageDescriptor<M,F> descriptor,
+                                     @Nonnull Serializer serializer,
+                                     @Nonnull CachePolicy cachePolicy) {
+        this(directory.toPath(), keyBuilder, keyParser, descriptor, serializer, cachePolicy);
+    }
+
     public DirectoryMessageListStore(@Nonnull Path directory,
                                      @Nonnull Function<K, String> keyBuilder,
                                      @Nonnull Function<String, K> keyParser,
@@ -75,15 +84,39 @@ public class DirectoryMessageListStore<K, M extends PMessage<M,F>, F extends PFi
         this(new DefaultFileManager<>(directory, keyBuilder, keyParser), descriptor, serializer);
     }
 
+    public DirectoryMessageListStore(@Nonnull Path directory,
+                                     @Nonnull Function<K, String> keyBuilder,
+                                     @Nonnull Function<String, K> keyParser,
+                                     @Nonnull PMessageDescriptor<M,F> descriptor,
+                                     @Nonnull Serializer serializer,
+                                     @Nonnull CachePolicy cachePolicy) {
+        this(new DefaultFileManager<>(directory, keyBuilder, keyParser), descriptor, serializer, cachePolicy);
+    }
+
     public DirectoryMessageListStore(@Nonnull FileManager<K> manager,
                                      @Nonnull PMessageDescriptor<M,F> descriptor,
                                      @Nonnull Serializer serializer) {
+        this(manager, descriptor, serializer, CachePolicy.unbounded());
+    }
+
+    /**
+     * Create a directory store with a specific message cache policy.
+     *
+     * @param manager The file manager.
+     * @param descriptor The message descriptor.
+     * @param serializer The serializer to store messages with.
+     * @param cachePolicy The policy for the in-memory message cache.
+     */
+    public DirectoryMessageListStore(@Nonnull FileManager<K> manager,
+                                     @Nonnull PMessageDescriptor<M,F> descriptor,
+                                     @Nonnull Serializer serializer,
+                                     @Nonnull CachePolicy cachePolicy) {
         this.manager = manager;
         this.mutex = new ReentrantReadWriteMutex();
         this.keyset = new HashSet<>(manager.initialKeySet());
         this.descriptor = descriptor;
         this.serializer = serializer;
-        this.cache = CacheBuilder.newBuilder().build();
+        this.cache = cachePolicy.newCache(entry -> entry.weight);
     }
 
     @Override
@@ -104,7 +137,7 @@ public class DirectoryMessageListStore<K, M extends PMessage<M,F>, F extends PFi
             tmp.retainAll(keyset);
             for (K key : tmp) {
                 try {
-                    out.put(key, cache.get(key, () -> read(key)));
+                    out.put(key, cache.get(key, () -> read(key)).value);
                 } catch (ExecutionException e) {
                     throw new RuntimeException("Unable to read " + key.toString(), e);
                 }
@@ -120,8 +153,7 @@ public class DirectoryMessageListStore<K, M extends PMessage<M,F>, F extends PFi
             values.forEach((key, value) -> {
                 try {
                     value = ImmutableList.copyOf(value);
-                    write(key, value);
-                    cache.put(key, value);
+                    cache.put(key, new CachePolicy.Weighted<>(value, write(key, value)));
                     keyset.add(key);
                 } catch (IOException e) {
                     throw new UncheckedIOException(e.getMessage(), e);
@@ -139,7 +171,7 @@ public class DirectoryMessageListStore<K, M extends PMessage<M,F>, F extends PFi
                 Path file = manager.getFileFor(key);
                 if (Files.exists(file)) {
                     try {
-                        out.put(key, cache.get(key, () -> read(key)));
+                        out.put(key, cache.get(key, () -> read(key)).value);
                     } catch (ExecutionException e) {
                         // Best effort, as we could not read the message.
                         // At least it was present.
@@ -157,16 +189,18 @@ public class DirectoryMessageListStore<K, M extends PMessage<M,F>, F extends PFi
         });
     }
 
-    private List<M> read(K key) throws IOException {
+    private CachePolicy.Weighted<List<M>> read(K key) throws IOException {
+        Path file = manager.getFileFor(key);
         try {
-            return MessageStreams.file(manager.getFileFor(key).toFile(), serializer, descriptor)
-                                 .collect(Collectors.toList());
+            return new CachePolicy.Weighted<>(MessageStreams.file(file.toFile(), serializer, descriptor)
+                                                            .collect(Collectors.toList()),
+                                              Files.size(file));
         } catch (UncheckedIOException e) {
             throw new IOException("Unable to read " + key.toString(), e.getCause());
         }
     }
 
-    private void write(K key, List<M> message) throws IOException {
+    private long write(K key, List<M> message) throws IOException {
         Path tmp = manager.tmpFileFor(key);
         Path file = manager.getFileFor(key);
         Files.deleteIfExists(tmp);
@@ -175,7 +209,27 @@ public class DirectoryMessageListStore<K, M extends PMessage<M,F>, F extends PFi
         } catch (UncheckedIOException e) {
             throw new IOException("Unable to write " + key.toString(), e.getCause());
         }
+        long size = Files.size(tmp);
         Files.move(tmp, file, REPLACE_EXISTING, ATOMIC_MOVE);
+        return size;
+    }
+
+    /**
+     * Get statistics for the message cache. Note that statistics are only
+     * recorded if enabled in the {@link CachePolicy}.
+     *
+     * @return The cache statistics.
+     */
+    @Nonnull
+    public CacheStats getCacheStats() {
+        return cache.stats();
+    }
+
+    /**
+     * @return The approximate number of entries in the message cache.
+     */
+    public long getCacheSize() {
+        return cache.size();
     }
 
     @Override
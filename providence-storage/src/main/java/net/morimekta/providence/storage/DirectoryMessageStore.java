@@ -10,7 +10,7 @@ import net.morimekta.util.concurrent.ReadWriteMutex;
 import net.morimekta.util.concurrent.ReentrantReadWriteMutex;
 
 import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.ImmutableSet;
 
 import javax.annotation.Nonnull;
@@ -51,12 +51,12 @@ import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
  */
 public class DirectoryMessageStore<K, M extends PMessage<M,F>, F extends PField>
         implements MessageStore<K,M,F>, Closeable {
-    private final ReadWriteMutex           mutex;
-    private final Set<K>                   keyset;
-    private final FileManager<K>           manager;
-    private final Serializer               serializer;
-    private final PMessageDescriptor<M, F> descriptor;
-    private final Cache<K, M>              cache;
+    private final ReadWriteMutex                    mutex;
+    private final Set<K>                            keyset;
+    private final FileManager<K>                    manager;
+    private final Serializer                        serializer;
+    private final PMessageDescriptor<M, F>          descriptor;
+    private final Cache<K, CachePolicy.Weighted<M>> cache;
 
     public DirectoryMessageStore(@Nonnull File directory,
                                  @Nonnull Function<K, String> keyBuilder,
@@ -66,6 +66,15 @@ public class DirectoryMessageStore<K, M extends PMessage<M,F>, F extends PField>
         this(directory.toPath(), keyBuilder, keyParser, descriptor, serializer);
     }
 
+    public DirectoryMessageStore(@Nonnull File directory,
+                                 @Nonnull Function<K, String> keyBuilder,
+                                 @Nonnull Function<String, K> keyParser,
+                                 @Nonnull PMessageDescriptor<M,F> descriptor,
+                                 @Nonnull Serializer serializer,
+                                 @Nonnull CachePolicy cachePolicy) {
+        this(directory.toPath(), keyBuilder, keyParser, descriptor, serializer, cachePolicy);
+    }
+
     public DirectoryMessageStore(@Nonnull Path directory,
                                  @Nonnull Function<K, String> keyBuilder,
                                  @Nonnull Function<String, K> keyParser,
@@ -74,16 +83,39 @@ public class DirectoryMessageStore<K, M extends PMessage<M,F>, F extends PField>
         this(new DefaultFileManager<>(directory, keyBuilder, keyParser), descriptor, serializer);
     }
 
+    public DirectoryMessageStore(@Nonnull Path directory,
+                                 @Nonnull Function<K, String> keyBuilder,
+                                 @Nonnull Function<String, K> keyParser,
+                                 @Nonnull PMessageDescriptor<M,F> descriptor,
+                                 @Nonnull Serializer serializer,
+                                 @Nonnull CachePolicy cachePolicy) {
+        this(new DefaultFileManager<>(directory, keyBuilder, keyParser), descriptor, serializer, cachePolicy);
+    }
+
     public DirectoryMessageStore(@Nonnull FileManager<K> manager,
                                  @Nonnull PMessageDescriptor<M,F> descriptor,
                                  @Nonnull Serializer serializer) {
+        this(manager, descriptor, serializer, CachePolicy.unbounded());
+    }
+
+    /**
+     * Create a directory store with a specific message cache policy.
+     *
+     * @param manager The file manager.
+     * @param descriptor The message descriptor.
+     * @param serializer The serializer to store messages with.
+     * @param cachePolicy The policy for the in-memory message cache.
+     */
+    public DirectoryMessageStore(@Nonnull FileManager<K> manager,
+                                 @Nonnull PMessageDescriptor<M,F> descriptor,
+                                 @Nonnull Serializer serializer,
+                                 @Nonnull CachePolicy cachePolicy) {
         this.manager = manager;
         this.mutex = new ReentrantReadWriteMutex();
         this.keyset = new HashSet<>(manager.initialKeySet());
         this.descriptor = descriptor;
         this.serializer = serializer;
-        this.cache = CacheBuilder.newBuilder()
-                                 .build();
+        this.cache = cachePolicy.newCache(entry -> entry.weight);
     }
 
     @Override
@@ -104,7 +136,7 @@ public class DirectoryMessageStore<K, M extends PMessage<M,F>, F extends PField>
             tmp.retainAll(keyset);
             for (K key : tmp) {
                 try {
-                    out.put(key, cache.get(key, () -> read(key)));
+                    out.put(key, cache.get(key, () -> read(key)).value);
                 } catch (ExecutionException e) {
                     throw new RuntimeException("Unable to read " + key.toString(), e);
                 }
@@ -119,8 +151,7 @@ public class DirectoryMessageStore<K, M extends PMessage<M,F>, F extends PField>
             Map<K,M> out = getAll(values.keySet());
             values.forEach((key, value) -> {
                 try {
-                    write(key, value);
-                    cache.put(key, value);
+                    cache.put(key, new CachePolicy.Weighted<>(value, write(key, value)));
                     keyset.add(key);
                 } catch (IOException e) {
                     throw new UncheckedIOException(e.getMessage(), e);
@@ -138,7 +169,7 @@ public class DirectoryMessageStore<K, M extends PMessage<M,F>, F extends PField>
                 Path file = manager.getFileFor(key);
                 if (Files.exists(file)) {
                     try {
-                        out.put(key, cache.get(key, () -> read(key)));
+                        out.put(key, cache.get(key, () -> read(key)).value);
                     } catch (ExecutionException e) {
                         // Best effort, as we could not read the message.
                         // At least it was present.
@@ -156,10 +187,10 @@ public class DirectoryMessageStore<K, M extends PMessage<M,F>, F extends PField>
         });
     }
 
-    private M read(K key) throws IOException {
+    private CachePolicy.Weighted<M> read(K key) throws IOException {
         try (FileInputStream fis = new FileInputStream(manager.getFileFor(key).toFile());
              BufferedInputStream bis = new BufferedInputStream(fis)) {
-            return serializer.deserialize(bis, descriptor);
+            return new CachePolicy.Weighted<>(serializer.deserialize(bis, descriptor), fis.getChannel().size());
         } catch (FileNotFoundException fnf) {
             return null;
         } catch (IOException e) {
@@ -167,18 +198,38 @@ public class DirectoryMessageStore<K, M extends PMessage<M,F>, F extends PField>
         }
     }
 
-    private void write(K key, M message) throws IOException {
+    private int write(K key, M message) throws IOException {
         Path tmp = manager.tmpFileFor(key);
         Path file = manager.getFileFor(key);
 
+        int size;
         try (FileOutputStream fos = new FileOutputStream(tmp.toFile(), false);
              BufferedOutputStream bos = new BufferedOutputStream(fos)) {
-            serializer.serialize(bos, message);
+            size = serializer.serialize(bos, message);
             bos.flush();
         } catch (IOException e) {
             throw new IOException("Unable to write " + key.toString(), e);
         }
         Files.move(tmp, file, REPLACE_EXISTING, ATOMIC_MOVE);
+        return size;
+    }
+
+    /**
+     * Get statistics for the message cache. Note that statistics are only
+     * recorded if enabled in the {@link CachePolicy}.
+     *
+     * @return The cache statistics.
+     */
+    @Nonnull
+    public CacheStats getCacheStats() {
+        return cache.stats();
+    }
+
+    /**
+     * @return The approximate number of entries in the message cache.
+     */
+    public long getCacheSize() {
+        return cache.size();
     }
 
     @Override
@@ -17,6 +17,7 @@ import java.util.TreeSet;
 import java.util.UUID;
 
 import static net.morimekta.providence.testing.ProvidenceMatchers.equalToMessage;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
@@ -126,4 +127,36 @@ public class DirectoryMessageListStoreTest extends TestBase {
                                    .build(), is(equalToMessage(builder.build())));
         }
     }
+
+    @Test
+    public void testCachePolicy() {
+        Map<UUID, List<OptionalFields>> source = new HashMap<>();
+        for (int i = 0; i < 20; ++i) {
+            UUID uuid = UUID.randomUUID();
+            for (int j = 0; j < 10; ++j) {
+                source.computeIfAbsent(uuid, u -> new ArrayList<>(10))
+                      .add(generator.generate(OptionalFields.kDescriptor));
+            }
+        }
+
+        try (DirectoryMessageListStore<UUID, OptionalFields, OptionalFields._Field> store = new DirectoryMessageListStore<>(
+                tmp.getRoot(),
+                UUID::toString,
+                UUID::fromString,
+                OptionalFields.kDescriptor,
+                new PrettySerializer().config(),
+                CachePolicy.builder()
+                           .maximumWeight(1)
+                           .recordStats()
+                           .build())) {
+            store.putAll(source);
+            // Every list is heavier than the max weight, so none are kept.
+            assertThat(store.getCacheSize(), is(0L));
+            assertThat(store.getCacheStats().evictionCount(), is(20L));
+
+            assertThat(store.getAll(source.keySet()), is(source));
+            assertThat(store.getCacheStats().missCount(), is(20L));
+            assertThat(store.getCacheStats().hitCount(), is(0L));
+        }
+    }
 }
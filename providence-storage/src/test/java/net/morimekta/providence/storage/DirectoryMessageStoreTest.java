@@ -18,6 +18,8 @@ import java.util.UUID;
 import static net.morimekta.providence.testing.ProvidenceMatchers.equalToMessage;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 
@@ -85,4 +87,39 @@ public class DirectoryMessageStoreTest extends TestBase {
             }
         }
     }
+
+    @Test
+    public void testCachePolicy() {
+        Map<UUID, Containers> source = new HashMap<>();
+        for (int i = 0; i < 100; ++i) {
+            source.put(UUID.randomUUID(),
+                       generator.generate(Containers.kDescriptor));
+        }
+
+        try (DirectoryMessageStore<UUID, Containers, Containers._Field> store = new DirectoryMessageStore<>(
+                tmp.getRoot(),
+                UUID::toString,
+                UUID::fromString,
+                Containers.kDescriptor,
+                new PrettySerializer().config(),
+                CachePolicy.builder()
+                           .maximumSize(10)
+                           .recordStats()
+                           .build())) {
+            store.putAll(source);
+            assertThat(store.getCacheSize(), is(lessThanOrEqualTo(10L)));
+            assertThat(store.getCacheStats().evictionCount(), is(greaterThan(0L)));
+
+            // Evicted messages are read back from the files.
+            assertThat(store.getAll(source.keySet()), is(source));
+            assertThat(store.getCacheSize(), is(lessThanOrEqualTo(10L)));
+            assertThat(store.getCacheStats().missCount(), is(greaterThan(0L)));
+
+            UUID key = source.keySet().iterator().next();
+            long hits = store.getCacheStats().hitCount();
+            assertThat(store.get(key), is(equalToMessage(source.get(key))));
+            assertThat(store.get(key), is(equalToMessage(source.get(key))));
+            assertThat(store.getCacheStats().hitCount(), is(greaterThan(hits)));
+        }
+    }
 }
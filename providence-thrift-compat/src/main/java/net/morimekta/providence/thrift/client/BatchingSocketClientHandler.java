@@ -0,0 +1,516 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.thrift.client;
+
+import net.morimekta.providence.PApplicationException;
+import net.morimekta.providence.PApplicationExceptionType;
+import net.morimekta.providence.PMessage;
+import net.morimekta.providence.PServiceCall;
+import net.morimekta.providence.PServiceCallHandler;
+import net.morimekta.providence.PServiceCallType;
+import net.morimekta.providence.descriptor.PField;
+import net.morimekta.providence.descriptor.PService;
+import net.morimekta.providence.mio.ServiceCallBatch;
+import net.morimekta.providence.serializer.BinarySerializer;
+import net.morimekta.providence.serializer.Serializer;
+import net.morimekta.providence.thrift.io.FrameOutputStream;
+import net.morimekta.providence.util.ServiceCallInstrumentation;
+import net.morimekta.util.io.BigEndianBinaryReader;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import javax.annotation.Nonnull;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static net.morimekta.providence.util.ServiceCallInstrumentation.NS_IN_MILLIS;
+
+/**
+ * Client handler that coalesces the calls issued within a short time window
+ * into a single batch frame, see {@link ServiceCallBatch}, and sends it to
+ * a server using the TFramedTransport message wrapper that accepts batches,
+ * e.g. the {@link net.morimekta.providence.thrift.server.NonblockingSocketServer}.
+ * <p>
+ * The first call after a batch is sent starts the batch window, and the
+ * batch is sent when the window closes, or as soon as it is full. Only one
+ * batch is in flight at a time, and calls issued while waiting for the
+ * replies are collected into the next batch. This is most useful with the
+ * async calls of the service clients, when issuing many small calls at
+ * once.
+ *
+ * <pre>{@code
+ * BatchingSocketClientHandler handler = BatchingSocketClientHandler.builder()
+ *         .withAddress(new InetSocketAddress("host", 9090))
+ *         .withBatchWindow(2, TimeUnit.MILLISECONDS)
+ *         .build();
+ * MyService.Client client = new MyService.Client(handler);
+ * }</pre>
+ *
+ * When using this client handler make sure to close it when no longer in use.
+ * Otherwise it will keep the socket open almost indefinitely.
+ */
+public class BatchingSocketClientHandler implements PServiceCallHandler, Closeable {
+    public static class Builder {
+        private SocketAddress              address;
+        private Serializer                 serializer;
+        private ServiceCallInstrumentation instrumentation;
+
+        private long batchWindowInMicros = 1000;
+        private int  maxBatchSize        = 256;
+        private int  maxFrameSizeInBytes = 16384000;  // 16M.
+        private int  connectTimeoutInMs  = 10000;
+        private int  readTimeoutInMs     = 10000;
+        private int  responseTimeoutInMs = 30000;
+
+        private Builder() {
+            this.serializer = new BinarySerializer();
+            this.instrumentation = (d, c, r) -> {};
+        }
+
+        public Builder withAddress(@Nonnull SocketAddress address) {
+            this.address = address;
+            return this;
+        }
+
+        public Builder withSerializer(@Nonnull Serializer serializer) {
+            this.serializer = serializer;
+            return this;
+        }
+
+        public Builder withInstrumentation(@Nonnull ServiceCallInstrumentation instrumentation) {
+            this.instrumentation = instrumentation;
+            return this;
+        }
+
+        /**
+         * Set how long to wait for more calls after the first call of a
+         * batch before the batch is sent.
+         *
+         * @param window The batch window.
+         * @param unit The time unit.
+         * @return The builder.
+         */
+        public Builder withBatchWindow(long window, @Nonnull TimeUnit unit) {
+            if (window < 0) {
+                throw new IllegalArgumentException();
+            }
+            this.batchWindowInMicros = unit.toMicros(window);
+            return this;
+        }
+
+        /**
+         * Set the max number of calls in a single batch. The batch is sent
+         * as soon as it is full.
+         *
+         * @param size The max batch size.
+         * @return The builder.
+         */
+        public Builder withMaxBatchSize(int size) {
+            if (size < 1 || size > ServiceCallBatch.MAX_ENTRIES) {
+                throw new IllegalArgumentException();
+            }
+            this.maxBatchSize = size;
+            return this;
+        }
+
+        public Builder withMaxFrameSizeInBytes(int size) {
+            if (size < 1024) {
+                throw new IllegalArgumentException();
+            }
+            this.maxFrameSizeInBytes = size;
+            return this;
+        }
+
+        public Builder withConnectTimeout(int timeoutInMs) {
+            if (timeoutInMs < 0) {
+                throw new IllegalArgumentException();
+            }
+            this.connectTimeoutInMs = timeoutInMs;
+            return this;
+        }
+
+        public Builder withReadTimeout(int timeoutInMs) {
+            if (timeoutInMs < 0) {
+                throw new IllegalArgumentException();
+            }
+            this.readTimeoutInMs = timeoutInMs;
+            return this;
+        }
+
+        /**
+         * Set how long to wait for the whole reply of a batch after it is
+         * sent. Unlike the read timeout, which applies to each read from the
+         * socket, this bounds the total time waiting for the reply frame. If
+         * it passes, all calls of the batch are failed.
+         *
+         * @param timeoutInMs The batch response timeout in milliseconds.
+         * @return The builder.
+         */
+        public Builder withResponseTimeout(int timeoutInMs) {
+            if (timeoutInMs < 1) {
+                throw new IllegalArgumentException();
+            }
+            this.responseTimeoutInMs = timeoutInMs;
+            return this;
+        }
+
+        public BatchingSocketClientHandler build() {
+            if (address == null) {
+                throw new IllegalStateException("No address");
+            }
+            return new BatchingSocketClientHandler(this);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public <Request extends PMessage<Request, RequestField>,
+            Response extends PMessage<Response, ResponseField>,
+            RequestField extends PField,
+            ResponseField extends PField>
+    PServiceCall<Response, ResponseField> handleCall(PServiceCall<Request, RequestField> call, PService service)
+            throws IOException {
+        CompletableFuture<PServiceCall<Response, ResponseField>> future = handleCallAsync(call, service);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new IOException(e.getMessage(), e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Add the call to the current batch. The call is serialized in the
+     * calling thread, but sent when the batch window closes.
+     *
+     * @param call The request call.
+     * @param service The service to be handled.
+     * @param <Request> Request type.
+     * @param <Response> Response type.
+     * @param <RequestField> Request type.
+     * @param <ResponseField> Response type.
+     * @return The future response service call.
+     */
+    @Nonnull
+    @Override
+    @SuppressWarnings("unchecked")
+    public <Request extends PMessage<Request, RequestField>,
+            Response extends PMessage<Response, ResponseField>,
+            RequestField extends PField,
+            ResponseField extends PField>
+    CompletableFuture<PServiceCall<Response, ResponseField>> handleCallAsync(PServiceCall<Request, RequestField> call,
+                                                                             PService service) {
+        long startTime = System.nanoTime();
+        CompletableFuture<PServiceCall> responseFuture = new CompletableFuture<>();
+        try {
+            if (call.getType() == PServiceCallType.EXCEPTION || call.getType() == PServiceCallType.REPLY) {
+                throw new PApplicationException("Request with invalid call type: " + call.getType(),
+                                                PApplicationExceptionType.INVALID_MESSAGE_TYPE);
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            serializer.serialize(out, call);
+            Pending pending = new Pending(call, service, out.toByteArray(), responseFuture);
+
+            synchronized (this) {
+                if (scheduler.isShutdown()) {
+                    throw new IOException("Closed client handler");
+                }
+                batch.add(pending);
+                if (batch.size() >= maxBatchSize) {
+                    scheduler.execute(this::flush);
+                } else if (batch.size() == 1) {
+                    scheduler.schedule(this::flush, batchWindowInMicros, TimeUnit.MICROSECONDS);
+                }
+            }
+        } catch (Exception e) {
+            responseFuture.completeExceptionally(e);
+        }
+
+        return responseFuture.handle((response, e) -> {
+            double duration = ((double) (System.nanoTime() - startTime)) / NS_IN_MILLIS;
+            if (e == null) {
+                try {
+                    instrumentation.onComplete(duration, call, response);
+                } catch (Exception ignore) {}
+                return (PServiceCall<Response, ResponseField>) response;
+            }
+
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof Exception) {
+                try {
+                    instrumentation.onTransportException((Exception) cause, duration, call, null);
+                } catch (Exception ie) {
+                    cause.addSuppressed(ie);
+                }
+            }
+            throw e instanceof CompletionException ? (CompletionException) e : new CompletionException(cause);
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        List<Pending> remaining;
+        synchronized (this) {
+            scheduler.shutdownNow();
+            remaining = batch;
+            batch = new ArrayList<>();
+        }
+        for (Pending pending : remaining) {
+            pending.future.completeExceptionally(new IOException("Closed client handler"));
+        }
+        closeSocket();
+    }
+
+    private static class Pending {
+        final PServiceCall                    call;
+        final PService                        service;
+        final byte[]                          request;
+        final CompletableFuture<PServiceCall> future;
+
+        Pending(PServiceCall call, PService service, byte[] request, CompletableFuture<PServiceCall> future) {
+            this.call = call;
+            this.service = service;
+            this.request = request;
+            this.future = future;
+        }
+    }
+
+    private final SocketAddress              address;
+    private final Serializer                 serializer;
+    private final ServiceCallInstrumentation instrumentation;
+    private final ScheduledExecutorService   scheduler;
+    private final long                       batchWindowInMicros;
+    private final int                        maxBatchSize;
+    private final int                        maxFrameSizeInBytes;
+    private final int                        connectTimeoutInMs;
+    private final int                        readTimeoutInMs;
+    private final int                        responseTimeoutInMs;
+
+    private List<Pending>   batch;
+    // Socket and streams are only used from the scheduler thread.
+    private volatile Socket socket;
+    private InputStream     in;
+    private OutputStream    out;
+    private long            deadline;
+
+    private BatchingSocketClientHandler(Builder builder) {
+        this.address = builder.address;
+        this.serializer = builder.serializer;
+        this.instrumentation = builder.instrumentation;
+        this.batchWindowInMicros = builder.batchWindowInMicros;
+        this.maxBatchSize = builder.maxBatchSize;
+        this.maxFrameSizeInBytes = builder.maxFrameSizeInBytes;
+        this.connectTimeoutInMs = builder.connectTimeoutInMs;
+        this.readTimeoutInMs = builder.readTimeoutInMs;
+        this.responseTimeoutInMs = builder.responseTimeoutInMs;
+        this.batch = new ArrayList<>();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setDaemon(true)
+                                          .setNameFormat("providence-batching-client-%d")
+                                          .build());
+    }
+
+    /**
+     * Send the calls collected so far, and wait for the replies. This is
+     * only called from the scheduler thread, so there is never more than
+     * one batch in flight.
+     */
+    @SuppressWarnings("unchecked")
+    private void flush() {
+        List<Pending> calls;
+        synchronized (this) {
+            if (batch.isEmpty()) {
+                // Already sent with an earlier flush.
+                return;
+            }
+            if (batch.size() > maxBatchSize) {
+                calls = new ArrayList<>(batch.subList(0, maxBatchSize));
+                batch = new ArrayList<>(batch.subList(maxBatchSize, batch.size()));
+                try {
+                    scheduler.execute(this::flush);
+                } catch (RejectedExecutionException e) {
+                    // Closed, and the remaining calls are failed by close().
+                }
+            } else {
+                calls = batch;
+                batch = new ArrayList<>();
+            }
+        }
+
+        try {
+            List<byte[]> requests = new ArrayList<>(calls.size());
+            for (Pending pending : calls) {
+                requests.add(pending.request);
+            }
+            FrameOutputStream frame = new FrameOutputStream();
+            ServiceCallBatch.write(frame, requests);
+            if (frame.frameSize() > maxFrameSizeInBytes) {
+                throw new IOException("Frame size exceeded: " + frame.frameSize() + " > " + maxFrameSizeInBytes);
+            }
+
+            List<byte[]> replies = send(frame.toFrame());
+            if (replies.size() != calls.size()) {
+                throw new PApplicationException("Batch reply size mismatch: " + replies.size() + " != " + calls.size(),
+                                                PApplicationExceptionType.PROTOCOL_ERROR);
+            }
+
+            for (int i = 0; i < calls.size(); ++i) {
+                Pending pending = calls.get(i);
+                if (pending.call.getType() == PServiceCallType.ONEWAY) {
+                    pending.future.complete(null);
+                    continue;
+                }
+                try {
+                    PServiceCall reply = serializer.deserialize(new ByteArrayInputStream(replies.get(i)),
+                                                                pending.service);
+                    if (reply.getType() == PServiceCallType.CALL || reply.getType() == PServiceCallType.ONEWAY) {
+                        throw new PApplicationException("Reply with invalid call type: " + reply.getType(),
+                                                        PApplicationExceptionType.INVALID_MESSAGE_TYPE);
+                    }
+                    if (reply.getSequence() != pending.call.getSequence()) {
+                        throw new PApplicationException("Reply sequence out of order: call = " + pending.call.getSequence() + ", reply = " + reply.getSequence(),
+                                                        PApplicationExceptionType.BAD_SEQUENCE_ID);
+                    }
+                    pending.future.complete(reply);
+                } catch (IOException e) {
+                    pending.future.completeExceptionally(e);
+                }
+            }
+        } catch (IOException e) {
+            closeSocket();
+            for (Pending pending : calls) {
+                pending.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private List<byte[]> send(ByteBuffer frame) throws IOException {
+        if (socket == null) {
+            Socket socket = new Socket();
+            socket.setSoLinger(false, 0);
+            socket.setTcpNoDelay(true);
+            socket.setKeepAlive(true);
+            socket.setSoTimeout(readTimeoutInMs);
+            socket.connect(address, connectTimeoutInMs);
+
+            this.socket = socket;
+            this.in = new BufferedInputStream(new DeadlineInputStream(socket));
+            this.out = new BufferedOutputStream(socket.getOutputStream());
+        }
+
+        out.write(frame.array(), frame.position(), frame.remaining());
+        out.flush();
+        deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(responseTimeoutInMs);
+
+        BigEndianBinaryReader reader = new BigEndianBinaryReader(in);
+        int frameSize = reader.expectInt();
+        if (frameSize < 1 || frameSize > maxFrameSizeInBytes) {
+            throw new IOException("Invalid reply frame size: " + frameSize);
+        }
+        return ServiceCallBatch.read(new ByteArrayInputStream(reader.expectBytes(frameSize)));
+    }
+
+    /**
+     * Socket input stream that fails reads past the response deadline of
+     * the current batch, and lowers the socket timeout of each read so it
+     * does not block past it.
+     */
+    private class DeadlineInputStream extends FilterInputStream {
+        private final Socket socket;
+
+        DeadlineInputStream(Socket socket) throws IOException {
+            super(socket.getInputStream());
+            this.socket = socket;
+        }
+
+        @Override
+        public int read() throws IOException {
+            updateTimeout();
+            return super.read();
+        }
+
+        @Override
+        public int read(@Nonnull byte[] b, int off, int len) throws IOException {
+            updateTimeout();
+            return super.read(b, off, len);
+        }
+
+        private void updateTimeout() throws IOException {
+            long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMs < 1) {
+                throw new SocketTimeoutException("Batch response timed out after " + responseTimeoutInMs + "ms");
+            }
+            if (readTimeoutInMs > 0 && readTimeoutInMs < remainingMs) {
+                socket.setSoTimeout(readTimeoutInMs);
+            } else {
+                socket.setSoTimeout((int) remainingMs);
+            }
+        }
+    }
+
+    private void closeSocket() {
+        Socket socket = this.socket;
+        this.socket = null;
+        this.in = null;
+        this.out = null;
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException ignore) {
+                // Ignore.
+            }
+        }
+    }
+}
@@ -29,27 +29,35 @@ import net.morimekta.providence.PServiceCallType;
 import net.morimekta.providence.descriptor.PField;
 import net.morimekta.providence.descriptor.PService;
 import net.morimekta.providence.serializer.Serializer;
+import net.morimekta.providence.thrift.io.FrameOutputStream;
 import net.morimekta.providence.thrift.io.FramedBufferInputStream;
-import net.morimekta.providence.thrift.io.FramedBufferOutputStream;
 import net.morimekta.providence.util.ServiceCallInstrumentation;
+import net.morimekta.providence.util.ServiceCallInstrumentation.Phase;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nonnull;
 import java.io.Closeable;
 import java.io.IOException;
-import java.io.OutputStream;
+import java.io.PushbackInputStream;
 import java.net.Socket;
 import java.net.SocketAddress;
+import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static net.morimekta.providence.util.ServiceCallInstrumentation.NS_IN_MILLIS;
 
@@ -63,6 +71,10 @@ import static net.morimekta.providence.util.ServiceCallInstrumentation.NS_IN_MIL
  * sequence IDs on incoming service calls, otherwise there will be trouble with
  * matching responses to the requesting thread.
  *
+ * Calls can be made asynchronously with {@link #handleCallAsync(PServiceCall, PService)},
+ * which does not wait for the response. One connection can carry any number of
+ * calls in flight without a thread per call.
+ *
  * When using this client handler make sure to close it when no longer in use.
  * Otherwise it will keep the socket channel open almost indefinitely.
  */
@@ -80,7 +92,6 @@ public class NonblockingSocketClientHandler implements PServiceCallHandler, Clos
     private final ServiceCallInstrumentation                    instrumentation;
 
     private volatile SocketChannel channel;
-    private volatile FramedBufferOutputStream out;
 
     public NonblockingSocketClientHandler(Serializer serializer, SocketAddress address) {
         this(serializer, address, (d, c, r) -> {});
@@ -150,105 +161,198 @@ public class NonblockingSocketClientHandler implements PServiceCallHandler, Clos
             socket.setSoTimeout(read_timeout);
             socket.connect(address, connect_timeout);
 
-            out = new FramedBufferOutputStream(channel);
             responseExecutor.submit(() -> this.handleReadResponses(channel, service));
         }
     }
 
+    /**
+     * @return True if the handler has an open and connected channel.
+     */
+    public boolean isConnected() {
+        SocketChannel current = channel;
+        return current != null && current.isConnected();
+    }
+
+    /**
+     * Connect the channel if not already connected, without making a call.
+     * A stale channel is closed before re-connecting. This is done under
+     * the same lock as writing calls, so a connected channel is never
+     * closed here.
+     *
+     * @param service The service to read responses for.
+     * @throws IOException If unable to connect.
+     */
+    synchronized void connect(PService service) throws IOException {
+        ensureConnected(service);
+    }
+
     @Override
     public synchronized void close() throws IOException {
         if (channel != null) {
-            try (SocketChannel ignore1 = channel;
-                 OutputStream ignore2 = out) {
+            try (SocketChannel ignore = channel) {
                 channel = null;
-                out = null;
             }
         }
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <Request extends PMessage<Request, RequestField>,
             Response extends PMessage<Response, ResponseField>,
             RequestField extends PField,
             ResponseField extends PField>
     PServiceCall<Response, ResponseField> handleCall(PServiceCall<Request, RequestField> call, PService service)
             throws IOException {
-        if (call.getType() == PServiceCallType.EXCEPTION || call.getType() == PServiceCallType.REPLY) {
-            throw new PApplicationException("Request with invalid call type: " + call.getType(),
-                                            PApplicationExceptionType.INVALID_MESSAGE_TYPE);
+        CompletableFuture<PServiceCall<Response, ResponseField>> future = handleCallAsync(call, service);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new IOException(e.getMessage(), e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause.getMessage(), cause);
         }
+    }
 
+    /**
+     * Handle the call asynchronously. The request is written to the channel
+     * in the calling thread, but the response is not waited for. Any number
+     * of calls can be in flight on the same connection, and the responses
+     * are matched to the calls by sequence ID.
+     *
+     * @param call The request call.
+     * @param service The service to be handled.
+     * @param <Request> Request type.
+     * @param <Response> Response type.
+     * @param <RequestField> Request type.
+     * @param <ResponseField> Response type.
+     * @return The future response service call.
+     */
+    @Nonnull
+    @Override
+    @SuppressWarnings("unchecked")
+    public <Request extends PMessage<Request, RequestField>,
+            Response extends PMessage<Response, ResponseField>,
+            RequestField extends PField,
+            ResponseField extends PField>
+    CompletableFuture<PServiceCall<Response, ResponseField>> handleCallAsync(PServiceCall<Request, RequestField> call,
+                                                                             PService service) {
         long startTime = System.nanoTime();
-        PServiceCall<Response, ResponseField> response = null;
-        CompletableFuture<PServiceCall> responseFuture = null;
-        if (call.getType() == PServiceCallType.CALL) {
-            responseFuture = new CompletableFuture<>();
-            // Each sequence No must be unique for the client, otherwise this will be messed up.
-            responseFutures.put(call.getSequence(), responseFuture);
-        }
-
+        AtomicLong writtenTime = new AtomicLong(startTime);
+        CompletableFuture<PServiceCall> responseFuture = new CompletableFuture<>();
         try {
-            synchronized (this) {
-                try {
-                    ensureConnected(service);
-                    if (out == null) {
-                        throw new IOException("Closed channel");
-                    }
-                    serializer.serialize(out, call);
-                    out.flush();
-                } finally {
-                    if (out != null) {
-                        out.completeFrame();
-                    }
-                }
+            if (call.getType() == PServiceCallType.EXCEPTION || call.getType() == PServiceCallType.REPLY) {
+                throw new PApplicationException("Request with invalid call type: " + call.getType(),
+                                                PApplicationExceptionType.INVALID_MESSAGE_TYPE);
             }
+            try {
+                instrumentation.onStart(call);
+            } catch (Exception ignore) {}
 
-            if (responseFuture != null) {
-                try {
-                    if (response_timeout > 0) {
-                        response = (PServiceCall<Response, ResponseField>) responseFuture.get(response_timeout, TimeUnit.MILLISECONDS);
-                    } else {
-                        response = (PServiceCall<Response, ResponseField>) responseFuture.get();
-                    }
+            // Serialize outside the lock, so only the actual write is serialized
+            // between calls.
+            FrameOutputStream frame = new FrameOutputStream();
+            serializer.serialize(frame, call);
+            long writeStartTime = System.nanoTime();
+            onPhase(Phase.SERIALIZE, startTime, writeStartTime, call);
+            try {
+                instrumentation.onMessageSize(call, frame.frameSize());
+            } catch (Exception ignore) {}
+
+            if (call.getType() == PServiceCallType.CALL) {
+                // Each sequence No must be unique for the client, otherwise this will be messed up.
+                responseFutures.put(call.getSequence(), responseFuture);
+            }
+            try {
+                write(frame.toFrame(), service);
+            } catch (IOException e) {
+                responseFutures.remove(call.getSequence(), responseFuture);
+                throw e;
+            }
+            writtenTime.set(System.nanoTime());
+            onPhase(Phase.WRITE, writeStartTime, writtenTime.get(), call);
 
-                    long endTime = System.nanoTime();
-                    double duration = ((double) (endTime - startTime)) / NS_IN_MILLIS;
-                    try {
-                        instrumentation.onComplete(duration, call, response);
-                    } catch (Exception ignore) {}
-
-                    return response;
-                } catch (TimeoutException | InterruptedException e) {
-                    responseFuture.completeExceptionally(e);
-                    throw new IOException(e.getMessage(), e);
-                } catch (ExecutionException e) {
-                    throw new IOException(e.getMessage(), e);
-                } finally {
-                    responseFutures.remove(call.getSequence());
+            if (call.getType() == PServiceCallType.CALL) {
+                if (response_timeout > 0) {
+                    ScheduledFuture<?> timeout = TimeoutScheduler.INSTANCE.schedule(
+                            () -> responseFuture.completeExceptionally(
+                                    new TimeoutException("No response after " + response_timeout + "ms")),
+                            response_timeout, TimeUnit.MILLISECONDS);
+                    responseFuture.whenComplete((r, e) -> timeout.cancel(false));
                 }
+                responseFuture.whenComplete((r, e) -> responseFutures.remove(call.getSequence(), responseFuture));
+            } else {
+                responseFuture.complete(null);
             }
         } catch (Exception e) {
+            responseFuture.completeExceptionally(e);
+        }
+
+        return responseFuture.handle((response, e) -> {
             long endTime = System.nanoTime();
             double duration = ((double) (endTime - startTime)) / NS_IN_MILLIS;
-            try {
-                instrumentation.onTransportException(e, duration, call, response);
-            } catch (Exception ie) {
-                e.addSuppressed(ie);
+            if (e == null) {
+                try {
+                    if (response != null) {
+                        // The time waiting for the reply.
+                        onPhase(Phase.HANDLE, writtenTime.get(), endTime, call);
+                    }
+                    instrumentation.onComplete(duration, call, response);
+                } catch (Exception ignore) {}
+                return (PServiceCall<Response, ResponseField>) response;
             }
 
-            throw e;
-        }
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof Exception) {
+                try {
+                    instrumentation.onTransportException((Exception) cause, duration, call, null);
+                } catch (Exception ie) {
+                    cause.addSuppressed(ie);
+                }
+            }
+            throw e instanceof CompletionException ? (CompletionException) e : new CompletionException(cause);
+        });
+    }
+
+    private void onPhase(Phase phase, long startTime, long endTime, PServiceCall call) {
+        try {
+            instrumentation.onPhase(phase, ((double) (endTime - startTime)) / NS_IN_MILLIS, call);
+        } catch (Exception ignore) {}
+    }
 
-        return null;
+    private synchronized void write(ByteBuffer frame, PService service) throws IOException {
+        ensureConnected(service);
+        if (channel == null) {
+            throw new IOException("Closed channel");
+        }
+        while (frame.hasRemaining()) {
+            channel.write(frame);
+        }
     }
 
     private void handleReadResponses(SocketChannel channel, PService service) {
+        FramedBufferInputStream in = new FramedBufferInputStream(channel);
         while (this.channel == channel && channel.isOpen()) {
-            FramedBufferInputStream in = new FramedBufferInputStream(channel);
             try {
                 in.nextFrame();
-                PServiceCall reply = serializer.deserialize(in, service);
+                PushbackInputStream frame = new PushbackInputStream(in, 1);
+                int first = frame.read();
+                if (first < 0) {
+                    // The server closed the connection.
+                    channel.close();
+                    break;
+                }
+                frame.unread(first);
+                long deserializeStartTime = System.nanoTime();
+                PServiceCall reply = serializer.deserialize(frame, service);
+                onPhase(Phase.DESERIALIZE, deserializeStartTime, System.nanoTime(), reply);
 
                 if (reply.getType() == PServiceCallType.CALL || reply.getType() == PServiceCallType.ONEWAY) {
                     throw new PApplicationException("Reply with invalid call type: " + reply.getType(),
@@ -279,4 +383,12 @@ public class NonblockingSocketClientHandler implements PServiceCallHandler, Clos
             responseFutures.clear();
         }
     }
+
+    private static class TimeoutScheduler {
+        private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder()
+                        .setDaemon(true)
+                        .setNameFormat("providence-nonblocking-client-timeout")
+                        .build());
+    }
 }
@@ -0,0 +1,474 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.thrift.client;
+
+import net.morimekta.providence.PMessage;
+import net.morimekta.providence.PServiceCall;
+import net.morimekta.providence.PServiceCallHandler;
+import net.morimekta.providence.descriptor.PField;
+import net.morimekta.providence.descriptor.PService;
+import net.morimekta.providence.serializer.BinarySerializer;
+import net.morimekta.providence.serializer.Serializer;
+import net.morimekta.providence.util.ServiceCallInstrumentation;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Client handler that keeps a pool of connections to one or more servers
+ * using the TFramedTransport message wrapper, e.g. the TNonblockingServer
+ * or the {@link net.morimekta.providence.thrift.server.NonblockingSocketServer}.
+ * Each connection is a {@link NonblockingSocketClientHandler}, so every
+ * connection can carry any number of calls in flight.
+ * <p>
+ * For each call an address is selected according to the {@link Selection}
+ * strategy, and then the connection to that address with the fewest calls
+ * in flight. Spreading the calls over several connections avoids that a
+ * single slow response holds back every other call on the same stream.
+ * <p>
+ * Connections that fail or are closed by the server are marked as down,
+ * and are not selected while other connections are available. A background
+ * task re-dials connections that are not connected. Note that the pool
+ * only knows which service to read responses for after the first call, so
+ * connections are not dialed before that.
+ *
+ * <pre>{@code
+ * PooledSocketClientHandler handler = PooledSocketClientHandler.builder()
+ *         .withAddress(new InetSocketAddress("host1", 9090))
+ *         .withAddress(new InetSocketAddress("host2", 9090))
+ *         .withConnectionsPerAddress(4)
+ *         .withSelection(PooledSocketClientHandler.Selection.POWER_OF_TWO_CHOICES)
+ *         .build();
+ * MyService.Iface client = new MyService.Client(handler);
+ * }</pre>
+ *
+ * When using this client handler make sure to close it when no longer in use.
+ * Otherwise it will keep the socket channels open almost indefinitely.
+ */
+public class PooledSocketClientHandler implements PServiceCallHandler, Closeable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PooledSocketClientHandler.class);
+
+    /**
+     * How to select the address to send a call to.
+     */
+    public enum Selection {
+        /**
+         * Go through the addresses in order.
+         */
+        ROUND_ROBIN,
+        /**
+         * Pick two addresses at random, and use the one with the fewest
+         * calls in flight.
+         */
+        POWER_OF_TWO_CHOICES,
+    }
+
+    public static class Builder {
+        private final List<SocketAddress> addresses;
+
+        private Serializer                 serializer;
+        private ServiceCallInstrumentation instrumentation;
+        private Selection                  selection;
+
+        private int  connectionsPerAddress = 2;
+        private int  connectTimeoutInMs    = 10000;
+        private int  readTimeoutInMs       = 10000;
+        private int  responseTimeoutInMs   = 30000;
+        private long healthCheckIntervalInMs = 1000;
+
+        private Builder() {
+            this.addresses = new ArrayList<>();
+            this.serializer = new BinarySerializer();
+            this.instrumentation = (d, c, r) -> {};
+            this.selection = Selection.ROUND_ROBIN;
+        }
+
+        public Builder withAddress(@Nonnull SocketAddress address) {
+            this.addresses.add(address);
+            return this;
+        }
+
+        public Builder withSerializer(@Nonnull Serializer serializer) {
+            this.serializer = serializer;
+            return this;
+        }
+
+        public Builder withInstrumentation(@Nonnull ServiceCallInstrumentation instrumentation) {
+            this.instrumentation = instrumentation;
+            return this;
+        }
+
+        public Builder withSelection(@Nonnull Selection selection) {
+            this.selection = selection;
+            return this;
+        }
+
+        /**
+         * Set the number of connections to keep to each address.
+         *
+         * @param num The number of connections.
+         * @return The builder.
+         */
+        public Builder withConnectionsPerAddress(int num) {
+            if (num < 1) {
+                throw new IllegalArgumentException();
+            }
+            this.connectionsPerAddress = num;
+            return this;
+        }
+
+        public Builder withConnectTimeout(int timeoutInMs) {
+            if (timeoutInMs < 0) {
+                throw new IllegalArgumentException();
+            }
+            this.connectTimeoutInMs = timeoutInMs;
+            return this;
+        }
+
+        public Builder withReadTimeout(int timeoutInMs) {
+            if (timeoutInMs < 0) {
+                throw new IllegalArgumentException();
+            }
+            this.readTimeoutInMs = timeoutInMs;
+            return this;
+        }
+
+        /**
+         * Set how long to wait for a response before the call fails. Zero
+         * means to wait indefinitely.
+         *
+         * @param timeoutInMs The response timeout.
+         * @return The builder.
+         */
+        public Builder withResponseTimeout(int timeoutInMs) {
+            if (timeoutInMs < 0) {
+                throw new IllegalArgumentException();
+            }
+            this.responseTimeoutInMs = timeoutInMs;
+            return this;
+        }
+
+        /**
+         * Set how often to look for and re-dial dead connections.
+         *
+         * @param interval The check interval.
+         * @param unit The time unit.
+         * @return The builder.
+         */
+        public Builder withHealthCheckInterval(long interval, @Nonnull TimeUnit unit) {
+            if (interval < 1) {
+                throw new IllegalArgumentException();
+            }
+            this.healthCheckIntervalInMs = unit.toMillis(interval);
+            return this;
+        }
+
+        public PooledSocketClientHandler build() {
+            if (addresses.isEmpty()) {
+                throw new IllegalStateException("No addresses");
+            }
+            return new PooledSocketClientHandler(this);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return The number of pooled connections that are connected.
+     */
+    public int getNumConnected() {
+        int num = 0;
+        for (Endpoint endpoint : endpoints) {
+            for (Connection connection : endpoint.connections) {
+                if (connection.handler.isConnected()) {
+                    ++num;
+                }
+            }
+        }
+        return num;
+    }
+
+    /**
+     * @return The number of calls currently in flight.
+     */
+    public int getNumInFlight() {
+        int num = 0;
+        for (Endpoint endpoint : endpoints) {
+            num += endpoint.inFlight();
+        }
+        return num;
+    }
+
+    @Override
+    public <Request extends PMessage<Request, RequestField>,
+            Response extends PMessage<Response, ResponseField>,
+            RequestField extends PField,
+            ResponseField extends PField>
+    PServiceCall<Response, ResponseField> handleCall(PServiceCall<Request, RequestField> call, PService service)
+            throws IOException {
+        this.service = service;
+        Connection connection = select();
+        connection.inFlight.incrementAndGet();
+        try {
+            PServiceCall<Response, ResponseField> response = connection.handler.handleCall(call, service);
+            connection.down = false;
+            return response;
+        } catch (IOException e) {
+            connection.checkDown();
+            throw e;
+        } finally {
+            connection.inFlight.decrementAndGet();
+        }
+    }
+
+    @Nonnull
+    @Override
+    public <Request extends PMessage<Request, RequestField>,
+            Response extends PMessage<Response, ResponseField>,
+            RequestField extends PField,
+            ResponseField extends PField>
+    CompletableFuture<PServiceCall<Response, ResponseField>> handleCallAsync(PServiceCall<Request, RequestField> call,
+                                                                             PService service) {
+        this.service = service;
+        Connection connection = select();
+        connection.inFlight.incrementAndGet();
+        CompletableFuture<PServiceCall<Response, ResponseField>> future =
+                connection.handler.handleCallAsync(call, service);
+        return future.whenComplete((response, e) -> {
+            connection.inFlight.decrementAndGet();
+            if (e != null) {
+                connection.checkDown();
+            } else {
+                connection.down = false;
+            }
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        healthCheckExecutor.shutdownNow();
+        IOException ex = null;
+        for (Endpoint endpoint : endpoints) {
+            for (Connection connection : endpoint.connections) {
+                try {
+                    connection.handler.close();
+                } catch (IOException e) {
+                    if (ex == null) {
+                        ex = e;
+                    } else {
+                        ex.addSuppressed(e);
+                    }
+                }
+            }
+        }
+        if (ex != null) {
+            throw ex;
+        }
+    }
+
+    private static class Connection {
+        private final NonblockingSocketClientHandler handler;
+        private final AtomicInteger                  inFlight;
+
+        private volatile boolean down;
+
+        private Connection(NonblockingSocketClientHandler handler) {
+            this.handler = handler;
+            this.inFlight = new AtomicInteger();
+        }
+
+        private void checkDown() {
+            if (!handler.isConnected()) {
+                down = true;
+            }
+        }
+    }
+
+    private static class Endpoint {
+        private final SocketAddress address;
+        private final Connection[]  connections;
+
+        private Endpoint(SocketAddress address, Connection[] connections) {
+            this.address = address;
+            this.connections = connections;
+        }
+
+        private boolean isUp() {
+            for (Connection connection : connections) {
+                if (!connection.down) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private int inFlight() {
+            int num = 0;
+            for (Connection connection : connections) {
+                num += connection.inFlight.get();
+            }
+            return num;
+        }
+
+        /**
+         * @return The connection with the fewest calls in flight, preferring
+         *         connections that are not down.
+         */
+        private Connection leastLoaded() {
+            Connection best = null;
+            for (Connection connection : connections) {
+                if (best == null ||
+                    (best.down && !connection.down) ||
+                    (best.down == connection.down && connection.inFlight.get() < best.inFlight.get())) {
+                    best = connection;
+                }
+            }
+            return best;
+        }
+    }
+
+    private final Endpoint[]               endpoints;
+    private final Selection                selection;
+    private final AtomicInteger            nextEndpoint;
+    private final ScheduledExecutorService healthCheckExecutor;
+
+    private volatile PService service;
+
+    private PooledSocketClientHandler(Builder builder) {
+        this.selection = builder.selection;
+        this.nextEndpoint = new AtomicInteger();
+        this.endpoints = new Endpoint[builder.addresses.size()];
+        for (int i = 0; i < endpoints.length; ++i) {
+            SocketAddress address = builder.addresses.get(i);
+            Connection[] connections = new Connection[builder.connectionsPerAddress];
+            for (int c = 0; c < connections.length; ++c) {
+                connections[c] = new Connection(new NonblockingSocketClientHandler(
+                        builder.serializer,
+                        address,
+                        builder.instrumentation,
+                        builder.connectTimeoutInMs,
+                        builder.readTimeoutInMs,
+                        builder.responseTimeoutInMs));
+            }
+            endpoints[i] = new Endpoint(address, connections);
+        }
+
+        this.healthCheckExecutor = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder()
+                        .setDaemon(true)
+                        .setNameFormat("providence-pooled-client-health-%d")
+                        .build());
+        this.healthCheckExecutor.scheduleWithFixedDelay(this::checkConnections,
+                                                        builder.healthCheckIntervalInMs,
+                                                        builder.healthCheckIntervalInMs,
+                                                        TimeUnit.MILLISECONDS);
+    }
+
+    private Connection select() {
+        return selectEndpoint().leastLoaded();
+    }
+
+    private Endpoint selectEndpoint() {
+        if (endpoints.length == 1) {
+            return endpoints[0];
+        }
+        if (selection == Selection.POWER_OF_TWO_CHOICES) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            Endpoint a = endpoints[random.nextInt(endpoints.length)];
+            Endpoint b = endpoints[random.nextInt(endpoints.length)];
+            if (a == b) {
+                b = endpoints[(indexOf(a) + 1 + random.nextInt(endpoints.length - 1)) % endpoints.length];
+            }
+            if (a.isUp() != b.isUp()) {
+                return a.isUp() ? a : b;
+            }
+            return a.inFlight() <= b.inFlight() ? a : b;
+        }
+
+        int start = Math.floorMod(nextEndpoint.getAndIncrement(), endpoints.length);
+        for (int i = 0; i < endpoints.length; ++i) {
+            Endpoint endpoint = endpoints[(start + i) % endpoints.length];
+            if (endpoint.isUp()) {
+                return endpoint;
+            }
+        }
+        // When everything is down, just try the next one in line.
+        return endpoints[start];
+    }
+
+    private int indexOf(Endpoint endpoint) {
+        for (int i = 0; i < endpoints.length; ++i) {
+            if (endpoints[i] == endpoint) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Evict connections that are no longer connected, and re-dial them. The
+     * connected check and re-dial is done under the handler lock used when
+     * writing calls, so a connection that was re-established by a call in
+     * the meantime is not closed.
+     */
+    private void checkConnections() {
+        PService current = service;
+        if (current == null) {
+            // No call made yet, so nothing to connect for.
+            return;
+        }
+        for (Endpoint endpoint : endpoints) {
+            for (Connection connection : endpoint.connections) {
+                if (connection.handler.isConnected()) {
+                    continue;
+                }
+                try {
+                    connection.handler.connect(current);
+                    connection.down = false;
+                } catch (IOException e) {
+                    if (!connection.down) {
+                        LOGGER.warn("Unable to connect to {}: {}", endpoint.address, e.getMessage());
+                    }
+                    connection.down = true;
+                } catch (RuntimeException e) {
+                    LOGGER.error("Exception when connecting to {}", endpoint.address, e);
+                    connection.down = true;
+                }
+            }
+        }
+    }
+}
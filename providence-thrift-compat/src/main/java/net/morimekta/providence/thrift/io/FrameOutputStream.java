@@ -0,0 +1,62 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.thrift.io;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Output stream for building a single frame similar to the thrift
+ * TFramedTransport. The first 4 bytes are reserved for the frame size, so
+ * the complete frame can be written without copying the content. Unlike
+ * the {@link FramedBufferOutputStream}, this is not bound to a channel,
+ * so frames can be built in any thread and written later.
+ */
+public class FrameOutputStream extends ByteArrayOutputStream {
+    public FrameOutputStream() {
+        super(1024);
+        count = Integer.BYTES;
+    }
+
+    /**
+     * @return The frame size, excluding the 4 byte size prefix.
+     */
+    public int frameSize() {
+        return count - Integer.BYTES;
+    }
+
+    /**
+     * Get the complete frame including the size prefix. The returned buffer
+     * shares content with the stream.
+     *
+     * @return The frame buffer.
+     */
+    public ByteBuffer toFrame() {
+        ByteBuffer frame = ByteBuffer.wrap(buf, 0, count);
+        frame.putInt(0, frameSize());
+        return frame;
+    }
+
+    @Override
+    public synchronized void reset() {
+        count = Integer.BYTES;
+    }
+}
@@ -24,11 +24,15 @@ import net.morimekta.providence.PApplicationExceptionType;
 import net.morimekta.providence.PProcessor;
 import net.morimekta.providence.PServiceCall;
 import net.morimekta.providence.PServiceCallType;
+import net.morimekta.providence.mio.ServiceCallBatch;
 import net.morimekta.providence.serializer.BinarySerializer;
 import net.morimekta.providence.serializer.Serializer;
-import net.morimekta.providence.thrift.io.FramedBufferOutputStream;
+import net.morimekta.providence.server.ConcurrencyLimiter;
+import net.morimekta.providence.server.DefaultProcessorHandler;
+import net.morimekta.providence.server.WrappedProcessor;
+import net.morimekta.providence.thrift.io.FrameOutputStream;
 import net.morimekta.providence.util.ServiceCallInstrumentation;
-import net.morimekta.util.io.BigEndianBinaryReader;
+import net.morimekta.providence.util.ServiceCallInstrumentation.Phase;
 import net.morimekta.util.io.ByteBufferInputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,17 +47,46 @@ import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Based heavily on <code>org.apache.thrift.transport.TNonblockingServerTransport</code>
  * and meant to be a providence replacement for it.
+ * <p>
+ * The server uses one acceptor thread, which hands accepted connections
+ * round-robin to a number of reactor threads. Each reactor owns a selector
+ * and handles reading and writing of frames for its connections. Calls are
+ * handled in a separate pool of worker threads, which also deserialize the
+ * request frames and serialize the response frames, so the reactors only
+ * move bytes. Pending responses on a connection are written together with
+ * gathering writes.
+ * <p>
+ * A frame may also contain a batch of calls, see {@link ServiceCallBatch}.
+ * The calls of a batch are handled in parallel in the worker pool, and the
+ * replies are sent back in a single batch frame when all the calls have
+ * completed.
+ * <p>
+ * Each frame must get a permit from the {@link ConcurrencyLimiter} for each
+ * of its calls before it is queued for the workers. If not, the calls in the
+ * frame are rejected right away, so the work queued can not grow without
+ * bounds when the server is overloaded. The rejections are replied to from
+ * a single thread with a small bounded queue of its own, so the reactor
+ * threads never deserialize calls, and the rejections do not queue up
+ * behind the calls in the worker pool. If that queue is full too, the
+ * connection is closed instead.
  */
 public class NonblockingSocketServer implements AutoCloseable {
     public static class Builder {
@@ -65,10 +98,14 @@ public class NonblockingSocketServer implements AutoCloseable {
         private int readTimeoutInMs     = 60000;  // 60 seconds
         private int backlog             = 50;
         private int workerThreads       = 10;
+        private int reactorThreads      = 1;
 
         private ThreadFactory receiverThreadFactory;
         private ThreadFactory workerThreadFactory;
         private Serializer    serializer;
+        private boolean       virtualThreads;
+
+        private ConcurrencyLimiter concurrencyLimiter;
 
         public Builder(@Nonnull PProcessor processor) {
             this.processor = processor;
@@ -131,6 +168,23 @@ public class NonblockingSocketServer implements AutoCloseable {
             return this;
         }
 
+        /**
+         * Set the number of reactor threads, each with its own selector. The
+         * accepted connections are distributed round-robin between the
+         * reactors.
+         *
+         * @param numThreads The number of reactor threads.
+         * @return The builder.
+         */
+        public Builder withReactorThreads(int numThreads) {
+            if (numThreads < 1) {
+                throw new IllegalArgumentException();
+            }
+
+            this.reactorThreads = numThreads;
+            return this;
+        }
+
         public Builder withWorkerThreadFactory(ThreadFactory factory) {
             this.workerThreadFactory = factory;
             return this;
@@ -146,6 +200,37 @@ public class NonblockingSocketServer implements AutoCloseable {
             return this;
         }
 
+        /**
+         * Handle the calls on virtual threads if the runtime supports them
+         * (Java 21 and later), with one virtual thread per call and no limit
+         * on the number of calls handled at the same time. This lets blocking
+         * processors handle many concurrent calls without tuning the number
+         * of worker threads. Otherwise the calls are handled in the pool of
+         * worker threads as usual. The reactor threads are never virtual.
+         *
+         * @param virtualThreads If virtual threads should be used.
+         * @return The builder.
+         */
+        public Builder withVirtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+            return this;
+        }
+
+        /**
+         * Limit the number of calls being handled or waiting for a worker.
+         * Calls over the limit are rejected with an exception reply, and a
+         * batch is rejected as a whole if there are not permits for all its
+         * calls. The
+         * default is to not limit the calls.
+         *
+         * @param limiter The concurrency limiter.
+         * @return The builder.
+         */
+        public Builder withConcurrencyLimiter(@Nonnull ConcurrencyLimiter limiter) {
+            this.concurrencyLimiter = limiter;
+            return this;
+        }
+
         public NonblockingSocketServer start() {
             return new NonblockingSocketServer(this);
         }
@@ -161,15 +246,28 @@ public class NonblockingSocketServer implements AutoCloseable {
         return serverSocket.getLocalPort();
     }
 
+    /**
+     * @return True if the calls are handled on virtual threads.
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
     public void close() throws IOException {
         receiverExecutor.shutdown();
         workerExecutor.shutdown();
+        rejectExecutor.shutdown();
         try {
             // this should trigger exception in the accept task.
             serverSocket.close();
         } catch (IOException e) {
             e.printStackTrace();
         } finally {
+            // And make the selectors notice the closed server socket.
+            acceptSelector.wakeup();
+            for (Reactor reactor : reactors) {
+                reactor.selector.wakeup();
+            }
             try {
                 workerExecutor.awaitTermination(10, TimeUnit.MILLISECONDS);
             } catch (InterruptedException e) {
@@ -183,32 +281,52 @@ public class NonblockingSocketServer implements AutoCloseable {
             // really really try to kill it now.
             receiverExecutor.shutdownNow();
             workerExecutor.shutdownNow();
+            rejectExecutor.shutdownNow();
         }
     }
 
     private final static Logger LOGGER       = LoggerFactory.getLogger(NonblockingSocketServer.class);
     private final static long   NS_IN_MILLIS = ServiceCallInstrumentation.NS_IN_MILLIS;
+    // Max number of responses written with a single gathering write.
+    private final static int    MAX_GATHERED_WRITES = 64;
+    // Max number of rejected frames waiting to be replied to.
+    private final static int    MAX_QUEUED_REJECTIONS = 64;
 
-    private final Selector               selector;
+    private final Selector               acceptSelector;
+    private final Reactor[]              reactors;
     private final PProcessor             processor;
+    private final PProcessor             rejectingProcessor;
+    private final ConcurrencyLimiter     concurrencyLimiter;
     private final Serializer             serializer;
     private final ServiceCallInstrumentation instrumentation;
     private final ServerSocketChannel    serverSocketChannel;
     private final ServerSocket           serverSocket;
     private final ExecutorService        receiverExecutor;
     private final ExecutorService        workerExecutor;
+    private final ExecutorService        rejectExecutor;
+    private final boolean                virtualThreads;
     private final int                    maxFrameSizeInBytes;
 
+    private int nextReactor;
+
     private NonblockingSocketServer(Builder builder) {
         try {
             maxFrameSizeInBytes = builder.maxFrameSizeInBytes;
 
             serializer = builder.serializer;
             processor = builder.processor;
+            rejectingProcessor = new WrappedProcessor(processor, (c, p) -> ConcurrencyLimiter.rejectedReply(c));
+            concurrencyLimiter = builder.concurrencyLimiter != null
+                                 ? builder.concurrencyLimiter
+                                 : ConcurrencyLimiter.unlimited();
             instrumentation = builder.instrumentation != null
                               ? builder.instrumentation
                               : (duration, call, response) -> {};
-            selector = Selector.open();
+            acceptSelector = Selector.open();
+            reactors = new Reactor[builder.reactorThreads];
+            for (int i = 0; i < reactors.length; ++i) {
+                reactors[i] = new Reactor();
+            }
 
             serverSocketChannel = ServerSocketChannel.open();
             serverSocketChannel.configureBlocking(false);
@@ -222,65 +340,50 @@ public class NonblockingSocketServer implements AutoCloseable {
             // Bind to listening port
             serverSocket.bind(builder.bindAddress, builder.backlog);
 
-            // Needs one thread for each receiver, and one for each response writer.
-            receiverExecutor = Executors.newSingleThreadExecutor(builder.receiverThreadFactory);
-            workerExecutor = Executors.newFixedThreadPool(builder.workerThreads, builder.workerThreadFactory);
-
-            serverSocketChannel.register(selector, SelectionKey.OP_ACCEPT);
-
-            receiverExecutor.submit(this::selectLoop);
+            // Needs one thread for the acceptor, and one for each reactor.
+            receiverExecutor = Executors.newFixedThreadPool(1 + reactors.length, builder.receiverThreadFactory);
+            ExecutorService virtualExecutor = null;
+            if (builder.virtualThreads) {
+                virtualExecutor = VirtualThreads.newVirtualThreadPerTaskExecutor("providence-nonblocking-server-worker-");
+                if (virtualExecutor == null) {
+                    LOGGER.info("Virtual threads not supported, using worker thread pool");
+                }
+            }
+            virtualThreads = virtualExecutor != null;
+            workerExecutor = virtualExecutor != null
+                             ? virtualExecutor
+                             : Executors.newFixedThreadPool(builder.workerThreads, builder.workerThreadFactory);
+            rejectExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                                                    new ArrayBlockingQueue<>(MAX_QUEUED_REJECTIONS),
+                                                    builder.workerThreadFactory);
+
+            serverSocketChannel.register(acceptSelector, SelectionKey.OP_ACCEPT);
+
+            receiverExecutor.submit(this::acceptLoop);
+            for (Reactor reactor : reactors) {
+                receiverExecutor.submit(reactor);
+            }
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
-    private synchronized void selectLoop() {
-        while (serverSocketChannel.isOpen()) {
-            try {
-                selector.select();
-                Iterator<SelectionKey> selectedKeys = selector.selectedKeys()
-                                                              .iterator();
-                while (selectedKeys.hasNext()) {
-                    SelectionKey key = selectedKeys.next();
-
-                    if (!key.isValid()) {
-                        // clean up?
-                        selectedKeys.remove();
-                        continue;
-                    }
-
-                    if (key.isAcceptable()) {
-                        accept();
-                    } else if (key.isReadable()) {
-                        handleRead(key, (Context) key.attachment());
-                    } else if (key.isWritable()) {
-                        handleWrite(key, (Context) key.attachment());
-                    }
-
-                    // only remove successfully handled keys from currently selected.
-                    selectedKeys.remove();
+    private void acceptLoop() {
+        try {
+            while (serverSocketChannel.isOpen()) {
+                try {
+                    acceptSelector.select();
+                    acceptSelector.selectedKeys().clear();
+                    accept();
+                } catch (IOException e) {
+                    LOGGER.error("Exception in thread: " + e.getMessage(), e);
                 }
-            } catch (IOException e) {
-                LOGGER.error("Exception in thread: " + e.getMessage(), e);
             }
-
-            // TODO: Figure out if this needs to be in a separate thread.
-            for (SelectionKey cleanupKey : selector.keys()) {
-                if (cleanupKey.channel() == serverSocketChannel) {
-                    continue;
-                }
-
-                SocketChannel channel = (SocketChannel) cleanupKey.channel();
-                if (!cleanupKey.isValid() || !channel.isOpen() || channel.socket()
-                                                                         .isClosed()) {
-                    try {
-                        cleanupKey.channel()
-                                  .close();
-                    } catch (IOException e) {
-                        e.printStackTrace();
-                    }
-                    cleanupKey.cancel();
-                }
+        } finally {
+            try {
+                acceptSelector.close();
+            } catch (IOException e) {
+                LOGGER.warn("Exception closing selector: {}", e.getMessage(), e);
             }
         }
     }
@@ -291,19 +394,107 @@ public class NonblockingSocketServer implements AutoCloseable {
             while ((socketChannel = serverSocketChannel.accept()) != null) {
                 // But make the actual accepted channel blocking.
                 socketChannel.configureBlocking(false);
-                socketChannel.register(selector, SelectionKey.OP_READ, new Context(socketChannel, maxFrameSizeInBytes));
+                // Hand the connection to the next reactor, round-robin.
+                reactors[nextReactor].register(socketChannel);
+                nextReactor = (nextReactor + 1) % reactors.length;
             }
         } catch (IOException e) {
-            LOGGER.error("Exception when accepting: {}", e.getMessage(), e);
+            if (serverSocketChannel.isOpen()) {
+                LOGGER.error("Exception when accepting: {}", e.getMessage(), e);
+            }
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private void handleRead(SelectionKey key, Context context) throws IOException {
-        long startTime = System.nanoTime();
+    /**
+     * A reactor owns a selector and the connections registered with it, and
+     * handles all reads and writes for these connections. Connections are
+     * closed when a read or write fails or reach end of stream, so there is
+     * no need to scan all the keys for closed channels.
+     */
+    private class Reactor implements Runnable {
+        private final Selector             selector;
+        private final Queue<SocketChannel> accepted;
+
+        private Reactor() throws IOException {
+            this.selector = Selector.open();
+            this.accepted = new ConcurrentLinkedQueue<>();
+        }
+
+        private void register(SocketChannel channel) {
+            accepted.offer(channel);
+            selector.wakeup();
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (serverSocketChannel.isOpen()) {
+                    try {
+                        selector.select();
+                        registerAccepted();
+
+                        Iterator<SelectionKey> selectedKeys = selector.selectedKeys()
+                                                                      .iterator();
+                        while (selectedKeys.hasNext()) {
+                            SelectionKey key = selectedKeys.next();
+                            selectedKeys.remove();
+
+                            if (!key.isValid()) {
+                                continue;
+                            }
+
+                            Context context = (Context) key.attachment();
+                            if (key.isReadable()) {
+                                handleRead(key, context);
+                            }
+                            if (key.isValid() && key.isWritable()) {
+                                handleWrite(key, context);
+                            }
+                        }
+                    } catch (IOException e) {
+                        LOGGER.error("Exception in thread: " + e.getMessage(), e);
+                    }
+                }
+            } finally {
+                for (SelectionKey key : selector.keys()) {
+                    ((Context) key.attachment()).close();
+                }
+                SocketChannel channel;
+                while ((channel = accepted.poll()) != null) {
+                    try {
+                        channel.close();
+                    } catch (IOException e) {
+                        LOGGER.warn("Exception closing channel: {}", e.getMessage(), e);
+                    }
+                }
+                try {
+                    selector.close();
+                } catch (IOException e) {
+                    LOGGER.warn("Exception closing selector: {}", e.getMessage(), e);
+                }
+            }
+        }
 
+        private void registerAccepted() {
+            SocketChannel channel;
+            while ((channel = accepted.poll()) != null) {
+                try {
+                    channel.register(selector, SelectionKey.OP_READ, new Context(channel));
+                } catch (IOException e) {
+                    LOGGER.error("Exception when registering: {}", e.getMessage(), e);
+                    try {
+                        channel.close();
+                    } catch (IOException e2) {
+                        e.addSuppressed(e2);
+                    }
+                }
+            }
+        }
+    }
+
+    private void handleRead(SelectionKey key, Context context) {
         // part a: read into the readBuffer.
-        if (context.currentFrameSize == 0) {
+        if (context.readBuffer == null) {
             // read frame size.
             try {
                 if (context.channel.read(context.sizeBuffer) < 0) {
@@ -322,27 +513,26 @@ public class NonblockingSocketServer implements AutoCloseable {
             }
 
             context.sizeBuffer.flip();
-            try (ByteBufferInputStream in = new ByteBufferInputStream(context.sizeBuffer);
-                 BigEndianBinaryReader reader = new BigEndianBinaryReader(in)) {
-                context.currentFrameSize = reader.expectInt();
-            }
-            context.sizeBuffer.rewind();
+            int frameSize = context.sizeBuffer.getInt();
+            context.sizeBuffer.clear();
 
-            if (context.currentFrameSize > maxFrameSizeInBytes) {
-                LOGGER.warn("Attempting message of " + context.currentFrameSize + " > " + maxFrameSizeInBytes);
+            if (frameSize > maxFrameSizeInBytes) {
+                LOGGER.warn("Attempting message of " + frameSize + " > " + maxFrameSizeInBytes);
                 context.close();
                 key.cancel();
                 return;
             }
-            if (context.currentFrameSize < 1) {
-                LOGGER.warn("Attempting message of " + context.currentFrameSize);
+            if (frameSize < 1) {
+                LOGGER.warn("Attempting message of " + frameSize);
                 context.close();
                 key.cancel();
                 return;
             }
 
-            context.readBuffer.rewind();
-            context.readBuffer.limit(context.currentFrameSize);
+            // Each frame gets its own buffer, as it is handed over to the
+            // worker thread once complete.
+            context.readBuffer = ByteBuffer.allocate(frameSize);
+            context.readStartTime = System.nanoTime();
         }
 
         try {
@@ -359,74 +549,329 @@ public class NonblockingSocketServer implements AutoCloseable {
             return;
         }
 
-        if (context.readBuffer.position() < context.readBuffer.limit()) {
+        if (context.readBuffer.hasRemaining()) {
             // wait until next read, and see if remaining of frame has arrived.
             return;
         }
 
-        // part b: if the read buffer is complete, handle the content.
-        PServiceCall call;
+        // part b: if the read buffer is complete, hand the content to a worker.
+        ByteBuffer frame = context.readBuffer;
+        long startTime = context.readStartTime;
+        context.readBuffer = null;
+        frame.flip();
+
+        long queuedTime = System.nanoTime();
+        // Each call of a batch needs its own permit.
+        int permits = Math.max(1, Math.min(ServiceCallBatch.numEntries(frame), ServiceCallBatch.MAX_ENTRIES));
+        boolean rejected = !concurrencyLimiter.tryAcquire(permits);
         try {
-            context.currentFrameSize = 0;
-            context.readBuffer.flip();
+            if (rejected) {
+                // Reject the calls instead of queueing them for handling, so
+                // the client gets the error before it times out. Replying
+                // needs to deserialize the calls, so it is left to the
+                // bounded reject executor, not the reactor thread.
+                rejectExecutor.execute(() -> handleRejectedFrame(key, context, frame, startTime, queuedTime));
+            } else {
+                workerExecutor.submit(() -> handleQueuedFrame(key, context, frame, startTime, queuedTime, permits));
+            }
+        } catch (RejectedExecutionException e) {
+            // Shutting down, or too many rejections queued for a reply.
+            if (!rejected) {
+                for (int i = 0; i < permits; ++i) {
+                    concurrencyLimiter.release(0);
+                }
+            }
+            context.close();
+            key.cancel();
+        }
+    }
 
-            call = serializer.deserialize(new ByteBufferInputStream(context.readBuffer),
-                                          processor.getDescriptor());
-            context.readBuffer.clear();
+    private void handleRejectedFrame(SelectionKey key, Context context, ByteBuffer frame, long startTime, long queuedTime) {
+        try {
+            handleFrame(key, context, frame, startTime, queuedTime, true);
+        } catch (RuntimeException e) {
+            LOGGER.error("Exception rejecting frame: {}", e.getMessage(), e);
+        }
+    }
 
-            workerExecutor.submit(() -> {
-                PServiceCall reply;
-                try {
-                    reply = processor.handleCall(call);
-                } catch (Exception e) {
-                    reply = new PServiceCall<>(call.getMethod(),
-                                               PServiceCallType.EXCEPTION,
-                                               call.getSequence(),
-                                               PApplicationException.builder()
-                                                                    .setMessage(e.getMessage())
-                                                                    .setId(PApplicationExceptionType.INTERNAL_ERROR)
-                                                                    .initCause(e)
-                                                                    .build());
-                }
+    private void handleQueuedFrame(SelectionKey key,
+                                   Context context,
+                                   ByteBuffer frame,
+                                   long startTime,
+                                   long queuedTime,
+                                   int permits) {
+        CompletableFuture<?> handled;
+        try {
+            handled = handleFrame(key, context, frame, startTime, queuedTime, false);
+        } catch (RuntimeException e) {
+            handled = new CompletableFuture<>();
+            handled.completeExceptionally(e);
+        }
+        handled.whenComplete((ignore, e) -> {
+            if (e != null) {
+                LOGGER.error("Exception handling frame: {}", e.getMessage(), e);
+            }
+            double duration = ((double) System.nanoTime() - startTime) / NS_IN_MILLIS;
+            for (int i = 0; i < permits; ++i) {
+                concurrencyLimiter.release(duration);
+            }
+        });
+    }
 
-                synchronized (context.mutex) {
-                    context.writeQueue.offer(new WriteEntry(startTime, call, reply));
-                    key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
-                    selector.wakeup();
-                }
-            });
+    /**
+     * Handle a single request frame. This is done in the worker thread, so
+     * the selector thread does not need to deserialize requests or serialize
+     * responses. Rejected frames are handled in the reject executor, where
+     * each call is replied to with an exception.
+     *
+     * @param key The selection key of the connection.
+     * @param context The connection context.
+     * @param frame The request frame content.
+     * @param startTime The nano time when the frame started to arrive.
+     * @param queuedTime The nano time when the frame was queued for handling.
+     * @param rejected If the calls in the frame should be rejected.
+     * @return Future completed when the frame is handled.
+     */
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<?> handleFrame(SelectionKey key,
+                                             Context context,
+                                             ByteBuffer frame,
+                                             long startTime,
+                                             long queuedTime,
+                                             boolean rejected) {
+        long processStartTime = System.nanoTime();
+        if (ServiceCallBatch.isBatch(frame)) {
+            return handleBatchFrame(key, context, frame, startTime, queuedTime, processStartTime, rejected);
+        }
+
+        int requestSize = frame.remaining();
+        PServiceCall call;
+        try {
+            call = serializer.deserialize(frame, processor.getDescriptor());
         } catch (IOException e) {
             double duration = ((double) System.nanoTime() - startTime) / NS_IN_MILLIS;
             instrumentation.onTransportException(e, duration, null, null);
+            return CompletableFuture.completedFuture(null);
+        }
+        long handleStartTime = System.nanoTime();
+        instrumentation.onPhase(Phase.DESERIALIZE, ((double) handleStartTime - processStartTime) / NS_IN_MILLIS, call);
+        instrumentation.onMessageSize(call, requestSize);
+        if (!rejected) {
+            instrumentation.onStart(call);
         }
+
+        PServiceCall reply;
+        try {
+            reply = (rejected ? rejectingProcessor : processor).handleCall(call);
+        } catch (Exception e) {
+            reply = new PServiceCall<>(call.getMethod(),
+                                       PServiceCallType.EXCEPTION,
+                                       call.getSequence(),
+                                       PApplicationException.builder()
+                                                            .setMessage(e.getMessage())
+                                                            .setId(PApplicationExceptionType.INTERNAL_ERROR)
+                                                            .initCause(e)
+                                                            .build());
+        }
+
+        long serializeStartTime = System.nanoTime();
+        if (!rejected) {
+            instrumentation.onPhase(Phase.HANDLE, ((double) serializeStartTime - handleStartTime) / NS_IN_MILLIS, call);
+        }
+
+        ByteBuffer response;
+        try {
+            FrameOutputStream out = new FrameOutputStream();
+            serializer.serialize(out, reply);
+            if (out.frameSize() > maxFrameSizeInBytes) {
+                throw new IOException("Frame size exceeded: " + out.frameSize() + " > " + maxFrameSizeInBytes);
+            }
+            response = out.toFrame();
+            instrumentation.onPhase(Phase.SERIALIZE, ((double) System.nanoTime() - serializeStartTime) / NS_IN_MILLIS, call);
+            if (reply != null) {
+                instrumentation.onMessageSize(reply, out.frameSize());
+            }
+        } catch (IOException e) {
+            // Without a response the client would wait forever, so close
+            // the connection instead.
+            LOGGER.error("Failed to write frame: {}", e.getMessage(), e);
+            double duration = ((double) System.nanoTime() - startTime) / NS_IN_MILLIS;
+            instrumentation.onTransportException(e, duration, call, reply);
+            context.close();
+            key.selector().wakeup();
+            return CompletableFuture.completedFuture(null);
+        }
+
+        if (!rejected) {
+            instrumentation.onCallTiming(((double) processStartTime - queuedTime) / NS_IN_MILLIS,
+                                         ((double) System.nanoTime() - processStartTime) / NS_IN_MILLIS,
+                                         call, reply);
+        }
+        enqueue(key, context, new WriteEntry(startTime, call, reply, null, response, rejected));
+        return CompletableFuture.completedFuture(null);
     }
 
+    /**
+     * Handle a batch of calls. The calls are handled in parallel in the
+     * worker pool, and the batch response frame is queued for writing by
+     * the thread completing the last call, so no worker thread waits for
+     * the other calls of the batch.
+     *
+     * @param key The selection key of the connection.
+     * @param context The connection context.
+     * @param frame The request frame content.
+     * @param startTime The nano time when the frame started to arrive.
+     * @param queuedTime The nano time when the frame was queued for handling.
+     * @param processStartTime The nano time when a worker started handling the frame.
+     * @param rejected If the calls in the batch should be rejected.
+     * @return Future completed when the batch is handled.
+     */
     @SuppressWarnings("unchecked")
-    private void handleWrite(SelectionKey key, Context context) {
-        WriteEntry entry;
-        while ((entry = context.writeQueue.poll()) != null) {
-            Exception ex = null;
+    private CompletableFuture<?> handleBatchFrame(SelectionKey key,
+                                                  Context context,
+                                                  ByteBuffer frame,
+                                                  long startTime,
+                                                  long queuedTime,
+                                                  long processStartTime,
+                                                  boolean rejected) {
+        Queue<PServiceCall[]> completed = new ConcurrentLinkedQueue<>();
+        PProcessor batchProcessor = rejected ? rejectingProcessor : processor;
+        DefaultProcessorHandler handler = new DefaultProcessorHandler(new WrappedProcessor(batchProcessor, (c, p) -> {
+            long handleStartTime = onBatchCallStart(c, rejected);
+            PServiceCall reply = p.handleCall(c);
+            onBatchCallHandled(c, handleStartTime, rejected);
+            completed.add(new PServiceCall[]{c, reply});
+            return reply;
+        }, (c, p) -> {
+            long handleStartTime = onBatchCallStart(c, rejected);
+            CompletableFuture<PServiceCall> future = p.handleCallAsync(c, p.getDescriptor());
+            return future.thenApply(reply -> {
+                onBatchCallHandled(c, handleStartTime, rejected);
+                completed.add(new PServiceCall[]{c, reply});
+                return reply;
+            });
+        }));
+
+        CompletableFuture<List<byte[]>> replies;
+        try {
+            replies = handler.processBatch(ServiceCallBatch.read(new ByteBufferInputStream(frame)),
+                                           serializer, serializer,
+                                           rejected ? Runnable::run : workerExecutor);
+        } catch (Exception e) {
+            replies = new CompletableFuture<>();
+            replies.completeExceptionally(e);
+        }
+
+        return replies.whenComplete((responses, e) -> {
             try {
-                serializer.serialize(context.out, entry.reply);
-            } catch (IOException e) {
-                ex = e;
-            } finally {
-                try {
-                    context.out.completeFrame();
-                    context.out.flush();
-                } catch (IOException e) {
-                    LOGGER.error("Failed to write frame: {}", e.getMessage(), e);
-                    context.close();
-                    key.cancel();
-                } finally {
+                if (e != null) {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    throw cause instanceof IOException ? (IOException) cause : new IOException(cause.getMessage(), cause);
+                }
+                FrameOutputStream out = new FrameOutputStream();
+                ServiceCallBatch.write(out, responses);
+                if (out.frameSize() > maxFrameSizeInBytes) {
+                    throw new IOException("Frame size exceeded: " + out.frameSize() + " > " + maxFrameSizeInBytes);
+                }
+                if (!rejected) {
+                    double queueTime = ((double) processStartTime - queuedTime) / NS_IN_MILLIS;
+                    double processTime = ((double) System.nanoTime() - processStartTime) / NS_IN_MILLIS;
+                    for (PServiceCall[] entry : completed) {
+                        instrumentation.onCallTiming(queueTime, processTime, entry[0], entry[1]);
+                    }
+                }
+                enqueue(key, context, new WriteEntry(startTime, null, null, completed, out.toFrame(), rejected));
+            } catch (IOException ex) {
+                // Without a response the client would wait forever, so close
+                // the connection instead.
+                LOGGER.error("Failed to handle batch: {}", ex.getMessage(), ex);
+                double duration = ((double) System.nanoTime() - startTime) / NS_IN_MILLIS;
+                instrumentation.onTransportException(ex, duration, null, null);
+                context.close();
+                key.selector().wakeup();
+            }
+        });
+    }
+
+    private long onBatchCallStart(PServiceCall call, boolean rejected) {
+        if (!rejected) {
+            instrumentation.onStart(call);
+        }
+        return System.nanoTime();
+    }
+
+    private void onBatchCallHandled(PServiceCall call, long handleStartTime, boolean rejected) {
+        if (!rejected) {
+            instrumentation.onPhase(Phase.HANDLE, ((double) System.nanoTime() - handleStartTime) / NS_IN_MILLIS, call);
+        }
+    }
+
+    private void enqueue(SelectionKey key, Context context, WriteEntry entry) {
+        synchronized (context.mutex) {
+            if (!key.isValid()) {
+                // The connection was closed while handling the call.
+                return;
+            }
+            entry.enqueuedTime = System.nanoTime();
+            context.writeQueue.offer(entry);
+            key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+            key.selector().wakeup();
+        }
+    }
+
+    private void handleWrite(SelectionKey key, Context context) {
+        try {
+            while (!context.writeQueue.isEmpty()) {
+                // Gather as many pending responses as we can in one write.
+                int num = 0;
+                for (WriteEntry entry : context.writeQueue) {
+                    if (num == context.gather.length) {
+                        break;
+                    }
+                    context.gather[num++] = entry.response;
+                }
+                context.channel.write(context.gather, 0, num);
+                Arrays.fill(context.gather, 0, num, null);
+
+                WriteEntry entry;
+                while ((entry = context.writeQueue.peek()) != null && !entry.response.hasRemaining()) {
+                    context.writeQueue.poll();
                     double duration = ((double) System.nanoTime() - entry.startTime) / NS_IN_MILLIS;
-                    if (ex == null) {
-                        instrumentation.onComplete(duration, entry.call, entry.reply);
+                    if (entry.batch != null) {
+                        for (PServiceCall[] completed : entry.batch) {
+                            onComplete(entry, duration, completed[0], completed[1]);
+                        }
                     } else {
-                        instrumentation.onTransportException(ex, duration, entry.call, entry.reply);
+                        if (entry.call != null) {
+                            instrumentation.onPhase(Phase.WRITE,
+                                                    ((double) System.nanoTime() - entry.enqueuedTime) / NS_IN_MILLIS,
+                                                    entry.call);
+                        }
+                        onComplete(entry, duration, entry.call, entry.reply);
                     }
                 }
+                if (entry != null) {
+                    // The socket send buffer is full, wait for next writable event.
+                    return;
+                }
             }
+        } catch (IOException e) {
+            LOGGER.error("Failed to write frame: {}", e.getMessage(), e);
+            context.close();
+            key.cancel();
+
+            WriteEntry entry;
+            while ((entry = context.writeQueue.poll()) != null) {
+                double duration = ((double) System.nanoTime() - entry.startTime) / NS_IN_MILLIS;
+                if (entry.batch != null) {
+                    for (PServiceCall[] failed : entry.batch) {
+                        instrumentation.onTransportException(e, duration, failed[0], failed[1]);
+                    }
+                } else {
+                    instrumentation.onTransportException(e, duration, entry.call, entry.reply);
+                }
+            }
+            return;
         }
 
         synchronized (context.mutex) {
@@ -437,15 +882,37 @@ public class NonblockingSocketServer implements AutoCloseable {
         }
     }
 
+    private void onComplete(WriteEntry entry, double duration, PServiceCall call, PServiceCall reply) {
+        if (entry.rejected) {
+            instrumentation.onRejected(duration, call, reply);
+        } else {
+            instrumentation.onComplete(duration, call, reply);
+        }
+    }
+
     private static class WriteEntry {
         long startTime;
+        long enqueuedTime;
         PServiceCall call;
         PServiceCall reply;
-
-        WriteEntry(long startTime, PServiceCall call, PServiceCall reply) {
+        // The handled calls and replies if the response is a batch.
+        Queue<PServiceCall[]> batch;
+        ByteBuffer response;
+        // If the calls were rejected by the concurrency limiter.
+        boolean rejected;
+
+        WriteEntry(long startTime,
+                   PServiceCall call,
+                   PServiceCall reply,
+                   Queue<PServiceCall[]> batch,
+                   ByteBuffer response,
+                   boolean rejected) {
             this.startTime = startTime;
             this.call = call;
             this.reply = reply;
+            this.batch = batch;
+            this.response = response;
+            this.rejected = rejected;
         }
     }
 
@@ -453,20 +920,18 @@ public class NonblockingSocketServer implements AutoCloseable {
         final Object                   mutex;
         final SocketChannel            channel;
         final Queue<WriteEntry>        writeQueue;
-        final FramedBufferOutputStream out;
+        final ByteBuffer[]             gather;
 
         final ByteBuffer               sizeBuffer;
-        final ByteBuffer               readBuffer;
-        int currentFrameSize;
+        ByteBuffer readBuffer;
+        long       readStartTime;
 
-        private Context(SocketChannel channel, int maxFrameSizeInBytes) {
+        private Context(SocketChannel channel) {
             this.mutex = new Object();
             this.channel = channel;
-            this.currentFrameSize = 0;
             this.sizeBuffer = ByteBuffer.allocate(Integer.BYTES);
-            this.readBuffer = ByteBuffer.allocateDirect(maxFrameSizeInBytes);
-            this.out = new FramedBufferOutputStream(channel, maxFrameSizeInBytes);
             this.writeQueue = new ConcurrentLinkedQueue<>();
+            this.gather = new ByteBuffer[MAX_GATHERED_WRITES];
         }
 
         void close() {
@@ -479,4 +944,3 @@ public class NonblockingSocketServer implements AutoCloseable {
         }
     }
 }
-
@@ -22,11 +22,14 @@ import net.morimekta.providence.PProcessor;
 import net.morimekta.providence.PServiceCall;
 import net.morimekta.providence.mio.IOMessageReader;
 import net.morimekta.providence.mio.IOMessageWriter;
+import net.morimekta.providence.mio.ServiceCallBatch;
 import net.morimekta.providence.serializer.BinarySerializer;
 import net.morimekta.providence.serializer.Serializer;
+import net.morimekta.providence.server.ConcurrencyLimiter;
 import net.morimekta.providence.server.DefaultProcessorHandler;
 import net.morimekta.providence.server.WrappedProcessor;
 import net.morimekta.providence.util.ServiceCallInstrumentation;
+import net.morimekta.providence.util.ServiceCallInstrumentation.Phase;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.slf4j.Logger;
@@ -41,10 +44,17 @@ import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static net.morimekta.providence.util.ServiceCallInstrumentation.NS_IN_MILLIS;
@@ -52,6 +62,18 @@ import static net.morimekta.providence.util.ServiceCallInstrumentation.NS_IN_MIL
 /**
  * Based heavily on <code>org.apache.thrift.transport.TServerTransport</code>
  * and meant to be a providence replacement for it.
+ * <p>
+ * The server also accepts a batch of calls, see {@link ServiceCallBatch},
+ * and replies with the matching batch of replies. As each connection holds
+ * a worker thread for its whole lifetime, the calls of a batch are handled
+ * in the connection thread, so a batch can never starve the worker pool.
+ * Async processors will still handle the calls in parallel.
+ * <p>
+ * Each call must get a permit from the {@link ConcurrencyLimiter} before it
+ * is handled, otherwise it is rejected with an exception reply. The queue
+ * time reported to the instrumentation is the time a new connection waited
+ * for a worker thread, so it is only set for the first call on each
+ * connection.
  */
 public class SocketServer implements AutoCloseable {
     public static class Builder {
@@ -64,6 +86,8 @@ public class SocketServer implements AutoCloseable {
         private int workerThreads       = 10;
         private ThreadFactory workerThreadFactory;
         private Serializer serializer;
+        private boolean virtualThreads;
+        private ConcurrencyLimiter concurrencyLimiter;
 
         public Builder(@Nonnull PProcessor processor) {
             this.processor = processor;
@@ -123,6 +147,34 @@ public class SocketServer implements AutoCloseable {
             return this;
         }
 
+        /**
+         * Run the connections on virtual threads if the runtime supports
+         * them (Java 21 and later), with one virtual thread per connection
+         * and no limit on the number of connections handled at the same
+         * time. Otherwise the connections are handled in the pool of worker
+         * threads as usual.
+         *
+         * @param virtualThreads If virtual threads should be used.
+         * @return The builder.
+         */
+        public Builder withVirtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+            return this;
+        }
+
+        /**
+         * Limit the number of calls being handled at the same time. Calls
+         * over the limit are rejected with an exception reply. The default
+         * is to not limit the calls.
+         *
+         * @param limiter The concurrency limiter.
+         * @return The builder.
+         */
+        public Builder withConcurrencyLimiter(@Nonnull ConcurrencyLimiter limiter) {
+            this.concurrencyLimiter = limiter;
+            return this;
+        }
+
         public SocketServer start() {
             if (workerThreadFactory == null) {
                 this.workerThreadFactory = new ThreadFactoryBuilder()
@@ -145,6 +197,13 @@ public class SocketServer implements AutoCloseable {
         return serverSocket.getLocalPort();
     }
 
+    /**
+     * @return True if the connections are handled on virtual threads.
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
     @Override
     public void close() {
         workerExecutor.shutdown();
@@ -168,15 +227,20 @@ public class SocketServer implements AutoCloseable {
 
     private final int                        clientTimeout;
     private final PProcessor                 processor;
+    private final ConcurrencyLimiter         concurrencyLimiter;
     private final ServiceCallInstrumentation instrumentation;
     private final ServerSocket               serverSocket;
     private final ExecutorService            workerExecutor;
+    private final boolean                    virtualThreads;
     private final Serializer                 serializer;
 
     private SocketServer(Builder builder) {
         try {
             clientTimeout = builder.clientTimeout;
             processor = builder.processor;
+            concurrencyLimiter = builder.concurrencyLimiter != null
+                                 ? builder.concurrencyLimiter
+                                 : ConcurrencyLimiter.unlimited();
             instrumentation = builder.instrumentation != null
                               ? builder.instrumentation
                               : (duration, call, response) -> {};
@@ -190,8 +254,17 @@ public class SocketServer implements AutoCloseable {
             serverSocket.bind(builder.bindAddress, builder.backlog);
             serverSocket.setSoTimeout(0);
 
-            workerExecutor = Executors.newFixedThreadPool(builder.workerThreads,
-                                                          builder.workerThreadFactory);
+            ExecutorService virtualExecutor = null;
+            if (builder.virtualThreads) {
+                virtualExecutor = VirtualThreads.newVirtualThreadPerTaskExecutor("providence-server-");
+                if (virtualExecutor == null) {
+                    LOGGER.info("Virtual threads not supported, using worker thread pool");
+                }
+            }
+            virtualThreads = virtualExecutor != null;
+            workerExecutor = virtualExecutor != null
+                             ? virtualExecutor
+                             : Executors.newFixedThreadPool(builder.workerThreads, builder.workerThreadFactory);
             workerExecutor.submit(this::accept);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
@@ -220,42 +293,20 @@ public class SocketServer implements AutoCloseable {
 
     @SuppressWarnings("unchecked")
     private void process(long startTime, Socket socket) {
+        // The time the connection waited for a worker thread.
+        double queueTime = ((double) (System.nanoTime() - startTime)) / NS_IN_MILLIS;
         try (Socket ignore = socket;
              BufferedInputStream in = new BufferedInputStream(socket.getInputStream());
              BufferedOutputStream out = new BufferedOutputStream(socket.getOutputStream());
              IOMessageReader reader = new IOMessageReader(in, serializer);
              IOMessageWriter writer = new IOMessageWriter(out, serializer)) {
             while (socket.isConnected()) {
-                AtomicReference<PServiceCall> callRef = new AtomicReference<>();
-                AtomicReference<PServiceCall> responseRef = new AtomicReference<>();
-                try {
-                    DefaultProcessorHandler handler = new DefaultProcessorHandler(new WrappedProcessor(processor, (c, p) -> {
-                        callRef.set(c);
-                        responseRef.set(p.handleCall(c));
-                        return responseRef.get();
-                    }));
-
-                    handler.process(reader, writer);
-                    out.flush();
-
-                    long endTime = System.nanoTime();
-                    double duration = ((double) (endTime - startTime)) / NS_IN_MILLIS;
-                    try {
-                        instrumentation.onComplete(duration, callRef.get(), responseRef.get());
-                    } catch (Throwable th) {
-                        LOGGER.error("Exception in service instrumentation", th);
-                    }
-                } catch (IOException e) {
-                    long endTime = System.nanoTime();
-                    double duration = ((double) (endTime - startTime)) / NS_IN_MILLIS;
-                    try {
-                        instrumentation.onTransportException(e, duration, callRef.get(), responseRef.get());
-                    } catch (Throwable th) {
-                        LOGGER.error("Exception in service instrumentation", th);
-                    }
-
-                    throw new UncheckedIOException(e.getMessage(), e);
+                if (ServiceCallBatch.isBatch(in)) {
+                    processBatch(startTime, queueTime, in, out);
+                } else {
+                    processCall(startTime, queueTime, reader, writer, out);
                 }
+                queueTime = 0.0;
 
                 in.mark(1);
                 if (in.read() < 0) {
@@ -269,4 +320,167 @@ public class SocketServer implements AutoCloseable {
             throw new UncheckedIOException(e.getMessage(), e);
         }
     }
+
+    @SuppressWarnings("unchecked")
+    private void processCall(long startTime,
+                             double queueTime,
+                             IOMessageReader reader,
+                             IOMessageWriter writer,
+                             BufferedOutputStream out) {
+        AtomicReference<PServiceCall> callRef = new AtomicReference<>();
+        AtomicReference<PServiceCall> responseRef = new AtomicReference<>();
+        AtomicBoolean rejected = new AtomicBoolean();
+        try {
+            DefaultProcessorHandler handler = new DefaultProcessorHandler(new WrappedProcessor(processor, (c, p) -> {
+                callRef.set(c);
+                if (!concurrencyLimiter.tryAcquire()) {
+                    rejected.set(true);
+                    responseRef.set(ConcurrencyLimiter.rejectedReply(c));
+                    return responseRef.get();
+                }
+                onStart(c);
+                long processStartTime = System.nanoTime();
+                try {
+                    responseRef.set(p.handleCall(c));
+                } finally {
+                    concurrencyLimiter.release(((double) (System.nanoTime() - processStartTime)) / NS_IN_MILLIS);
+                }
+                onCallTiming(queueTime, processStartTime, c, responseRef.get());
+                return responseRef.get();
+            }));
+
+            handler.process(reader, writer);
+            out.flush();
+
+            long endTime = System.nanoTime();
+            double duration = ((double) (endTime - startTime)) / NS_IN_MILLIS;
+            try {
+                if (rejected.get()) {
+                    instrumentation.onRejected(duration, callRef.get(), responseRef.get());
+                } else {
+                    instrumentation.onComplete(duration, callRef.get(), responseRef.get());
+                }
+            } catch (Throwable th) {
+                LOGGER.error("Exception in service instrumentation", th);
+            }
+        } catch (IOException e) {
+            long endTime = System.nanoTime();
+            double duration = ((double) (endTime - startTime)) / NS_IN_MILLIS;
+            try {
+                instrumentation.onTransportException(e, duration, callRef.get(), responseRef.get());
+            } catch (Throwable th) {
+                LOGGER.error("Exception in service instrumentation", th);
+            }
+
+            throw new UncheckedIOException(e.getMessage(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void processBatch(long startTime, double queueTime, BufferedInputStream in, BufferedOutputStream out) {
+        Queue<PServiceCall[]> completed = new ConcurrentLinkedQueue<>();
+        Queue<PServiceCall[]> rejected = new ConcurrentLinkedQueue<>();
+        try {
+            DefaultProcessorHandler handler = new DefaultProcessorHandler(new WrappedProcessor(processor, (c, p) -> {
+                if (!concurrencyLimiter.tryAcquire()) {
+                    PServiceCall reply = ConcurrencyLimiter.rejectedReply(c);
+                    rejected.add(new PServiceCall[]{c, reply});
+                    return reply;
+                }
+                onStart(c);
+                long processStartTime = System.nanoTime();
+                try {
+                    PServiceCall reply = p.handleCall(c);
+                    completed.add(new PServiceCall[]{c, reply});
+                    onCallTiming(queueTime, processStartTime, c, reply);
+                    return reply;
+                } finally {
+                    concurrencyLimiter.release(((double) (System.nanoTime() - processStartTime)) / NS_IN_MILLIS);
+                }
+            }, (c, p) -> {
+                if (!concurrencyLimiter.tryAcquire()) {
+                    PServiceCall reply = ConcurrencyLimiter.rejectedReply(c);
+                    rejected.add(new PServiceCall[]{c, reply});
+                    return CompletableFuture.completedFuture(reply);
+                }
+                onStart(c);
+                long processStartTime = System.nanoTime();
+                CompletableFuture<PServiceCall> future;
+                try {
+                    future = p.handleCallAsync(c, p.getDescriptor());
+                } catch (RuntimeException e) {
+                    concurrencyLimiter.release(((double) (System.nanoTime() - processStartTime)) / NS_IN_MILLIS);
+                    throw e;
+                }
+                return future.whenComplete((reply, e) -> concurrencyLimiter.release(
+                        ((double) (System.nanoTime() - processStartTime)) / NS_IN_MILLIS)).thenApply(reply -> {
+                    completed.add(new PServiceCall[]{c, reply});
+                    onCallTiming(queueTime, processStartTime, c, reply);
+                    return reply;
+                });
+            }));
+
+            List<byte[]> replies;
+            try {
+                replies = handler.processBatch(ServiceCallBatch.read(in), serializer, serializer, Runnable::run).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while handling batch", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                while ((cause instanceof CompletionException || cause instanceof UncheckedIOException) &&
+                       cause.getCause() != null) {
+                    cause = cause.getCause();
+                }
+                throw cause instanceof IOException ? (IOException) cause : new IOException(cause.getMessage(), cause);
+            }
+            ServiceCallBatch.write(out, replies);
+            out.flush();
+
+            long endTime = System.nanoTime();
+            double duration = ((double) (endTime - startTime)) / NS_IN_MILLIS;
+            for (PServiceCall[] entry : completed) {
+                try {
+                    instrumentation.onComplete(duration, entry[0], entry[1]);
+                } catch (Throwable th) {
+                    LOGGER.error("Exception in service instrumentation", th);
+                }
+            }
+            for (PServiceCall[] entry : rejected) {
+                try {
+                    instrumentation.onRejected(duration, entry[0], entry[1]);
+                } catch (Throwable th) {
+                    LOGGER.error("Exception in service instrumentation", th);
+                }
+            }
+        } catch (IOException e) {
+            long endTime = System.nanoTime();
+            double duration = ((double) (endTime - startTime)) / NS_IN_MILLIS;
+            try {
+                instrumentation.onTransportException(e, duration, null, null);
+            } catch (Throwable th) {
+                LOGGER.error("Exception in service instrumentation", th);
+            }
+
+            throw new UncheckedIOException(e.getMessage(), e);
+        }
+    }
+
+    private void onStart(PServiceCall call) {
+        try {
+            instrumentation.onStart(call);
+        } catch (Throwable th) {
+            LOGGER.error("Exception in service instrumentation", th);
+        }
+    }
+
+    private void onCallTiming(double queueTime, long processStartTime, PServiceCall call, PServiceCall reply) {
+        double processTime = ((double) (System.nanoTime() - processStartTime)) / NS_IN_MILLIS;
+        try {
+            instrumentation.onPhase(Phase.HANDLE, processTime, call);
+            instrumentation.onCallTiming(queueTime, processTime, call, reply);
+        } catch (Throwable th) {
+            LOGGER.error("Exception in service instrumentation", th);
+        }
+    }
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2018 Providence Authors
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.morimekta.providence.thrift.server;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Access to virtual threads when the runtime supports them (Java 21 and
+ * later). As the servers are built for Java 8, the virtual thread API is
+ * looked up with reflection.
+ */
+final class VirtualThreads {
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreads.class);
+
+    private static final Method OF_VIRTUAL;
+    private static final Method NAME;
+    private static final Method FACTORY;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        Method ofVirtual = null;
+        Method name = null;
+        Method factory = null;
+        Method newThreadPerTaskExecutor = null;
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            name = builderClass.getMethod("name", String.class, long.class);
+            factory = builderClass.getMethod("factory");
+            newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        NAME = name;
+        FACTORY = factory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    /**
+     * @return True if the runtime supports virtual threads.
+     */
+    static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Make an executor that runs each task in a new virtual thread.
+     *
+     * @param namePrefix Prefix of the thread names, each thread is named
+     *                   with the prefix and a counter.
+     * @return The executor, or null if virtual threads are not supported.
+     */
+    @Nullable
+    static ExecutorService newVirtualThreadPerTaskExecutor(@Nonnull String namePrefix) {
+        if (!isSupported()) {
+            return null;
+        }
+        try {
+            Object builder = NAME.invoke(OF_VIRTUAL.invoke(null), namePrefix, 0L);
+            ThreadFactory factory = (ThreadFactory) FACTORY.invoke(builder);
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, factory);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // E.g. if virtual threads are disabled in the runtime.
+            LOGGER.warn("Unable to create virtual thread executor: {}", e.getMessage(), e);
+            return null;
+        }
+    }
+
+    private VirtualThreads() {}
+}
@@ -0,0 +1,205 @@
+package net.morimekta.providence.thrift.client;
+
+import net.morimekta.providence.PServiceCall;
+import net.morimekta.providence.serializer.BinarySerializer;
+import net.morimekta.providence.serializer.Serializer;
+import net.morimekta.providence.thrift.server.NonblockingSocketServer;
+import net.morimekta.providence.util.ServiceCallInstrumentation;
+import net.morimekta.test.providence.thrift.service.Failure;
+import net.morimekta.test.providence.thrift.service.MyService;
+import net.morimekta.test.providence.thrift.service.Request;
+import net.morimekta.test.providence.thrift.service.Response;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BatchingSocketClientHandlerTest {
+    private static Serializer serializer = new BinarySerializer();
+
+    private MyService.Iface            impl;
+    private ServiceCallInstrumentation instrumentation;
+    private NonblockingSocketServer    server;
+
+    @Before
+    public void setUp() {
+        impl = mock(MyService.Iface.class);
+        instrumentation = mock(ServiceCallInstrumentation.class);
+        server = NonblockingSocketServer.builder(new MyService.Processor(impl))
+                                        .withSerializer(serializer)
+                                        .withInstrumentation(instrumentation)
+                                        .withWorkerThreads(4)
+                                        .start();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server.close();
+    }
+
+    @Test
+    public void testBatchedCalls() throws Exception {
+        when(impl.test(any(Request.class))).thenAnswer(i -> {
+            Request request = i.getArgument(0);
+            if (request.getText().equals("fail")) {
+                throw new Failure("failure");
+            }
+            return new Response(request.getText());
+        });
+
+        try (BatchingSocketClientHandler handler = BatchingSocketClientHandler
+                .builder()
+                .withSerializer(serializer)
+                .withAddress(new InetSocketAddress("localhost", server.getPort()))
+                .withMaxBatchSize(16)
+                .build()) {
+            MyService.Client client = new MyService.Client(handler);
+
+            List<CompletableFuture<Response>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; ++i) {
+                futures.add(client.testAsync(new Request("request " + i)));
+            }
+            CompletableFuture<Response> failure = client.testAsync(new Request("fail"));
+            client.ping();
+
+            for (int i = 0; i < 100; ++i) {
+                assertThat(futures.get(i).get(1, TimeUnit.SECONDS), is(new Response("request " + i)));
+            }
+            try {
+                failure.get(1, TimeUnit.SECONDS);
+                fail("No exception");
+            } catch (ExecutionException e) {
+                assertThat(e.getCause(), is(instanceOf(Failure.class)));
+                assertThat(((Failure) e.getCause()).getText(), is("failure"));
+            }
+
+            // And sync calls works too.
+            assertThat(client.test(new Request("sync")), is(new Response("sync")));
+        }
+
+        verify(impl, timeout(1000)).ping();
+        // Each call in the batches are instrumented on its own.
+        verify(instrumentation, timeout(1000).times(102))
+                .onComplete(anyDouble(), any(PServiceCall.class), any(PServiceCall.class));
+        verify(instrumentation, timeout(1000))
+                .onComplete(anyDouble(), any(PServiceCall.class), isNull());
+    }
+
+    @Test
+    public void testParallelDispatch() throws Exception {
+        // Each call waits for all the others to start, which is only
+        // possible if the calls of the batch are handled in parallel.
+        CountDownLatch latch = new CountDownLatch(4);
+        when(impl.test(any(Request.class))).thenAnswer(i -> {
+            latch.countDown();
+            if (!latch.await(1, TimeUnit.SECONDS)) {
+                throw new Failure("Not parallel");
+            }
+            Request request = i.getArgument(0);
+            return new Response(request.getText());
+        });
+
+        try (BatchingSocketClientHandler handler = BatchingSocketClientHandler
+                .builder()
+                .withSerializer(serializer)
+                .withAddress(new InetSocketAddress("localhost", server.getPort()))
+                .withBatchWindow(100, TimeUnit.MILLISECONDS)
+                .build()) {
+            MyService.Client client = new MyService.Client(handler);
+
+            List<CompletableFuture<Response>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; ++i) {
+                futures.add(client.testAsync(new Request("request " + i)));
+            }
+            for (int i = 0; i < 4; ++i) {
+                assertThat(futures.get(i).get(1, TimeUnit.SECONDS), is(new Response("request " + i)));
+            }
+        }
+        verify(impl, times(4)).test(any(Request.class));
+    }
+
+    @Test
+    public void testResponseTimeout() throws Exception {
+        when(impl.test(any(Request.class))).thenAnswer(i -> {
+            Thread.sleep(500);
+            Request request = i.getArgument(0);
+            return new Response(request.getText());
+        });
+
+        try (BatchingSocketClientHandler handler = BatchingSocketClientHandler
+                .builder()
+                .withSerializer(serializer)
+                .withAddress(new InetSocketAddress("localhost", server.getPort()))
+                .withResponseTimeout(100)
+                .build()) {
+            MyService.Client client = new MyService.Client(handler);
+
+            CompletableFuture<Response> first = client.testAsync(new Request("first"));
+            CompletableFuture<Response> second = client.testAsync(new Request("second"));
+            for (CompletableFuture<Response> future : Arrays.asList(first, second)) {
+                try {
+                    future.get(400, TimeUnit.MILLISECONDS);
+                    fail("No exception");
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause(), is(instanceOf(SocketTimeoutException.class)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testClosed() throws IOException, Failure, InterruptedException, TimeoutException {
+        doAnswer(i -> null).when(impl).ping();
+
+        BatchingSocketClientHandler handler = BatchingSocketClientHandler
+                .builder()
+                .withSerializer(serializer)
+                .withAddress(new InetSocketAddress("localhost", server.getPort()))
+                .withBatchWindow(1, TimeUnit.SECONDS)
+                .build();
+        MyService.Client client = new MyService.Client(handler);
+
+        // Pending calls are failed on close.
+        CompletableFuture<Response> pending = client.testAsync(new Request("request"));
+        handler.close();
+        try {
+            pending.get(1, TimeUnit.SECONDS);
+            fail("No exception");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), is(instanceOf(IOException.class)));
+            assertThat(e.getCause().getMessage(), is("Closed client handler"));
+        }
+
+        try {
+            client.test(new Request("request"));
+            fail("No exception");
+        } catch (IOException e) {
+            assertThat(e.getMessage(), is("Closed client handler"));
+        }
+    }
+}
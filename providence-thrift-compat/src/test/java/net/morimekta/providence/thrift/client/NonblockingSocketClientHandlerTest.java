@@ -25,9 +25,14 @@ import org.mockito.Mockito;
 import java.io.IOException;
 import java.net.ConnectException;
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static net.morimekta.providence.PApplicationExceptionType.UNKNOWN_METHOD;
@@ -151,6 +156,40 @@ public class NonblockingSocketClientHandlerTest {
         }
     }
 
+    @Test
+    public void testAsyncRequests()
+            throws TException, InterruptedException, ExecutionException, TimeoutException, IOException {
+        when(impl.test(any(net.morimekta.test.thrift.thrift.service.Request.class)))
+                .thenAnswer(i -> {
+                    net.morimekta.test.thrift.thrift.service.Request request = i.getArgument(0);
+                    if (request.getText().equals("fail")) {
+                        throw new net.morimekta.test.thrift.thrift.service.Failure("failure");
+                    }
+                    return new net.morimekta.test.thrift.thrift.service.Response(request.getText());
+                });
+
+        try (NonblockingSocketClientHandler handler = new NonblockingSocketClientHandler(serializer, address)) {
+            MyService.Client client = new MyService.Client(handler);
+
+            // All the calls are in flight at the same time on the same connection.
+            List<CompletableFuture<Response>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; ++i) {
+                futures.add(client.testAsync(new Request("test " + i)));
+            }
+            CompletableFuture<Response> failure = client.testAsync(new Request("fail"));
+
+            for (int i = 0; i < 100; ++i) {
+                assertThat(futures.get(i).get(1, TimeUnit.SECONDS), is(equalToMessage(new Response("test " + i))));
+            }
+            try {
+                failure.get(1, TimeUnit.SECONDS);
+                fail("no exception");
+            } catch (ExecutionException e) {
+                assertThat((Failure) e.getCause(), is(equalToMessage(new Failure("failure"))));
+            }
+        }
+    }
+
     @Test
     public void testSimpleRequest_exception() throws IOException, TException {
         when(impl.test(new net.morimekta.test.thrift.thrift.service.Request("test")))
@@ -0,0 +1,203 @@
+package net.morimekta.providence.thrift.client;
+
+import net.morimekta.providence.serializer.BinarySerializer;
+import net.morimekta.providence.serializer.Serializer;
+import net.morimekta.providence.thrift.server.NonblockingSocketServer;
+import net.morimekta.test.providence.thrift.map.NotFound;
+import net.morimekta.test.providence.thrift.map.RemoteMap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class PooledSocketClientHandlerTest {
+    private static Serializer serializer = new BinarySerializer();
+
+    private Map<String, String>     remoteMap;
+    private NonblockingSocketServer server1;
+    private NonblockingSocketServer server2;
+    private AtomicInteger           calls1;
+    private AtomicInteger           calls2;
+
+    @Before
+    public void setUp() {
+        remoteMap = new ConcurrentHashMap<>();
+        calls1 = new AtomicInteger();
+        calls2 = new AtomicInteger();
+        server1 = startServer(0, calls1);
+        server2 = startServer(0, calls2);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server1.close();
+        server2.close();
+    }
+
+    @Test
+    public void testRoundRobin() throws IOException, NotFound {
+        try (PooledSocketClientHandler handler = PooledSocketClientHandler
+                .builder()
+                .withSerializer(serializer)
+                .withAddress(new InetSocketAddress("localhost", server1.getPort()))
+                .withAddress(new InetSocketAddress("localhost", server2.getPort()))
+                .withConnectionsPerAddress(3)
+                .withSelection(PooledSocketClientHandler.Selection.ROUND_ROBIN)
+                .build()) {
+            RemoteMap.Iface client = new RemoteMap.Client(handler);
+
+            client.put("a", "b");
+            for (int i = 0; i < 9; ++i) {
+                assertThat(client.get("a"), is("b"));
+            }
+
+            assertThat(calls1.get(), is(5));
+            assertThat(calls2.get(), is(5));
+            assertThat(handler.getNumInFlight(), is(0));
+        }
+    }
+
+    @Test
+    public void testPowerOfTwoChoices() throws Exception {
+        try (PooledSocketClientHandler handler = PooledSocketClientHandler
+                .builder()
+                .withSerializer(serializer)
+                .withAddress(new InetSocketAddress("localhost", server1.getPort()))
+                .withAddress(new InetSocketAddress("localhost", server2.getPort()))
+                .withConnectionsPerAddress(4)
+                .withSelection(PooledSocketClientHandler.Selection.POWER_OF_TWO_CHOICES)
+                .build()) {
+            RemoteMap.Client client = new RemoteMap.Client(handler);
+
+            List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; ++i) {
+                futures.add(client.putAsync("key" + i, "value" + i));
+            }
+            for (CompletableFuture<Boolean> future : futures) {
+                assertThat(future.get(1, TimeUnit.SECONDS), is(false));
+            }
+
+            assertThat(calls1.get() + calls2.get(), is(100));
+            // Both servers should get a fair share of the calls.
+            assertThat(calls1.get() > 10, is(true));
+            assertThat(calls2.get() > 10, is(true));
+            assertThat(remoteMap.size(), is(100));
+            assertThat(handler.getNumInFlight(), is(0));
+        }
+    }
+
+    @Test
+    public void testRedialDeadConnections() throws IOException, NotFound, InterruptedException {
+        int deadPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            deadPort = socket.getLocalPort();
+        }
+
+        try (PooledSocketClientHandler handler = PooledSocketClientHandler
+                .builder()
+                .withSerializer(serializer)
+                .withAddress(new InetSocketAddress("localhost", server1.getPort()))
+                .withAddress(new InetSocketAddress("localhost", deadPort))
+                .withConnectionsPerAddress(2)
+                .withConnectTimeout(100)
+                .withHealthCheckInterval(20, TimeUnit.MILLISECONDS)
+                .build()) {
+            RemoteMap.Iface client = new RemoteMap.Client(handler);
+
+            // The first call goes to the first address, and lets the pool
+            // dial all the other connections.
+            client.put("a", "b");
+            await().atMost(1, TimeUnit.SECONDS).until(handler::getNumConnected, is(2));
+            // Let the health check try the dead address a few times.
+            Thread.sleep(100);
+
+            // The connections to the dead address are down, so all calls
+            // go to the live server.
+            for (int i = 0; i < 10; ++i) {
+                assertThat(client.get("a"), is("b"));
+            }
+            assertThat(calls1.get(), is(11));
+
+            NonblockingSocketServer server3 = startServer(deadPort, calls2);
+            try {
+                await().atMost(1, TimeUnit.SECONDS).until(handler::getNumConnected, is(4));
+
+                for (int i = 0; i < 10; ++i) {
+                    assertThat(client.get("a"), is("b"));
+                }
+                assertThat(calls1.get(), is(16));
+                assertThat(calls2.get(), is(5));
+            } finally {
+                server3.close();
+            }
+
+            // And when the server goes away, the connections are evicted.
+            await().atMost(1, TimeUnit.SECONDS).until(handler::getNumConnected, is(2));
+        }
+    }
+
+    private NonblockingSocketServer startServer(int port, AtomicInteger calls) {
+        RemoteMap.Iface impl = new RemoteMap.Iface() {
+            @Override
+            public boolean put(String pKey, String pValue) {
+                calls.incrementAndGet();
+                return remoteMap.put(pKey, pValue) != null;
+            }
+
+            @Override
+            public Map<String, String> putAll(Map<String, String> pSource) {
+                calls.incrementAndGet();
+                Map<String, String> out = new HashMap<>();
+                pSource.forEach((k, v) -> {
+                    String old = remoteMap.put(k, v);
+                    if (old != null) {
+                        out.put(k, old);
+                    }
+                });
+                return out;
+            }
+
+            @Override
+            public String get(String pKey) throws NotFound {
+                calls.incrementAndGet();
+                String value = remoteMap.get(pKey);
+                if (value == null) {
+                    throw NotFound.builder().build();
+                }
+                return value;
+            }
+
+            @Override
+            public Map<String, String> getAll(Set<String> pKeys) {
+                calls.incrementAndGet();
+                Map<String, String> out = new HashMap<>();
+                for (String key : pKeys) {
+                    if (remoteMap.containsKey(key)) {
+                        out.put(key, remoteMap.get(key));
+                    }
+                }
+                return out;
+            }
+        };
+        return NonblockingSocketServer.builder(new RemoteMap.Processor(impl))
+                                      .withSerializer(serializer)
+                                      .withPort(port)
+                                      .start();
+    }
+}
@@ -1,11 +1,18 @@
 package net.morimekta.providence.thrift.server;
 
+import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableMap;
+import net.morimekta.providence.PApplicationException;
+import net.morimekta.providence.PApplicationExceptionType;
 import net.morimekta.providence.PServiceCall;
 import net.morimekta.providence.serializer.BinarySerializer;
 import net.morimekta.providence.serializer.Serializer;
+import net.morimekta.providence.server.ConcurrencyLimiter;
+import net.morimekta.providence.thrift.client.BatchingSocketClientHandler;
 import net.morimekta.providence.thrift.client.NonblockingSocketClientHandler;
 import net.morimekta.providence.util.ServiceCallInstrumentation;
+import net.morimekta.providence.util.ServiceCallInstrumentation.Phase;
+import net.morimekta.providence.util.ServiceCallMetrics;
 import net.morimekta.test.providence.thrift.map.NotFound;
 import net.morimekta.test.providence.thrift.map.RemoteMap;
 import org.apache.thrift.TException;
@@ -17,13 +24,16 @@ import org.apache.thrift.protocol.TProtocolFactory;
 import org.apache.thrift.transport.TFramedTransport;
 import org.apache.thrift.transport.TNonblockingSocket;
 import org.apache.thrift.transport.TSocket;
+import org.awaitility.Duration;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -35,17 +45,24 @@ import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import static org.awaitility.Awaitility.waitAtMost;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 
 public class NonblockingSocketServerTest {
     private Map<String, String>        remoteMap;
@@ -54,6 +71,8 @@ public class NonblockingSocketServerTest {
     private ExecutorService            executor;
     private int                        port;
 
+    private RemoteMap.Iface            remoteImpl;
+
     private static int remoteSleep = 5;
     private static Serializer serializer = new BinarySerializer();
     private static TProtocolFactory factory = new TBinaryProtocol.Factory();
@@ -65,7 +84,7 @@ public class NonblockingSocketServerTest {
         System.setProperty("org.slf4j.simpleLogger.defaultLogLevel", "trace");
 
         remoteMap = new ConcurrentHashMap<>();
-        RemoteMap.Iface remoteImpl = new RemoteMap.Iface() {
+        remoteImpl = new RemoteMap.Iface() {
             @Override
             public boolean put(String pKey, String pValue) throws IOException {
                 try {
@@ -159,7 +178,8 @@ public class NonblockingSocketServerTest {
                 // nothing to check.
             }
 
-            verify(instrumentation, times(3)).onComplete(anyDouble(), any(PServiceCall.class), any(PServiceCall.class));
+            verify(instrumentation, timeout(1000).times(3)).onComplete(anyDouble(), any(PServiceCall.class), any(PServiceCall.class));
+            verifyCallInstrumentation();
             verifyNoMoreInteractions(instrumentation);
 
             assertThat(remoteMap, is(ImmutableMap.of(
@@ -186,7 +206,8 @@ public class NonblockingSocketServerTest {
                 // nothing to check.
             }
 
-            verify(instrumentation, times(3)).onComplete(anyDouble(), any(PServiceCall.class), any(PServiceCall.class));
+            verify(instrumentation, timeout(1000).times(3)).onComplete(anyDouble(), any(PServiceCall.class), any(PServiceCall.class));
+            verifyCallInstrumentation();
             verifyNoMoreInteractions(instrumentation);
 
             assertThat(remoteMap, is(ImmutableMap.of(
@@ -285,4 +306,225 @@ public class NonblockingSocketServerTest {
             assertThat(remoteMap, is(ImmutableMap.of("a", "1234", "b", "2345", "c", "3456", "d", "4567", "e", "5678")));
         }
     }
+
+    @Test
+    public void testMultipleReactors() throws IOException, ExecutionException, InterruptedException, TimeoutException {
+        try (NonblockingSocketServer server = NonblockingSocketServer.builder(new RemoteMap.Processor(remoteImpl))
+                                                                     .withSerializer(serializer)
+                                                                     .withReactorThreads(3)
+                                                                     .withInstrumentation(instrumentation)
+                                                                     .withWorkerThreads(4)
+                                                                     .start()) {
+            List<NonblockingSocketClientHandler> handlers = new ArrayList<>();
+            List<Future<Boolean>> futures = new ArrayList<>();
+            try {
+                // More connections than reactors, so each reactor gets more than one.
+                for (int i = 0; i < 7; ++i) {
+                    NonblockingSocketClientHandler handler = new NonblockingSocketClientHandler(
+                            serializer, new InetSocketAddress("localhost", server.getPort()));
+                    handlers.add(handler);
+                    RemoteMap.Client client = new RemoteMap.Client(handler);
+                    String key = "k" + i;
+                    futures.add(executor.submit(() -> client.put(key, key)));
+                    futures.add(executor.submit(() -> client.put(key + "b", key)));
+                }
+                for (Future<Boolean> future : futures) {
+                    assertThat(future.get(1, TimeUnit.SECONDS), is(false));
+                }
+                assertThat(remoteMap.size(), is(14));
+                verify(instrumentation, timeout(1000).times(14)).onComplete(anyDouble(), any(PServiceCall.class), any(PServiceCall.class));
+            } finally {
+                for (NonblockingSocketClientHandler handler : handlers) {
+                    handler.close();
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testConcurrencyLimiter_rejected() throws IOException {
+        ConcurrencyLimiter limiter = mock(ConcurrencyLimiter.class);
+        when(limiter.tryAcquire(anyInt())).thenReturn(false);
+
+        try (NonblockingSocketServer server = NonblockingSocketServer.builder(new RemoteMap.Processor(remoteImpl))
+                                                                     .withSerializer(serializer)
+                                                                     .withInstrumentation(instrumentation)
+                                                                     .withConcurrencyLimiter(limiter)
+                                                                     .start();
+             NonblockingSocketClientHandler handler = new NonblockingSocketClientHandler(
+                     serializer, new InetSocketAddress("localhost", server.getPort()))) {
+            RemoteMap.Client client = new RemoteMap.Client(handler);
+            try {
+                client.put("a", "b");
+                fail("no exception");
+            } catch (PApplicationException e) {
+                assertThat(e.getId(), is(PApplicationExceptionType.INTERNAL_ERROR));
+                assertThat(e.getMessage(), is("Server overloaded, call to put() rejected"));
+            }
+
+            assertThat(remoteMap.size(), is(0));
+            verify(instrumentation, timeout(1000)).onRejected(anyDouble(), any(PServiceCall.class), any(PServiceCall.class));
+            verify(limiter, never()).release(anyDouble());
+        }
+    }
+
+    @Test
+    public void testConcurrencyLimiter_batch() throws Exception {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.fixed(3);
+        try (NonblockingSocketServer server = NonblockingSocketServer.builder(new RemoteMap.Processor(remoteImpl))
+                                                                     .withSerializer(serializer)
+                                                                     .withInstrumentation(instrumentation)
+                                                                     .withConcurrencyLimiter(limiter)
+                                                                     .start();
+             BatchingSocketClientHandler handler = BatchingSocketClientHandler
+                     .builder()
+                     .withSerializer(serializer)
+                     .withAddress(new InetSocketAddress("localhost", server.getPort()))
+                     .withBatchWindow(100, TimeUnit.MILLISECONDS)
+                     .build()) {
+            RemoteMap.Client client = new RemoteMap.Client(handler);
+
+            // Each call of the batch needs a permit, so the whole batch is
+            // rejected when there are not enough of them.
+            List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; ++i) {
+                futures.add(client.putAsync("key " + i, "value"));
+            }
+            for (CompletableFuture<Boolean> future : futures) {
+                try {
+                    future.get(1, TimeUnit.SECONDS);
+                    fail("no exception");
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause(), is(instanceOf(PApplicationException.class)));
+                    assertThat(e.getCause().getMessage(), is("Server overloaded, call to put() rejected"));
+                }
+            }
+            assertThat(remoteMap.size(), is(0));
+
+            futures.clear();
+            for (int i = 0; i < 3; ++i) {
+                futures.add(client.putAsync("key " + i, "value"));
+            }
+            for (CompletableFuture<Boolean> future : futures) {
+                assertThat(future.get(1, TimeUnit.SECONDS), is(false));
+            }
+            assertThat(remoteMap.size(), is(3));
+            waitAtMost(Duration.ONE_SECOND).until(() -> limiter.getInFlight() == 0);
+        }
+    }
+
+    @Test
+    public void testConcurrencyLimiter_timing() throws IOException {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.fixed(5);
+        try (NonblockingSocketServer server = NonblockingSocketServer.builder(new RemoteMap.Processor(remoteImpl))
+                                                                     .withSerializer(serializer)
+                                                                     .withInstrumentation(instrumentation)
+                                                                     .withConcurrencyLimiter(limiter)
+                                                                     .start();
+             NonblockingSocketClientHandler handler = new NonblockingSocketClientHandler(
+                     serializer, new InetSocketAddress("localhost", server.getPort()))) {
+            RemoteMap.Client client = new RemoteMap.Client(handler);
+            assertThat(client.put("a", "b"), is(false));
+
+            verify(instrumentation, timeout(1000)).onComplete(anyDouble(), any(PServiceCall.class), any(PServiceCall.class));
+            verify(instrumentation).onCallTiming(anyDouble(), anyDouble(), any(PServiceCall.class), any(PServiceCall.class));
+            waitAtMost(Duration.ONE_SECOND).until(() -> limiter.getInFlight() == 0);
+        }
+    }
+
+    @Test
+    public void testMetrics() throws IOException {
+        ServiceCallMetrics serverMetrics = new ServiceCallMetrics();
+        ServiceCallMetrics clientMetrics = new ServiceCallMetrics();
+        try (NonblockingSocketServer server = NonblockingSocketServer.builder(new RemoteMap.Processor(remoteImpl))
+                                                                     .withSerializer(serializer)
+                                                                     .withInstrumentation(serverMetrics)
+                                                                     .start();
+             NonblockingSocketClientHandler handler = new NonblockingSocketClientHandler(
+                     serializer, new InetSocketAddress("localhost", server.getPort()), clientMetrics)) {
+            RemoteMap.Client client = new RemoteMap.Client(handler);
+            assertThat(client.put("a", "b"), is(false));
+            assertThat(client.put("a", "c"), is(true));
+
+            waitAtMost(Duration.ONE_SECOND).until(() -> serverMetrics.snapshot("put") != null &&
+                                                        serverMetrics.snapshot("put").getCompleted() == 2);
+            ServiceCallMetrics.MethodSnapshot put = serverMetrics.snapshot("put");
+            assertThat(put.getInFlight(), is(0L));
+            assertThat(put.getRequestBytes() > 0, is(true));
+            assertThat(put.getResponseBytes() > 0, is(true));
+            assertThat(put.getQueueTime().getCount(), is(2L));
+            for (ServiceCallInstrumentation.Phase phase : ServiceCallInstrumentation.Phase.values()) {
+                assertThat(phase.name(), put.getPhase(phase).getCount(), is(2L));
+            }
+            assertThat(put.getPhase(ServiceCallInstrumentation.Phase.HANDLE).getMax() >= remoteSleep, is(true));
+
+            put = clientMetrics.snapshot("put");
+            assertThat(put.getCompleted(), is(2L));
+            assertThat(put.getInFlight(), is(0L));
+            assertThat(put.getRequestBytes() > 0, is(true));
+            for (ServiceCallInstrumentation.Phase phase : ServiceCallInstrumentation.Phase.values()) {
+                assertThat(phase.name(), put.getPhase(phase).getCount(), is(2L));
+            }
+        }
+    }
+
+    @Test
+    public void testVirtualThreads() throws IOException, ExecutionException, InterruptedException, TimeoutException {
+        try (NonblockingSocketServer server = NonblockingSocketServer.builder(new RemoteMap.Processor(remoteImpl))
+                                                                     .withSerializer(serializer)
+                                                                     .withInstrumentation(instrumentation)
+                                                                     .withVirtualThreads(true)
+                                                                     .start();
+             NonblockingSocketClientHandler handler = new NonblockingSocketClientHandler(
+                     serializer, new InetSocketAddress("localhost", server.getPort()))) {
+            // Falls back to the worker thread pool if not supported.
+            assertThat(server.isVirtualThreads(), is(VirtualThreads.isSupported()));
+
+            RemoteMap.Client client = new RemoteMap.Client(handler);
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 20; ++i) {
+                String key = "v" + i;
+                futures.add(executor.submit(() -> client.put(key, key)));
+            }
+            for (Future<Boolean> future : futures) {
+                assertThat(future.get(1, TimeUnit.SECONDS), is(false));
+            }
+            assertThat(remoteMap.size(), is(20));
+            verify(instrumentation, timeout(1000).times(20)).onComplete(anyDouble(), any(PServiceCall.class), any(PServiceCall.class));
+        }
+    }
+
+    @Test
+    public void testLargeResponses() throws IOException, ExecutionException, InterruptedException, TimeoutException {
+        // Responses larger than the socket send buffer needs multiple writes.
+        Map<String, String> large = new HashMap<>();
+        for (int i = 0; i < 100; ++i) {
+            large.put("key" + i, Strings.repeat("value" + i, 2000));
+        }
+        remoteMap.putAll(large);
+
+        try (NonblockingSocketClientHandler handler = new NonblockingSocketClientHandler(
+                serializer, new InetSocketAddress("localhost", port))) {
+            RemoteMap.Client client = new RemoteMap.Client(handler);
+
+            List<Future<Map<String, String>>> futures = new ArrayList<>();
+            for (int i = 0; i < 5; ++i) {
+                futures.add(executor.submit(() -> client.getAll(large.keySet())));
+            }
+            for (Future<Map<String, String>> future : futures) {
+                assertThat(future.get(1, TimeUnit.SECONDS), is(large));
+            }
+        }
+    }
+
+    /**
+     * Verify the per call timing and phase callbacks, which are reported
+     * for every handled call in addition to the completion.
+     */
+    private void verifyCallInstrumentation() {
+        verify(instrumentation, timeout(1000).atLeastOnce()).onStart(any(PServiceCall.class));
+        verify(instrumentation, timeout(1000).atLeastOnce()).onPhase(any(Phase.class), anyDouble(), any(PServiceCall.class));
+        verify(instrumentation, timeout(1000).atLeastOnce()).onCallTiming(anyDouble(), anyDouble(), any(PServiceCall.class), any());
+        verify(instrumentation, atLeast(0)).onMessageSize(any(PServiceCall.class), anyLong());
+    }
 }
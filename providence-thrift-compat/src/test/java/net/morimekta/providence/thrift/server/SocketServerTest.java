@@ -2,9 +2,15 @@ package net.morimekta.providence.thrift.server;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import net.morimekta.providence.PServiceCall;
+import net.morimekta.providence.PServiceCallType;
+import net.morimekta.providence.mio.ServiceCallBatch;
 import net.morimekta.providence.serializer.BinarySerializer;
+import net.morimekta.providence.serializer.JsonSerializer;
+import net.morimekta.providence.serializer.Serializer;
 import net.morimekta.providence.util.ServiceCallInstrumentation;
+import net.morimekta.providence.util.ServiceCallInstrumentation.Phase;
 import net.morimekta.test.providence.thrift.service.Failure;
+import net.morimekta.test.providence.thrift.service.MyService;
 import net.morimekta.test.providence.thrift.service.MyService.Iface;
 import net.morimekta.test.providence.thrift.service.MyService.Processor;
 import net.morimekta.test.providence.thrift.service.Request;
@@ -20,21 +26,32 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.awaitility.Awaitility.setDefaultPollDelay;
 import static org.awaitility.Awaitility.waitAtMost;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -101,6 +118,7 @@ public class SocketServerTest {
             waitAtMost(Duration.TWO_HUNDRED_MILLISECONDS).untilTrue(called);
 
             verify(instrumentation).onComplete(anyDouble(), any(PServiceCall.class), any(PServiceCall.class));
+            verifyCallInstrumentation();
             verifyNoMoreInteractions(impl, instrumentation);
         }
     }
@@ -124,6 +142,7 @@ public class SocketServerTest {
 
             verify(impl).ping();
             verify(instrumentation).onComplete(anyDouble(), any(PServiceCall.class), isNull());
+            verifyCallInstrumentation();
             verifyNoMoreInteractions(impl, instrumentation);
         }
     }
@@ -154,6 +173,7 @@ public class SocketServerTest {
                                      .setText("Really!")
                                      .build());
             verify(instrumentation).onComplete(anyDouble(), any(PServiceCall.class), any(PServiceCall.class));
+            verifyCallInstrumentation();
             verifyNoMoreInteractions(impl, instrumentation);
             reset(impl, instrumentation);
 
@@ -175,6 +195,7 @@ public class SocketServerTest {
             waitAtMost(Duration.TWO_HUNDRED_MILLISECONDS).untilTrue(called);
 
             verify(instrumentation).onComplete(anyDouble(), any(PServiceCall.class), any(PServiceCall.class));
+            verifyCallInstrumentation();
             verifyNoMoreInteractions(impl, instrumentation);
         }
     }
@@ -207,7 +228,107 @@ public class SocketServerTest {
                                      .setText("O'Really???")
                                      .build());
             verify(instrumentation).onComplete(anyDouble(), any(PServiceCall.class), any(PServiceCall.class));
+            verifyCallInstrumentation();
             verifyNoMoreInteractions(impl, instrumentation);
         }
     }
+
+    @Test
+    public void testVirtualThreads() throws IOException, TException, Failure {
+        try (SocketServer virtual = SocketServer.builder(new Processor(impl))
+                                                .withSerializer(new BinarySerializer(true))
+                                                .withInstrumentation(instrumentation)
+                                                .withVirtualThreads(true)
+                                                .start()) {
+            // Falls back to the worker thread pool if not supported.
+            assertThat(virtual.isVirtualThreads(), is(VirtualThreads.isSupported()));
+
+            when(impl.test(any(Request.class))).thenAnswer(i -> {
+                Request request = i.getArgument(0);
+                return new Response(request.getText());
+            });
+
+            List<TSocket> sockets = new ArrayList<>();
+            try {
+                // With virtual threads, more open connections than the default
+                // number of worker threads.
+                int connections = virtual.isVirtualThreads() ? 50 : 5;
+                for (int i = 0; i < connections; ++i) {
+                    TSocket socket = new TSocket("localhost", virtual.getPort());
+                    socket.open();
+                    sockets.add(socket);
+                }
+                for (int i = 0; i < sockets.size(); ++i) {
+                    Client client = new Client(new TBinaryProtocol(sockets.get(i)));
+                    net.morimekta.test.thrift.thrift.service.Response response =
+                            client.test(new net.morimekta.test.thrift.thrift.service.Request("v" + i));
+                    assertThat(response.getText(), is("v" + i));
+                }
+            } finally {
+                for (TSocket socket : sockets) {
+                    socket.close();
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testBatch() throws IOException, Failure {
+        when(impl.test(any(Request.class))).thenAnswer(i -> {
+            Request request = i.getArgument(0);
+            return new Response(request.getText());
+        });
+
+        Serializer serializer = new BinarySerializer(true);
+        String[] calls = new String[]{
+                "[\"test\",\"call\",1,{\"request\":{\"text\":\"first\"}}]",
+                "[\"ping\",\"oneway\",2,{}]",
+                "[\"test\",\"call\",3,{\"request\":{\"text\":\"second\"}}]",
+        };
+        List<byte[]> entries = new ArrayList<>();
+        for (String call : calls) {
+            PServiceCall parsed = new JsonSerializer().deserialize(new ByteArrayInputStream(call.getBytes(UTF_8)),
+                                                                   MyService.kDescriptor);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            serializer.serialize(out, parsed);
+            entries.add(out.toByteArray());
+        }
+
+        try (Socket socket = new Socket("localhost", port)) {
+            OutputStream out = socket.getOutputStream();
+            ServiceCallBatch.write(out, entries);
+            out.flush();
+
+            List<byte[]> replies = ServiceCallBatch.read(socket.getInputStream());
+            assertThat(replies.size(), is(3));
+
+            PServiceCall first = serializer.deserialize(new ByteArrayInputStream(replies.get(0)), MyService.kDescriptor);
+            assertThat(first.getType(), is(PServiceCallType.REPLY));
+            assertThat(first.getSequence(), is(1));
+            assertThat(first.getMessage().get(0), is(new Response("first")));
+            assertThat(replies.get(1).length, is(0));
+            PServiceCall second = serializer.deserialize(new ByteArrayInputStream(replies.get(2)), MyService.kDescriptor);
+            assertThat(second.getSequence(), is(3));
+            assertThat(second.getMessage().get(0), is(new Response("second")));
+        }
+
+        verify(impl, times(2)).test(any(Request.class));
+        verify(impl).ping();
+        // The calls are instrumented after the reply is written.
+        verify(instrumentation, timeout(1000).times(2)).onComplete(anyDouble(), any(PServiceCall.class), any(PServiceCall.class));
+        verify(instrumentation, timeout(1000)).onComplete(anyDouble(), any(PServiceCall.class), isNull());
+        verifyCallInstrumentation();
+        verifyNoMoreInteractions(impl, instrumentation);
+    }
+
+    /**
+     * Verify the per call timing and phase callbacks, which are reported
+     * for every handled call in addition to the completion.
+     */
+    private static void verifyCallInstrumentation() {
+        verify(instrumentation, timeout(1000).atLeastOnce()).onStart(any(PServiceCall.class));
+        verify(instrumentation, timeout(1000).atLeastOnce()).onPhase(any(Phase.class), anyDouble(), any(PServiceCall.class));
+        verify(instrumentation, timeout(1000).atLeastOnce()).onCallTiming(anyDouble(), anyDouble(), any(PServiceCall.class), any());
+        verify(instrumentation, atLeast(0)).onMessageSize(any(PServiceCall.class), anyLong());
+    }
 }